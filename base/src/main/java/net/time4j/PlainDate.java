@@ -171,6 +171,14 @@ public final class PlainDate
     // rule index
     private static final int WIM_INDEX = 19;
 
+    // optionaler Cache gemeinsam genutzter Instanzen für die Jahre 1900-2100 (Index mit 31 Tagen je Monat)
+    private static final int CACHE_MIN_YEAR = 1900;
+    private static final int CACHE_MAX_YEAR = 2100;
+    private static final PlainDate[] DATE_CACHE = (
+        Boolean.getBoolean("net.time4j.date.cache")
+        ? new PlainDate[(CACHE_MAX_YEAR - CACHE_MIN_YEAR + 1) * 12 * 31]
+        : null);
+
     /** Fr&uuml;hestm&ouml;gliches Datum [-999999999-01-01]. */
     static final PlainDate MIN =
         new PlainDate(GregorianMath.MIN_YEAR, 1, 1, Weekday.MONDAY);
@@ -745,6 +753,9 @@ public final class PlainDate
     /**
      * <p>Creates a new calendar date conforming to ISO-8601. </p>
      *
+     * <p>If the system property &quot;net.time4j.date.cache&quot; is set to {@code true}
+     * then all dates in the years 1900-2100 will be shared cached instances. </p>
+     *
      * @param   year        proleptic iso year [(-999,999,999)-999,999,999]
      * @param   month       gregorian month in range (1-12)
      * @param   dayOfMonth  day of month in range (1-31)
@@ -757,6 +768,10 @@ public final class PlainDate
     /*[deutsch]
      * <p>Erzeugt ein neues ISO-konformes Kalenderdatum. </p>
      *
+     * <p>Wenn die System-Property &quot;net.time4j.date.cache&quot; auf {@code true} gesetzt
+     * ist, werden alle Datumsangaben in den Jahren 1900-2100 als gemeinsam genutzte Instanzen
+     * zwischengespeichert. </p>
+     *
      * @param   year        proleptic iso year [(-999,999,999)-999,999,999]
      * @param   month       gregorian month in range (1-12)
      * @param   dayOfMonth  day of month in range (1-31)
@@ -911,6 +926,38 @@ public final class PlainDate
 
     }
 
+    /**
+     * <p>Creates a calendar date from its packed representation. </p>
+     *
+     * @param   packed  packed date as produced by {@link #toPackedLong()}
+     * @return  new or cached calendar date instance
+     * @throws  IllegalArgumentException if the argument is not a valid packed date
+     * @see     #toPackedLong()
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein Kalenderdatum aus seiner gepackten Darstellung. </p>
+     *
+     * @param   packed  packed date as produced by {@link #toPackedLong()}
+     * @return  new or cached calendar date instance
+     * @throws  IllegalArgumentException if the argument is not a valid packed date
+     * @see     #toPackedLong()
+     * @since   5.0
+     */
+    public static PlainDate ofPacked(long packed) {
+
+        int year = GregorianMath.readYear(packed);
+        int month = GregorianMath.readMonth(packed);
+        int dayOfMonth = GregorianMath.readDayOfMonth(packed);
+
+        if (toPackedLong(year, month, dayOfMonth) != packed) {
+            throw new IllegalArgumentException("Invalid packed date: " + packed);
+        }
+
+        return PlainDate.create(year, month, dayOfMonth, null, true);
+
+    }
+
     /**
      * <p>Common conversion method for proleptic gregorian dates. </p>
      *
@@ -1202,6 +1249,40 @@ public final class PlainDate
 
     }
 
+    /**
+     * <p>Yields a compact representation of this date as primitive long value. </p>
+     *
+     * <p>The year occupies the upper 32 bits, the month the bits 16-23 and the day
+     * of month the lowest 8 bits (the same format as used by
+     * {@link GregorianMath#toPackedDate(long)}). The order of packed values
+     * corresponds to the chronological order. Applications can use this method
+     * in order to store huge amounts of dates in primitive arrays without any
+     * object overhead. </p>
+     *
+     * @return  packed date
+     * @see     #ofPacked(long)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Liefert eine kompakte Darstellung dieses Datums als primitiven long-Wert. </p>
+     *
+     * <p>Das Jahr belegt die oberen 32 Bits, der Monat die Bits 16-23 und der Tag
+     * des Monats die untersten 8 Bits (dasselbe Format, wie es von
+     * {@link GregorianMath#toPackedDate(long)} verwendet wird). Die Reihenfolge der
+     * gepackten Werte entspricht der chronologischen Reihenfolge. Anwendungen k&ouml;nnen
+     * diese Methode nutzen, um gro&szlig;e Mengen von Datumsangaben ohne Objektaufwand
+     * in primitiven Arrays zu speichern. </p>
+     *
+     * @return  packed date
+     * @see     #ofPacked(long)
+     * @since   5.0
+     */
+    public long toPackedLong() {
+
+        return toPackedLong(this.year, this.month, this.dayOfMonth);
+
+    }
+
     /**
      * <p>Determines the day of week. </p>
      *
@@ -2263,6 +2344,16 @@ public final class PlainDate
 
     }
 
+    private static long toPackedLong(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+
+        return ((((long) year) << 32) | (month << 16) | dayOfMonth);
+
+    }
+
     private static PlainDate create(
         int year,
         int month,
@@ -2275,7 +2366,19 @@ public final class PlainDate
             GregorianMath.checkDate(year, month, dayOfMonth);
         }
 
-        // TODO: konfigurierbaren Cache einbauen?
+        PlainDate[] cache = DATE_CACHE;
+
+        if ((cache != null) && (year >= CACHE_MIN_YEAR) && (year <= CACHE_MAX_YEAR)) {
+            int index = ((year - CACHE_MIN_YEAR) * 12 + month - 1) * 31 + dayOfMonth - 1;
+            PlainDate date = cache[index];
+            if (date == null) {
+                // sichere Veröffentlichung wegen ausschließlich finaler Felder
+                date = new PlainDate(year, month, dayOfMonth, weekday);
+                cache[index] = date;
+            }
+            return date;
+        }
+
         return new PlainDate(year, month, dayOfMonth, weekday);
 
     }
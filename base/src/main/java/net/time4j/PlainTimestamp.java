@@ -57,7 +57,6 @@ import net.time4j.format.TemporalFormatter;
 import net.time4j.scale.TimeScale;
 import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
-import net.time4j.tz.TransitionStrategy;
 import net.time4j.tz.ZonalOffset;
 
 import java.io.IOException;
@@ -582,6 +581,87 @@ public final class PlainTimestamp
 
     }
 
+    /**
+     * <p>Creates a local timestamp from the count of nanoseconds since the
+     * local epoch 1970-01-01T00:00. </p>
+     *
+     * @param   epochNanos  elapsed nanoseconds on the local timeline since 1970-01-01T00:00
+     * @return  local timestamp
+     * @see     #toPackedEpochNanos()
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen lokalen Zeitstempel aus der Anzahl der Nanosekunden seit
+     * der lokalen Epoche 1970-01-01T00:00. </p>
+     *
+     * @param   epochNanos  elapsed nanoseconds on the local timeline since 1970-01-01T00:00
+     * @return  local timestamp
+     * @see     #toPackedEpochNanos()
+     * @since   5.0
+     */
+    public static PlainTimestamp ofPackedEpochNanos(long epochNanos) {
+
+        long localSeconds = MathUtils.floorDivide(epochNanos, MRD);
+        int localNanos = MathUtils.floorModulo(epochNanos, MRD);
+
+        PlainDate date =
+            PlainDate.of(
+                MathUtils.floorDivide(localSeconds, 86400),
+                EpochDays.UNIX);
+
+        int secondsOfDay = MathUtils.floorModulo(localSeconds, 86400);
+        int second = secondsOfDay % 60;
+        int minutesOfDay = secondsOfDay / 60;
+        int minute = minutesOfDay % 60;
+        int hour = minutesOfDay / 60;
+
+        return PlainTimestamp.of(date, PlainTime.of(hour, minute, second, localNanos));
+
+    }
+
+    /**
+     * <p>Yields the count of nanoseconds since the local epoch 1970-01-01T00:00
+     * as compact primitive representation of this timestamp. </p>
+     *
+     * <p>The supported range covers the years 1677-2262. Applications can use this
+     * method in order to store huge amounts of timestamps in primitive arrays without
+     * the overhead of three objects per timestamp. </p>
+     *
+     * @return  elapsed nanoseconds on the local timeline since 1970-01-01T00:00
+     * @throws  ArithmeticException if this timestamp is out of range
+     * @see     #ofPackedEpochNanos(long)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Nanosekunden seit der lokalen Epoche 1970-01-01T00:00
+     * als kompakte primitive Darstellung dieses Zeitstempels. </p>
+     *
+     * <p>Der unterst&uuml;tzte Wertebereich umfasst die Jahre 1677-2262. Anwendungen
+     * k&ouml;nnen diese Methode nutzen, um gro&szlig;e Mengen von Zeitstempeln ohne den
+     * Aufwand von drei Objekten je Zeitstempel in primitiven Arrays zu speichern. </p>
+     *
+     * @return  elapsed nanoseconds on the local timeline since 1970-01-01T00:00
+     * @throws  ArithmeticException if this timestamp is out of range
+     * @see     #ofPackedEpochNanos(long)
+     * @since   5.0
+     */
+    public long toPackedEpochNanos() {
+
+        long localSeconds = (this.date.getDaysSinceUTC() + 2 * 365) * 86400;
+        localSeconds += (this.time.getHour() * 3600);
+        localSeconds += (this.time.getMinute() * 60);
+        localSeconds += this.time.getSecond();
+        int nano = this.time.getNanosecond();
+
+        if (localSeconds < 0) { // vermeidet Überlauf nahe Long.MIN_VALUE
+            localSeconds++;
+            nano -= MRD;
+        }
+
+        return MathUtils.safeAdd(MathUtils.safeMultiply(localSeconds, MRD), nano);
+
+    }
+
     /**
      * <p>Provides the calendar date part. </p>
      *
@@ -1110,12 +1190,11 @@ public final class PlainTimestamp
             return this.at(tz.getOffset(this.date, this.time));
         }
 
-        TransitionStrategy strategy = tz.getStrategy();
-        long posixTime = strategy.resolve(this.date, this.time, tz);
+        long posixTime = tz.toPosixTime(this.date, this.time); // mit Zwischenspeicher des letzten Offset-Fensters
         Moment moment =
             Moment.of(posixTime, this.time.getNanosecond(), TimeScale.POSIX);
 
-        if (strategy == Timezone.STRICT_MODE) {
+        if (tz.getStrategy() == Timezone.STRICT_MODE) {
             Moment.checkNegativeLS(posixTime, this);
         }
 
@@ -0,0 +1,729 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MomentArray.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.column;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.base.MathUtils;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+
+import java.util.Arrays;
+
+
+/**
+ * <p>Fixed-size array of global timestamps which stores every moment as pair of
+ * POSIX seconds in a primitive {@code long[]} and nanoseconds in a primitive
+ * {@code int[]}. </p>
+ *
+ * <p>All bulk operations work on the primitive values and never create any
+ * {@code Moment}-object per element. Arithmetic is done on the POSIX timeline,
+ * and leap seconds are not retained: a moment during a leap second will be stored
+ * with the POSIX time of the preceding second. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     TimeScale#POSIX
+ * @since   5.0
+ * @doctags.concurrency {mutable}
+ */
+/*[deutsch]
+ * <p>Array fester L&auml;nge von globalen Zeitstempeln, das jeden Moment als Paar aus
+ * POSIX-Sekunden in einem primitiven {@code long[]} und Nanosekunden in einem primitiven
+ * {@code int[]} speichert. </p>
+ *
+ * <p>Alle Massenoperationen arbeiten mit den primitiven Werten und erzeugen nie ein
+ * {@code Moment}-Objekt je Element. Die Arithmetik findet auf dem POSIX-Zeitstrahl statt,
+ * und Schaltsekunden werden nicht beibehalten: ein Moment w&auml;hrend einer Schaltsekunde
+ * wird mit der POSIX-Zeit der vorangehenden Sekunde gespeichert. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     TimeScale#POSIX
+ * @since   5.0
+ * @doctags.concurrency {mutable}
+ */
+public final class MomentArray {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MRD = 1_000_000_000;
+    private static final long MIN_POSIX = Moment.axis().getMinimum().getPosixTime();
+    private static final long MAX_POSIX = Moment.axis().getMaximum().getPosixTime();
+
+    // Grenze, bis zu der Sekunden und Nanosekunden in einen long-Wert gepackt werden können
+    private static final long PACKING_LIMIT = Long.MAX_VALUE / MRD - 1;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final long[] posixTimes;
+    private final int[] nanos;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private MomentArray(
+        long[] posixTimes,
+        int[] nanos
+    ) {
+        super();
+
+        this.posixTimes = posixTimes;
+        this.nanos = nanos;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new array of given size whose elements are all set to the UNIX epoch. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array
+     * @throws  NegativeArraySizeException if the size is negative
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array der angegebenen Gr&ouml;&szlig;e, dessen Elemente
+     * alle auf die UNIX-Epoche gesetzt sind. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array
+     * @throws  NegativeArraySizeException if the size is negative
+     */
+    public static MomentArray create(int size) {
+
+        return new MomentArray(new long[size], new int[size]);
+
+    }
+
+    /**
+     * <p>Creates a new array with given moments. </p>
+     *
+     * @param   moments     global timestamps to be stored
+     * @return  new array
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array mit den angegebenen Momenten. </p>
+     *
+     * @param   moments     global timestamps to be stored
+     * @return  new array
+     */
+    public static MomentArray of(Moment... moments) {
+
+        int n = moments.length;
+        long[] posix = new long[n];
+        int[] fractions = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            posix[i] = moments[i].getPosixTime();
+            fractions[i] = moments[i].getNanosecond();
+        }
+
+        return new MomentArray(posix, fractions);
+
+    }
+
+    /**
+     * <p>Creates a new array with a copy of given POSIX times and zero nanoseconds. </p>
+     *
+     * @param   posixTimes  elapsed seconds since UNIX epoch (1970-01-01T00:00Z) without leap seconds
+     * @return  new array
+     * @throws  IllegalArgumentException if any value is out of range of {@code Moment}
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array mit einer Kopie der angegebenen POSIX-Zeiten und
+     * ohne Nanosekunden. </p>
+     *
+     * @param   posixTimes  elapsed seconds since UNIX epoch (1970-01-01T00:00Z) without leap seconds
+     * @return  new array
+     * @throws  IllegalArgumentException if any value is out of range of {@code Moment}
+     */
+    public static MomentArray ofPosixTimes(long[] posixTimes) {
+
+        return ofPosixTimes(posixTimes, new int[posixTimes.length]);
+
+    }
+
+    /**
+     * <p>Creates a new array with a copy of given POSIX times and nanoseconds. </p>
+     *
+     * @param   posixTimes  elapsed seconds since UNIX epoch (1970-01-01T00:00Z) without leap seconds
+     * @param   nanos       nanosecond fractions in range {@code 0-999,999,999}
+     * @return  new array
+     * @throws  IllegalArgumentException if any value is out of range or if the array lengths differ
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array mit einer Kopie der angegebenen POSIX-Zeiten und
+     * Nanosekunden. </p>
+     *
+     * @param   posixTimes  elapsed seconds since UNIX epoch (1970-01-01T00:00Z) without leap seconds
+     * @param   nanos       nanosecond fractions in range {@code 0-999,999,999}
+     * @return  new array
+     * @throws  IllegalArgumentException if any value is out of range or if the array lengths differ
+     */
+    public static MomentArray ofPosixTimes(
+        long[] posixTimes,
+        int[] nanos
+    ) {
+
+        checkLength(posixTimes.length, nanos.length);
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            checkPosixTime(posixTimes[i]);
+            if ((nanos[i] < 0) || (nanos[i] >= MRD)) {
+                throw new IllegalArgumentException("Nanosecond out of range: " + nanos[i]);
+            }
+        }
+
+        return new MomentArray(posixTimes.clone(), nanos.clone());
+
+    }
+
+    /**
+     * <p>Combines given local dates and times to moments in given timezone. </p>
+     *
+     * <p>Every local timestamp is resolved by the transition strategy of given
+     * timezone. The wall time 24:00 is interpreted as start of next day. </p>
+     *
+     * @param   dates   local calendar dates
+     * @param   times   local wall times
+     * @param   tz      timezone
+     * @return  new array of moments
+     * @throws  IllegalArgumentException if the array sizes differ or if any result is out of range
+     * @see     Timezone#toPosixTimes(long[], long[])
+     */
+    /*[deutsch]
+     * <p>Kombiniert die angegebenen lokalen Datums- und Uhrzeitangaben zu Momenten in der
+     * angegebenen Zeitzone. </p>
+     *
+     * <p>Jeder lokale Zeitstempel wird von der &Uuml;bergangsstrategie der angegebenen
+     * Zeitzone aufgel&ouml;st. Die Uhrzeit 24:00 wird als Beginn des n&auml;chsten Tages
+     * interpretiert. </p>
+     *
+     * @param   dates   local calendar dates
+     * @param   times   local wall times
+     * @param   tz      timezone
+     * @return  new array of moments
+     * @throws  IllegalArgumentException if the array sizes differ or if any result is out of range
+     * @see     Timezone#toPosixTimes(long[], long[])
+     */
+    public static MomentArray of(
+        PlainDateArray dates,
+        PlainTimeArray times,
+        Timezone tz
+    ) {
+
+        long[] epochDays = dates.epochDays();
+        long[] nanosOfDay = times.nanosOfDay();
+        int n = epochDays.length;
+        checkLength(n, nanosOfDay.length);
+
+        long[] localSeconds = new long[n];
+        int[] fractions = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            localSeconds[i] = epochDays[i] * 86400 + nanosOfDay[i] / MRD;
+            fractions[i] = (int) (nanosOfDay[i] % MRD);
+        }
+
+        long[] posix = new long[n];
+        tz.toPosixTimes(localSeconds, posix);
+
+        for (long p : posix) {
+            checkPosixTime(p);
+        }
+
+        return new MomentArray(posix, fractions);
+
+    }
+
+    /**
+     * <p>Yields the count of elements. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Elemente. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.posixTimes.length;
+
+    }
+
+    /**
+     * <p>Obtains the moment at given position. </p>
+     *
+     * @param   index   position in this array
+     * @return  global timestamp
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Moment an der angegebenen Position. </p>
+     *
+     * @param   index   position in this array
+     * @return  global timestamp
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public Moment get(int index) {
+
+        return Moment.of(this.posixTimes[index], this.nanos[index], TimeScale.POSIX);
+
+    }
+
+    /**
+     * <p>Replaces the moment at given position. </p>
+     *
+     * @param   index   position in this array
+     * @param   moment  new global timestamp
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Ersetzt den Moment an der angegebenen Position. </p>
+     *
+     * @param   index   position in this array
+     * @param   moment  new global timestamp
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public void set(
+        int index,
+        Moment moment
+    ) {
+
+        this.posixTimes[index] = moment.getPosixTime();
+        this.nanos[index] = moment.getNanosecond();
+
+    }
+
+    /**
+     * <p>Obtains the POSIX time at given position. </p>
+     *
+     * @param   index   position in this array
+     * @return  elapsed seconds since UNIX epoch (1970-01-01T00:00Z) without leap seconds
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert die POSIX-Zeit an der angegebenen Position. </p>
+     *
+     * @param   index   position in this array
+     * @return  elapsed seconds since UNIX epoch (1970-01-01T00:00Z) without leap seconds
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long getPosixTime(int index) {
+
+        return this.posixTimes[index];
+
+    }
+
+    /**
+     * <p>Obtains the nanosecond fraction at given position. </p>
+     *
+     * @param   index   position in this array
+     * @return  nanosecond in range {@code 0-999,999,999}
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Nanosekundenbruchteil an der angegebenen Position. </p>
+     *
+     * @param   index   position in this array
+     * @return  nanosecond in range {@code 0-999,999,999}
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public int getNanosecond(int index) {
+
+        return this.nanos[index];
+
+    }
+
+    /**
+     * <p>Yields a copy of all POSIX times. </p>
+     *
+     * @return  new primitive array
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie aller POSIX-Zeiten. </p>
+     *
+     * @return  new primitive array
+     */
+    public long[] toPosixTimes() {
+
+        return this.posixTimes.clone();
+
+    }
+
+    /**
+     * <p>Yields a copy of all nanosecond fractions. </p>
+     *
+     * @return  new primitive array
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie aller Nanosekundenbruchteile. </p>
+     *
+     * @return  new primitive array
+     */
+    public int[] toNanoseconds() {
+
+        return this.nanos.clone();
+
+    }
+
+    /**
+     * <p>Adds given amount in given clock unit to all elements on the POSIX timeline. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    clock unit
+     * @return  new array with the results
+     * @throws  IllegalArgumentException if any result is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    /*[deutsch]
+     * <p>Addiert den angegebenen Betrag in der angegebenen Uhrzeiteinheit zu allen
+     * Elementen auf dem POSIX-Zeitstrahl. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    clock unit
+     * @return  new array with the results
+     * @throws  IllegalArgumentException if any result is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    public MomentArray plus(
+        long amount,
+        ClockUnit unit
+    ) {
+
+        long unitNanos = PlainTimeArray.nanosOf(unit);
+        long deltaSeconds;
+        int deltaNanos;
+
+        if (unitNanos >= MRD) {
+            deltaSeconds = MathUtils.safeMultiply(amount, unitNanos / MRD);
+            deltaNanos = 0;
+        } else {
+            long unitsPerSecond = MRD / unitNanos;
+            deltaSeconds = Math.floorDiv(amount, unitsPerSecond);
+            deltaNanos = (int) (Math.floorMod(amount, unitsPerSecond) * unitNanos);
+        }
+
+        int n = this.posixTimes.length;
+        long[] posix = new long[n];
+        int[] fractions = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            long secs = MathUtils.safeAdd(this.posixTimes[i], deltaSeconds);
+            int fraction = this.nanos[i] + deltaNanos;
+            if (fraction >= MRD) {
+                fraction -= MRD;
+                secs = MathUtils.safeAdd(secs, 1);
+            }
+            checkPosixTime(secs);
+            posix[i] = secs;
+            fractions[i] = fraction;
+        }
+
+        return new MomentArray(posix, fractions);
+
+    }
+
+    /**
+     * <p>Truncates all elements to given clock unit on the UTC timeline. </p>
+     *
+     * <p>Note that the truncation of hours is not related to any local timezone. </p>
+     *
+     * @param   unit    clock unit
+     * @return  new array with the results
+     */
+    /*[deutsch]
+     * <p>Schneidet alle Elemente auf die angegebene Uhrzeiteinheit auf dem
+     * UTC-Zeitstrahl ab. </p>
+     *
+     * <p>Hinweis: Das Abschneiden von Stunden bezieht sich auf keine lokale Zeitzone. </p>
+     *
+     * @param   unit    clock unit
+     * @return  new array with the results
+     */
+    public MomentArray truncatedTo(ClockUnit unit) {
+
+        long unitNanos = PlainTimeArray.nanosOf(unit);
+        int n = this.posixTimes.length;
+        long[] posix = new long[n];
+        int[] fractions = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            if (unitNanos >= MRD) {
+                long unitSeconds = unitNanos / MRD;
+                posix[i] = Math.floorDiv(this.posixTimes[i], unitSeconds) * unitSeconds;
+            } else {
+                posix[i] = this.posixTimes[i];
+                fractions[i] = (int) (this.nanos[i] - (this.nanos[i] % unitNanos));
+            }
+        }
+
+        return new MomentArray(posix, fractions);
+
+    }
+
+    /**
+     * <p>Determines the local calendar dates of all elements in given timezone. </p>
+     *
+     * @param   tz      timezone
+     * @return  new array of local dates
+     * @see     Timezone#getOffsets(long[], int[])
+     */
+    /*[deutsch]
+     * <p>Bestimmt die lokalen Kalenderdaten aller Elemente in der angegebenen Zeitzone. </p>
+     *
+     * @param   tz      timezone
+     * @return  new array of local dates
+     * @see     Timezone#getOffsets(long[], int[])
+     */
+    public PlainDateArray toLocalDates(Timezone tz) {
+
+        int n = this.posixTimes.length;
+        int[] offsets = new int[n];
+        tz.getOffsets(this.posixTimes, offsets);
+        long[] epochDays = new long[n];
+
+        for (int i = 0; i < n; i++) {
+            epochDays[i] = MathUtils.floorDivide(this.posixTimes[i] + offsets[i], 86400);
+        }
+
+        return PlainDateArray.create(epochDays);
+
+    }
+
+    /**
+     * <p>Determines the local wall times of all elements in given timezone. </p>
+     *
+     * @param   tz      timezone
+     * @return  new array of local wall times
+     * @see     Timezone#getOffsets(long[], int[])
+     */
+    /*[deutsch]
+     * <p>Bestimmt die lokalen Uhrzeiten aller Elemente in der angegebenen Zeitzone. </p>
+     *
+     * @param   tz      timezone
+     * @return  new array of local wall times
+     * @see     Timezone#getOffsets(long[], int[])
+     */
+    public PlainTimeArray toLocalTimes(Timezone tz) {
+
+        int n = this.posixTimes.length;
+        int[] offsets = new int[n];
+        tz.getOffsets(this.posixTimes, offsets);
+        long[] nanosOfDay = new long[n];
+
+        for (int i = 0; i < n; i++) {
+            long secondOfDay = MathUtils.floorModulo(this.posixTimes[i] + offsets[i], 86400);
+            nanosOfDay[i] = secondOfDay * MRD + this.nanos[i];
+        }
+
+        return PlainTimeArray.create(nanosOfDay);
+
+    }
+
+    /**
+     * <p>Compares the elements at given positions. </p>
+     *
+     * @param   i   first position
+     * @param   j   second position
+     * @return  negative, zero or positive if the first element is earlier, equal or later
+     * @throws  IndexOutOfBoundsException if any index is out of range
+     */
+    /*[deutsch]
+     * <p>Vergleicht die Elemente an den angegebenen Positionen. </p>
+     *
+     * @param   i   first position
+     * @param   j   second position
+     * @return  negative, zero or positive if the first element is earlier, equal or later
+     * @throws  IndexOutOfBoundsException if any index is out of range
+     */
+    public int compare(
+        int i,
+        int j
+    ) {
+
+        int cmp = Long.compare(this.posixTimes[i], this.posixTimes[j]);
+        return ((cmp == 0) ? Integer.compare(this.nanos[i], this.nanos[j]) : cmp);
+
+    }
+
+    /**
+     * <p>Sorts all elements in chronological order. </p>
+     */
+    /*[deutsch]
+     * <p>Sortiert alle Elemente in chronologischer Reihenfolge. </p>
+     */
+    public void sort() {
+
+        int n = this.posixTimes.length;
+        boolean packable = true;
+
+        for (int i = 0; i < n; i++) {
+            if (Math.abs(this.posixTimes[i]) > PACKING_LIMIT) {
+                packable = false;
+                break;
+            }
+        }
+
+        if (packable) { // üblicher Fall: etwa 292 Jahre um die UNIX-Epoche herum
+            long[] packed = new long[n];
+            for (int i = 0; i < n; i++) {
+                packed[i] = this.posixTimes[i] * MRD + this.nanos[i];
+            }
+            Arrays.sort(packed);
+            for (int i = 0; i < n; i++) {
+                this.posixTimes[i] = MathUtils.floorDivide(packed[i], MRD);
+                this.nanos[i] = MathUtils.floorModulo(packed[i], MRD);
+            }
+        } else { // Heapsort auf beiden Arrays gleichzeitig
+            for (int i = n / 2 - 1; i >= 0; i--) {
+                this.siftDown(i, n);
+            }
+            for (int end = n - 1; end > 0; end--) {
+                this.swap(0, end);
+                this.siftDown(0, end);
+            }
+        }
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof MomentArray) {
+            MomentArray that = (MomentArray) obj;
+            return Arrays.equals(this.posixTimes, that.posixTimes) && Arrays.equals(this.nanos, that.nanos);
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return 31 * Arrays.hashCode(this.posixTimes) + Arrays.hashCode(this.nanos);
+
+    }
+
+    /**
+     * <p>Yields a list of all moments in ISO-8601-format. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>Liefert eine Liste aller Momente im ISO-8601-Format. </p>
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(this.posixTimes.length * 22 + 2);
+        sb.append('[');
+
+        for (int i = 0; i < this.posixTimes.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(this.get(i));
+        }
+
+        return sb.append(']').toString();
+
+    }
+
+    /**
+     * <p>Erzeugt ein Array ohne Kopie und Pr&uuml;fung. </p>
+     *
+     * @param   posixTimes  elapsed seconds since UNIX epoch
+     * @param   nanos       nanosecond fractions
+     * @return  new array
+     */
+    static MomentArray create(
+        long[] posixTimes,
+        int[] nanos
+    ) {
+
+        return new MomentArray(posixTimes, nanos);
+
+    }
+
+    private void siftDown(
+        int start,
+        int end
+    ) {
+
+        int root = start;
+
+        while (true) {
+            int child = 2 * root + 1;
+            if (child >= end) {
+                return;
+            }
+            if ((child + 1 < end) && (this.compare(child, child + 1) < 0)) {
+                child++;
+            }
+            if (this.compare(root, child) >= 0) {
+                return;
+            }
+            this.swap(root, child);
+            root = child;
+        }
+
+    }
+
+    private void swap(
+        int i,
+        int j
+    ) {
+
+        long p = this.posixTimes[i];
+        this.posixTimes[i] = this.posixTimes[j];
+        this.posixTimes[j] = p;
+        int f = this.nanos[i];
+        this.nanos[i] = this.nanos[j];
+        this.nanos[j] = f;
+
+    }
+
+    private static void checkPosixTime(long posixTime) {
+
+        if ((posixTime < MIN_POSIX) || (posixTime > MAX_POSIX)) {
+            throw new IllegalArgumentException("POSIX time out of range: " + posixTime);
+        }
+
+    }
+
+    private static void checkLength(
+        int expected,
+        int actual
+    ) {
+
+        if (expected != actual) {
+            throw new IllegalArgumentException("Array lengths differ: " + expected + " != " + actual);
+        }
+
+    }
+
+}
@@ -0,0 +1,714 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PlainDateArray.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.column;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.engine.EpochDays;
+import net.time4j.tz.Timezone;
+
+import java.util.Arrays;
+
+
+/**
+ * <p>Fixed-size array of calendar dates which stores every date as count of days
+ * since the UNIX epoch [1970-01-01] in a primitive {@code long[]}. </p>
+ *
+ * <p>All bulk operations work on the primitive values and never create any
+ * {@code PlainDate}-object per element. Only the methods {@link #get(int)} and
+ * {@link #set(int, PlainDate)} convert single elements. This design is suitable
+ * for processing huge amounts of dates, for example in aggregation jobs. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     EpochDays#UNIX
+ * @since   5.0
+ * @doctags.concurrency {mutable}
+ */
+/*[deutsch]
+ * <p>Array fester L&auml;nge von Kalenderdaten, das jedes Datum als Anzahl der Tage
+ * seit der UNIX-Epoche [1970-01-01] in einem primitiven {@code long[]} speichert. </p>
+ *
+ * <p>Alle Massenoperationen arbeiten mit den primitiven Werten und erzeugen nie ein
+ * {@code PlainDate}-Objekt je Element. Nur die Methoden {@link #get(int)} und
+ * {@link #set(int, PlainDate)} konvertieren einzelne Elemente. Dieser Entwurf ist
+ * f&uuml;r die Verarbeitung gro&szlig;er Mengen von Datumsangaben geeignet, zum
+ * Beispiel in Aggregationsl&auml;ufen. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     EpochDays#UNIX
+ * @since   5.0
+ * @doctags.concurrency {mutable}
+ */
+public final class PlainDateArray {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long UNIX_EPOCH_MJD = 40587L;
+    private static final long MIN_DAYS = PlainDate.axis().getMinimum().get(EpochDays.UNIX).longValue();
+    private static final long MAX_DAYS = PlainDate.axis().getMaximum().get(EpochDays.UNIX).longValue();
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final long[] epochDays;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private PlainDateArray(long[] epochDays) {
+        super();
+
+        this.epochDays = epochDays;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new array of given size whose elements are all set to 1970-01-01. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array
+     * @throws  NegativeArraySizeException if the size is negative
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array der angegebenen Gr&ouml;&szlig;e, dessen Elemente
+     * alle auf 1970-01-01 gesetzt sind. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array
+     * @throws  NegativeArraySizeException if the size is negative
+     */
+    public static PlainDateArray create(int size) {
+
+        return new PlainDateArray(new long[size]);
+
+    }
+
+    /**
+     * <p>Creates a new array with given calendar dates. </p>
+     *
+     * @param   dates   calendar dates to be stored
+     * @return  new array
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array mit den angegebenen Kalenderdaten. </p>
+     *
+     * @param   dates   calendar dates to be stored
+     * @return  new array
+     */
+    public static PlainDateArray of(PlainDate... dates) {
+
+        long[] days = new long[dates.length];
+
+        for (int i = 0; i < dates.length; i++) {
+            days[i] = toEpochDays(dates[i]);
+        }
+
+        return new PlainDateArray(days);
+
+    }
+
+    /**
+     * <p>Creates a new array with a copy of given epoch days. </p>
+     *
+     * @param   epochDays   count of days since UNIX epoch [1970-01-01]
+     * @return  new array
+     * @throws  IllegalArgumentException if any value is out of range of {@code PlainDate}
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array mit einer Kopie der angegebenen Epochentage. </p>
+     *
+     * @param   epochDays   count of days since UNIX epoch [1970-01-01]
+     * @return  new array
+     * @throws  IllegalArgumentException if any value is out of range of {@code PlainDate}
+     */
+    public static PlainDateArray ofEpochDays(long[] epochDays) {
+
+        for (long days : epochDays) {
+            checkEpochDays(days);
+        }
+
+        return new PlainDateArray(epochDays.clone());
+
+    }
+
+    /**
+     * <p>Yields the count of elements. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Elemente. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.epochDays.length;
+
+    }
+
+    /**
+     * <p>Obtains the calendar date at given position. </p>
+     *
+     * @param   index   position in this array
+     * @return  calendar date
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert das Kalenderdatum an der angegebenen Position. </p>
+     *
+     * @param   index   position in this array
+     * @return  calendar date
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public PlainDate get(int index) {
+
+        return PlainDate.of(this.epochDays[index], EpochDays.UNIX);
+
+    }
+
+    /**
+     * <p>Replaces the calendar date at given position. </p>
+     *
+     * @param   index   position in this array
+     * @param   date    new calendar date
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Ersetzt das Kalenderdatum an der angegebenen Position. </p>
+     *
+     * @param   index   position in this array
+     * @param   date    new calendar date
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public void set(
+        int index,
+        PlainDate date
+    ) {
+
+        this.epochDays[index] = toEpochDays(date);
+
+    }
+
+    /**
+     * <p>Obtains the count of days since UNIX epoch [1970-01-01] at given position. </p>
+     *
+     * @param   index   position in this array
+     * @return  epoch days
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Tage seit der UNIX-Epoche [1970-01-01] an der
+     * angegebenen Position. </p>
+     *
+     * @param   index   position in this array
+     * @return  epoch days
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long getEpochDays(int index) {
+
+        return this.epochDays[index];
+
+    }
+
+    /**
+     * <p>Replaces the count of days since UNIX epoch [1970-01-01] at given position. </p>
+     *
+     * @param   index       position in this array
+     * @param   epochDays   count of days since UNIX epoch
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @throws  IllegalArgumentException if the value is out of range of {@code PlainDate}
+     */
+    /*[deutsch]
+     * <p>Ersetzt die Anzahl der Tage seit der UNIX-Epoche [1970-01-01] an der
+     * angegebenen Position. </p>
+     *
+     * @param   index       position in this array
+     * @param   epochDays   count of days since UNIX epoch
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @throws  IllegalArgumentException if the value is out of range of {@code PlainDate}
+     */
+    public void setEpochDays(
+        int index,
+        long epochDays
+    ) {
+
+        checkEpochDays(epochDays);
+        this.epochDays[index] = epochDays;
+
+    }
+
+    /**
+     * <p>Yields a copy of all elements as counts of days since UNIX epoch [1970-01-01]. </p>
+     *
+     * @return  new primitive array
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie aller Elemente als Anzahl der Tage seit der
+     * UNIX-Epoche [1970-01-01]. </p>
+     *
+     * @return  new primitive array
+     */
+    public long[] toEpochDays() {
+
+        return this.epochDays.clone();
+
+    }
+
+    /**
+     * <p>Adds given amount in given calendar unit to all elements. </p>
+     *
+     * <p>The result is the same as if every element were changed by
+     * {@code PlainDate.plus(amount, unit)}, that is month-based units keep the
+     * day of month unless it is beyond the end of the resulting month in which
+     * case the last day of month is chosen. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    calendar unit
+     * @return  new array with the results
+     * @throws  IllegalArgumentException if any result is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    /*[deutsch]
+     * <p>Addiert den angegebenen Betrag in der angegebenen Kalendereinheit zu allen
+     * Elementen. </p>
+     *
+     * <p>Das Ergebnis ist dasselbe, als ob jedes Element mit
+     * {@code PlainDate.plus(amount, unit)} ge&auml;ndert w&uuml;rde, das hei&szlig;t,
+     * monatsbasierte Einheiten behalten den Tag des Monats bei, es sei denn, er liegt
+     * jenseits des Endes des Ergebnismonats, in welchem Fall der letzte Tag des Monats
+     * gew&auml;hlt wird. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    calendar unit
+     * @return  new array with the results
+     * @throws  IllegalArgumentException if any result is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    public PlainDateArray plus(
+        long amount,
+        CalendarUnit unit
+    ) {
+
+        long[] result = new long[this.epochDays.length];
+
+        switch (unit) {
+            case DAYS:
+            case WEEKS:
+                long delta = ((unit == CalendarUnit.WEEKS) ? MathUtils.safeMultiply(amount, 7) : amount);
+                for (int i = 0; i < result.length; i++) {
+                    long days = MathUtils.safeAdd(this.epochDays[i], delta);
+                    checkEpochDays(days);
+                    result[i] = days;
+                }
+                break;
+            default:
+                long months = MathUtils.safeMultiply(amount, monthsOf(unit));
+                for (int i = 0; i < result.length; i++) {
+                    long packed = toPackedDate(this.epochDays[i]);
+                    long total =
+                        MathUtils.safeAdd(
+                            GregorianMath.readYear(packed) * 12L + GregorianMath.readMonth(packed) - 1,
+                            months);
+                    long y = MathUtils.floorDivide(total, 12);
+                    if ((y < GregorianMath.MIN_YEAR) || (y > GregorianMath.MAX_YEAR)) {
+                        throw new IllegalArgumentException("Year out of range: " + y);
+                    }
+                    int year = (int) y;
+                    int month = MathUtils.floorModulo(total, 12) + 1;
+                    int dom = Math.min(GregorianMath.readDayOfMonth(packed), GregorianMath.getLengthOfMonth(year, month));
+                    result[i] = GregorianMath.toMJD(year, month, dom) - UNIX_EPOCH_MJD;
+                }
+        }
+
+        return new PlainDateArray(result);
+
+    }
+
+    /**
+     * <p>Truncates all elements to the start of the period defined by given calendar unit. </p>
+     *
+     * <p>Weeks start on Monday (ISO-8601), quarters in January, April, July or October,
+     * decades in years divisible by {@code 10}, centuries in years divisible by {@code 100}
+     * and millennia in years divisible by {@code 1000}. </p>
+     *
+     * @param   unit    calendar unit
+     * @return  new array with the results
+     */
+    /*[deutsch]
+     * <p>Setzt alle Elemente auf den Anfang der durch die angegebene Kalendereinheit
+     * bestimmten Periode. </p>
+     *
+     * <p>Wochen beginnen am Montag (ISO-8601), Quartale im Januar, April, Juli oder Oktober,
+     * Dekaden in durch {@code 10} teilbaren Jahren, Jahrhunderte in durch {@code 100}
+     * teilbaren Jahren und Jahrtausende in durch {@code 1000} teilbaren Jahren. </p>
+     *
+     * @param   unit    calendar unit
+     * @return  new array with the results
+     */
+    public PlainDateArray truncatedTo(CalendarUnit unit) {
+
+        long[] result = new long[this.epochDays.length];
+
+        for (int i = 0; i < result.length; i++) {
+            long days = this.epochDays[i];
+            switch (unit) {
+                case DAYS:
+                    result[i] = days;
+                    break;
+                case WEEKS:
+                    result[i] = days - dayOfWeek(days) + 1;
+                    break;
+                default:
+                    long packed = toPackedDate(days);
+                    int year = GregorianMath.readYear(packed);
+                    int month = GregorianMath.readMonth(packed);
+                    switch (unit) {
+                        case MONTHS:
+                            break;
+                        case QUARTERS:
+                            month -= ((month - 1) % 3);
+                            break;
+                        default:
+                            int years = (int) (monthsOf(unit) / 12);
+                            year -= MathUtils.floorModulo(year, years);
+                            month = 1;
+                            break;
+                    }
+                    if (year < GregorianMath.MIN_YEAR) { // nur bei Jahrtausenden etc. am Rand möglich
+                        year = GregorianMath.MIN_YEAR;
+                    }
+                    result[i] = GregorianMath.toMJD(year, month, 1) - UNIX_EPOCH_MJD;
+            }
+        }
+
+        return new PlainDateArray(result);
+
+    }
+
+    /**
+     * <p>Extracts the proleptic ISO-years of all elements. </p>
+     *
+     * @return  new array of years
+     */
+    /*[deutsch]
+     * <p>Ermittelt die proleptischen ISO-Jahre aller Elemente. </p>
+     *
+     * @return  new array of years
+     */
+    public int[] getYears() {
+
+        int[] result = new int[this.epochDays.length];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = GregorianMath.readYear(toPackedDate(this.epochDays[i]));
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Extracts the months (1-12) of all elements. </p>
+     *
+     * @return  new array of months
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Monate (1-12) aller Elemente. </p>
+     *
+     * @return  new array of months
+     */
+    public int[] getMonths() {
+
+        int[] result = new int[this.epochDays.length];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = GregorianMath.readMonth(toPackedDate(this.epochDays[i]));
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Extracts the days of month (1-31) of all elements. </p>
+     *
+     * @return  new array of days of month
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Tage des Monats (1-31) aller Elemente. </p>
+     *
+     * @return  new array of days of month
+     */
+    public int[] getDaysOfMonth() {
+
+        int[] result = new int[this.epochDays.length];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = GregorianMath.readDayOfMonth(toPackedDate(this.epochDays[i]));
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Extracts the ISO-weekdays of all elements as numbers from Monday (1) until Sunday (7). </p>
+     *
+     * @return  new array of weekday numbers
+     * @see     net.time4j.Weekday#getValue()
+     */
+    /*[deutsch]
+     * <p>Ermittelt die ISO-Wochentage aller Elemente als Zahlen von Montag (1) bis Sonntag (7). </p>
+     *
+     * @return  new array of weekday numbers
+     * @see     net.time4j.Weekday#getValue()
+     */
+    public int[] getDaysOfWeek() {
+
+        int[] result = new int[this.epochDays.length];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = dayOfWeek(this.epochDays[i]);
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Compares the elements at given positions. </p>
+     *
+     * @param   i   first position
+     * @param   j   second position
+     * @return  negative, zero or positive if the first element is earlier, equal or later
+     * @throws  IndexOutOfBoundsException if any index is out of range
+     */
+    /*[deutsch]
+     * <p>Vergleicht die Elemente an den angegebenen Positionen. </p>
+     *
+     * @param   i   first position
+     * @param   j   second position
+     * @return  negative, zero or positive if the first element is earlier, equal or later
+     * @throws  IndexOutOfBoundsException if any index is out of range
+     */
+    public int compare(
+        int i,
+        int j
+    ) {
+
+        return Long.compare(this.epochDays[i], this.epochDays[j]);
+
+    }
+
+    /**
+     * <p>Sorts all elements in chronological order. </p>
+     */
+    /*[deutsch]
+     * <p>Sortiert alle Elemente in chronologischer Reihenfolge. </p>
+     */
+    public void sort() {
+
+        Arrays.sort(this.epochDays);
+
+    }
+
+    /**
+     * <p>Searches given calendar date in this array which must be sorted. </p>
+     *
+     * @param   date    calendar date to be searched
+     * @return  index of date if found else {@code (-(insertion point) - 1)}
+     * @see     #sort()
+     * @see     Arrays#binarySearch(long[], long)
+     */
+    /*[deutsch]
+     * <p>Sucht das angegebene Kalenderdatum in diesem Array, das sortiert sein mu&szlig;. </p>
+     *
+     * @param   date    calendar date to be searched
+     * @return  index of date if found else {@code (-(insertion point) - 1)}
+     * @see     #sort()
+     * @see     Arrays#binarySearch(long[], long)
+     */
+    public int binarySearch(PlainDate date) {
+
+        return Arrays.binarySearch(this.epochDays, toEpochDays(date));
+
+    }
+
+    /**
+     * <p>Determines the first moments of all elements in given timezone. </p>
+     *
+     * <p>Local midnight is resolved by the transition strategy of given timezone
+     * which usually pushes midnight forward in case of a gap. </p>
+     *
+     * @param   tz      timezone
+     * @return  new array of moments
+     * @see     Timezone#toPosixTimes(long[], long[])
+     */
+    /*[deutsch]
+     * <p>Bestimmt die ersten Momente aller Elemente in der angegebenen Zeitzone. </p>
+     *
+     * <p>Lokale Mitternacht wird von der &Uuml;bergangsstrategie der angegebenen Zeitzone
+     * aufgel&ouml;st, die Mitternacht im Fall einer L&uuml;cke normalerweise nach vorne
+     * schiebt. </p>
+     *
+     * @param   tz      timezone
+     * @return  new array of moments
+     * @see     Timezone#toPosixTimes(long[], long[])
+     */
+    public MomentArray atStartOfDay(Timezone tz) {
+
+        int n = this.epochDays.length;
+        long[] localSeconds = new long[n];
+
+        for (int i = 0; i < n; i++) {
+            localSeconds[i] = this.epochDays[i] * 86400;
+        }
+
+        long[] posixTimes = new long[n];
+        tz.toPosixTimes(localSeconds, posixTimes);
+        return MomentArray.create(posixTimes, new int[n]);
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof PlainDateArray) {
+            PlainDateArray that = (PlainDateArray) obj;
+            return Arrays.equals(this.epochDays, that.epochDays);
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Arrays.hashCode(this.epochDays);
+
+    }
+
+    /**
+     * <p>Yields a list of all dates in ISO-8601-format. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>Liefert eine Liste aller Datumsangaben im ISO-8601-Format. </p>
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(this.epochDays.length * 12 + 2);
+        sb.append('[');
+
+        for (int i = 0; i < this.epochDays.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(this.get(i));
+        }
+
+        return sb.append(']').toString();
+
+    }
+
+    /**
+     * <p>Erzeugt ein Array ohne Kopie und Pr&uuml;fung. </p>
+     *
+     * @param   epochDays   count of days since UNIX epoch
+     * @return  new array
+     */
+    static PlainDateArray create(long[] epochDays) {
+
+        return new PlainDateArray(epochDays);
+
+    }
+
+    /**
+     * <p>Direkter Zugriff auf die interne Datenhaltung. </p>
+     *
+     * @return  epoch days (no copy)
+     */
+    long[] epochDays() {
+
+        return this.epochDays;
+
+    }
+
+    // Wochentag nach ISO-8601 (1970-01-01 war ein Donnerstag)
+    static int dayOfWeek(long epochDays) {
+
+        return MathUtils.floorModulo(epochDays + 3, 7) + 1;
+
+    }
+
+    private static long toPackedDate(long epochDays) {
+
+        return GregorianMath.toPackedDate(epochDays + UNIX_EPOCH_MJD);
+
+    }
+
+    private static long toEpochDays(PlainDate date) {
+
+        return GregorianMath.toMJD(date) - UNIX_EPOCH_MJD;
+
+    }
+
+    private static long monthsOf(CalendarUnit unit) {
+
+        switch (unit) {
+            case MILLENNIA:
+                return 12000;
+            case CENTURIES:
+                return 1200;
+            case DECADES:
+                return 120;
+            case YEARS:
+                return 12;
+            case QUARTERS:
+                return 3;
+            case MONTHS:
+                return 1;
+            default:
+                throw new UnsupportedOperationException(unit.name());
+        }
+
+    }
+
+    private static void checkEpochDays(long epochDays) {
+
+        if ((epochDays < MIN_DAYS) || (epochDays > MAX_DAYS)) {
+            throw new IllegalArgumentException("Epoch days out of range: " + epochDays);
+        }
+
+    }
+
+}
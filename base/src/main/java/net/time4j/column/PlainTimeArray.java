@@ -0,0 +1,593 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PlainTimeArray.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.column;
+
+import net.time4j.ClockUnit;
+import net.time4j.PlainTime;
+import net.time4j.base.MathUtils;
+
+import java.util.Arrays;
+
+
+/**
+ * <p>Fixed-size array of wall times which stores every time as count of nanoseconds
+ * since midnight in a primitive {@code long[]}. </p>
+ *
+ * <p>All bulk operations work on the primitive values and never create any
+ * {@code PlainTime}-object per element. The value {@code 86400 * 10^9} stands
+ * for the end of day 24:00. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     PlainTime#NANO_OF_DAY
+ * @since   5.0
+ * @doctags.concurrency {mutable}
+ */
+/*[deutsch]
+ * <p>Array fester L&auml;nge von Uhrzeiten, das jede Uhrzeit als Anzahl der Nanosekunden
+ * seit Mitternacht in einem primitiven {@code long[]} speichert. </p>
+ *
+ * <p>Alle Massenoperationen arbeiten mit den primitiven Werten und erzeugen nie ein
+ * {@code PlainTime}-Objekt je Element. Der Wert {@code 86400 * 10^9} steht f&uuml;r
+ * das Tagesende 24:00. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     PlainTime#NANO_OF_DAY
+ * @since   5.0
+ * @doctags.concurrency {mutable}
+ */
+public final class PlainTimeArray {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long MRD = 1_000_000_000L;
+    private static final long NANOS_PER_DAY = 86400 * MRD;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final long[] nanosOfDay;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private PlainTimeArray(long[] nanosOfDay) {
+        super();
+
+        this.nanosOfDay = nanosOfDay;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new array of given size whose elements are all set to midnight at start of day. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array
+     * @throws  NegativeArraySizeException if the size is negative
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array der angegebenen Gr&ouml;&szlig;e, dessen Elemente
+     * alle auf Mitternacht zu Beginn des Tages gesetzt sind. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array
+     * @throws  NegativeArraySizeException if the size is negative
+     */
+    public static PlainTimeArray create(int size) {
+
+        return new PlainTimeArray(new long[size]);
+
+    }
+
+    /**
+     * <p>Creates a new array with given wall times. </p>
+     *
+     * @param   times   wall times to be stored
+     * @return  new array
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array mit den angegebenen Uhrzeiten. </p>
+     *
+     * @param   times   wall times to be stored
+     * @return  new array
+     */
+    public static PlainTimeArray of(PlainTime... times) {
+
+        long[] nanos = new long[times.length];
+
+        for (int i = 0; i < times.length; i++) {
+            nanos[i] = toNanoOfDay(times[i]);
+        }
+
+        return new PlainTimeArray(nanos);
+
+    }
+
+    /**
+     * <p>Creates a new array with a copy of given nanoseconds of day. </p>
+     *
+     * @param   nanosOfDay  count of nanoseconds since midnight in range {@code 0 - 86400 * 10^9}
+     * @return  new array
+     * @throws  IllegalArgumentException if any value is out of range
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array mit einer Kopie der angegebenen Nanosekunden des Tages. </p>
+     *
+     * @param   nanosOfDay  count of nanoseconds since midnight in range {@code 0 - 86400 * 10^9}
+     * @return  new array
+     * @throws  IllegalArgumentException if any value is out of range
+     */
+    public static PlainTimeArray ofNanosOfDay(long[] nanosOfDay) {
+
+        for (long nanos : nanosOfDay) {
+            checkNanoOfDay(nanos);
+        }
+
+        return new PlainTimeArray(nanosOfDay.clone());
+
+    }
+
+    /**
+     * <p>Yields the count of elements. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Elemente. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.nanosOfDay.length;
+
+    }
+
+    /**
+     * <p>Obtains the wall time at given position. </p>
+     *
+     * @param   index   position in this array
+     * @return  wall time
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert die Uhrzeit an der angegebenen Position. </p>
+     *
+     * @param   index   position in this array
+     * @return  wall time
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public PlainTime get(int index) {
+
+        long nanos = this.nanosOfDay[index];
+        int secondsOfDay = (int) (nanos / MRD);
+
+        return PlainTime.of(
+            secondsOfDay / 3600,
+            (secondsOfDay / 60) % 60,
+            secondsOfDay % 60,
+            (int) (nanos % MRD));
+
+    }
+
+    /**
+     * <p>Replaces the wall time at given position. </p>
+     *
+     * @param   index   position in this array
+     * @param   time    new wall time
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Ersetzt die Uhrzeit an der angegebenen Position. </p>
+     *
+     * @param   index   position in this array
+     * @param   time    new wall time
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public void set(
+        int index,
+        PlainTime time
+    ) {
+
+        this.nanosOfDay[index] = toNanoOfDay(time);
+
+    }
+
+    /**
+     * <p>Obtains the count of nanoseconds since midnight at given position. </p>
+     *
+     * @param   index   position in this array
+     * @return  nanosecond of day
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Nanosekunden seit Mitternacht an der angegebenen Position. </p>
+     *
+     * @param   index   position in this array
+     * @return  nanosecond of day
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long getNanoOfDay(int index) {
+
+        return this.nanosOfDay[index];
+
+    }
+
+    /**
+     * <p>Replaces the count of nanoseconds since midnight at given position. </p>
+     *
+     * @param   index       position in this array
+     * @param   nanoOfDay   count of nanoseconds since midnight in range {@code 0 - 86400 * 10^9}
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @throws  IllegalArgumentException if the value is out of range
+     */
+    /*[deutsch]
+     * <p>Ersetzt die Anzahl der Nanosekunden seit Mitternacht an der angegebenen Position. </p>
+     *
+     * @param   index       position in this array
+     * @param   nanoOfDay   count of nanoseconds since midnight in range {@code 0 - 86400 * 10^9}
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @throws  IllegalArgumentException if the value is out of range
+     */
+    public void setNanoOfDay(
+        int index,
+        long nanoOfDay
+    ) {
+
+        checkNanoOfDay(nanoOfDay);
+        this.nanosOfDay[index] = nanoOfDay;
+
+    }
+
+    /**
+     * <p>Yields a copy of all elements as counts of nanoseconds since midnight. </p>
+     *
+     * @return  new primitive array
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie aller Elemente als Anzahl der Nanosekunden seit Mitternacht. </p>
+     *
+     * @return  new primitive array
+     */
+    public long[] toNanosOfDay() {
+
+        return this.nanosOfDay.clone();
+
+    }
+
+    /**
+     * <p>Adds given amount in given clock unit to all elements. </p>
+     *
+     * <p>The result is the same as if every element were changed by
+     * {@code PlainTime.plus(amount, unit)}, that is the addition rolls over
+     * midnight, and a positive amount yielding midnight will result in 24:00. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    clock unit
+     * @return  new array with the results
+     * @see     PlainTime#plus(long, ClockUnit)
+     */
+    /*[deutsch]
+     * <p>Addiert den angegebenen Betrag in der angegebenen Uhrzeiteinheit zu allen
+     * Elementen. </p>
+     *
+     * <p>Das Ergebnis ist dasselbe, als ob jedes Element mit
+     * {@code PlainTime.plus(amount, unit)} ge&auml;ndert w&uuml;rde, das hei&szlig;t,
+     * die Addition rollt &uuml;ber Mitternacht hinweg, und ein positiver Betrag mit
+     * Mitternacht als Ergebnis liefert 24:00. </p>
+     *
+     * @param   amount  amount to be added (maybe negative)
+     * @param   unit    clock unit
+     * @return  new array with the results
+     * @see     PlainTime#plus(long, ClockUnit)
+     */
+    public PlainTimeArray plus(
+        long amount,
+        ClockUnit unit
+    ) {
+
+        if (amount == 0) {
+            return new PlainTimeArray(this.nanosOfDay.clone());
+        }
+
+        long unitNanos = nanosOf(unit);
+        long delta = Math.floorMod(amount, NANOS_PER_DAY / unitNanos) * unitNanos;
+        long midnight = ((amount > 0) ? NANOS_PER_DAY : 0);
+        long[] result = new long[this.nanosOfDay.length];
+
+        for (int i = 0; i < result.length; i++) {
+            long nanos = (this.nanosOfDay[i] + delta) % NANOS_PER_DAY;
+            result[i] = ((nanos == 0) ? midnight : nanos);
+        }
+
+        return new PlainTimeArray(result);
+
+    }
+
+    /**
+     * <p>Truncates all elements to given clock unit. </p>
+     *
+     * @param   unit    clock unit
+     * @return  new array with the results
+     */
+    /*[deutsch]
+     * <p>Schneidet alle Elemente auf die angegebene Uhrzeiteinheit ab. </p>
+     *
+     * @param   unit    clock unit
+     * @return  new array with the results
+     */
+    public PlainTimeArray truncatedTo(ClockUnit unit) {
+
+        long unitNanos = nanosOf(unit);
+        long[] result = new long[this.nanosOfDay.length];
+
+        for (int i = 0; i < result.length; i++) {
+            long nanos = this.nanosOfDay[i];
+            result[i] = nanos - (nanos % unitNanos);
+        }
+
+        return new PlainTimeArray(result);
+
+    }
+
+    /**
+     * <p>Extracts the hours (0-24) of all elements. </p>
+     *
+     * @return  new array of hours
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Stunden (0-24) aller Elemente. </p>
+     *
+     * @return  new array of hours
+     */
+    public int[] getHours() {
+
+        int[] result = new int[this.nanosOfDay.length];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (int) (this.nanosOfDay[i] / (3600 * MRD));
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Extracts the minutes of hour (0-59) of all elements. </p>
+     *
+     * @return  new array of minutes
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Minuten der Stunde (0-59) aller Elemente. </p>
+     *
+     * @return  new array of minutes
+     */
+    public int[] getMinutes() {
+
+        int[] result = new int[this.nanosOfDay.length];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (int) ((this.nanosOfDay[i] / (60 * MRD)) % 60);
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Extracts the seconds of minute (0-59) of all elements. </p>
+     *
+     * @return  new array of seconds
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Sekunden der Minute (0-59) aller Elemente. </p>
+     *
+     * @return  new array of seconds
+     */
+    public int[] getSeconds() {
+
+        int[] result = new int[this.nanosOfDay.length];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (int) ((this.nanosOfDay[i] / MRD) % 60);
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Extracts the nanoseconds of second of all elements. </p>
+     *
+     * @return  new array of nanoseconds
+     */
+    /*[deutsch]
+     * <p>Ermittelt die Nanosekunden der Sekunde aller Elemente. </p>
+     *
+     * @return  new array of nanoseconds
+     */
+    public int[] getNanoseconds() {
+
+        int[] result = new int[this.nanosOfDay.length];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (int) (this.nanosOfDay[i] % MRD);
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Compares the elements at given positions. </p>
+     *
+     * @param   i   first position
+     * @param   j   second position
+     * @return  negative, zero or positive if the first element is earlier, equal or later
+     * @throws  IndexOutOfBoundsException if any index is out of range
+     */
+    /*[deutsch]
+     * <p>Vergleicht die Elemente an den angegebenen Positionen. </p>
+     *
+     * @param   i   first position
+     * @param   j   second position
+     * @return  negative, zero or positive if the first element is earlier, equal or later
+     * @throws  IndexOutOfBoundsException if any index is out of range
+     */
+    public int compare(
+        int i,
+        int j
+    ) {
+
+        return Long.compare(this.nanosOfDay[i], this.nanosOfDay[j]);
+
+    }
+
+    /**
+     * <p>Sorts all elements in chronological order. </p>
+     */
+    /*[deutsch]
+     * <p>Sortiert alle Elemente in chronologischer Reihenfolge. </p>
+     */
+    public void sort() {
+
+        Arrays.sort(this.nanosOfDay);
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof PlainTimeArray) {
+            PlainTimeArray that = (PlainTimeArray) obj;
+            return Arrays.equals(this.nanosOfDay, that.nanosOfDay);
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Arrays.hashCode(this.nanosOfDay);
+
+    }
+
+    /**
+     * <p>Yields a list of all wall times in ISO-8601-format. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>Liefert eine Liste aller Uhrzeiten im ISO-8601-Format. </p>
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(this.nanosOfDay.length * 10 + 2);
+        sb.append('[');
+
+        for (int i = 0; i < this.nanosOfDay.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(this.get(i));
+        }
+
+        return sb.append(']').toString();
+
+    }
+
+    /**
+     * <p>Erzeugt ein Array ohne Kopie und Pr&uuml;fung. </p>
+     *
+     * @param   nanosOfDay  count of nanoseconds since midnight
+     * @return  new array
+     */
+    static PlainTimeArray create(long[] nanosOfDay) {
+
+        return new PlainTimeArray(nanosOfDay);
+
+    }
+
+    /**
+     * <p>Direkter Zugriff auf die interne Datenhaltung. </p>
+     *
+     * @return  nanoseconds of day (no copy)
+     */
+    long[] nanosOfDay() {
+
+        return this.nanosOfDay;
+
+    }
+
+    /**
+     * <p>Liefert die L&auml;nge der angegebenen Uhrzeiteinheit in Nanosekunden. </p>
+     *
+     * @param   unit    clock unit
+     * @return  count of nanoseconds per unit
+     */
+    static long nanosOf(ClockUnit unit) {
+
+        switch (unit) {
+            case HOURS:
+                return 3600 * MRD;
+            case MINUTES:
+                return 60 * MRD;
+            case SECONDS:
+                return MRD;
+            case MILLIS:
+                return 1_000_000L;
+            case MICROS:
+                return 1_000L;
+            case NANOS:
+                return 1L;
+            default:
+                throw new UnsupportedOperationException(unit.name());
+        }
+
+    }
+
+    private static long toNanoOfDay(PlainTime time) {
+
+        return (
+            time.getNanosecond()
+            + time.getSecond() * MRD
+            + time.getMinute() * 60 * MRD
+            + time.getHour() * 3600 * MRD
+        );
+
+    }
+
+    private static void checkNanoOfDay(long nanoOfDay) {
+
+        if ((nanoOfDay < 0) || (nanoOfDay > NANOS_PER_DAY)) {
+            throw new IllegalArgumentException("Nanosecond of day out of range: " + nanoOfDay);
+        }
+
+    }
+
+}
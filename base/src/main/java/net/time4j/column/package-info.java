@@ -0,0 +1,7 @@
+/**
+ * <p>Columnar arrays of temporal values backed by primitive arrays. </p>
+ */
+/*[deutsch]
+ * <p>Spaltenorientierte Arrays von Zeitwerten auf der Basis primitiver Arrays. </p>
+ */
+package net.time4j.column;
@@ -43,6 +43,12 @@ import java.io.Serializable;
 public abstract class BasicElement<V extends Comparable<V>>
     implements ChronoElement<V>, Serializable {
 
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MAX_DERIVED_RULES = 8; // Anzahl der gemerkten Chronologien
+
+    private static final long serialVersionUID = 4543642363711426570L;
+
     //~ Instanzvariablen --------------------------------------------------
 
     /**
@@ -69,6 +75,9 @@ public abstract class BasicElement<V extends Comparable<V>>
      */
     private final int hash;
 
+    // abgeleitete Regeln als Paare [chronology, rule], sterben zusammen mit dem Element (schwache Schlüssel)
+    private transient volatile Object[] derivedRules = null;
+
     //~ Konstruktoren -----------------------------------------------------
 
     /**
@@ -287,7 +296,9 @@ public abstract class BasicElement<V extends Comparable<V>>
      *
      * <p>Note: This implementation yields {@code null}. Subclasses whose
      * element instances are not registered in a given chronology must
-     * override this method returning a suitable element rule. </p>
+     * override this method returning a suitable element rule. The result
+     * must only depend on the chronology because it will be remembered
+     * for repeated access. </p>
      *
      * @param   <T> generic type of chronology
      * @param   chronology  chronology an element rule is searched for
@@ -299,7 +310,9 @@ public abstract class BasicElement<V extends Comparable<V>>
      *
      * <p>Hinweis: Diese Implementierung liefert {@code null}. Subklassen,
      * deren Elementinstanzen nicht in einer Chronologie registriert sind,
-     * m&uuml;ssen die Methode geeignet &uuml;berschreiben. </p>
+     * m&uuml;ssen die Methode geeignet &uuml;berschreiben. Das Ergebnis darf
+     * nur von der Chronologie abh&auml;ngen, weil es f&uuml;r wiederholte
+     * Zugriffe gemerkt wird. </p>
      *
      * @param   <T> generic type of chronology
      * @param   chronology  chronology an element rule is searched for
@@ -311,6 +324,54 @@ public abstract class BasicElement<V extends Comparable<V>>
 
     }
 
+    /**
+     * <p>Liefert die gemerkte oder neu abgeleitete Regel zur angegebenen Chronologie. </p>
+     *
+     * <p>Die Regeln werden im Element selbst gespeichert, so da&szlig; sie zusammen mit
+     * dem Element von der Garbage Collection entfernt werden k&ouml;nnen, obwohl eine
+     * Regel meistens das Element referenziert. Konkurrierende Zugriffe k&ouml;nnen
+     * h&ouml;chstens zu einer doppelten Ableitung f&uuml;hren. </p>
+     *
+     * @param   <T> generic type of chronology
+     * @param   chronology  chronology an element rule is searched for
+     * @return  element rule or {@code null} if given chronology is unsupported
+     * @see     #derive(Chronology)
+     */
+    final <T extends ChronoEntity<T>> ElementRule<T, V> getDerivedRule(Chronology<T> chronology) {
+
+        Object[] cache = this.derivedRules;
+
+        if (cache != null) {
+            for (int i = 0; i < cache.length; i += 2) {
+                if (cache[i] == chronology) {
+                    return cast(cache[i + 1]);
+                }
+            }
+        }
+
+        ElementRule<T, V> rule = this.derive(chronology);
+
+        if (rule != null) {
+            int n = ((cache == null) ? 0 : cache.length);
+            Object[] copy;
+            if (n < MAX_DERIVED_RULES * 2) {
+                copy = new Object[n + 2];
+                if (n > 0) {
+                    System.arraycopy(cache, 0, copy, 0, n);
+                }
+            } else { // ältestes Paar verdrängen
+                copy = new Object[n];
+                System.arraycopy(cache, 2, copy, 0, n - 2);
+            }
+            copy[copy.length - 2] = chronology;
+            copy[copy.length - 1] = rule;
+            this.derivedRules = copy;
+        }
+
+        return rule;
+
+    }
+
     /**
      * <p>Points to another element which can have a base unit in a given
      * chronology. </p>
@@ -446,4 +507,11 @@ public abstract class BasicElement<V extends Comparable<V>>
 
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object obj) {
+
+        return (T) obj;
+
+    }
+
 }
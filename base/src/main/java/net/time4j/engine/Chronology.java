@@ -28,7 +28,6 @@ import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -64,7 +63,9 @@ public class Chronology<T>
     private final ChronoMerger<T> merger;
     private final Map<ChronoElement<?>, ElementRule<T, ?>> ruleMap;
     private final List<ChronoExtension> extensions;
-    private final Map<ChronoElement<?>, IntElementRule<T>> intRules;
+    private final ChronoElement<?>[] slotKeys; // offene Adressierung, Länge ist Zweierpotenz
+    private final ElementRule<?, ?>[] slotRules;
+    private final IntElementRule<?>[] slotIntRules;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -85,7 +86,9 @@ public class Chronology<T>
         this.merger = null;
         this.ruleMap = Collections.emptyMap();
         this.extensions = Collections.emptyList();
-        this.intRules = Collections.emptyMap();
+        this.slotKeys = new ChronoElement<?>[1];
+        this.slotRules = new ElementRule<?, ?>[1];
+        this.slotIntRules = new IntElementRule<?>[1];
 
     }
 
@@ -121,20 +124,33 @@ public class Chronology<T>
         this.ruleMap = Collections.unmodifiableMap(ruleMap);
         this.extensions = Collections.unmodifiableList(extensions);
 
-        Map<ChronoElement<?>, IntElementRule<T>> tmpRules = new HashMap<>();
-
-        for (ChronoElement<?> element : this.ruleMap.keySet()) {
-            if ((element.getType() == Integer.class) && isSingleton(element)) {
-                Object rule = this.ruleMap.get(element);
-                if (rule instanceof IntElementRule) {
-                    tmpRules.put(element, (IntElementRule<T>) rule);
-                }
+        // jedes registrierte Element erhält einen festen Index (Füllgrad höchstens 50 Prozent)
+        int size = Integer.highestOneBit(Math.max(1, this.ruleMap.size()) * 2 - 1) << 1;
+        ChronoElement<?>[] keys = new ChronoElement<?>[size];
+        ElementRule<?, ?>[] rules = new ElementRule<?, ?>[size];
+        IntElementRule<?>[] intRules = new IntElementRule<?>[size];
+
+        for (Map.Entry<ChronoElement<?>, ElementRule<T, ?>> entry : this.ruleMap.entrySet()) {
+            ChronoElement<?> element = entry.getKey();
+            ElementRule<T, ?> rule = entry.getValue();
+            int slot = spread(element.hashCode()) & (size - 1);
+            while (keys[slot] != null) {
+                slot = (slot + 1) & (size - 1);
+            }
+            keys[slot] = element;
+            rules[slot] = rule;
+            if (
+                (element.getType() == Integer.class)
+                && isSingleton(element)
+                && (rule instanceof IntElementRule)
+            ) {
+                intRules[slot] = (IntElementRule<T>) rule;
             }
         }
 
-        Map<ChronoElement<?>, IntElementRule<T>> intRules = new IdentityHashMap<>(tmpRules.size());
-        intRules.putAll(tmpRules);
-        this.intRules = intRules;
+        this.slotKeys = keys;
+        this.slotRules = rules;
+        this.slotIntRules = intRules;
 
     }
 
@@ -189,7 +205,7 @@ public class Chronology<T>
      */
     public boolean isRegistered(ChronoElement<?> element) {
 
-        return ((element != null) && this.ruleMap.containsKey(element));
+        return ((element != null) && (this.slotOf(element) >= 0));
 
     }
 
@@ -474,7 +490,8 @@ public class Chronology<T>
             throw new NullPointerException("Missing chronological element.");
         }
 
-        ElementRule<?, ?> rule = this.ruleMap.get(element);
+        int slot = this.slotOf(element);
+        ElementRule<?, ?> rule = ((slot < 0) ? null : this.slotRules[slot]);
 
         if (rule == null) {
             rule = this.getDerivedRule(element, true);
@@ -497,7 +514,43 @@ public class Chronology<T>
      */
     IntElementRule<T> getIntegerRule(ChronoElement<Integer> element) {
 
-        return this.intRules.get(element);
+        // nur identische Singleton-Elemente vom Typ Integer haben eine int-Regel
+        ChronoElement<?>[] keys = this.slotKeys;
+        int mask = keys.length - 1;
+
+        for (int i = spread(element.hashCode()) & mask; keys[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == element) {
+                return cast(this.slotIntRules[i]);
+            }
+        }
+
+        return null;
+
+    }
+
+    // liefert den Index des registrierten Elements oder -1, Vergleich wie in HashMap (Identität, dann equals)
+    private int slotOf(ChronoElement<?> element) {
+
+        ChronoElement<?>[] keys = this.slotKeys;
+        int mask = keys.length - 1;
+        int h = element.hashCode();
+
+        for (int i = spread(h) & mask; ; i = (i + 1) & mask) {
+            ChronoElement<?> key = keys[i];
+            if (key == element) {
+                return i;
+            } else if (key == null) {
+                return -1;
+            } else if ((key.hashCode() == h) && element.equals(key)) {
+                return i;
+            }
+        }
+
+    }
+
+    private static int spread(int h) {
+
+        return (h ^ (h >>> 16));
 
     }
 
@@ -514,7 +567,7 @@ public class Chronology<T>
 
             if (veto == null) {
                 Chronology<? extends ChronoEntity> c = cast(this);
-                Object rule = e.derive(c);
+                Object rule = e.getDerivedRule(c); // gemerkt im Element
                 return cast(rule);
             } else {
                 throw new RuleNotFoundException(veto);
@@ -49,9 +49,15 @@ import java.util.List;
  */
 public final class TextAccessor {
 
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int NOT_FOUND = -1;
+    private static final int UNKNOWN = -2;
+
     //~ Instanzvariablen --------------------------------------------------
 
     private final List<String> textForms;
+    private final Node trie; // null if there are empty text forms
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -64,6 +70,7 @@ public final class TextAccessor {
         super();
 
         this.textForms = Collections.unmodifiableList(Arrays.asList(textForms));
+        this.trie = Node.build(textForms);
 
     }
 
@@ -284,6 +291,151 @@ public final class TextAccessor {
     ) {
 
         V[] enums = valueType.getEnumConstants();
+
+        if ((this.trie != null) && (enums.length == this.textForms.size())) {
+            int result = (
+                partialCompare
+                ? this.searchPartial(parseable, status, caseInsensitive)
+                : this.searchExact(parseable, status, caseInsensitive));
+            if (result >= 0) {
+                return enums[result];
+            } else if (result == NOT_FOUND) {
+                return null;
+            }
+        }
+
+        return this.scan(parseable, status, enums, caseInsensitive, partialCompare);
+
+    }
+
+    // Ergebnis: Index der passenden Textform oder NOT_FOUND
+    private int searchExact(
+        CharSequence parseable,
+        ParsePosition status,
+        boolean caseInsensitive
+    ) {
+
+        int start = status.getIndex();
+        int end = parseable.length();
+        int best = NOT_FOUND;
+        int single = NOT_FOUND;
+        int singleCount = 0;
+        Node node = this.trie;
+
+        for (int pos = start; pos < end; pos++) {
+            node = node.getChild(fold(parseable.charAt(pos)));
+
+            if (node == null) {
+                break;
+            }
+
+            for (int index : node.terminals) {
+                String s = this.textForms.get(index);
+                if (this.commonPrefixLength(parseable, start, s, caseInsensitive) == s.length()) {
+                    if (s.length() == 1) {
+                        single = index;
+                        singleCount++;
+                    } else if ((best == NOT_FOUND) || (index < best)) {
+                        best = index;
+                    }
+                }
+            }
+        }
+
+        if (best != NOT_FOUND) {
+            status.setIndex(start + this.textForms.get(best).length());
+            return best;
+        } else if (singleCount == 1) {
+            status.setIndex(start + 1);
+            return single;
+        }
+
+        status.setErrorIndex(start);
+        return NOT_FOUND;
+
+    }
+
+    // Ergebnis: Index der passenden Textform, NOT_FOUND oder UNKNOWN (dann ist eine volle Suche notwendig)
+    private int searchPartial(
+        CharSequence parseable,
+        ParsePosition status,
+        boolean caseInsensitive
+    ) {
+
+        int start = status.getIndex();
+        int end = parseable.length();
+        int pos = start;
+        Node node = this.trie;
+
+        while (pos < end) {
+            Node child = node.getChild(fold(parseable.charAt(pos)));
+
+            if (child == null) {
+                break;
+            }
+
+            node = child;
+            pos++;
+        }
+
+        int depth = pos - start;
+
+        if (depth == 0) {
+            status.setErrorIndex(start);
+            return NOT_FOUND;
+        }
+
+        for (int index : node.forms) {
+            String s = this.textForms.get(index);
+            if (this.commonPrefixLength(parseable, start, s, caseInsensitive) != depth) {
+                return UNKNOWN; // trie is based on case folding, so let us do a full scan
+            }
+        }
+
+        if (node.forms.length == 1) {
+            status.setIndex(pos);
+            return node.forms[0];
+        }
+
+        status.setErrorIndex(start);
+        return NOT_FOUND;
+
+    }
+
+    private int commonPrefixLength(
+        CharSequence parseable,
+        int start,
+        String s,
+        boolean caseInsensitive
+    ) {
+
+        int end = parseable.length();
+        int n = s.length();
+        int j = 0;
+
+        while ((j < n) && (start + j < end)) {
+            char c = parseable.charAt(start + j);
+            char t = s.charAt(j);
+
+            if ((c == t) || (caseInsensitive && this.compareIgnoreCase(c, t))) {
+                j++;
+            } else {
+                break;
+            }
+        }
+
+        return j;
+
+    }
+
+    private <V extends Enum<V>> V scan(
+        CharSequence parseable,
+        ParsePosition status,
+        V[] enums,
+        boolean caseInsensitive,
+        boolean partialCompare
+    ) {
+
         int len = this.textForms.size();
         int start = status.getIndex();
         int end = parseable.length();
@@ -362,4 +514,102 @@ public final class TextAccessor {
 
     }
 
+    // case folding which is compatible with compareIgnoreCase(c1, c2)
+    private static char fold(char c) {
+
+        if ((c >= 'A') && (c <= 'Z')) {
+            return (char) (c + 'a' - 'A');
+        } else if (c < 128) {
+            return c;
+        }
+
+        return Character.toLowerCase(Character.toUpperCase(c));
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Knoten eines Pr&auml;fixbaums &uuml;ber die Textformen, dessen Kanten mit
+     * gefalteten Zeichen (Gro&szlig;-/Kleinschreibung ignoriert) beschriftet sind. </p>
+     *
+     * <p>Weil die Faltung gr&ouml;&szlig;er als der eigentliche Vergleich ist, liefert der Baum
+     * nur Kandidaten, die noch mit dem gew&uuml;nschten Vergleichsmodus gepr&uuml;ft werden. Nach dem
+     * Aufbau wird ein Knoten nicht mehr ver&auml;ndert. </p>
+     */
+    private static final class Node {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int[] EMPTY = new int[0];
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private int[] terminals = EMPTY; // forms ending here
+        private int[] forms = EMPTY; // all forms in this subtree (ascending)
+
+        //~ Methoden ------------------------------------------------------
+
+        static Node build(String[] textForms) {
+
+            Node root = new Node();
+
+            for (int i = 0; i < textForms.length; i++) {
+                String s = textForms[i];
+
+                if (s.isEmpty()) {
+                    return null;
+                }
+
+                Node node = root;
+
+                for (int j = 0, n = s.length(); j < n; j++) {
+                    char key = fold(s.charAt(j));
+                    Node child = node.getChild(key);
+                    if (child == null) {
+                        child = new Node();
+                        int k = node.keys.length;
+                        node.keys = Arrays.copyOf(node.keys, k + 1);
+                        node.keys[k] = key;
+                        node.children = Arrays.copyOf(node.children, k + 1);
+                        node.children[k] = child;
+                    }
+                    child.forms = add(child.forms, i);
+                    node = child;
+                }
+
+                node.terminals = add(node.terminals, i);
+            }
+
+            return root;
+
+        }
+
+        Node getChild(char key) {
+
+            for (int i = 0; i < this.keys.length; i++) {
+                if (this.keys[i] == key) {
+                    return this.children[i];
+                }
+            }
+
+            return null;
+
+        }
+
+        private static int[] add(
+            int[] array,
+            int value
+        ) {
+
+            int[] result = Arrays.copyOf(array, array.length + 1);
+            result[array.length] = value;
+            return result;
+
+        }
+
+    }
+
 }
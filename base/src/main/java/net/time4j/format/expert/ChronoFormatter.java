@@ -73,7 +73,10 @@ import net.time4j.tz.TransitionStrategy;
 import net.time4j.tz.ZonalOffset;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.CharBuffer;
 import java.text.AttributedCharacterIterator;
 import java.text.AttributedString;
 import java.text.DateFormat;
@@ -93,9 +96,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.IntPredicate;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static net.time4j.format.CalendarText.ISO_CALENDAR_TYPE;
 
@@ -231,6 +237,8 @@ public final class ChronoFormatter<T>
      */
     public static final ChronoFormatter<Moment> RFC_1123 = rfc1123();
 
+    private static final int MAX_VARIANTS = 512;
+
     //~ Instanzvariablen --------------------------------------------------
 
     private final Chronology<T> chronology;
@@ -252,6 +260,8 @@ public final class ChronoFormatter<T>
     private final Chronology<?> deepestParser;
     private final int stepCount;
     private final boolean singleStepMode;
+    private final CompiledPrinter compiledPrinter;
+    private volatile Map<VariantKey, ChronoFormatter<T>> variants = null; // erst bei Bedarf angelegt
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -322,6 +332,7 @@ public final class ChronoFormatter<T>
         this.stepCount = steps.size();
         this.steps = this.freeze(steps);
         this.singleStepMode = this.getSingleStepMode();
+        this.compiledPrinter = this.compile();
 
     }
 
@@ -440,6 +451,7 @@ public final class ChronoFormatter<T>
         this.stepCount = copy.size();
         this.steps = this.freeze(copy);
         this.singleStepMode = this.getSingleStepMode();
+        this.compiledPrinter = this.compile();
 
     }
 
@@ -490,6 +502,7 @@ public final class ChronoFormatter<T>
         this.stepCount = formatter.stepCount;
         this.steps = this.freeze(formatter.steps);
         this.singleStepMode = this.getSingleStepMode();
+        this.compiledPrinter = this.compile();
 
     }
 
@@ -682,11 +695,302 @@ public final class ChronoFormatter<T>
     @Override
     public String print(T formattable) {
 
+        if (this.compiledPrinter != null) {
+            StringBuilder buffer = new StringBuilder(this.compiledPrinter.getMaxLength());
+            if (this.compiledPrinter.print(formattable, buffer) != -1) {
+                return buffer.toString();
+            }
+        }
+
         ChronoDisplay display = this.display(formattable, this.globalAttributes);
         return this.format0(display);
 
     }
 
+    /**
+     * <p>Prints given chronological entity as formatted text and appends
+     * the text to given buffer without determining any element positions. </p>
+     *
+     * <p>If this formatter only consists of numerical elements of the types {@code PlainDate},
+     * {@code PlainTime}, {@code PlainTimestamp} or {@code Moment} (the latter only with a fixed
+     * timezone offset), literals, fractions and timezone offsets then the values will be directly
+     * written into the buffer without creating any intermediate objects. Otherwise this method
+     * is equivalent to {@code buffer.append(print(formattable))}. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          text output buffer
+     * @return  count of printed characters
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Formatiert das angegebene Objekt als Text und h&auml;ngt ihn an den Puffer an,
+     * ohne Elementpositionen zu bestimmen. </p>
+     *
+     * <p>Besteht dieser Formatierer nur aus numerischen Elementen der Typen {@code PlainDate},
+     * {@code PlainTime}, {@code PlainTimestamp} oder {@code Moment} (letzterer nur mit einem
+     * festen Zeitzonen-Offset), aus Literalen, Dezimalbr&uuml;chen und Zeitzonen-Offsets, dann
+     * werden die Werte direkt und ohne Erzeugung von Zwischenobjekten in den Puffer geschrieben.
+     * Sonst entspricht diese Methode {@code buffer.append(print(formattable))}. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          text output buffer
+     * @return  count of printed characters
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @since   5.0
+     */
+    public int printTo(
+        T formattable,
+        StringBuilder buffer
+    ) {
+
+        if (buffer == null) {
+            throw new NullPointerException("Missing text result buffer.");
+        }
+
+        if (this.compiledPrinter != null) {
+            int printed = this.compiledPrinter.print(formattable, buffer);
+            if (printed != -1) {
+                return printed;
+            }
+        }
+
+        int start = buffer.length();
+        ChronoDisplay display = this.display(formattable, this.globalAttributes);
+
+        try {
+            this.print(display, buffer, this.globalAttributes, false);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        }
+
+        return buffer.length() - start;
+
+    }
+
+    /**
+     * <p>Prints given chronological entity as formatted text and writes
+     * the text into given character array starting at given offset. </p>
+     *
+     * <p>This method works like {@link #printTo(Object, StringBuilder)} but allows to reuse
+     * a character array as output buffer. If the array is too small then an exception will
+     * be thrown, and the content of the array after the offset is undefined. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          text output buffer
+     * @param   offset          start position in buffer
+     * @return  count of printed characters
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IndexOutOfBoundsException if the offset is out of range or the buffer is too small
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Formatiert das angegebene Objekt als Text und schreibt ihn ab der
+     * angegebenen Position in das Zeichenfeld. </p>
+     *
+     * <p>Diese Methode arbeitet wie {@link #printTo(Object, StringBuilder)}, erlaubt aber,
+     * ein Zeichenfeld als Ausgabepuffer wiederzuverwenden. Ist das Feld zu klein, wird eine
+     * Ausnahme geworfen, und der Inhalt des Felds hinter der Startposition ist undefiniert. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          text output buffer
+     * @param   offset          start position in buffer
+     * @return  count of printed characters
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IndexOutOfBoundsException if the offset is out of range or the buffer is too small
+     * @since   5.0
+     */
+    public int printTo(
+        T formattable,
+        char[] buffer,
+        int offset
+    ) {
+
+        if ((offset < 0) || (offset > buffer.length)) {
+            throw new IndexOutOfBoundsException("Offset out of range: " + offset);
+        }
+
+        int available = buffer.length - offset;
+
+        if ((this.compiledPrinter != null) && (available >= this.compiledPrinter.getMaxLength())) {
+            int printed = this.compiledPrinter.print(formattable, buffer, offset);
+            if (printed != -1) {
+                return printed;
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        int printed = this.printTo(formattable, sb);
+
+        if (printed > available) {
+            throw new IndexOutOfBoundsException(
+                "Buffer too small, required: " + printed + ", available: " + available);
+        }
+
+        sb.getChars(0, printed, buffer, offset);
+        return printed;
+
+    }
+
+    /**
+     * <p>Prints all given chronological entities as formatted text separated by given
+     * separator into given buffer. </p>
+     *
+     * <p>This method is designed for bulk export. Every entity is printed in the same way as
+     * by {@link #printTo(Object, StringBuilder)} using one reusable internal buffer. If the
+     * target buffer is a {@code StringBuilder} or a {@code Writer} then no intermediate strings
+     * are created. </p>
+     *
+     * @param   formattables    objects to be formatted
+     * @param   buffer          text output buffer
+     * @param   separator       text between two formatted objects
+     * @return  count of printed objects
+     * @throws  IllegalArgumentException if any object is not formattable
+     * @throws  IOException if writing to buffer fails
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Formatiert alle angegebenen Objekte als Text, getrennt durch den angegebenen Separator,
+     * und schreibt sie in den Puffer. </p>
+     *
+     * <p>Diese Methode ist f&uuml;r den Massenexport gedacht. Jedes Objekt wird so wie von
+     * {@link #printTo(Object, StringBuilder)} formatiert, wobei ein einziger interner Puffer
+     * wiederverwendet wird. Ist der Zielpuffer ein {@code StringBuilder} oder ein {@code Writer},
+     * entstehen keine Zwischen-Strings. </p>
+     *
+     * @param   formattables    objects to be formatted
+     * @param   buffer          text output buffer
+     * @param   separator       text between two formatted objects
+     * @return  count of printed objects
+     * @throws  IllegalArgumentException if any object is not formattable
+     * @throws  IOException if writing to buffer fails
+     * @since   5.0
+     */
+    public int printAll(
+        Iterable<? extends T> formattables,
+        Appendable buffer,
+        CharSequence separator
+    ) throws IOException {
+
+        if (buffer == null) {
+            throw new NullPointerException("Missing text result buffer.");
+        } else if (separator == null) {
+            throw new NullPointerException("Missing separator.");
+        } else if (buffer instanceof Writer) {
+            return this.printAll(formattables, Writer.class.cast(buffer), separator.toString());
+        }
+
+        StringBuilder sb = (
+            (buffer instanceof StringBuilder)
+            ? StringBuilder.class.cast(buffer)
+            : new StringBuilder((this.compiledPrinter == null) ? 64 : this.compiledPrinter.getMaxLength()));
+        boolean direct = (sb == buffer);
+        int count = 0;
+
+        for (T formattable : formattables) {
+            if (count > 0) {
+                sb.append(separator);
+            }
+            this.printTo(formattable, sb);
+            count++;
+            if (!direct) {
+                buffer.append(sb);
+                sb.setLength(0);
+            }
+        }
+
+        return count;
+
+    }
+
+    // Massenexport in einen Writer über ein wiederverwendetes Zeichenfeld
+    private int printAll(
+        Iterable<? extends T> formattables,
+        Writer writer,
+        String separator
+    ) throws IOException {
+
+        int capacity = ((this.compiledPrinter == null) ? 64 : this.compiledPrinter.getMaxLength());
+        char[] chars = new char[capacity];
+        StringBuilder sb = null;
+        int count = 0;
+
+        for (T formattable : formattables) {
+            if (count > 0) {
+                writer.write(separator);
+            }
+            int printed = -1;
+            if (this.compiledPrinter != null) {
+                printed = this.compiledPrinter.print(formattable, chars, 0);
+            }
+            if (printed == -1) {
+                if (sb == null) {
+                    sb = new StringBuilder(capacity);
+                } else {
+                    sb.setLength(0);
+                }
+                printed = this.printTo(formattable, sb);
+                if (printed > chars.length) {
+                    chars = new char[Math.max(printed, chars.length * 2)];
+                }
+                sb.getChars(0, printed, chars, 0);
+            }
+            writer.write(chars, 0, printed);
+            count++;
+        }
+
+        return count;
+
+    }
+
+    /**
+     * <p>Interpretes all texts read from given reader and separated by given delimiter
+     * as a lazy stream of chronological entities. </p>
+     *
+     * <p>This method is designed for bulk import, for example of a file with one timestamp per line.
+     * The reader is read in chunks into one reusable character array, and every text is parsed directly
+     * in this array (like {@link #parse(char[], int, int, ParseContext)}) without creating any intermediate
+     * strings. Empty texts will be skipped. If the delimiter is a line feed then a preceding carriage return
+     * will be ignored. The stream does not close the reader. </p>
+     *
+     * <p>The stream is not parallel and must not be shared between threads. Parse errors are reported
+     * as {@code ChronoException} with the original {@code ParseException} as cause, read errors as
+     * {@code UncheckedIOException}. </p>
+     *
+     * @param   reader      source of text to be parsed
+     * @param   delimiter   char between two texts (for example {@code '\n'})
+     * @return  sequential stream of parsed results
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert alle aus dem angegebenen {@code Reader} gelesenen und durch das angegebene
+     * Trennzeichen begrenzten Texte als verz&ouml;gert ausgewerteten Strom chronologischer Entit&auml;ten. </p>
+     *
+     * <p>Diese Methode ist f&uuml;r den Massenimport gedacht, zum Beispiel einer Datei mit einem
+     * Zeitstempel pro Zeile. Der {@code Reader} wird abschnittsweise in ein einziges wiederverwendbares
+     * Zeichenfeld gelesen, und jeder Text wird direkt in diesem Feld interpretiert (wie in
+     * {@link #parse(char[], int, int, ParseContext)}), ohne Zwischen-Strings zu erzeugen. Leere Texte
+     * werden &uuml;bersprungen. Ist das Trennzeichen ein Zeilenvorschub, dann wird ein vorangehendes
+     * Wagenr&uuml;cklaufzeichen ignoriert. Der Strom schlie&szlig;t den {@code Reader} nicht. </p>
+     *
+     * <p>Der Strom ist nicht parallel und darf nicht von mehreren {@code Thread}s gemeinsam benutzt werden.
+     * Interpretationsfehler werden als {@code ChronoException} mit der urspr&uuml;nglichen
+     * {@code ParseException} als Ursache gemeldet, Lesefehler als {@code UncheckedIOException}. </p>
+     *
+     * @param   reader      source of text to be parsed
+     * @param   delimiter   char between two texts (for example {@code '\n'})
+     * @return  sequential stream of parsed results
+     * @since   5.0
+     */
+    public Stream<T> parseAll(
+        Reader reader,
+        char delimiter
+    ) {
+
+        return StreamSupport.stream(new DelimitedParser<>(this, reader, delimiter), false);
+
+    }
+
     /**
      * <p>Prints given general timestamp. </p>
      *
@@ -935,23 +1239,7 @@ public final class ChronoFormatter<T>
 
         ParseLog status = new ParseLog();
         T result = this.parse(text, status);
-
-        if (result == null) {
-            throw new ParseException(
-                status.getErrorMessage(),
-                status.getErrorIndex()
-            );
-        }
-
-        int index = status.getPosition();
-
-        if (!this.trailing && (index < text.length())) {
-            throw new ParseException(
-                "Unparsed trailing characters: " + sub(index, text),
-                index
-            );
-        }
-
+        this.checkResult(text, status, result);
         return result;
 
     }
@@ -1000,6 +1288,114 @@ public final class ChronoFormatter<T>
 
     }
 
+    /**
+     * <p>Interpretes given section of a character array as chronological entity
+     * without creating any intermediate string. </p>
+     *
+     * <p>The given context will be reused in order to avoid new objects for the status
+     * and the parsed raw values. Hence this method is suitable for bulk parsing of many
+     * texts, for example timestamps read from a CSV-file. Error indices in any thrown
+     * exception are relative to given offset. </p>
+     *
+     * @param   text        character array
+     * @param   offset      start index of text section
+     * @param   length      length of text section
+     * @param   context     reusable parse context (one instance per thread)
+     * @return  parse result
+     * @throws  IndexOutOfBoundsException if the text section is out of range
+     * @throws  ParseException if the text is not parseable
+     * @see     #parse(CharSequence)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen Abschnitt eines Zeichenfelds als chronologische Entit&auml;t,
+     * ohne einen Zwischen-String zu erzeugen. </p>
+     *
+     * <p>Der angegebene Kontext wird wiederverwendet, um neue Objekte f&uuml;r den Status und die
+     * interpretierten Rohdaten zu vermeiden. Deshalb eignet sich diese Methode f&uuml;r die
+     * Massenverarbeitung vieler Texte, zum Beispiel von aus einer CSV-Datei gelesenen Zeitstempeln.
+     * Fehlerpositionen in einer eventuell geworfenen Ausnahme sind relativ zum angegebenen Offset. </p>
+     *
+     * @param   text        character array
+     * @param   offset      start index of text section
+     * @param   length      length of text section
+     * @param   context     reusable parse context (one instance per thread)
+     * @return  parse result
+     * @throws  IndexOutOfBoundsException if the text section is out of range
+     * @throws  ParseException if the text is not parseable
+     * @see     #parse(CharSequence)
+     * @since   5.0
+     */
+    public T parse(
+        char[] text,
+        int offset,
+        int length,
+        ParseContext context
+    ) throws ParseException {
+
+        ParseLog status = context.start();
+
+        try {
+            CharSequence cs = context.wrap(text, offset, length);
+            T result = this.parse(cs, status);
+            this.checkResult(cs, status, result);
+            return result;
+        } finally {
+            context.finish();
+        }
+
+    }
+
+    /**
+     * <p>Interpretes the remaining characters of given buffer as chronological entity
+     * without creating any intermediate string. </p>
+     *
+     * <p>The text to be parsed starts at the current position of the buffer and ends at its
+     * limit. If successful then the position of the buffer will be set behind the parsed text,
+     * otherwise the buffer is not changed. Error indices in any thrown exception are relative to
+     * the position of the buffer. The given context will be reused in the same way as in
+     * {@link #parse(char[], int, int, ParseContext)}. </p>
+     *
+     * @param   text        character buffer
+     * @param   context     reusable parse context (one instance per thread)
+     * @return  parse result
+     * @throws  ParseException if the text is not parseable
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert die verbleibenden Zeichen des angegebenen Puffers als chronologische
+     * Entit&auml;t, ohne einen Zwischen-String zu erzeugen. </p>
+     *
+     * <p>Der zu interpretierende Text beginnt an der aktuellen Position des Puffers und endet an
+     * dessen Limit. Im Erfolgsfall wird die Position des Puffers hinter den interpretierten Text
+     * gesetzt, sonst bleibt der Puffer unver&auml;ndert. Fehlerpositionen in einer eventuell
+     * geworfenen Ausnahme sind relativ zur Position des Puffers. Der angegebene Kontext wird
+     * genauso wie in {@link #parse(char[], int, int, ParseContext)} wiederverwendet. </p>
+     *
+     * @param   text        character buffer
+     * @param   context     reusable parse context (one instance per thread)
+     * @return  parse result
+     * @throws  ParseException if the text is not parseable
+     * @since   5.0
+     */
+    public T parse(
+        CharBuffer text,
+        ParseContext context
+    ) throws ParseException {
+
+        ParseLog status = context.start();
+
+        try {
+            T result = this.parse(text, status);
+            this.checkResult(text, status, result);
+            text.position(text.position() + status.getPosition());
+            return result;
+        } finally {
+            context.finish();
+        }
+
+    }
+
     /**
      * <p>Interpretes given text as chronological entity starting
      * at the specified position in parse log. </p>
@@ -2035,6 +2431,99 @@ public final class ChronoFormatter<T>
 
     }
 
+    /**
+     * <p>Yields a memoized copy of this formatter for given locale and timezone. </p>
+     *
+     * <p>The result is equivalent to {@code with(locale).withTimezone(tzid)}. The copy
+     * will be derived by the first call and then be remembered by this formatter so that
+     * repeated calls with the same arguments return the same instance. At most 512 copies
+     * are remembered per formatter, any further arguments yield a new copy on every call.
+     * Remembered copies and their timezones live as long as this formatter. </p>
+     *
+     * @param   locale      new language and country configuration
+     * @param   tzid        timezone id (optional)
+     * @return  memoized copy of this formatter (possibly this instance)
+     * @throws  IllegalArgumentException if given timezone cannot be loaded
+     *          or if an unicode extension is not recognized or supported
+     * @see     #with(Locale)
+     * @see     #withTimezone(TZID)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Liefert eine gemerkte Kopie dieses Formatierers f&uuml;r die angegebene
+     * Sprache und Zeitzone. </p>
+     *
+     * <p>Das Ergebnis ist &auml;quivalent zu {@code with(locale).withTimezone(tzid)}. Die
+     * Kopie wird beim ersten Aufruf abgeleitet und dann von diesem Formatierer gemerkt,
+     * so da&szlig; wiederholte Aufrufe mit den gleichen Argumenten dieselbe Instanz liefern.
+     * H&ouml;chstens 512 Kopien werden je Formatierer gemerkt, alle weiteren Argumente
+     * liefern bei jedem Aufruf eine neue Kopie. Gemerkte Kopien und ihre Zeitzonen leben
+     * so lange wie dieser Formatierer. </p>
+     *
+     * @param   locale      new language and country configuration
+     * @param   tzid        timezone id (optional)
+     * @return  memoized copy of this formatter (possibly this instance)
+     * @throws  IllegalArgumentException if given timezone cannot be loaded
+     *          or if an unicode extension is not recognized or supported
+     * @see     #with(Locale)
+     * @see     #withTimezone(TZID)
+     * @since   5.0
+     */
+    public ChronoFormatter<T> variant(
+        Locale locale,
+        TZID tzid
+    ) {
+
+        if (locale == null) {
+            throw new NullPointerException("Missing locale.");
+        }
+
+        return this.variant(new VariantKey(locale, tzid, null));
+
+    }
+
+    /**
+     * <p>Yields a memoized copy of this formatter with given default attributes. </p>
+     *
+     * <p>The result is equivalent to {@code with(attributes)}. The copy will be derived
+     * by the first call and then be remembered by this formatter, with the same limit
+     * of 512 copies as in {@link #variant(Locale, TZID)}. Like any formatter created by
+     * {@code with(attributes)}, the copy avoids the per-call attribute merging which
+     * takes place when the same attributes are passed as {@code AttributeQuery} to the
+     * print- or parse-methods. </p>
+     *
+     * @param   attributes  new default attributes
+     * @return  memoized copy of this formatter
+     * @see     #with(Attributes)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Liefert eine gemerkte Kopie dieses Formatierers mit den angegebenen
+     * Standard-Attributen. </p>
+     *
+     * <p>Das Ergebnis ist &auml;quivalent zu {@code with(attributes)}. Die Kopie wird
+     * beim ersten Aufruf abgeleitet und dann von diesem Formatierer gemerkt, mit derselben
+     * Grenze von 512 Kopien wie in {@link #variant(Locale, TZID)}. Wie jeder mit
+     * {@code with(attributes)} erzeugte Formatierer vermeidet die Kopie die
+     * Zusammenf&uuml;hrung von Attributen pro Aufruf, die stattfindet, wenn die gleichen
+     * Attribute als {@code AttributeQuery} an die print- oder parse-Methoden
+     * &uuml;bergeben werden. </p>
+     *
+     * @param   attributes  new default attributes
+     * @return  memoized copy of this formatter
+     * @see     #with(Attributes)
+     * @since   5.0
+     */
+    public ChronoFormatter<T> variant(Attributes attributes) {
+
+        if (attributes == null) {
+            throw new NullPointerException("Missing attributes.");
+        }
+
+        return this.variant(new VariantKey(null, null, attributes));
+
+    }
+
     // used by CustomizedProcessor
     ChronoFormatter<T> with(
         Map<ChronoElement<?>, Object> outerDefaults,
@@ -2229,14 +2718,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainDate> builder = new Builder<>(PlainDate.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return PatternCache.lookup(pattern, type, locale, PlainDate.axis(), null);
 
     }
 
@@ -2268,14 +2750,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainTime> builder = new Builder<>(PlainTime.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return PatternCache.lookup(pattern, type, locale, PlainTime.axis(), null);
 
     }
 
@@ -2307,14 +2782,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<PlainTimestamp> builder = new Builder<>(PlainTimestamp.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return PatternCache.lookup(pattern, type, locale, PlainTimestamp.axis(), null);
 
     }
 
@@ -2351,14 +2819,7 @@ public final class ChronoFormatter<T>
         Locale locale
     ) {
 
-        Builder<Moment> builder = new Builder<>(Moment.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return PatternCache.lookup(pattern, type, locale, Moment.axis(), null);
 
     }
 
@@ -2399,14 +2860,7 @@ public final class ChronoFormatter<T>
         TZID tzid
     ) {
 
-        Builder<Moment> builder = new Builder<>(Moment.axis(), locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build().withTimezone(tzid);
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return PatternCache.lookup(pattern, type, locale, Moment.axis(), null).withTimezone(tzid);
 
     }
 
@@ -2429,6 +2883,9 @@ public final class ChronoFormatter<T>
      * check does not claim to find all insane combinations of symbols but intends to prevent at least
      * the most wide-spread pattern errors. </p>
      *
+     * <p>The pattern-based factory methods cache their results so repeated calls with the same
+     * arguments return the same immutable instance (see {@link ChronoFormatter.Cache}). </p>
+     *
      * @param   <T> generic chronological type
      * @param   pattern     format pattern
      * @param   type        the type of the pattern to be used
@@ -2458,6 +2915,9 @@ public final class ChronoFormatter<T>
      * durchgef&uuml;hrt (seit v4.20). Sie hat auch nicht den Anspruch, alle ungesunden Kombinationen
      * zu finden, sondern soll lediglich einige besonders h&auml;ufige Fehlerquellen abdecken. </p>
      *
+     * <p>Die musterbasierten Fabrikmethoden puffern ihre Ergebnisse, so da&szlig; wiederholte Aufrufe mit
+     * denselben Argumenten dieselbe unver&auml;nderliche Instanz liefern (siehe {@link ChronoFormatter.Cache}). </p>
+     *
      * @param   <T> generic chronological type
      * @param   pattern     format pattern
      * @param   type        the type of the pattern to be used
@@ -2475,14 +2935,7 @@ public final class ChronoFormatter<T>
         Chronology<T> chronology
     ) {
 
-        Builder<T> builder = new Builder<>(chronology, locale);
-        addPattern(builder, pattern, type);
-
-        try {
-            return builder.build();
-        } catch (IllegalStateException ise) {
-            throw new IllegalArgumentException(ise);
-        }
+        return PatternCache.lookup(pattern, type, locale, chronology, null);
 
     }
 
@@ -3065,6 +3518,13 @@ public final class ChronoFormatter<T>
 
     }
 
+    // used by MultiFormatParser
+    List<FormatStep> getSteps() {
+
+        return this.steps;
+
+    }
+
     // used by CustomizedProcessor
     boolean isSingleStepOptimizationPossible() {
 
@@ -3104,6 +3564,16 @@ public final class ChronoFormatter<T>
 
     }
 
+    private CompiledPrinter compile() {
+
+        if ((this.overrideHandler != null) || this.hasOrMarkers) {
+            return null;
+        }
+
+        return CompiledPrinter.compile(this.chronology, this.steps, this.globalAttributes);
+
+    }
+
     private String format0(ChronoDisplay display) {
 
         StringBuilder buffer = new StringBuilder(this.steps.size() * 8);
@@ -3479,6 +3949,25 @@ public final class ChronoFormatter<T>
 
     }
 
+    // used by PatternCache
+    static <T> ChronoFormatter<T> buildPattern(
+        String pattern,
+        PatternType type,
+        Locale locale,
+        Chronology<T> chronology
+    ) {
+
+        Builder<T> builder = new Builder<>(chronology, locale);
+        addPattern(builder, pattern, type);
+
+        try {
+            return builder.build();
+        } catch (IllegalStateException ise) {
+            throw new IllegalArgumentException(ise);
+        }
+
+    }
+
     private static <T> void addPattern(
         Builder<T> builder,
         String pattern,
@@ -3677,7 +4166,7 @@ public final class ChronoFormatter<T>
         int countOfElements
     ) {
 
-        ParsedValues values = new ParsedValues(countOfElements, this.indexable);
+        ParsedValues values = status.createParsedValues(countOfElements, this.indexable);
         values.setPosition(status.getPosition());
         Deque<ParsedValues> data = null;
 
@@ -3821,6 +4310,30 @@ public final class ChronoFormatter<T>
 
     }
 
+    private void checkResult(
+        CharSequence text,
+        ParseLog status,
+        T result
+    ) throws ParseException {
+
+        if (result == null) {
+            throw new ParseException(
+                status.getErrorMessage(),
+                status.getErrorIndex()
+            );
+        }
+
+        int index = status.getPosition();
+
+        if (!this.trailing && (index < text.length())) {
+            throw new ParseException(
+                "Unparsed trailing characters: " + sub(index, text),
+                index
+            );
+        }
+
+    }
+
     private static String sub(
         int index,
         CharSequence text
@@ -3991,6 +4504,43 @@ public final class ChronoFormatter<T>
 
     }
 
+    private ChronoFormatter<T> variant(VariantKey key) {
+
+        Map<VariantKey, ChronoFormatter<T>> map = this.variants;
+
+        if (map == null) {
+            synchronized (this) {
+                map = this.variants;
+                if (map == null) {
+                    map = new ConcurrentHashMap<>();
+                    this.variants = map;
+                }
+            }
+        }
+
+        ChronoFormatter<T> cf = map.get(key);
+
+        if (cf == null) {
+            if (key.attributes == null) {
+                cf = this.with(key.locale);
+                if (key.tzid != null) {
+                    cf = cf.withTimezone(key.tzid);
+                }
+            } else {
+                cf = this.with(key.attributes);
+            }
+            if (map.size() < MAX_VARIANTS) {
+                ChronoFormatter<T> old = map.putIfAbsent(key, cf);
+                if (old != null) {
+                    cf = old;
+                }
+            }
+        }
+
+        return cf;
+
+    }
+
     private boolean hasNoPreparser() {
 
         return ((this.chronology.preparser() == null) && (this.overrideHandler == null));
@@ -3999,6 +4549,62 @@ public final class ChronoFormatter<T>
 
     //~ Innere Klassen ----------------------------------------------------
 
+    // Schlüssel für gemerkte Formatkopien
+    private static final class VariantKey {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Locale locale;
+        private final String tzid;
+        private final Attributes attributes;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private VariantKey(
+            Locale locale,
+            TZID tzid,
+            Attributes attributes
+        ) {
+            super();
+
+            this.locale = locale;
+            this.tzid = ((tzid == null) ? null : tzid.canonical());
+            this.attributes = attributes;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            } else if (obj instanceof VariantKey) {
+                VariantKey that = (VariantKey) obj;
+                return (
+                    isEqual(this.locale, that.locale)
+                    && isEqual(this.tzid, that.tzid)
+                    && isEqual(this.attributes, that.attributes)
+                );
+            } else {
+                return false;
+            }
+
+        }
+
+        @Override
+        public int hashCode() {
+
+            int h = ((this.locale == null) ? 0 : this.locale.hashCode());
+            h = 31 * h + ((this.tzid == null) ? 0 : this.tzid.hashCode());
+            h = 31 * h + ((this.attributes == null) ? 0 : this.attributes.hashCode());
+            return h;
+
+        }
+
+    }
+
     /**
      * <p>Builder for creating a new {@code ChronoFormatter}. </p>
      *
@@ -7428,6 +8034,184 @@ s         * <p>Definiert ein Textformat f&uuml;r das angegebene Element mit
 
     }
 
+    /**
+     * <p>Offers some static methods for the configuration of the cache of pattern-based formatters. </p>
+     *
+     * <p>The cache is used by {@link #ofPattern(String, PatternType, Locale, Chronology)} and the
+     * similar factory methods for dates, times, timestamps and moments. Its key consists of the
+     * pattern, the pattern type, the locale, the chronology and the leniency. The default maximum size
+     * is 256 formatters. </p>
+     *
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Bietet statische Methoden zum Konfigurieren des Puffers f&uuml;r musterbasierte Formatierer. </p>
+     *
+     * <p>Der Puffer wird von {@link #ofPattern(String, PatternType, Locale, Chronology)} und den
+     * &auml;hnlichen Fabrikmethoden f&uuml;r Datum, Uhrzeit, Zeitstempel und Momente verwendet. Sein
+     * Schl&uuml;ssel besteht aus dem Formatmuster, dem Mustertyp, der Sprache, der Chronologie und dem
+     * Nachsichtigkeitsmodus. Die maximale Gr&ouml;&szlig;e ist standardm&auml;&szlig;ig 256 Formatierer. </p>
+     *
+     * @since   5.0
+     */
+    public static final class Cache {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Cache() {
+            // no instantiation
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Obtains a cached pattern-based formatter with given leniency. </p>
+         *
+         * <p>Equivalent to {@code ofPattern(pattern, type, locale, chronology).with(leniency)}
+         * but avoids creating a new copy on every call. </p>
+         *
+         * @param   <T> generic chronological type
+         * @param   pattern     format pattern
+         * @param   type        the type of the pattern to be used
+         * @param   locale      format locale
+         * @param   chronology  chronology with format pattern support
+         * @param   leniency    leniency mode
+         * @return  immutable {@code ChronoFormatter}-instance
+         * @throws  IllegalArgumentException if resolving of pattern fails
+         */
+        /*[deutsch]
+         * <p>Liefert einen gepufferten musterbasierten Formatierer mit dem angegebenen Nachsichtigkeitsmodus. </p>
+         *
+         * <p>Entspricht {@code ofPattern(pattern, type, locale, chronology).with(leniency)}, vermeidet
+         * aber das Anlegen einer neuen Kopie bei jedem Aufruf. </p>
+         *
+         * @param   <T> generic chronological type
+         * @param   pattern     format pattern
+         * @param   type        the type of the pattern to be used
+         * @param   locale      format locale
+         * @param   chronology  chronology with format pattern support
+         * @param   leniency    leniency mode
+         * @return  immutable {@code ChronoFormatter}-instance
+         * @throws  IllegalArgumentException if resolving of pattern fails
+         */
+        public static <T> ChronoFormatter<T> lookup(
+            String pattern,
+            PatternType type,
+            Locale locale,
+            Chronology<T> chronology,
+            Leniency leniency
+        ) {
+
+            if (leniency == null) {
+                throw new NullPointerException("Missing leniency.");
+            }
+
+            return PatternCache.lookup(pattern, type, locale, chronology, leniency);
+
+        }
+
+        /**
+         * <p>Updates the maximum size of the cache. </p>
+         *
+         * <p>If the cache is full then arbitrary entries will be removed. The size {@code 0}
+         * switches off the cache. </p>
+         *
+         * @param   maximumSize     new maximum size of cache
+         * @throws  IllegalArgumentException if the argument is negative
+         */
+        /*[deutsch]
+         * <p>Konfiguriert die maximale Gr&ouml;&szlig;e des Puffers neu. </p>
+         *
+         * <p>Wenn der Puffer voll ist, werden beliebige Eintr&auml;ge entfernt. Die Gr&ouml;&szlig;e
+         * {@code 0} schaltet den Puffer ab. </p>
+         *
+         * @param   maximumSize     new maximum size of cache
+         * @throws  IllegalArgumentException if the argument is negative
+         */
+        public static void setMaximumSize(int maximumSize) {
+
+            PatternCache.setMaximumSize(maximumSize);
+
+        }
+
+        /**
+         * <p>Yields the maximum size of the cache. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die maximale Gr&ouml;&szlig;e des Puffers. </p>
+         *
+         * @return  int
+         */
+        public static int getMaximumSize() {
+
+            return PatternCache.getMaximumSize();
+
+        }
+
+        /**
+         * <p>Yields the current count of cached formatters. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die aktuelle Anzahl der gepufferten Formatierer. </p>
+         *
+         * @return  int
+         */
+        public static int size() {
+
+            return PatternCache.size();
+
+        }
+
+        /**
+         * <p>Counts the requests which could be served by the cache. </p>
+         *
+         * @return  count of cache hits since start or last call of {@link #clear()}
+         */
+        /*[deutsch]
+         * <p>Z&auml;hlt die Anfragen, die aus dem Puffer bedient werden konnten. </p>
+         *
+         * @return  count of cache hits since start or last call of {@link #clear()}
+         */
+        public static long getHitCount() {
+
+            return PatternCache.getHitCount();
+
+        }
+
+        /**
+         * <p>Counts the requests which required the creation of a new formatter. </p>
+         *
+         * @return  count of cache misses since start or last call of {@link #clear()}
+         */
+        /*[deutsch]
+         * <p>Z&auml;hlt die Anfragen, die einen neuen Formatierer erforderten. </p>
+         *
+         * @return  count of cache misses since start or last call of {@link #clear()}
+         */
+        public static long getMissCount() {
+
+            return PatternCache.getMissCount();
+
+        }
+
+        /**
+         * <p>Removes all cached formatters and resets the statistics. </p>
+         */
+        /*[deutsch]
+         * <p>Entfernt alle gepufferten Formatierer und setzt die Statistik zur&uuml;ck. </p>
+         */
+        public static void clear() {
+
+            PatternCache.clear();
+
+        }
+
+    }
+
     /**
      * @serial  exclude
      */
@@ -0,0 +1,654 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CompiledPrinter.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.engine.AttributeQuery;
+import net.time4j.engine.ChronoElement;
+import net.time4j.engine.Chronology;
+import net.time4j.format.Attributes;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.TZID;
+import net.time4j.tz.ZonalOffset;
+
+import java.io.IOException;
+import java.util.List;
+
+
+/**
+ * <p>Kompilierte Form eines Formatierers, der nur aus numerischen Elementen, Dezimalbr&uuml;chen,
+ * Literalen und festen Zeitzonen-Offsets besteht. </p>
+ *
+ * <p>Die Elementwerte werden direkt als primitive Zahlen aus {@code PlainDate}, {@code PlainTime},
+ * {@code PlainTimestamp} oder {@code Moment} gelesen. Es werden weder Elementpositionen noch
+ * Zwischenpuffer oder Wrapper-Objekte erzeugt. Das Verhalten entspricht genau dem Schnellmodus
+ * der einzelnen Formatierschritte. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+final class CompiledPrinter {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int TYPE_DATE = 0;
+    private static final int TYPE_TIME = 1;
+    private static final int TYPE_TIMESTAMP = 2;
+    private static final int TYPE_MOMENT = 3;
+
+    private static final int OP_LITERAL = 0;
+    private static final int OP_NUMBER = 1;
+    private static final int OP_FRACTION = 2;
+
+    private static final int YEAR = 0;
+    private static final int MONTH = 1;
+    private static final int DAY_OF_MONTH = 2;
+    private static final int DAY_OF_YEAR = 3;
+    private static final int HOUR = 4;
+    private static final int DIGITAL_HOUR = 5;
+    private static final int MINUTE = 6;
+    private static final int SECOND = 7;
+    private static final int NANO = 8;
+
+    private static final int MJD_OF_UNIX_EPOCH = 40587;
+
+    private static final int[] DAYS_BEFORE_MONTH = {0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334};
+
+    private static final int[] POWERS_OF_TEN =
+        { 1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000 };
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int type;
+    private final int[] ops;
+    private final int[] fields;
+    private final int[] minDigits;
+    private final int[] maxDigits;
+    private final SignPolicy[] signPolicies;
+    private final DigitTable[] digitTables;
+    private final ChronoElement<?>[] elements;
+    private final char[][] literals;
+    private final int offsetSeconds;
+    private final boolean dayOfYear;
+    private final int maxLength;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CompiledPrinter(
+        int type,
+        int[] ops,
+        int[] fields,
+        int[] minDigits,
+        int[] maxDigits,
+        SignPolicy[] signPolicies,
+        DigitTable[] digitTables,
+        ChronoElement<?>[] elements,
+        char[][] literals,
+        int offsetSeconds
+    ) {
+        super();
+
+        this.type = type;
+        this.ops = ops;
+        this.fields = fields;
+        this.minDigits = minDigits;
+        this.maxDigits = maxDigits;
+        this.signPolicies = signPolicies;
+        this.digitTables = digitTables;
+        this.elements = elements;
+        this.literals = literals;
+        this.offsetSeconds = offsetSeconds;
+
+        boolean doy = false;
+        int max = 0;
+
+        for (int i = 0; i < ops.length; i++) {
+            switch (ops[i]) {
+                case OP_LITERAL:
+                    max += literals[i].length;
+                    break;
+                case OP_NUMBER:
+                    max += (maxDigits[i] + 1); // with sign
+                    doy = doy || (fields[i] == DAY_OF_YEAR);
+                    break;
+                default:
+                    max += (maxDigits[i] + ((literals[i] == null) ? 0 : 1));
+            }
+        }
+
+        this.dayOfYear = doy;
+        this.maxLength = max;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Versucht, die angegebenen Formatierschritte zu kompilieren. </p>
+     *
+     * <p>Vorausgesetzt werden ein Formatierer ohne oder-Bl&ouml;cke und ohne Kalender&uuml;berschreibung
+     * sowie bereits im Schnellmodus vorbereitete Formatierschritte. </p>
+     *
+     * @param   chronology  the chronology of the formatter
+     * @param   steps       frozen format steps in quick-path-mode
+     * @param   globals     global format attributes
+     * @return  compiled printer or {@code null} if any step or the chronology is not suitable
+     */
+    static CompiledPrinter compile(
+        Chronology<?> chronology,
+        List<FormatStep> steps,
+        AttributeQuery globals
+    ) {
+
+        int type;
+        int offsetSeconds = 0;
+
+        if (chronology == PlainDate.axis()) {
+            type = TYPE_DATE;
+        } else if (chronology == PlainTime.axis()) {
+            type = TYPE_TIME;
+        } else if (chronology == PlainTimestamp.axis()) {
+            type = TYPE_TIMESTAMP;
+        } else if (chronology == Moment.axis()) {
+            ZonalOffset offset = getFixedOffset(globals);
+            if (
+                (offset == null)
+                || (offset.getFractionalAmount() != 0)
+                || (globals.get(Attributes.TIME_SCALE, TimeScale.UTC) != TimeScale.UTC)
+            ) {
+                return null;
+            }
+            type = TYPE_MOMENT;
+            offsetSeconds = offset.getIntegralAmount();
+        } else {
+            return null;
+        }
+
+        int n = steps.size();
+        int[] ops = new int[n];
+        int[] fields = new int[n];
+        int[] minDigits = new int[n];
+        int[] maxDigits = new int[n];
+        SignPolicy[] signPolicies = new SignPolicy[n];
+        DigitTable[] digitTables = new DigitTable[n];
+        ChronoElement<?>[] elements = new ChronoElement<?>[n];
+        char[][] literals = new char[n][];
+
+        for (int i = 0; i < n; i++) {
+            FormatStep step = steps.get(i);
+            AttributeQuery attrs = step.getFullAttributes();
+
+            if ((attrs == null) || !step.isUnconditional()) {
+                return null;
+            }
+
+            FormatProcessor<?> processor = step.getProcessor();
+
+            if (processor instanceof NumberProcessor) {
+                NumberProcessor<?> np = (NumberProcessor<?>) processor;
+                int field = getField(np.getElement(), type);
+                if ((field == -1) || !np.hasDecimalDigits()) {
+                    return null;
+                }
+                ops[i] = OP_NUMBER;
+                fields[i] = field;
+                minDigits[i] = np.getMinDigits();
+                maxDigits[i] = np.getMaxDigits();
+                signPolicies[i] = np.getSignPolicy();
+                digitTables[i] = np.getDigitTable();
+                elements[i] = np.getElement();
+            } else if (processor instanceof FractionProcessor) {
+                FractionProcessor fp = (FractionProcessor) processor;
+                if ((fp.getElement() != PlainTime.NANO_OF_SECOND) || (type == TYPE_DATE)) {
+                    return null;
+                }
+                if (fp.hasDecimalSeparator()) {
+                    Character separator = attrs.get(Attributes.DECIMAL_SEPARATOR, null);
+                    if (separator == null) {
+                        return null;
+                    }
+                    literals[i] = new char[] { separator.charValue() };
+                }
+                ops[i] = OP_FRACTION;
+                fields[i] = NANO;
+                minDigits[i] = fp.getMinDigits();
+                maxDigits[i] = fp.getMaxDigits();
+                digitTables[i] = DigitTable.of(fp.getZeroDigit());
+                elements[i] = fp.getElement();
+            } else if (processor instanceof LiteralProcessor) {
+                String literal = ((LiteralProcessor) processor).getLiteral(attrs);
+                if (literal == null) {
+                    return null;
+                }
+                ops[i] = OP_LITERAL;
+                literals[i] = literal.toCharArray();
+            } else if (processor instanceof TimezoneOffsetProcessor) {
+                // the offset is constant so it can be printed in advance
+                ZonalOffset offset = getFixedOffset((type == TYPE_MOMENT) ? globals : attrs);
+                if (offset == null) {
+                    return null;
+                }
+                StringBuilder sb = new StringBuilder();
+                try {
+                    ((TimezoneOffsetProcessor) processor).print(offset, sb);
+                } catch (IOException ioe) {
+                    throw new AssertionError(ioe);
+                }
+                ops[i] = OP_LITERAL;
+                literals[i] = sb.toString().toCharArray();
+            } else {
+                return null;
+            }
+        }
+
+        return new CompiledPrinter(
+            type, ops, fields, minDigits, maxDigits, signPolicies, digitTables, elements, literals, offsetSeconds);
+
+    }
+
+    /**
+     * <p>Liefert die maximale Anzahl der auszugebenden Zeichen. </p>
+     *
+     * @return  int
+     */
+    int getMaxLength() {
+
+        return this.maxLength;
+
+    }
+
+    /**
+     * <p>Formatiert das angegebene Objekt und h&auml;ngt das Ergebnis an den Puffer an. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          text output buffer
+     * @return  count of printed characters or {@code -1} if the standard way of printing is required
+     * @throws  IllegalArgumentException if any element value does not fit into the format
+     */
+    int print(
+        Object formattable,
+        StringBuilder buffer
+    ) {
+
+        return this.print(formattable, buffer, null, 0);
+
+    }
+
+    /**
+     * <p>Formatiert das angegebene Objekt und schreibt das Ergebnis in das Feld ab der angegebenen
+     * Position. </p>
+     *
+     * <p>Der Aufrufer mu&szlig; sicherstellen, da&szlig; im Feld mindestens {@link #getMaxLength()}
+     * Zeichen Platz haben. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          text output buffer
+     * @param   offset          start position in buffer
+     * @return  count of printed characters or {@code -1} if the standard way of printing is required
+     * @throws  IllegalArgumentException if any element value does not fit into the format
+     */
+    int print(
+        Object formattable,
+        char[] buffer,
+        int offset
+    ) {
+
+        return this.print(formattable, null, buffer, offset);
+
+    }
+
+    private int print(
+        Object formattable,
+        StringBuilder sb,
+        char[] array,
+        int offset
+    ) {
+
+        int year = 0;
+        int month = 0;
+        int dom = 0;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int nano = 0;
+
+        PlainDate date = null;
+        PlainTime time = null;
+
+        switch (this.type) {
+            case TYPE_DATE:
+                if (!(formattable instanceof PlainDate)) {
+                    return -1;
+                }
+                date = (PlainDate) formattable;
+                break;
+            case TYPE_TIME:
+                if (!(formattable instanceof PlainTime)) {
+                    return -1;
+                }
+                time = (PlainTime) formattable;
+                break;
+            case TYPE_TIMESTAMP:
+                if (!(formattable instanceof PlainTimestamp)) {
+                    return -1;
+                }
+                PlainTimestamp tsp = (PlainTimestamp) formattable;
+                date = tsp.getCalendarDate();
+                time = tsp.getWallTime();
+                break;
+            default:
+                if (!(formattable instanceof Moment)) {
+                    return -1;
+                }
+                Moment moment = (Moment) formattable;
+                if (moment.isLeapSecond()) {
+                    return -1; // second 60 handled by standard way
+                }
+                long local = moment.getPosixTime() + this.offsetSeconds;
+                long packedDate =
+                    GregorianMath.toPackedDate(MathUtils.floorDivide(local, 86400) + MJD_OF_UNIX_EPOCH);
+                int secondOfDay = MathUtils.floorModulo(local, 86400);
+                year = GregorianMath.readYear(packedDate);
+                month = GregorianMath.readMonth(packedDate);
+                dom = GregorianMath.readDayOfMonth(packedDate);
+                hour = secondOfDay / 3600;
+                minute = (secondOfDay / 60) % 60;
+                second = secondOfDay % 60;
+                nano = moment.getNanosecond();
+        }
+
+        if (date != null) {
+            year = date.getYear();
+            month = date.getMonth();
+            dom = date.getDayOfMonth();
+        }
+
+        if (time != null) {
+            hour = time.getHour();
+            minute = time.getMinute();
+            second = time.getSecond();
+            nano = time.getNanosecond();
+        }
+
+        int doy = 0;
+
+        if (this.dayOfYear) {
+            doy = DAYS_BEFORE_MONTH[month - 1] + dom;
+            if ((month > 2) && GregorianMath.isLeapYear(year)) {
+                doy++;
+            }
+        }
+
+        int pos = offset;
+
+        for (int i = 0; i < this.ops.length; i++) {
+            int op = this.ops[i];
+
+            if (op == OP_LITERAL) {
+                char[] literal = this.literals[i];
+                if (array == null) {
+                    sb.append(literal);
+                } else {
+                    System.arraycopy(literal, 0, array, pos, literal.length);
+                }
+                pos += literal.length;
+                continue;
+            }
+
+            int value;
+
+            switch (this.fields[i]) {
+                case YEAR:
+                    value = year;
+                    break;
+                case MONTH:
+                    value = month;
+                    break;
+                case DAY_OF_MONTH:
+                    value = dom;
+                    break;
+                case DAY_OF_YEAR:
+                    value = doy;
+                    break;
+                case HOUR:
+                    value = hour;
+                    break;
+                case DIGITAL_HOUR:
+                    value = hour % 24;
+                    break;
+                case MINUTE:
+                    value = minute;
+                    break;
+                case SECOND:
+                    value = second;
+                    break;
+                default:
+                    value = nano;
+            }
+
+            if (op == OP_NUMBER) {
+                pos = this.printNumber(i, value, sb, array, pos);
+            } else {
+                pos = this.printFraction(i, value, sb, array, pos);
+            }
+        }
+
+        return pos - offset;
+
+    }
+
+    private int printNumber(
+        int index,
+        int value,
+        StringBuilder sb,
+        char[] array,
+        int pos
+    ) {
+
+        SignPolicy signPolicy = this.signPolicies[index];
+        boolean negative = (value < 0);
+        int x = Math.abs(value);
+        int count = length(x);
+
+        if (negative && (signPolicy == SignPolicy.SHOW_NEVER)) {
+            throw new IllegalArgumentException("Negative value not allowed according to sign policy.");
+        } else if (count > this.maxDigits[index]) {
+            throw new IllegalArgumentException(
+                "Element " + this.elements[index].name()
+                    + " cannot be printed as the formatted value " + x
+                    + " exceeds the maximum width of " + this.maxDigits[index] + ".");
+        }
+
+        char sign = '\u0000';
+
+        if (negative) {
+            sign = '-';
+        } else if (
+            (signPolicy == SignPolicy.SHOW_ALWAYS)
+            || ((signPolicy == SignPolicy.SHOW_WHEN_BIG_NUMBER) && (count > this.minDigits[index]))
+        ) {
+            sign = '+';
+        }
+
+        if (sign != '\u0000') {
+            pos = put(sign, sb, array, pos);
+        }
+
+        DigitTable table = this.digitTables[index];
+        char zeroDigit = table.getZeroDigit();
+
+        for (int i = 0, n = this.minDigits[index] - count; i < n; i++) {
+            pos = put(zeroDigit, sb, array, pos);
+        }
+
+        return putDigits(table, x, count, sb, array, pos);
+
+    }
+
+    private int printFraction(
+        int index,
+        int nano,
+        StringBuilder sb,
+        char[] array,
+        int pos
+    ) {
+
+        int min = this.minDigits[index];
+        char[] separator = this.literals[index];
+        DigitTable table = this.digitTables[index];
+
+        if (nano == 0) {
+            if (min > 0) {
+                if (separator != null) {
+                    pos = put(separator[0], sb, array, pos);
+                }
+                for (int i = 0; i < min; i++) {
+                    pos = put(table.getZeroDigit(), sb, array, pos);
+                }
+            }
+            return pos;
+        }
+
+        int scale = 9;
+        int test = nano;
+
+        while ((test % 10) == 0) {
+            test /= 10;
+            scale--;
+        }
+
+        int digits = Math.min(Math.max(scale, min), this.maxDigits[index]);
+
+        if (separator != null) {
+            pos = put(separator[0], sb, array, pos);
+        }
+
+        return putDigits(table, nano / POWERS_OF_TEN[9 - digits], digits, sb, array, pos);
+
+    }
+
+    private static int put(
+        char c,
+        StringBuilder sb,
+        char[] array,
+        int pos
+    ) {
+
+        if (array == null) {
+            sb.append(c);
+        } else {
+            array[pos] = c;
+        }
+
+        return pos + 1;
+
+    }
+
+    // writes exactly count digits (with leading zeros if necessary)
+    private static int putDigits(
+        DigitTable table,
+        int value,
+        int count,
+        StringBuilder sb,
+        char[] array,
+        int pos
+    ) {
+
+        if (array == null) {
+            try {
+                table.write(value, count, sb);
+            } catch (IOException ioe) {
+                throw new AssertionError(ioe);
+            }
+            return pos + count;
+        } else {
+            return table.write(value, count, array, pos);
+        }
+
+    }
+
+    private static int length(int v) {
+
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            if (v < POWERS_OF_TEN[i]) {
+                return i;
+            }
+        }
+
+        return 10;
+
+    }
+
+    private static ZonalOffset getFixedOffset(AttributeQuery attributes) {
+
+        if (attributes.contains(Attributes.TIMEZONE_ID)) {
+            TZID tzid = attributes.get(Attributes.TIMEZONE_ID);
+            if (tzid instanceof ZonalOffset) {
+                return (ZonalOffset) tzid;
+            }
+        }
+
+        return null;
+
+    }
+
+    private static int getField(
+        ChronoElement<?> element,
+        int type
+    ) {
+
+        if (type != TYPE_TIME) {
+            if (element == PlainDate.YEAR) {
+                return YEAR;
+            } else if (element == PlainDate.MONTH_AS_NUMBER) {
+                return MONTH;
+            } else if (element == PlainDate.DAY_OF_MONTH) {
+                return DAY_OF_MONTH;
+            } else if (element == PlainDate.DAY_OF_YEAR) {
+                return DAY_OF_YEAR;
+            }
+        }
+
+        if (type != TYPE_DATE) {
+            if (element == PlainTime.HOUR_FROM_0_TO_24) {
+                return HOUR;
+            } else if (element == PlainTime.DIGITAL_HOUR_OF_DAY) {
+                return DIGITAL_HOUR;
+            } else if (element == PlainTime.MINUTE_OF_HOUR) {
+                return MINUTE;
+            } else if (element == PlainTime.SECOND_OF_MINUTE) {
+                return SECOND;
+            } else if (element == PlainTime.NANO_OF_SECOND) {
+                return NANO;
+            }
+        }
+
+        return -1;
+
+    }
+
+}
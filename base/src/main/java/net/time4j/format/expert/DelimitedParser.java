@@ -0,0 +1,193 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DelimitedParser.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.engine.ChronoException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+
+/**
+ * <p>Liest begrenzte Texte aus einem {@code Reader} und interpretiert sie nacheinander. </p>
+ *
+ * <p>Ein einziges Zeichenfeld dient als Lesepuffer, und alle Texte werden direkt im Puffer
+ * mit einem wiederverwendeten {@code ParseContext} interpretiert. Leere Texte werden
+ * &uuml;bersprungen. Ist das Trennzeichen ein Zeilenende, dann wird ein vorangehendes
+ * Wagenr&uuml;cklaufzeichen ignoriert. </p>
+ *
+ * @param   <T> generic type of chronological entity
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+final class DelimitedParser<T>
+    extends Spliterators.AbstractSpliterator<T> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int INITIAL_CAPACITY = 4096;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ChronoFormatter<T> formatter;
+    private final Reader reader;
+    private final char delimiter;
+    private final ParseContext context;
+
+    private char[] buffer;
+    private int start; // start of next item in buffer
+    private int limit; // end of valid chars in buffer
+    private boolean eof;
+    private long count;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Erzeugt einen neuen Interpretierer. </p>
+     *
+     * @param   formatter   formatter used for parsing every single item
+     * @param   reader      source of text
+     * @param   delimiter   char between two items
+     */
+    DelimitedParser(
+        ChronoFormatter<T> formatter,
+        Reader reader,
+        char delimiter
+    ) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+
+        if (reader == null) {
+            throw new NullPointerException("Missing reader.");
+        }
+
+        this.formatter = formatter;
+        this.reader = reader;
+        this.delimiter = delimiter;
+        this.context = new ParseContext();
+        this.buffer = new char[INITIAL_CAPACITY];
+        this.start = 0;
+        this.limit = 0;
+        this.eof = false;
+        this.count = 0;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+
+        while (true) {
+            int end = this.findDelimiter();
+
+            if (end == -1) {
+                return false;
+            }
+
+            int next = end + 1;
+
+            if ((this.delimiter == '\n') && (end > this.start) && (this.buffer[end - 1] == '\r')) {
+                end--;
+            }
+
+            int itemStart = this.start;
+            this.start = next;
+
+            if (end > itemStart) {
+                action.accept(this.parseItem(itemStart, end - itemStart));
+                return true;
+            }
+        }
+
+    }
+
+    // liefert die Position des Trennzeichens (oder das Textende bzw. -1, wenn nichts mehr zu lesen ist)
+    private int findDelimiter() {
+
+        int pos = this.start;
+
+        while (true) {
+            for (; pos < this.limit; pos++) {
+                if (this.buffer[pos] == this.delimiter) {
+                    return pos;
+                }
+            }
+
+            if (this.eof) {
+                return ((this.start < this.limit) ? this.limit : -1);
+            }
+
+            pos -= this.start;
+            this.fill();
+        }
+
+    }
+
+    private void fill() {
+
+        int remaining = this.limit - this.start;
+
+        if (this.start > 0) {
+            System.arraycopy(this.buffer, this.start, this.buffer, 0, remaining);
+        } else if (remaining == this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2); // very long item
+        }
+
+        this.start = 0;
+        this.limit = remaining;
+
+        try {
+            int n = this.reader.read(this.buffer, this.limit, this.buffer.length - this.limit);
+            if (n == -1) {
+                this.eof = true;
+            } else {
+                this.limit += n;
+            }
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+
+    }
+
+    private T parseItem(
+        int offset,
+        int length
+    ) {
+
+        this.count++;
+
+        try {
+            return this.formatter.parse(this.buffer, offset, length, this.context);
+        } catch (ParseException pe) {
+            throw new ChronoException(
+                "Cannot parse item " + this.count + ": " + new String(this.buffer, offset, length), pe);
+        }
+
+    }
+
+}
@@ -0,0 +1,217 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DigitTable.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.format.expert;
+
+import net.time4j.format.NumberSystem;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+
+/**
+ * <p>Vorberechnete Kodier- und Dekodiertabelle f&uuml;r die Ziffern eines dezimalen Zahlensystems. </p>
+ *
+ * <p>Die Ausgabe erfolgt mit Hilfe einer Tabelle aller zweistelligen Ziffernpaare jeweils zwei Ziffern
+ * auf einmal, ohne Zwischenobjekte wie {@code String} zu erzeugen. F&uuml;r alle dezimalen Zahlensysteme
+ * werden die Tabellen beim Laden der Klasse einmalig angelegt, Tabellen f&uuml;r andere Null-Ziffern
+ * werden beim ersten Bedarf angelegt und danach (begrenzt) wiederverwendet. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+final class DigitTable {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int[] POWERS_OF_TEN =
+        { 1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000 };
+
+    private static final DigitTable[] TABLES;
+    private static final int MAX_EXTRA_TABLES = 16;
+
+    // Tabellen für Null-Ziffern außerhalb der Standard-Zahlensysteme (copy-on-write)
+    private static volatile DigitTable[] extraTables = new DigitTable[0];
+
+    static {
+        NumberSystem[] systems = NumberSystem.values();
+        int count = 0;
+        DigitTable[] tables = new DigitTable[systems.length];
+
+        for (NumberSystem numsys : systems) {
+            if (numsys.isDecimal()) {
+                tables[count++] = new DigitTable(numsys.getDigits().charAt(0));
+            }
+        }
+
+        TABLES = new DigitTable[count];
+        System.arraycopy(tables, 0, TABLES, 0, count);
+    }
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final char zeroDigit;
+    private final char[] pairs;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private DigitTable(char zeroDigit) {
+        super();
+
+        this.zeroDigit = zeroDigit;
+        this.pairs = new char[200];
+
+        for (int i = 0; i < 100; i++) {
+            this.pairs[i << 1] = (char) (zeroDigit + i / 10);
+            this.pairs[(i << 1) + 1] = (char) (zeroDigit + i % 10);
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Liefert die Ziffertabelle zur angegebenen Null-Ziffer. </p>
+     *
+     * @param   zeroDigit   the zero digit of a decimal number system
+     * @return  shared table (new table only if the limit of remembered extra tables is reached)
+     */
+    static DigitTable of(char zeroDigit) {
+
+        for (DigitTable table : TABLES) {
+            if (table.zeroDigit == zeroDigit) {
+                return table;
+            }
+        }
+
+        DigitTable[] extra = extraTables;
+
+        for (DigitTable table : extra) {
+            if (table.zeroDigit == zeroDigit) {
+                return table;
+            }
+        }
+
+        DigitTable table = new DigitTable(zeroDigit);
+
+        if (extra.length < MAX_EXTRA_TABLES) {
+            DigitTable[] copy = Arrays.copyOf(extra, extra.length + 1);
+            copy[extra.length] = table;
+            extraTables = copy; // gutartiger Wettlauf: eine verlorene Tabelle wird später neu angelegt
+        }
+
+        return table;
+
+    }
+
+    /**
+     * <p>Liefert die Null-Ziffer. </p>
+     *
+     * @return  char
+     */
+    char getZeroDigit() {
+
+        return this.zeroDigit;
+
+    }
+
+    /**
+     * <p>Dekodiert das angegebene Zeichen. </p>
+     *
+     * @param   c   char to be decoded
+     * @return  digit value in range 0-9 or {@code -1} if given char is not a digit of this table
+     */
+    int digit(char c) {
+
+        int d = c - this.zeroDigit;
+        return (((d >= 0) && (d <= 9)) ? d : -1);
+
+    }
+
+    /**
+     * <p>Schreibt genau {@code count} Ziffern des angegebenen Werts in den Puffer (eventuell mit
+     * f&uuml;hrenden Nullen). </p>
+     *
+     * @param   value       non-negative number with not more than {@code count} digits
+     * @param   count       count of digits to be written (1-10)
+     * @param   buffer      text output buffer
+     * @throws  IOException if writing to the buffer fails
+     */
+    void write(
+        int value,
+        int count,
+        Appendable buffer
+    ) throws IOException {
+
+        int i = count;
+
+        if ((i & 1) == 1) {
+            i--;
+            buffer.append((char) (this.zeroDigit + (value / POWERS_OF_TEN[i]) % 10));
+        }
+
+        while (i > 0) {
+            i -= 2;
+            int k = ((value / POWERS_OF_TEN[i]) % 100) << 1;
+            buffer.append(this.pairs[k]);
+            buffer.append(this.pairs[k + 1]);
+        }
+
+    }
+
+    /**
+     * <p>Schreibt genau {@code count} Ziffern des angegebenen Werts in das Feld ab der angegebenen
+     * Position (eventuell mit f&uuml;hrenden Nullen). </p>
+     *
+     * @param   value       non-negative number with not more than {@code count} digits
+     * @param   count       count of digits to be written (1-10)
+     * @param   array       text output array
+     * @param   pos         start position in array
+     * @return  new position after last written digit
+     */
+    int write(
+        int value,
+        int count,
+        char[] array,
+        int pos
+    ) {
+
+        int v = value;
+        int i = pos + count;
+
+        while (i - pos >= 2) {
+            int q = v / 100;
+            int k = (v - q * 100) << 1;
+            array[--i] = this.pairs[k + 1];
+            array[--i] = this.pairs[k];
+            v = q;
+        }
+
+        if (i > pos) {
+            array[--i] = (char) (this.zeroDigit + v % 10);
+        }
+
+        return pos + count;
+
+    }
+
+}
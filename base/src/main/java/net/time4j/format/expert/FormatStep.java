@@ -419,6 +419,37 @@ final class FormatStep {
 
     }
 
+    /**
+     * <p>Ermittelt die im Schnellmodus g&uuml;ltigen Attribute (einschlie&szlig;lich der sektionalen
+     * Attribute). </p>
+     *
+     * @return  full control attributes or {@code null} if the formatter has not yet been built
+     * @since   5.0
+     */
+    AttributeQuery getFullAttributes() {
+
+        return this.fullAttrs;
+
+    }
+
+    /**
+     * <p>Wird dieser Schritt immer ohne Bedingung, ohne F&uuml;llzeichen und au&szlig;erhalb von
+     * oder-Bl&ouml;cken ausgef&uuml;hrt? </p>
+     *
+     * @return  boolean
+     * @since   5.0
+     */
+    boolean isUnconditional() {
+
+        return (
+            (this.padLeft == 0)
+            && (this.padRight == 0)
+            && !this.orMarker
+            && ((this.sectionalAttrs == null) || (this.sectionalAttrs.getCondition() == null))
+        );
+
+    }
+
     /**
      * <p>Finaler Schritt nach dem <i>build</i> des Formatierers oder bei Attribut&auml;nderungen. </p>
      *
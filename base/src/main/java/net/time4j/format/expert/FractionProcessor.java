@@ -488,7 +488,48 @@ final class FractionProcessor
 
     }
 
-    private boolean hasDecimalSeparator() {
+    /**
+     * <p>Liefert die minimale Anzahl der Nachkommastellen. </p>
+     *
+     * @return  int
+     * @since   5.0
+     */
+    int getMinDigits() {
+
+        return this.minDigits;
+
+    }
+
+    /**
+     * <p>Liefert die maximale Anzahl der Nachkommastellen. </p>
+     *
+     * @return  int
+     * @since   5.0
+     */
+    int getMaxDigits() {
+
+        return this.maxDigits;
+
+    }
+
+    /**
+     * <p>Liefert die Null-Ziffer des Schnellmodus. </p>
+     *
+     * @return  char
+     * @since   5.0
+     */
+    char getZeroDigit() {
+
+        return this.zeroDigit;
+
+    }
+
+    /**
+     * <p>Wird ein Dezimaltrennzeichen vorangestellt? </p>
+     *
+     * @return  boolean
+     */
+    boolean hasDecimalSeparator() {
 
         return (this.decimalSeparator != null);
 
@@ -497,10 +497,7 @@ public class Iso8601Format {
 
         ChronoFormatter.Builder<PlainTimestamp> builder =
             ChronoFormatter.setUp(PlainTimestamp.axis(), Locale.ROOT);
-        builder.addCustomized(
-            PlainDate.COMPONENT,
-            Iso8601Format.ofDate(dateStyle),
-            (text, status, attributes) -> null);
+        addDate(builder, dateStyle);
         builder.addLiteral('T');
         addWallTime(builder, dateStyle.isExtended(), decimalStyle, precision);
         return builder.build().with(Leniency.STRICT);
@@ -539,10 +536,7 @@ public class Iso8601Format {
 
         ChronoFormatter.Builder<Moment> builder =
             ChronoFormatter.setUp(Moment.axis(), Locale.ROOT);
-        builder.addCustomized(
-            PlainDate.COMPONENT,
-            Iso8601Format.ofDate(dateStyle),
-            (text, status, attributes) -> null);
+        addDate(builder, dateStyle);
         builder.addLiteral('T');
         addWallTime(builder, dateStyle.isExtended(), decimalStyle, precision);
         builder.addTimezoneOffset(DisplayMode.MEDIUM, dateStyle.isExtended(), Collections.singletonList("Z"));
@@ -573,14 +567,8 @@ public class Iso8601Format {
 
         ParseLog plog = new ParseLog();
         PlainDate date = parseDate(iso, plog);
-
-        if ((date == null) || plog.isError()) {
-            throw new ParseException(plog.getErrorMessage(), plog.getErrorIndex());
-        } else if (plog.getPosition() < iso.length()) {
-            throw new ParseException("Trailing characters found: " + iso, plog.getPosition());
-        } else {
-            return date;
-        }
+        checkResult(iso, plog, date);
+        return date;
 
     }
 
@@ -611,6 +599,13 @@ public class Iso8601Format {
         CharSequence iso,
         ParseLog plog
     ) {
+
+        PlainDate date = IsoParser.parseDate(iso, plog, IsoParser.ANY);
+
+        if (date != null) {
+            return date;
+        }
+
         int hyphens = 0;
         int n = iso.length();
         int start = plog.getPosition();
@@ -653,26 +648,197 @@ LOOP:
 
     }
 
-    private static ChronoFormatter<PlainDate> calendarFormat(boolean extended) {
+    /**
+     * <p>Parses given ISO-8601-compatible timestamp string in basic or extended format. </p>
+     *
+     * <p>The most common forms with four-digit-years are interpreted by a specialized parser
+     * which is much faster than {@link #EXTENDED_DATE_TIME} or {@link #BASIC_DATE_TIME}.
+     * All other forms will be delegated to one of these formatters. </p>
+     *
+     * @param   iso     text like &quot;2016-01-01T17:45:30,123&quot; or &quot;20160101T1745&quot;
+     * @return  PlainTimestamp
+     * @throws  ParseException if parsing fails for any reason
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen ISO-8601-kompatiblen Zeitstempeltext im <i>basic</i>-Format
+     * oder im <i>extended</i>-Format. </p>
+     *
+     * <p>Die h&auml;ufigsten Formen mit vierstelligen Jahren werden von einem spezialisierten
+     * Interpretierer verarbeitet, der viel schneller als {@link #EXTENDED_DATE_TIME} oder
+     * {@link #BASIC_DATE_TIME} ist. Alle anderen Formen werden an einen dieser Formatierer
+     * delegiert. </p>
+     *
+     * @param   iso     text like &quot;2016-01-01T17:45:30,123&quot; or &quot;20160101T1745&quot;
+     * @return  PlainTimestamp
+     * @throws  ParseException if parsing fails for any reason
+     * @since   5.0
+     */
+    public static PlainTimestamp parseTimestamp(CharSequence iso) throws ParseException {
 
-        ChronoFormatter.Builder<PlainDate> builder =
-            ChronoFormatter
-                .setUp(PlainDate.class, Locale.ROOT)
-                .startSection(Attributes.NUMBER_SYSTEM, NumberSystem.ARABIC)
-                .startSection(Attributes.ZERO_DIGIT, '0')
-                .addInteger(YEAR, 4, 9, SignPolicy.SHOW_WHEN_BIG_NUMBER);
+        ParseLog plog = new ParseLog();
+        PlainTimestamp tsp = parseTimestamp(iso, plog);
+        checkResult(iso, plog, tsp);
+        return tsp;
 
-        if (extended) {
-            builder.addLiteral('-');
+    }
+
+    /**
+     * <p>Parses given ISO-8601-compatible timestamp string in basic or extended format. </p>
+     *
+     * @param   iso     text like &quot;2016-01-01T17:45:30,123&quot; or &quot;20160101T1745&quot;
+     * @param   plog    new mutable instance of {@code ParseLog}
+     * @return  PlainTimestamp or {@code null} in case of error
+     * @throws  IndexOutOfBoundsException if the start position is at end of text or even behind
+     * @see     ParseLog#isError()
+     * @see     #parseTimestamp(CharSequence)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen ISO-8601-kompatiblen Zeitstempeltext im <i>basic</i>-Format
+     * oder im <i>extended</i>-Format. </p>
+     *
+     * @param   iso     text like &quot;2016-01-01T17:45:30,123&quot; or &quot;20160101T1745&quot;
+     * @param   plog    new mutable instance of {@code ParseLog}
+     * @return  PlainTimestamp or {@code null} in case of error
+     * @throws  IndexOutOfBoundsException if the start position is at end of text or even behind
+     * @see     ParseLog#isError()
+     * @see     #parseTimestamp(CharSequence)
+     * @since   5.0
+     */
+    public static PlainTimestamp parseTimestamp(
+        CharSequence iso,
+        ParseLog plog
+    ) {
+
+        PlainTimestamp tsp = IsoParser.parseTimestamp(iso, plog);
+
+        if (tsp != null) {
+            return tsp;
+        } else if (isExtended(iso, plog.getPosition())) {
+            return EXTENDED_DATE_TIME.parse(iso, plog);
+        } else {
+            return BASIC_DATE_TIME.parse(iso, plog);
         }
 
-        builder.addFixedInteger(MONTH_AS_NUMBER, 2);
+    }
 
-        if (extended) {
-            builder.addLiteral('-');
+    /**
+     * <p>Parses given ISO-8601-compatible string with date, time and timezone offset
+     * in basic or extended format. </p>
+     *
+     * <p>The most common forms with four-digit-years are interpreted by a specialized parser
+     * which is much faster than {@link #EXTENDED_DATE_TIME_OFFSET} or {@link #BASIC_DATE_TIME_OFFSET}.
+     * All other forms will be delegated to one of these formatters. </p>
+     *
+     * @param   iso     text like &quot;2016-01-01T17:45:30,123Z&quot; or &quot;20160101T1745+0100&quot;
+     * @return  Moment
+     * @throws  ParseException if parsing fails for any reason
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen ISO-8601-kompatiblen Text mit Datum, Uhrzeit und Zeitzonen-Offset
+     * im <i>basic</i>-Format oder im <i>extended</i>-Format. </p>
+     *
+     * <p>Die h&auml;ufigsten Formen mit vierstelligen Jahren werden von einem spezialisierten
+     * Interpretierer verarbeitet, der viel schneller als {@link #EXTENDED_DATE_TIME_OFFSET} oder
+     * {@link #BASIC_DATE_TIME_OFFSET} ist. Alle anderen Formen werden an einen dieser Formatierer
+     * delegiert. </p>
+     *
+     * @param   iso     text like &quot;2016-01-01T17:45:30,123Z&quot; or &quot;20160101T1745+0100&quot;
+     * @return  Moment
+     * @throws  ParseException if parsing fails for any reason
+     * @since   5.0
+     */
+    public static Moment parseMoment(CharSequence iso) throws ParseException {
+
+        ParseLog plog = new ParseLog();
+        Moment moment = parseMoment(iso, plog);
+        checkResult(iso, plog, moment);
+        return moment;
+
+    }
+
+    /**
+     * <p>Parses given ISO-8601-compatible string with date, time and timezone offset
+     * in basic or extended format. </p>
+     *
+     * @param   iso     text like &quot;2016-01-01T17:45:30,123Z&quot; or &quot;20160101T1745+0100&quot;
+     * @param   plog    new mutable instance of {@code ParseLog}
+     * @return  Moment or {@code null} in case of error
+     * @throws  IndexOutOfBoundsException if the start position is at end of text or even behind
+     * @see     ParseLog#isError()
+     * @see     #parseMoment(CharSequence)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen ISO-8601-kompatiblen Text mit Datum, Uhrzeit und Zeitzonen-Offset
+     * im <i>basic</i>-Format oder im <i>extended</i>-Format. </p>
+     *
+     * @param   iso     text like &quot;2016-01-01T17:45:30,123Z&quot; or &quot;20160101T1745+0100&quot;
+     * @param   plog    new mutable instance of {@code ParseLog}
+     * @return  Moment or {@code null} in case of error
+     * @throws  IndexOutOfBoundsException if the start position is at end of text or even behind
+     * @see     ParseLog#isError()
+     * @see     #parseMoment(CharSequence)
+     * @since   5.0
+     */
+    public static Moment parseMoment(
+        CharSequence iso,
+        ParseLog plog
+    ) {
+
+        Moment moment = IsoParser.parseMoment(iso, plog);
+
+        if (moment != null) {
+            return moment;
+        } else if (isExtended(iso, plog.getPosition())) {
+            return EXTENDED_DATE_TIME_OFFSET.parse(iso, plog);
+        } else {
+            return BASIC_DATE_TIME_OFFSET.parse(iso, plog);
+        }
+
+    }
+
+    private static void checkResult(
+        CharSequence iso,
+        ParseLog plog,
+        Object result
+    ) throws ParseException {
+
+        if ((result == null) || plog.isError()) {
+            throw new ParseException(plog.getErrorMessage(), plog.getErrorIndex());
+        } else if (plog.getPosition() < iso.length()) {
+            throw new ParseException("Trailing characters found: " + iso, plog.getPosition());
         }
 
-        return builder.addFixedInteger(DAY_OF_MONTH, 2).endSection().endSection().build().with(Leniency.STRICT);
+    }
+
+    // looks for hyphens in the date part (leading sign is ignored)
+    private static boolean isExtended(
+        CharSequence iso,
+        int start
+    ) {
+
+        for (int i = start + 1, n = iso.length(); i < n; i++) {
+            char c = iso.charAt(i);
+            if (c == '-') {
+                return true;
+            } else if (c == 'T') {
+                break;
+            }
+        }
+
+        return false;
+
+    }
+
+    private static ChronoFormatter<PlainDate> calendarFormat(boolean extended) {
+
+        ChronoFormatter.Builder<PlainDate> builder =
+            ChronoFormatter.setUp(PlainDate.class, Locale.ROOT);
+        addCalendarDate(builder, extended);
+        return builder.build().with(Leniency.STRICT);
 
     }
 
@@ -809,7 +975,8 @@ LOOP:
 
         return (formattable, buffer, attributes) -> {
             ChronoFormatter<PlainDate> f = (extended ? EXTENDED_CALENDAR_DATE : BASIC_CALENDAR_DATE);
-            return f.print(formattable, buffer); // attributes are ignored to ensure quick path evaluation
+            f.printTo(formattable, buffer); // attributes are ignored to ensure quick path evaluation
+            return Collections.emptySet();
         };
 
     }
@@ -865,6 +1032,51 @@ LOOP:
 
     }
 
+    private static <T extends ChronoEntity<T>> void addCalendarDate(
+        ChronoFormatter.Builder<T> builder,
+        boolean extended
+    ) {
+
+        builder.startSection(Attributes.NUMBER_SYSTEM, NumberSystem.ARABIC);
+        builder.startSection(Attributes.ZERO_DIGIT, '0');
+        builder.addInteger(YEAR, 4, 9, SignPolicy.SHOW_WHEN_BIG_NUMBER);
+
+        if (extended) {
+            builder.addLiteral('-');
+        }
+
+        builder.addFixedInteger(MONTH_AS_NUMBER, 2);
+
+        if (extended) {
+            builder.addLiteral('-');
+        }
+
+        builder.addFixedInteger(DAY_OF_MONTH, 2);
+        builder.endSection();
+        builder.endSection();
+
+    }
+
+    // calendar dates are directly added in order to enable compiled printing without customized steps
+    private static <T extends ChronoEntity<T>> void addDate(
+        ChronoFormatter.Builder<T> builder,
+        IsoDateStyle dateStyle
+    ) {
+
+        switch (dateStyle) {
+            case BASIC_CALENDAR_DATE:
+            case EXTENDED_CALENDAR_DATE:
+                addCalendarDate(builder, dateStyle.isExtended());
+                break;
+            default:
+                builder.addCustomized(
+                    PlainDate.COMPONENT,
+                    Iso8601Format.ofDate(dateStyle),
+                    (text, status, attributes) -> null);
+        }
+
+    }
+
     private static <T extends ChronoEntity<T>> void addWallTime(
         ChronoFormatter.Builder<T> builder,
         boolean extended,
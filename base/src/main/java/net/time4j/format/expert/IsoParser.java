@@ -0,0 +1,528 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IsoParser.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.TimeScale;
+
+
+/**
+ * <p>Handgeschriebener Interpretierer f&uuml;r die h&auml;ufigsten ISO-8601-Formate. </p>
+ *
+ * <p>Unterst&uuml;tzt werden Kalenderdatum, Ordinaldatum und Wochendatum mit vierstelligem Jahr
+ * im <i>basic</i>- oder <i>extended</i>-Format, optional gefolgt von einer Uhrzeit mit Stunde,
+ * Minute, Sekunde und Dezimalbruch sowie einem Zeitzonen-Offset. Die Ergebnisse werden direkt ohne
+ * Zwischenspeicherung in {@code ParsedValues} erzeugt. Jede ungew&ouml;hnliche oder fehlerhafte Eingabe
+ * wird nicht interpretiert, sondern mit {@code null} quittiert, so da&szlig; der Aufrufer auf die
+ * entsprechenden Standardformatierer ausweichen kann, die auch aussagekr&auml;ftige Fehlermeldungen
+ * liefern. Das Log wird nur im Erfolgsfall ge&auml;ndert. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+final class IsoParser {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Nur das <i>basic</i>-Format wird akzeptiert.
+     */
+    static final int BASIC = 1;
+
+    /**
+     * Nur das <i>extended</i>-Format wird akzeptiert.
+     */
+    static final int EXTENDED = 2;
+
+    /**
+     * Beide Formate werden akzeptiert, aber nicht gemischt.
+     */
+    static final int ANY = BASIC | EXTENDED;
+
+    private static final long NO_RESULT = Long.MIN_VALUE;
+    private static final int NONE = -1;
+    private static final int UNUSUAL = -2;
+    private static final int MJD_OF_UNIX_EPOCH = 40587;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private IsoParser() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Interpretiert ein Datum ab der aktuellen Position des Logs. </p>
+     *
+     * @param   text    text to be parsed
+     * @param   plog    parse log which will only be updated in case of success
+     * @param   style   permitted formats (BASIC, EXTENDED or ANY)
+     * @return  PlainDate or {@code null} if the text is not recognized
+     */
+    static PlainDate parseDate(
+        CharSequence text,
+        ParseLog plog,
+        int style
+    ) {
+
+        int start = plog.getPosition();
+        int end = text.length();
+        long packed = parseDate(text, start, end, style);
+
+        if (packed == NO_RESULT) {
+            return null;
+        }
+
+        int pos = start + length(packed);
+
+        if ((pos < end) && isDigit(text.charAt(pos))) {
+            return null;
+        }
+
+        plog.setPosition(pos);
+        return PlainDate.of(mjd(packed), EpochDays.MODIFIED_JULIAN_DATE);
+
+    }
+
+    /**
+     * <p>Interpretiert einen Zeitstempel ab der aktuellen Position des Logs. </p>
+     *
+     * @param   text    text to be parsed
+     * @param   plog    parse log which will only be updated in case of success
+     * @return  PlainTimestamp or {@code null} if the text is not recognized
+     */
+    static PlainTimestamp parseTimestamp(
+        CharSequence text,
+        ParseLog plog
+    ) {
+
+        int start = plog.getPosition();
+        int end = text.length();
+        long date = parseDate(text, start, end, ANY);
+
+        if (date == NO_RESULT) {
+            return null;
+        }
+
+        int pos = start + length(date);
+        boolean extended = isExtended(text, start, pos);
+        long time = parseTime(text, pos, end, extended);
+
+        if (time == NO_RESULT) {
+            return null;
+        }
+
+        pos += length(time);
+
+        if ((pos < end) && !isTerminal(text.charAt(pos))) {
+            return null;
+        }
+
+        long nanoOfDay = time >> 8;
+        int secondOfDay = (int) (nanoOfDay / 1_000_000_000L);
+
+        PlainTime wallTime =
+            PlainTime.of(
+                secondOfDay / 3600,
+                (secondOfDay / 60) % 60,
+                secondOfDay % 60,
+                (int) (nanoOfDay % 1_000_000_000L));
+
+        plog.setPosition(pos);
+        return PlainTimestamp.of(PlainDate.of(mjd(date), EpochDays.MODIFIED_JULIAN_DATE), wallTime);
+
+    }
+
+    /**
+     * <p>Interpretiert einen Moment mit Zeitzonen-Offset ab der aktuellen Position des Logs. </p>
+     *
+     * @param   text    text to be parsed
+     * @param   plog    parse log which will only be updated in case of success
+     * @return  Moment or {@code null} if the text is not recognized
+     */
+    static Moment parseMoment(
+        CharSequence text,
+        ParseLog plog
+    ) {
+
+        int start = plog.getPosition();
+        int end = text.length();
+        long date = parseDate(text, start, end, ANY);
+
+        if (date == NO_RESULT) {
+            return null;
+        }
+
+        int pos = start + length(date);
+        boolean extended = isExtended(text, start, pos);
+        long time = parseTime(text, pos, end, extended);
+
+        if (time == NO_RESULT) {
+            return null;
+        }
+
+        pos += length(time);
+
+        if (pos >= end) {
+            return null;
+        }
+
+        int offset;
+        char c = text.charAt(pos);
+
+        if (c == 'Z') {
+            offset = 0;
+            pos++;
+        } else if ((c == '+') || (c == '-')) {
+            int hours = parseDigits(text, pos + 1, end, 2);
+            if (hours < 0) {
+                return null;
+            }
+            pos += 3;
+            int minutes = 0;
+            if (extended && (pos < end) && (text.charAt(pos) == ':')) {
+                minutes = parseDigits(text, pos + 1, end, 2);
+                pos += 3;
+            } else if (!extended && (pos < end) && isDigit(text.charAt(pos))) {
+                minutes = parseDigits(text, pos, end, 2);
+                pos += 2;
+            }
+            if ((minutes < 0) || (minutes > 59) || (hours > 18) || ((hours == 18) && (minutes > 0))) {
+                return null;
+            }
+            offset = hours * 3600 + minutes * 60;
+            if (c == '-') {
+                if (offset == 0) {
+                    return null; // negative zero offset is unusual
+                }
+                offset = -offset;
+            }
+        } else {
+            return null;
+        }
+
+        if ((pos < end) && !isTerminal(text.charAt(pos))) {
+            return null;
+        }
+
+        long nanoOfDay = time >> 8;
+        long posix = (mjd(date) - MJD_OF_UNIX_EPOCH) * 86400 + nanoOfDay / 1_000_000_000L - offset;
+
+        plog.setPosition(pos);
+        return Moment.of(posix, (int) (nanoOfDay % 1_000_000_000L), TimeScale.POSIX);
+
+    }
+
+    // result: (mjd << 8) | (length of date text) or NO_RESULT
+    private static long parseDate(
+        CharSequence text,
+        int start,
+        int end,
+        int style
+    ) {
+
+        if (end - start < 7) {
+            return NO_RESULT;
+        }
+
+        int year = parseDigits(text, start, end, 4);
+
+        if (year < 0) {
+            return NO_RESULT;
+        }
+
+        int pos = start + 4;
+        boolean extended = (text.charAt(pos) == '-');
+
+        if (extended) {
+            if ((style & EXTENDED) == 0) {
+                return NO_RESULT;
+            }
+            pos++;
+        } else if ((style & BASIC) == 0) {
+            return NO_RESULT;
+        }
+
+        if ((pos < end) && (text.charAt(pos) == 'W')) {
+            return parseWeekdate(text, start, pos + 1, end, year, extended);
+        }
+
+        int count = countDigits(text, pos, end);
+        long mjd;
+
+        if (count == 3) { // ordinal date
+            int doy = parseDigits(text, pos, end, 3);
+            if ((doy < 1) || (doy > (GregorianMath.isLeapYear(year) ? 366 : 365))) {
+                return NO_RESULT;
+            }
+            mjd = GregorianMath.toMJD(year, 1, 1) + doy - 1;
+            pos += 3;
+        } else if ((extended && (count == 2)) || (!extended && (count == 4))) { // calendar date
+            int month = parseDigits(text, pos, end, 2);
+            pos += 2;
+            if (extended) {
+                if ((pos >= end) || (text.charAt(pos) != '-') || (countDigits(text, pos + 1, end) != 2)) {
+                    return NO_RESULT;
+                }
+                pos++;
+            }
+            int dom = parseDigits(text, pos, end, 2);
+            if (!GregorianMath.isValid(year, month, dom)) {
+                return NO_RESULT;
+            }
+            mjd = GregorianMath.toMJD(year, month, dom);
+            pos += 2;
+        } else {
+            return NO_RESULT;
+        }
+
+        return ((mjd << 8) | (pos - start));
+
+    }
+
+    private static long parseWeekdate(
+        CharSequence text,
+        int start,
+        int pos,
+        int end,
+        int yearOfWeekdate,
+        boolean extended
+    ) {
+
+        int week = parseDigits(text, pos, end, 2);
+        pos += 2;
+
+        if (extended) {
+            if ((pos >= end) || (text.charAt(pos) != '-')) {
+                return NO_RESULT;
+            }
+            pos++;
+        }
+
+        int dow = parseDigits(text, pos, end, 1);
+        pos++;
+
+        if ((week < 1) || (week > 53) || (dow < 1) || (dow > 7)) {
+            return NO_RESULT;
+        }
+
+        long mjd = startOfFirstWeek(yearOfWeekdate) + (week - 1) * 7 + (dow - 1);
+
+        if ((week == 53) && (mjd >= startOfFirstWeek(yearOfWeekdate + 1))) {
+            return NO_RESULT;
+        }
+
+        return ((mjd << 8) | (pos - start));
+
+    }
+
+    // the fourth of January always belongs to the first ISO-week
+    private static long startOfFirstWeek(int yearOfWeekdate) {
+
+        long jan4 = GregorianMath.toMJD(yearOfWeekdate, 1, 4);
+        int dow = MathUtils.floorModulo(jan4 + 2, 7) + 1; // MJD 0 = Wednesday
+        return jan4 - (dow - 1);
+
+    }
+
+    // result: (nano-of-day << 8) | (length of time text including T) or NO_RESULT
+    private static long parseTime(
+        CharSequence text,
+        int start,
+        int end,
+        boolean extended
+    ) {
+
+        if ((start >= end) || (text.charAt(start) != 'T')) {
+            return NO_RESULT;
+        }
+
+        int pos = start + 1;
+        int hour = parseDigits(text, pos, end, 2);
+
+        if ((hour < 0) || (hour > 23)) { // hour 24 is rare
+            return NO_RESULT;
+        }
+
+        pos += 2;
+        int minute = 0;
+        int second = 0;
+        int nano = 0;
+
+        int next = nextElement(text, pos, end, extended);
+
+        if (next == UNUSUAL) {
+            return NO_RESULT;
+        } else if (next != NONE) {
+            minute = parseDigits(text, next, end, 2);
+            pos = next + 2;
+            next = nextElement(text, pos, end, extended);
+            if (next == UNUSUAL) {
+                return NO_RESULT;
+            } else if (next != NONE) {
+                second = parseDigits(text, next, end, 2);
+                pos = next + 2;
+                if ((pos < end) && ((text.charAt(pos) == ',') || (text.charAt(pos) == '.'))) {
+                    int count = countDigits(text, pos + 1, end);
+                    if ((count == 0) || (count > 9)) {
+                        return NO_RESULT;
+                    }
+                    nano = parseDigits(text, pos + 1, end, count);
+                    for (int i = count; i < 9; i++) {
+                        nano *= 10;
+                    }
+                    pos += (count + 1);
+                }
+            }
+        }
+
+        if ((minute < 0) || (minute > 59) || (second < 0) || (second > 59)) {
+            return NO_RESULT; // includes leap seconds
+        }
+
+        long nanoOfDay = (hour * 3600 + minute * 60 + second) * 1_000_000_000L + nano;
+        return ((nanoOfDay << 8) | (pos - start));
+
+    }
+
+    // start position of next time element, NONE if there is none or UNUSUAL
+    private static int nextElement(
+        CharSequence text,
+        int pos,
+        int end,
+        boolean extended
+    ) {
+
+        if (pos >= end) {
+            return NONE;
+        }
+
+        char c = text.charAt(pos);
+
+        if (extended) {
+            if (c == ':') {
+                return ((countDigits(text, pos + 1, end) == 2) ? pos + 1 : UNUSUAL);
+            }
+        } else if (isDigit(c)) {
+            return ((countDigits(text, pos, end) >= 2) ? pos : UNUSUAL);
+        }
+
+        return (((c == ',') || (c == '.') || isDigit(c)) ? UNUSUAL : NONE);
+
+    }
+
+    private static boolean isExtended(
+        CharSequence text,
+        int start,
+        int end
+    ) {
+
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == '-') {
+                return true;
+            }
+        }
+
+        return false;
+
+    }
+
+    // characters which would be interpreted by the standard formatters in an unusual way
+    private static boolean isTerminal(char c) {
+
+        return !(isDigit(c) || (c == ':') || (c == ',') || (c == '.') || (c == '+') || (c == '-'));
+
+    }
+
+    private static int countDigits(
+        CharSequence text,
+        int pos,
+        int end
+    ) {
+
+        int count = 0;
+
+        for (int i = pos; (i < end) && (count < 10); i++) {
+            if (isDigit(text.charAt(i))) {
+                count++;
+            } else {
+                break;
+            }
+        }
+
+        return count;
+
+    }
+
+    // returns -1 if there are not enough ascii digits
+    private static int parseDigits(
+        CharSequence text,
+        int pos,
+        int end,
+        int count
+    ) {
+
+        if (pos + count > end) {
+            return -1;
+        }
+
+        int value = 0;
+
+        for (int i = pos, n = pos + count; i < n; i++) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                value = value * 10 + (c - '0');
+            } else {
+                return -1;
+            }
+        }
+
+        return value;
+
+    }
+
+    private static boolean isDigit(char c) {
+
+        return ((c >= '0') && (c <= '9'));
+
+    }
+
+    private static long mjd(long packed) {
+
+        return (packed >> 8);
+
+    }
+
+    private static int length(long packed) {
+
+        return (int) (packed & 0xFF);
+
+    }
+
+}
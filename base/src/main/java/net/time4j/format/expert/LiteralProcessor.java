@@ -188,6 +188,57 @@ final class LiteralProcessor
 
     }
 
+    /**
+     * <p>Ermittelt den auszugebenden Literaltext. </p>
+     *
+     * @param   attributes      control attributes for resolving any attribute-based literal
+     * @return  printed literal text or {@code null} if the attribute-based literal cannot be resolved
+     * @since   5.0
+     */
+    String getLiteral(AttributeQuery attributes) {
+
+        if (this.attribute != null) {
+            Character literal = attributes.get(this.attribute, null);
+            return ((literal == null) ? null : String.valueOf(literal.charValue()));
+        } else if (this.multi == null) {
+            return String.valueOf(this.single);
+        } else {
+            return this.multi;
+        }
+
+    }
+
+    /**
+     * <p>Ermittelt das einzelne Zeichen, das beim Interpretieren immer exakt erwartet wird. </p>
+     *
+     * <p>Buchstaben (wegen Gro&szlig;-/Kleinschreibung), Ziffern, Bidi-Zeichen, attributabh&auml;ngige
+     * Literale, Alternativzeichen und der Punkt (kann gem&auml;&szlig; {@code PARSE_MULTIPLE_CONTEXT}
+     * fehlen) sind ausgeschlossen. </p>
+     *
+     * @return  exact literal char or {@code '\u0000'} if not available
+     * @since   5.0
+     */
+    char getExactChar() {
+
+        if (
+            (this.attribute != null)
+            || (this.single != this.alt)
+            || this.rtl
+            || ((this.multi != null) && (this.multi.length() != 1))
+        ) {
+            return '\u0000';
+        }
+
+        char c = this.single;
+
+        if (Character.isLetter(c) || Character.isDigit(c) || isBidi(c) || (c == '.')) {
+            return '\u0000';
+        }
+
+        return c;
+
+    }
+
     @Override
     public void parse(
         CharSequence text,
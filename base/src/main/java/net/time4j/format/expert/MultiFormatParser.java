@@ -51,7 +51,7 @@ import java.util.List;
  * @param   <T> generic type of chronological entity
  * @author  Meno Hochschild
  * @since   3.14/4.11
- * @doctags.concurrency {immutable}
+ * @doctags.concurrency {threadsafe}
  */
 /*[deutsch]
  * <p>Dient der Interpretation von Texteingaben, deren Format zur Kompilierzeit noch unbekannt ist. </p>
@@ -76,14 +76,20 @@ import java.util.List;
  * @param   <T> generic type of chronological entity
  * @author  Meno Hochschild
  * @since   3.14/4.11
- * @doctags.concurrency {immutable}
+ * @doctags.concurrency {threadsafe}
  */
 public final class MultiFormatParser<T extends ChronoEntity<T>>
     implements ChronoParser<T> {
 
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int HINT_SLOTS = 64; // power of two
+
     //~ Instanzvariablen --------------------------------------------------
 
     private final ChronoFormatter<T>[] parsers;
+    private final Signature[] signatures; // null if not indexed
+    private final int[] hints; // last successful parser per thread slot
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -91,6 +97,8 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
         super();
 
         this.parsers = parsers;
+        this.signatures = null;
+        this.hints = null;
 
         for (ChronoFormatter<T> parser : this.parsers) {
             if (parser == null) {
@@ -100,6 +108,19 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
     }
 
+    private MultiFormatParser(MultiFormatParser<T> old) {
+        super();
+
+        this.parsers = old.parsers;
+        this.signatures = new Signature[this.parsers.length];
+        this.hints = new int[HINT_SLOTS];
+
+        for (int i = 0; i < this.parsers.length; i++) {
+            this.signatures[i] = Signature.of(this.parsers[i]);
+        }
+
+    }
+
     //~ Methoden ----------------------------------------------------------
 
     /**
@@ -151,6 +172,54 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
     }
 
+    /**
+     * <p>Yields a copy of this parser which selects the most probable formats first. </p>
+     *
+     * <p>The indexed parser determines in advance for every format which characters are possible
+     * at the start of the text and at some fixed positions (for example digits or separator chars
+     * behind a fixed-width number). Formats which cannot match are not tried at all. Furthermore,
+     * the parser remembers the format which matched the last input of the current thread and tries
+     * it first. This mode is especially useful for bulk data with many alternative formats where
+     * most inputs follow the same format. </p>
+     *
+     * <p>Important: The indexed mode might change the order in which the formats are tried, so
+     * the formats should not overlap, that is any input should be matched by at most one format.
+     * The method {@link #parse(CharSequence, ParseLog, AttributeQuery)} with user-defined attributes
+     * always uses the original order without any index. </p>
+     *
+     * @return  indexed copy of this parser (or this instance if already indexed)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Liefert eine Kopie dieses Interpretierers, die die wahrscheinlichsten Formate zuerst verwendet. </p>
+     *
+     * <p>Der indizierte Interpretierer bestimmt im voraus f&uuml;r jedes Format, welche Zeichen am
+     * Textanfang und an einigen festen Positionen (zum Beispiel Ziffern oder Trennzeichen hinter einer
+     * Zahl fester Breite) m&ouml;glich sind. Formate, die nicht passen k&ouml;nnen, werden gar nicht erst
+     * ausprobiert. Au&szlig;erdem merkt sich der Interpretierer das Format, das f&uuml;r die letzte Eingabe
+     * des aktuellen {@code Thread} gepa&szlig;t hat, und probiert es zuerst. Dieser Modus ist besonders
+     * f&uuml;r Massendaten mit vielen alternativen Formaten geeignet, in denen die meisten Eingaben
+     * demselben Format folgen. </p>
+     *
+     * <p>Wichtig: Der indizierte Modus kann die Reihenfolge &auml;ndern, in der die Formate ausprobiert
+     * werden, so da&szlig; sich die Formate nicht &uuml;berlappen sollten, d.h. jede Eingabe sollte von
+     * h&ouml;chstens einem Format erfa&szlig;t werden. Die Methode {@link #parse(CharSequence, ParseLog,
+     * AttributeQuery)} mit benutzerdefinierten Attributen verwendet immer die urspr&uuml;ngliche
+     * Reihenfolge ohne Index. </p>
+     *
+     * @return  indexed copy of this parser (or this instance if already indexed)
+     * @since   5.0
+     */
+    public MultiFormatParser<T> withIndex() {
+
+        if (this.signatures != null) {
+            return this;
+        }
+
+        return new MultiFormatParser<>(this);
+
+    }
+
     /**
      * <p>Interpretes given text as chronological entity starting at the begin of text. </p>
      *
@@ -176,6 +245,14 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
         ParseLog status = new ParseLog();
 
+        if (this.signatures != null) {
+            T parsed = this.parseIndexed(text, status, true);
+            if (parsed == null) {
+                throw new ParseException("Not matched by any format: " + text, text.length());
+            }
+            return parsed;
+        }
+
         for (int i = 0; i < this.parsers.length; i++) {
             status.reset(); // initialization
             status.setPosition(0);
@@ -298,6 +375,17 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
         int start = status.getPosition();
 
+        if (this.signatures != null) {
+            T parsed = this.parseIndexed(text, status, false);
+            if (parsed == null) {
+                int errorIndex = (status.isError() ? status.getErrorIndex() : start);
+                status.reset();
+                status.setPosition(start);
+                status.setError(errorIndex, "Not matched by any format: " + text);
+            }
+            return parsed;
+        }
+
         for (int i = 0; i < this.parsers.length; i++) {
             status.reset(); // initialization
             status.setPosition(start);
@@ -344,4 +432,204 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
     }
 
+    // tries the remembered format first, then all other formats which might match
+    private T parseIndexed(
+        CharSequence text,
+        ParseLog status,
+        boolean complete
+    ) {
+
+        int start = status.getPosition();
+        int slot = (int) (Thread.currentThread().getId() & (HINT_SLOTS - 1));
+        int hint = this.hints[slot]; // races between threads with same slot only affect the performance
+
+        if (hint >= this.parsers.length) {
+            hint = 0;
+        }
+
+        if (this.signatures[hint].accepts(text, start)) {
+            T parsed = this.tryParser(hint, text, status, start, complete);
+            if (parsed != null) {
+                return parsed;
+            }
+        }
+
+        for (int i = 0; i < this.parsers.length; i++) {
+            if ((i != hint) && this.signatures[i].accepts(text, start)) {
+                T parsed = this.tryParser(i, text, status, start, complete);
+                if (parsed != null) {
+                    this.hints[slot] = i;
+                    return parsed;
+                }
+            }
+        }
+
+        return null;
+
+    }
+
+    private T tryParser(
+        int index,
+        CharSequence text,
+        ParseLog status,
+        int start,
+        boolean complete
+    ) {
+
+        status.reset(); // initialization
+        status.setPosition(start);
+
+        // use the default global attributes of every single parser
+        ChronoFormatter<T> parser = this.parsers[index];
+        T parsed = parser.parse(text, status);
+
+        if ((parsed != null) && !status.isError()) {
+            if (!complete || parser.isToleratingTrailingChars() || (status.getPosition() == text.length())) {
+                return parsed;
+            }
+        }
+
+        return null;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Beschreibt die m&ouml;glichen Zeichen am Anfang eines Textes, den ein Formatierer interpretieren
+     * kann. </p>
+     *
+     * <p>Ausgewertet werden nur die unbedingten Formatschritte am Anfang bis zum ersten Schritt, dessen
+     * L&auml;nge im Text nicht im voraus feststeht. Jede Bedingung besteht aus einer relativen Position
+     * und einem erwarteten Zeichen, wobei {@code DIGIT} und {@code DIGIT_OR_SIGN} f&uuml;r ganze
+     * Zeichenklassen stehen (Literale enthalten nie Steuerzeichen). </p>
+     */
+    private static final class Signature {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final char DIGIT = '\u0001';
+        private static final char DIGIT_OR_SIGN = '\u0002';
+        private static final int MAX_CONDITIONS = 16;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int[] positions;
+        private final char[] expected;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Signature(
+            int[] positions,
+            char[] expected
+        ) {
+            super();
+
+            this.positions = positions;
+            this.expected = expected;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        static Signature of(ChronoFormatter<?> formatter) {
+
+            List<FormatStep> steps = formatter.getSteps();
+            int[] positions = new int[MAX_CONDITIONS];
+            char[] expected = new char[MAX_CONDITIONS];
+            int count = 0;
+            int offset = 0;
+
+            for (FormatStep step : steps) {
+                if (step.isNewOrBlockStarted()) {
+                    return new Signature(new int[0], new char[0]); // alternative formats inside
+                }
+            }
+
+            for (FormatStep step : steps) {
+                if ((step.getLevel() != 0) || (step.getSection() != 0) || !step.isUnconditional()) {
+                    break;
+                }
+
+                FormatProcessor<?> processor = step.getProcessor();
+
+                if (processor instanceof NumberProcessor) {
+                    NumberProcessor<?> np = (NumberProcessor<?>) processor;
+                    if (!np.hasStandardDigits()) {
+                        break;
+                    } else if (np.isFixedWidth() && (np.getMinDigits() == np.getMaxDigits())) {
+                        int width = np.getMinDigits();
+                        for (int i = 0; (i < width) && (count < MAX_CONDITIONS); i++) {
+                            positions[count] = offset + i;
+                            expected[count] = DIGIT;
+                            count++;
+                        }
+                        offset += width;
+                    } else {
+                        if (count < MAX_CONDITIONS) {
+                            positions[count] = offset;
+                            expected[count] = DIGIT_OR_SIGN;
+                            count++;
+                        }
+                        break; // variable width
+                    }
+                } else if (processor instanceof LiteralProcessor) {
+                    char c = ((LiteralProcessor) processor).getExactChar();
+                    if (c == '\u0000') {
+                        break;
+                    } else if (count < MAX_CONDITIONS) {
+                        positions[count] = offset;
+                        expected[count] = c;
+                        count++;
+                    }
+                    offset++;
+                } else {
+                    break;
+                }
+
+                if (count == MAX_CONDITIONS) {
+                    break;
+                }
+            }
+
+            return new Signature(Arrays.copyOf(positions, count), Arrays.copyOf(expected, count));
+
+        }
+
+        boolean accepts(
+            CharSequence text,
+            int start
+        ) {
+
+            int len = text.length();
+
+            for (int i = 0; i < this.positions.length; i++) {
+                int pos = start + this.positions[i];
+
+                if (pos >= len) {
+                    return true; // let the formatter report the error
+                }
+
+                char c = text.charAt(pos);
+                char exp = this.expected[i];
+
+                if (exp == DIGIT) {
+                    if ((c < '0') || (c > '9')) {
+                        return false;
+                    }
+                } else if (exp == DIGIT_OR_SIGN) {
+                    if (((c < '0') || (c > '9')) && (c != '+') && (c != '-')) {
+                        return false;
+                    }
+                } else if (c != exp) {
+                    return false;
+                }
+            }
+
+            return true;
+
+        }
+
+    }
+
 }
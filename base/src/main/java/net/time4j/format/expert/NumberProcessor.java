@@ -62,6 +62,7 @@ class NumberProcessor<V>
     private final NumberSystem numberSystem;
     private final int protectedLength;
     private final int scaleOfNumsys;
+    private final DigitTable digitTable;
 
     // high-speed optimization
     private final boolean fixedInt;
@@ -157,6 +158,7 @@ class NumberProcessor<V>
         this.lenientMode = lenientMode;
         this.protectedLength = protectedLength;
         this.scaleOfNumsys = scale;
+        this.digitTable = (numberSystem.isDecimal() ? DigitTable.of(zeroDigit) : null);
 
     }
 
@@ -206,26 +208,8 @@ class NumberProcessor<V>
                         + " cannot be printed as the formatted value " + v
                         + " exceeds the maximum width of " + this.maxDigits + ".");
             }
-            for (int i = 0, n = this.minDigits - count; i < n; i++) {
-                buffer.append('0');
-                printed++;
-            }
-            if (count == 2) {
-                appendTwoDigits(v, buffer, '0');
-            } else if (count == 1) {
-                buffer.append((char) (v + 48));
-            } else if (v >= 2000 && v < 2100) {
-                buffer.append('2');
-                buffer.append('0');
-                appendTwoDigits(v - 2000, buffer, '0');
-            } else if (v >= 1900 && v < 2000) {
-                buffer.append('1');
-                buffer.append('9');
-                appendTwoDigits(v - 1900, buffer, '0');
-            } else {
-                buffer.append(Integer.toString(v));
-            }
-            printed += count;
+            this.digitTable.write(v, this.minDigits, buffer); // fixed width: minDigits == maxDigits
+            printed = this.minDigits;
         } else if (this.yearOfEra && (this.element instanceof DualFormatElement)) {
             DualFormatElement te = DualFormatElement.class.cast(this.element);
             StringBuilder sb = new StringBuilder();
@@ -276,12 +260,16 @@ class NumberProcessor<V>
                 throw new IllegalArgumentException("Not formattable: " + this.element);
             }
 
+            DigitTable table = null;
+
             if (decimal) {
-                if (zeroChar != defaultZeroChar) { // rare case
+                if (quickPath || ((zeroChar == this.zeroDigit) && (this.digitTable != null))) {
+                    table = this.digitTable;
+                } else {
+                    table = DigitTable.of(zeroChar); // nur bei abweichender Null-Ziffer pro Aufruf
+                }
+                if ((digits != null) && (zeroChar != defaultZeroChar)) { // rare case
                     int diff = zeroChar - defaultZeroChar;
-                    if (digits == null) {
-                        digits = numsys.toNumeral(x);
-                    }
                     char[] characters = digits.toCharArray();
                     for (int i = 0; i < characters.length; i++) {
                         characters[i] = (char) (characters[i] + diff);
@@ -290,7 +278,9 @@ class NumberProcessor<V>
                 }
                 if (count > this.maxDigits) {
                     if (digits == null) {
-                        digits = numsys.toNumeral(x);
+                        StringBuilder sb = new StringBuilder(count);
+                        table.write(x, count, sb);
+                        digits = sb.toString();
                     }
                     throw new IllegalArgumentException(
                         "Element " + this.element.name()
@@ -333,21 +323,7 @@ class NumberProcessor<V>
 
             if (digits == null) {
                 if (decimal) {
-                    if (count == 2) {
-                        appendTwoDigits(x, buffer, zeroChar);
-                    } else if (count == 1) {
-                        buffer.append((char) (x + zeroChar));
-                    } else if (x >= 2000 && x < 2100) {
-                        buffer.append((char) (2 + zeroChar));
-                        buffer.append(zeroChar);
-                        appendTwoDigits(x - 2000, buffer, zeroChar);
-                    } else if (x >= 1900 && x < 2000) {
-                        buffer.append((char) (1 + zeroChar));
-                        buffer.append((char) (9 + zeroChar));
-                        appendTwoDigits(x - 1900, buffer, zeroChar);
-                    } else {
-                        buffer.append(numsys.toNumeral(x));
-                    }
+                    table.write(x, count, buffer);
                 } else {
                     count = numsys.toNumeral(x, buffer);
                 }
@@ -401,8 +377,8 @@ class NumberProcessor<V>
             long total = 0;
             int pos = start;
             while (pos < maxPos) {
-                int digit = text.charAt(pos) - '0';
-                if ((digit >= 0) && (digit <= 9)) {
+                int digit = this.digitTable.digit(text.charAt(pos));
+                if (digit >= 0) {
                     total = total * 10 + digit;
                     pos++;
                 } else {
@@ -759,8 +735,7 @@ class NumberProcessor<V>
 
         int plen = attributes.get(Attributes.PROTECTED_CHARACTERS, 0);
         boolean hasFixedInt = (
-            (numsys == NumberSystem.ARABIC)
-            && (zeroChar == '0')
+            numsys.isDecimal()
             && this.fixedWidth
             && (plen == 0)
             && (this.element.getType() == Integer.class)
@@ -784,6 +759,99 @@ class NumberProcessor<V>
 
     }
 
+    /**
+     * <p>Liefert die minimale Anzahl der Ziffern. </p>
+     *
+     * @return  int
+     * @since   5.0
+     */
+    int getMinDigits() {
+
+        return this.minDigits;
+
+    }
+
+    /**
+     * <p>Liefert die maximale Anzahl der Ziffern. </p>
+     *
+     * @return  int
+     * @since   5.0
+     */
+    int getMaxDigits() {
+
+        return this.maxDigits;
+
+    }
+
+    /**
+     * <p>Wird immer eine feste Anzahl von Ziffern interpretiert? </p>
+     *
+     * @return  boolean
+     * @since   5.0
+     */
+    boolean isFixedWidth() {
+
+        return this.fixedWidth;
+
+    }
+
+    /**
+     * <p>Liefert die Vorzeichenstrategie. </p>
+     *
+     * @return  SignPolicy
+     * @since   5.0
+     */
+    SignPolicy getSignPolicy() {
+
+        return this.signPolicy;
+
+    }
+
+    /**
+     * <p>Werden im Schnellmodus nur die arabischen Ziffern 0-9 f&uuml;r einen Integer-Wert ausgegeben? </p>
+     *
+     * @return  boolean
+     * @since   5.0
+     */
+    boolean hasStandardDigits() {
+
+        return (
+            (this.numberSystem == NumberSystem.ARABIC)
+            && (this.zeroDigit == '0')
+            && (this.element.getType() == Integer.class)
+            && !this.yearOfEra
+        );
+
+    }
+
+    /**
+     * <p>Werden im Schnellmodus Integer-Werte mit den Ziffern eines dezimalen Zahlensystems ausgegeben? </p>
+     *
+     * @return  boolean
+     * @since   5.0
+     */
+    boolean hasDecimalDigits() {
+
+        return (
+            (this.digitTable != null)
+            && (this.element.getType() == Integer.class)
+            && !this.yearOfEra
+        );
+
+    }
+
+    /**
+     * <p>Liefert die Ziffertabelle des Schnellmodus. </p>
+     *
+     * @return  digit table or {@code null} if the number system is not decimal
+     * @since   5.0
+     */
+    DigitTable getDigitTable() {
+
+        return this.digitTable;
+
+    }
+
     private int getScale(NumberSystem numsys) {
 
         if (numsys.isDecimal()) {
@@ -814,19 +882,6 @@ class NumberProcessor<V>
 
     }
 
-    private static void appendTwoDigits(
-        int dd, // must consist of two digits only
-        Appendable buffer,
-        char zeroDigit
-    ) throws IOException {
-
-        int q = ((dd * 103) >>> 10);        // q = dd / 10;
-        int r = dd - ((q << 3) + (q << 1)); // r = dd - (q * 10);
-        buffer.append((char) (q + zeroDigit));
-        buffer.append((char) (r + zeroDigit));
-
-    }
-
     @SuppressWarnings("unchecked")
     private static <V extends Enum<V>> int enumToInt(
         ChronoElement<?> element,
@@ -0,0 +1,223 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ParseContext.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.engine.ChronoEntity;
+
+
+/**
+ * <p>Reusable state for repeated parsing of many texts by help of
+ * {@link ChronoFormatter#parse(char[], int, int, ParseContext)} or
+ * {@link ChronoFormatter#parse(java.nio.CharBuffer, ParseContext)}. </p>
+ *
+ * <p>A context recycles the parse log and the internal storage of parsed element values
+ * between subsequent parse processes so that bulk parsing of character data does neither
+ * require any intermediate strings nor new storage per text. A context can be used with
+ * any formatter. </p>
+ *
+ * <p>Note: This class is not <i>thread-safe</i>. Therefore an instance is to be created
+ * per thread and must not be used by more than one parse process at the same time. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ * @doctags.concurrency {mutable}
+ */
+/*[deutsch]
+ * <p>Wiederverwendbarer Zustand f&uuml;r die wiederholte Interpretation vieler Texte mit Hilfe
+ * von {@link ChronoFormatter#parse(char[], int, int, ParseContext)} oder
+ * {@link ChronoFormatter#parse(java.nio.CharBuffer, ParseContext)}. </p>
+ *
+ * <p>Ein Kontext verwendet das Parse-Log und den internen Speicher der interpretierten Elementwerte
+ * zwischen aufeinanderfolgenden Parse-Vorg&auml;ngen wieder, so da&szlig; die Massenverarbeitung
+ * von Zeichendaten weder Zwischen-Strings noch neuen Speicher pro Text erfordert. Ein Kontext kann
+ * mit jedem Formatierer benutzt werden. </p>
+ *
+ * <p>Hinweis: Diese Klasse ist nicht <i>thread-safe</i>, deshalb ist pro Thread jeweils eine
+ * Instanz zu erzeugen, die nicht gleichzeitig von mehr als einem Parse-Vorgang benutzt werden
+ * darf. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ * @doctags.concurrency {mutable}
+ */
+public final class ParseContext {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ParseLog status;
+    private final CharArraySequence chars;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new parse context. </p>
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Parse-Kontext. </p>
+     */
+    public ParseContext() {
+        super();
+
+        this.status = new ParseLog();
+        this.chars = new CharArraySequence();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public String toString() {
+
+        return "ParseContext[" + this.status + "]";
+
+    }
+
+    /**
+     * <p>Bereitet das Log f&uuml;r einen neuen Parse-Vorgang vor. </p>
+     *
+     * @return  reset parse log starting at position zero
+     */
+    ParseLog start() {
+
+        this.status.reset();
+        return this.status;
+
+    }
+
+    /**
+     * <p>Schlie&szlig;t den aktuellen Parse-Vorgang ab und bietet die interpretierten
+     * Elementwerte zur Wiederverwendung an. </p>
+     */
+    void finish() {
+
+        ChronoEntity<?> rawValues = this.status.getRawValues0();
+
+        if (rawValues instanceof ParsedValues) {
+            this.status.setRecyclable((ParsedValues) rawValues);
+        }
+
+        this.status.setRawValues(null);
+        this.chars.release();
+
+    }
+
+    /**
+     * <p>Liefert eine Sicht auf den angegebenen Abschnitt des Zeichenfelds, ohne es zu kopieren. </p>
+     *
+     * @param   text        character array
+     * @param   offset      start index of text section
+     * @param   length      length of text section
+     * @return  view as character sequence which is valid until {@link #finish()} is called
+     * @throws  IndexOutOfBoundsException if the text section is out of range
+     */
+    CharSequence wrap(
+        char[] text,
+        int offset,
+        int length
+    ) {
+
+        if ((offset < 0) || (length < 0) || (offset > text.length - length)) {
+            throw new IndexOutOfBoundsException(
+                "Offset: " + offset + ", length: " + length + ", array length: " + text.length);
+        }
+
+        this.chars.set(text, offset, length);
+        return this.chars;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class CharArraySequence
+        implements CharSequence {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private char[] array = null;
+        private int offset = 0;
+        private int length = 0;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int length() {
+
+            return this.length;
+
+        }
+
+        @Override
+        public char charAt(int index) {
+
+            if ((index < 0) || (index >= this.length)) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", length: " + this.length);
+            }
+
+            return this.array[this.offset + index];
+
+        }
+
+        // creates a copy because parsers might keep the result
+        @Override
+        public CharSequence subSequence(
+            int start,
+            int end
+        ) {
+
+            if ((start < 0) || (end > this.length) || (start > end)) {
+                throw new IndexOutOfBoundsException("Start: " + start + ", end: " + end + ", length: " + this.length);
+            }
+
+            return new String(this.array, this.offset + start, end - start);
+
+        }
+
+        @Override
+        public String toString() {
+
+            return new String(this.array, this.offset, this.length);
+
+        }
+
+        void set(
+            char[] array,
+            int offset,
+            int length
+        ) {
+
+            this.array = array;
+            this.offset = offset;
+            this.length = length;
+
+        }
+
+        void release() {
+
+            this.array = null;
+            this.offset = 0;
+            this.length = 0;
+
+        }
+
+    }
+
+}
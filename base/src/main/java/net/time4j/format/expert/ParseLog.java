@@ -56,6 +56,7 @@ public class ParseLog {
     private String errorMessage;
     private ChronoEntity<?> rawValues;
     private boolean warning;
+    private ParsedValues recyclable = null;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -362,6 +363,47 @@ public class ParseLog {
 
     }
 
+    /**
+     * <p>Liefert einen Speicher f&uuml;r die zu interpretierenden Elementwerte. </p>
+     *
+     * <p>Wenn ein wiederverwendbarer Speicher passender Gr&ouml;&szlig;e vorhanden ist, wird dieser
+     * entnommen und geleert, so da&szlig; eingebettete Formatierer mit demselben Log immer einen
+     * eigenen Speicher erhalten. </p>
+     *
+     * @param   expectedCountOfElements     How many elements to be expected?
+     * @param   indexable                   Are only indexable elements used?
+     * @return  empty parsed values
+     * @since   5.0
+     */
+    ParsedValues createParsedValues(
+        int expectedCountOfElements,
+        boolean indexable
+    ) {
+
+        ParsedValues values = this.recyclable;
+
+        if ((values != null) && values.isRecyclable(expectedCountOfElements, indexable)) {
+            this.recyclable = null;
+            values.recycle();
+            return values;
+        }
+
+        return new ParsedValues(expectedCountOfElements, indexable);
+
+    }
+
+    /**
+     * <p>Bietet die angegebenen Elementwerte zur Wiederverwendung im n&auml;chsten Parse-Vorgang an. </p>
+     *
+     * @param   values      parsed values which are no longer referenced elsewhere
+     * @since   5.0
+     */
+    void setRecyclable(ParsedValues values) {
+
+        this.recyclable = values;
+
+    }
+
     /**
      * <p>Interne Methode. </p>
      *
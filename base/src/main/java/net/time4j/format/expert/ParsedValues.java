@@ -27,6 +27,7 @@ import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoException;
 
 import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -561,6 +562,47 @@ class ParsedValues
 
     }
 
+    // used by ParseLog in order to check if this instance can be reused for the next parse process
+    boolean isRecyclable(
+        int expectedCountOfElements,
+        boolean indexable
+    ) {
+
+        if (indexable) {
+            return (this.keys == null);
+        }
+
+        return ((this.keys != null) && (this.len >= arraySize(expectedCountOfElements)));
+
+    }
+
+    // used by ParseLog in order to clear this instance completely while keeping the allocated arrays
+    void recycle() {
+
+        if (this.keys == null) {
+            this.len = Integer.MIN_VALUE;
+            this.mask = Integer.MIN_VALUE;
+            this.threshold = Integer.MIN_VALUE;
+            this.count = Integer.MIN_VALUE;
+            for (int i = 0; i < 3; i++) {
+                this.ints[i] = Integer.MIN_VALUE;
+            }
+            if (this.map != null) {
+                this.map.clear();
+            }
+        } else {
+            Arrays.fill(this.keys, null);
+            if (this.values != null) {
+                Arrays.fill(this.values, null);
+            }
+            this.count = 0;
+        }
+
+        this.duplicateKeysAllowed = false;
+        this.position = -1;
+
+    }
+
     private int getInt0(ChronoElement<?> element) {
 
         Object[] keys = this.keys;
@@ -0,0 +1,288 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PatternCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.engine.Chronology;
+import net.time4j.format.Leniency;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * <p>Begrenzter Puffer f&uuml;r musterbasierte Formatierer. </p>
+ *
+ * <p>Weil {@code ChronoFormatter} unver&auml;nderlich ist, k&ouml;nnen die Instanzen ohne weiteres
+ * von allen Threads gemeinsam benutzt werden. Der Schl&uuml;ssel besteht aus Formatmuster, Mustertyp,
+ * Sprache, Chronologie und Nachsichtigkeitsmodus. Wenn die maximale Gr&ouml;&szlig;e &uuml;berschritten
+ * wird, werden beliebige Eintr&auml;ge entfernt, ohne Sperren zu ben&ouml;tigen. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+final class PatternCache {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Standardgr&ouml;&szlig;e des Puffers.
+     */
+    static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private static final ConcurrentMap<Key, ChronoFormatter<?>> CACHE = new ConcurrentHashMap<>();
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    private static volatile int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private PatternCache() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Liefert einen gepufferten oder neu erzeugten Formatierer. </p>
+     *
+     * @param   <T> generic chronological type
+     * @param   pattern     format pattern
+     * @param   type        the type of the pattern to be used
+     * @param   locale      format locale
+     * @param   chronology  chronology with format pattern support
+     * @param   leniency    leniency mode or {@code null} if the default of the builder is to be used
+     * @return  immutable formatter
+     * @throws  IllegalArgumentException if resolving of pattern fails
+     */
+    static <T> ChronoFormatter<T> lookup(
+        String pattern,
+        PatternType type,
+        Locale locale,
+        Chronology<T> chronology,
+        Leniency leniency
+    ) {
+
+        if (maximumSize == 0) {
+            MISSES.incrementAndGet();
+            return create(pattern, type, locale, chronology, leniency);
+        }
+
+        Key key = new Key(pattern, type, locale, chronology, leniency);
+        ChronoFormatter<?> cached = CACHE.get(key);
+
+        if (cached == null) {
+            MISSES.incrementAndGet();
+            ChronoFormatter<T> formatter = create(pattern, type, locale, chronology, leniency);
+            cached = CACHE.putIfAbsent(key, formatter);
+            if (cached == null) {
+                shrink();
+                return formatter;
+            }
+        } else {
+            HITS.incrementAndGet();
+        }
+
+        return cast(cached);
+
+    }
+
+    /**
+     * <p>Legt die maximale Gr&ouml;&szlig;e fest. </p>
+     *
+     * @param   size    new maximum size (zero switches off the cache)
+     * @throws  IllegalArgumentException if the argument is negative
+     */
+    static void setMaximumSize(int size) {
+
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative pattern cache size: " + size);
+        }
+
+        maximumSize = size;
+        shrink();
+
+    }
+
+    /**
+     * <p>Liefert die maximale Gr&ouml;&szlig;e. </p>
+     *
+     * @return  int
+     */
+    static int getMaximumSize() {
+
+        return maximumSize;
+
+    }
+
+    /**
+     * <p>Liefert die aktuelle Anzahl der Eintr&auml;ge. </p>
+     *
+     * @return  int
+     */
+    static int size() {
+
+        return CACHE.size();
+
+    }
+
+    /**
+     * <p>Anzahl der erfolgreichen Abfragen seit dem letzten L&ouml;schen. </p>
+     *
+     * @return  long
+     */
+    static long getHitCount() {
+
+        return HITS.get();
+
+    }
+
+    /**
+     * <p>Anzahl der erfolglosen Abfragen seit dem letzten L&ouml;schen. </p>
+     *
+     * @return  long
+     */
+    static long getMissCount() {
+
+        return MISSES.get();
+
+    }
+
+    /**
+     * <p>Entfernt alle Eintr&auml;ge und setzt die Statistik zur&uuml;ck. </p>
+     */
+    static void clear() {
+
+        CACHE.clear();
+        HITS.set(0);
+        MISSES.set(0);
+
+    }
+
+    private static <T> ChronoFormatter<T> create(
+        String pattern,
+        PatternType type,
+        Locale locale,
+        Chronology<T> chronology,
+        Leniency leniency
+    ) {
+
+        ChronoFormatter<T> formatter = ChronoFormatter.buildPattern(pattern, type, locale, chronology);
+        return ((leniency == null) ? formatter : formatter.with(leniency));
+
+    }
+
+    private static void shrink() {
+
+        int max = maximumSize;
+
+        if (CACHE.size() > max) {
+            Iterator<Key> iter = CACHE.keySet().iterator();
+
+            while ((CACHE.size() > max) && iter.hasNext()) {
+                iter.next();
+                iter.remove();
+            }
+        }
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ChronoFormatter<T> cast(ChronoFormatter<?> formatter) {
+
+        return (ChronoFormatter<T>) formatter; // safe because the chronology is part of the key
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static final class Key {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String pattern;
+        private final PatternType type;
+        private final Locale locale;
+        private final Chronology<?> chronology;
+        private final Leniency leniency;
+        private final int hash;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Key(
+            String pattern,
+            PatternType type,
+            Locale locale,
+            Chronology<?> chronology,
+            Leniency leniency
+        ) {
+            super();
+
+            this.pattern = pattern;
+            this.type = type;
+            this.locale = locale;
+            this.chronology = chronology;
+            this.leniency = leniency;
+
+            int h = pattern.hashCode();
+            h = 31 * h + type.hashCode();
+            h = 31 * h + locale.hashCode();
+            h = 31 * h + chronology.hashCode();
+            this.hash = 31 * h + ((leniency == null) ? 0 : leniency.hashCode());
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            } else if (obj instanceof Key) {
+                Key that = (Key) obj;
+                return (
+                    this.pattern.equals(that.pattern)
+                    && (this.type == that.type)
+                    && this.locale.equals(that.locale)
+                    && (this.chronology == that.chronology)
+                    && (this.leniency == that.leniency)
+                );
+            } else {
+                return false;
+            }
+
+        }
+
+        @Override
+        public int hashCode() {
+
+            return this.hash;
+
+        }
+
+    }
+
+}
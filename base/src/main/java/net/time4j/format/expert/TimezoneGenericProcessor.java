@@ -400,11 +400,22 @@ final class TimezoneGenericProcessor
 
     }
 
+    /**
+     * <p>Leert die Puffer aller Namensb&auml;ume. </p>
+     */
+    static void clearCaches() {
+
+        for (ConcurrentMap<Locale, ZoneLabels> cache : CACHE_ZONENAMES.values()) {
+            cache.clear();
+        }
+
+    }
+
     private ZoneLabels createZoneNames(Locale locale) {
 
         ZoneLabels.Node node = null;
 
-        for (TZID tzid : Timezone.getAvailableIDs()) {
+        for (TZID tzid : ZoneNameListener.getAvailableIDs()) {
             String tzName = Timezone.getDisplayName(tzid, this.style, locale);
 
             if (tzName.equals(tzid.canonical())) {
@@ -444,6 +444,16 @@ final class TimezoneNameProcessor
 
     }
 
+    /**
+     * <p>Leert die Puffer aller Namensb&auml;ume. </p>
+     */
+    static void clearCaches() {
+
+        CACHE_ABBREVIATIONS.clear();
+        CACHE_ZONENAMES.clear();
+
+    }
+
     private String extractRelevantKey(
         CharSequence text,
         int offset,
@@ -481,7 +491,7 @@ final class TimezoneNameProcessor
         ZoneLabels.Node node = null;
         NameStyle style = this.getStyle(daylightSaving);
 
-        for (TZID tzid : Timezone.getAvailableIDs()) {
+        for (TZID tzid : ZoneNameListener.getAvailableIDs()) {
             String tzName = Timezone.getDisplayName(tzid, style, locale);
 
             if (tzName.equals(tzid.canonical())) {
@@ -158,7 +158,6 @@ final class TimezoneOffsetProcessor
     ) throws IOException {
 
         int start = -1;
-        int printed = 0;
 
         if (buffer instanceof CharSequence) {
             start = ((CharSequence) buffer).length();
@@ -182,6 +181,39 @@ final class TimezoneOffsetProcessor
                 "Cannot extract timezone offset from: " + formattable);
         }
 
+        int printed = this.print(offset, buffer);
+
+        if (
+            (start != -1)
+            && (printed > 0)
+            && (positions != null)
+        ) {
+            positions.add(
+                new ElementPosition(
+                    TimezoneElement.TIMEZONE_ID,
+                    start,
+                    start + printed));
+        }
+
+        return printed;
+
+    }
+
+    /**
+     * <p>Formatiert den angegebenen Offset. </p>
+     *
+     * @param   offset  timezone offset to be printed
+     * @param   buffer  text output buffer
+     * @return  count of printed characters
+     * @throws  IOException if writing to buffer fails
+     * @since   5.0
+     */
+    int print(
+        ZonalOffset offset,
+        Appendable buffer
+    ) throws IOException {
+
+        int printed = 0;
         int total = offset.getIntegralAmount();
         int fraction = offset.getFractionalAmount();
 
@@ -261,18 +293,6 @@ final class TimezoneOffsetProcessor
             }
         }
 
-        if (
-            (start != -1)
-            && (printed > 0)
-            && (positions != null)
-        ) {
-            positions.add(
-                new ElementPosition(
-                    TimezoneElement.TIMEZONE_ID,
-                    start,
-                    start + printed));
-        }
-
         return printed;
 
     }
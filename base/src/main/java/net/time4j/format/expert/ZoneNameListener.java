@@ -0,0 +1,112 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneNameListener.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+
+package net.time4j.format.expert;
+
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZoneChangeListener;
+
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * <p>Leert die Namenspuffer der Zeitzonenprozessoren, wenn sich die Menge der verf&uuml;gbaren
+ * Zeitzonen ge&auml;ndert hat. </p>
+ *
+ * <p>Die Namensb&auml;ume h&auml;ngen nicht von &Uuml;berg&auml;ngen ab, sondern nur von der Menge
+ * der Zonen. Diese Menge wird beim Aufbau des ersten Namensbaums festgehalten, so da&szlig; ein
+ * &Auml;nderungsereignis die Puffer nur dann leert, wenn sich die Menge seitdem ge&auml;ndert hat. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+final class ZoneNameListener
+    implements ZoneChangeListener {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final ZoneNameListener INSTANCE = new ZoneNameListener();
+
+    static {
+        Timezone.Cache.addChangeListener(INSTANCE);
+    }
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private List<TZID> knownZones = null; // unbekannt bis zum ersten Namensbaum
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ZoneNameListener() {
+        super();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Liefert alle verf&uuml;gbaren Zeitzonen f&uuml;r den Aufbau eines Namensbaums und
+     * merkt sich beim ersten Aufruf diese Menge als Vergleichsbasis. </p>
+     *
+     * @return  list of available timezone identifiers
+     */
+    static List<TZID> getAvailableIDs() {
+
+        return INSTANCE.capture();
+
+    }
+
+    @Override
+    public synchronized void zonesChanged(
+        String provider,
+        Set<TZID> changedZones
+    ) {
+
+        if (this.knownZones == null) {
+            return; // noch kein Namensbaum vorhanden
+        }
+
+        List<TZID> zones = Timezone.getAvailableIDs();
+
+        if (!zones.equals(this.knownZones)) {
+            this.knownZones = zones;
+            TimezoneNameProcessor.clearCaches();
+            TimezoneGenericProcessor.clearCaches();
+        }
+
+    }
+
+    private synchronized List<TZID> capture() {
+
+        List<TZID> zones = Timezone.getAvailableIDs();
+
+        if (this.knownZones == null) {
+            this.knownZones = zones;
+        }
+
+        return zones;
+
+    }
+
+}
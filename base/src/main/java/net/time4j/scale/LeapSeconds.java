@@ -176,6 +176,7 @@ public final class LeapSeconds
             "data/leapseconds.data");
 
     private static final ExtendedLSE[] EMPTY_ARRAY = new ExtendedLSE[0];
+    private static final EventTable EMPTY_TABLE = new EventTable(EMPTY_ARRAY, false);
     private static final LeapSeconds INSTANCE = new LeapSeconds();
     private static final long UNIX_OFFSET = 2 * 365 * 86400;
     private static final long MJD_OFFSET = 40587;
@@ -184,8 +185,8 @@ public final class LeapSeconds
 
     private final LeapSecondProvider provider;
     private final List<ExtendedLSE> list;
-    private final ExtendedLSE[] reverseFinal;
-    private volatile ExtendedLSE[] reverseVolatile;
+    private final EventTable tableFinal;
+    private volatile EventTable tableVolatile;
     private final boolean supportsNegativeLS;
 
     //~ Konstruktoren -----------------------------------------------------
@@ -216,8 +217,8 @@ public final class LeapSeconds
         if ((loaded == null) || (leapCount == 0)) {
             this.provider = null;
             this.list = Collections.emptyList();
-            this.reverseFinal = EMPTY_ARRAY;
-            this.reverseVolatile = EMPTY_ARRAY;
+            this.tableFinal = EMPTY_TABLE;
+            this.tableVolatile = EMPTY_TABLE;
             this.supportsNegativeLS = false;
         } else {
             SortedSet<ExtendedLSE> sortedLS = new TreeSet<>(this);
@@ -244,8 +245,6 @@ public final class LeapSeconds
                 this.list = new CopyOnWriteArrayList<>(sortedLS);
             }
 
-            this.reverseFinal = this.initReverse();
-            this.reverseVolatile = this.reverseFinal;
             this.provider = loaded;
 
             if (FINAL_UTC_LEAPSECONDS) {
@@ -264,6 +263,9 @@ public final class LeapSeconds
             } else {
                 this.supportsNegativeLS = true;
             }
+
+            this.tableFinal = new EventTable(this.initReverse(), this.supportsNegativeLS);
+            this.tableVolatile = this.tableFinal;
         }
 
     }
@@ -560,20 +562,14 @@ public final class LeapSeconds
 
         // Schaltsekundenereignisse gibt es erst seit Juni 1972
         if (year >= 1972) {
+            EventTable table = this.getTable();
+            long key = toKey(year, date.getMonth(), date.getDayOfMonth());
 
-            ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-            for (int i = 0; i < events.length; i++) {
-                ExtendedLSE event = events[i];
-                GregorianDate lsDate = event.getDate();
+            if (key <= table.lastDateKey) { // sonst nach der letzten Schaltsekunde
+                int index = Arrays.binarySearch(table.dateKeys, key);
 
-                // Ist es der Umstellungstag?
-                if (
-                    (year == lsDate.getYear())
-                    && (date.getMonth() == lsDate.getMonth())
-                    && (date.getDayOfMonth() == lsDate.getDayOfMonth())
-                ) {
-                    return event.getShift();
+                if (index >= 0) { // Umstellungstag
+                    return table.shifts[index];
                 }
             }
         }
@@ -602,23 +598,18 @@ public final class LeapSeconds
      */
     public int getShift(long utc) {
 
-        if (utc <= 0) {
+        EventTable table = this.getTable();
+
+        if ((utc <= 0) || (utc > table.lastUTC)) {
             return 0;
         }
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
+        // nur das nächste Ereignis ab der angegebenen UTC-Zeit ist relevant
+        int index = floorIndex(table.utcs, utc) + 1;
+        long start = table.utcs[index] - table.shifts[index];
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
-
-            if (utc > lse.utc()) {
-                return 0;
-            } else {
-                long start = lse.utc() - lse.getShift();
-                if (utc > start) { // Schaltbereich
-                    return (int) (utc - start);
-                }
-            }
+        if (utc > start) { // Schaltbereich
+            return (int) (utc - start);
         }
 
         return 0;
@@ -644,20 +635,14 @@ public final class LeapSeconds
      */
     public LeapSecondEvent getNextEvent(long utc) {
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        LeapSecondEvent result = null;
+        EventTable table = this.getTable();
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
-
-            if (utc >= lse.utc()) {
-                break;
-            } else {
-                result = lse;
-            }
+        if (utc >= table.lastUTC) {
+            return null;
         }
 
-        return result;
+        int index = floorIndex(table.utcs, utc + 1) + 1;
+        return table.reverse[table.reverse.length - 1 - index];
 
     }
 
@@ -697,16 +682,17 @@ public final class LeapSeconds
             return epochTime;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
+        EventTable table = this.getTable();
+
+        // in der Praxis meistens aktuelle Zeitpunkte nach der letzten Schaltsekunde
+        if (epochTime > table.lastRaw) {
+            return Math.addExact(epochTime, table.lastDelta);
+        }
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        int index = floorIndex(table.raws, epochTime);
 
-            if (lse.raw() < epochTime) {
-                return Math.addExact(epochTime, lse.utc() - lse.raw());
-            }
+        if (index >= 0) {
+            return Math.addExact(epochTime, table.utcs[index] - table.raws[index]);
         }
 
         return epochTime;
@@ -746,21 +732,17 @@ public final class LeapSeconds
             return utc + UNIX_OFFSET;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        boolean snls = this.supportsNegativeLS;
+        EventTable table = this.getTable();
 
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        // in der Praxis meistens aktuelle Zeitpunkte nach der letzten Schaltsekunde
+        if (utc > table.lastThreshold) {
+            return Math.addExact(utc, -table.lastDelta) + UNIX_OFFSET;
+        }
 
-            if (
-                (lse.utc() - lse.getShift() < utc)
-                || (snls && (lse.getShift() < 0) && (lse.utc() < utc))
-            ) {
-                utc = Math.addExact(utc, lse.raw() - lse.utc());
-                break;
-            }
+        int index = floorIndex(table.thresholds, utc);
+
+        if (index >= 0) {
+            utc = Math.addExact(utc, table.raws[index] - table.utcs[index]);
         }
 
         return utc + UNIX_OFFSET;
@@ -787,23 +769,14 @@ public final class LeapSeconds
      */
     public boolean isPositiveLS(long utc) {
 
-        if (utc <= 0) {
-            return false;
-        }
-
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            long comp = events[i].utc();
+        EventTable table = this.getTable();
 
-            if (comp == utc) {
-                return (events[i].getShift() == 1);
-            } else if (comp < utc) {
-                break;
-            }
+        if ((utc <= 0) || (utc > table.lastUTC)) {
+            return false;
         }
 
-        return false;
+        int index = Arrays.binarySearch(table.utcs, utc);
+        return ((index >= 0) && (table.shifts[index] == 1));
 
     }
 
@@ -952,7 +925,7 @@ public final class LeapSeconds
                 throw new IllegalStateException("Leap seconds not activated.");
             }
 
-            ExtendedLSE last = this.reverseVolatile[0];
+            ExtendedLSE last = this.tableVolatile.reverse[0];
             GregorianDate date = last.getDate();
             boolean ok = false;
 
@@ -977,7 +950,7 @@ public final class LeapSeconds
             GregorianDate newDate =
                 this.provider.getDateOfEvent(year, month, dayOfMonth);
             this.list.add(createLSE(newDate, shift, last));
-            this.reverseVolatile = this.initReverse();
+            this.tableVolatile = new EventTable(this.initReverse(), this.supportsNegativeLS);
         }
 
     }
@@ -985,14 +958,42 @@ public final class LeapSeconds
     // Ereignisse in zeitlich absteigender Reihenfolge auf (das neueste zuerst)
     private ExtendedLSE[] getEventsInDescendingOrder() {
 
+        return this.getTable().reverse;
+
+    }
+
+    // konsistente Momentaufnahme aller Ereignisse (bei Registrierung atomar ersetzt)
+    private EventTable getTable() {
+
         if (SUPPRESS_UTC_LEAPSECONDS || FINAL_UTC_LEAPSECONDS) {
-            return this.reverseFinal;
+            return this.tableFinal;
         } else {
-            return this.reverseVolatile;
+            return this.tableVolatile;
         }
 
     }
 
+    // größter Index mit einem Wert kleiner als der Schlüssel, sonst -1 (Werte sind eindeutig)
+    private static int floorIndex(
+        long[] ascending,
+        long key
+    ) {
+
+        int index = Arrays.binarySearch(ascending, key);
+        return ((index >= 0) ? index - 1 : -index - 2);
+
+    }
+
+    private static long toKey(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+
+        return (((long) year) << 9) | (month << 5) | dayOfMonth;
+
+    }
+
     private static void extend(SortedSet<ExtendedLSE> sortedColl) {
 
         List<ExtendedLSE> tmp = new ArrayList<>(sortedColl.size());
@@ -1062,6 +1063,75 @@ public final class LeapSeconds
 
     //~ Innere Klassen ----------------------------------------------------
 
+    /**
+     * <p>Unver&auml;nderliche Tabelle aller Schaltsekundenereignisse mit primitiven Arrays
+     * in aufsteigender Reihenfolge f&uuml;r die bin&auml;re Suche und mit den Werten des
+     * letzten Ereignisses f&uuml;r den schnellen Zugriff auf aktuelle Zeitpunkte. </p>
+     */
+    private static final class EventTable {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ExtendedLSE[] reverse;
+        private final long[] utcs;
+        private final long[] raws;
+        private final long[] thresholds;
+        private final long[] dateKeys;
+        private final int[] shifts;
+
+        private final long lastUTC;
+        private final long lastRaw;
+        private final long lastDelta;
+        private final long lastThreshold;
+        private final long lastDateKey;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        EventTable(
+            ExtendedLSE[] reverse,
+            boolean snls
+        ) {
+            super();
+
+            int n = reverse.length;
+
+            this.reverse = reverse;
+            this.utcs = new long[n];
+            this.raws = new long[n];
+            this.thresholds = new long[n];
+            this.dateKeys = new long[n];
+            this.shifts = new int[n];
+
+            for (int i = 0; i < n; i++) {
+                ExtendedLSE lse = reverse[n - 1 - i];
+                GregorianDate date = lse.getDate();
+                int shift = lse.getShift();
+                this.utcs[i] = lse.utc();
+                this.raws[i] = lse.raw();
+                this.dateKeys[i] = toKey(date.getYear(), date.getMonth(), date.getDayOfMonth());
+                this.shifts[i] = shift;
+                // UTC-Zeitpunkte jenseits dieser Schwelle werden mit diesem Ereignis reduziert
+                this.thresholds[i] = (((shift < 0) && snls) ? lse.utc() : lse.utc() - shift);
+            }
+
+            if (n == 0) {
+                this.lastUTC = Long.MIN_VALUE;
+                this.lastRaw = Long.MIN_VALUE;
+                this.lastDelta = 0;
+                this.lastThreshold = Long.MIN_VALUE;
+                this.lastDateKey = Long.MIN_VALUE;
+            } else {
+                this.lastUTC = this.utcs[n - 1];
+                this.lastRaw = this.raws[n - 1];
+                this.lastDelta = this.lastUTC - this.lastRaw;
+                this.lastThreshold = this.thresholds[n - 1];
+                this.lastDateKey = this.dateKeys[n - 1];
+            }
+
+        }
+
+    }
+
     private static class SimpleLeapSecondEvent
         implements ExtendedLSE, Serializable {
 
@@ -86,6 +86,16 @@ final class FallbackTimezone
 
     }
 
+    @Override
+    public void getOffsets(
+        long[] posixTimes,
+        int[] offsets
+    ) {
+
+        this.fallback.getOffsets(posixTimes, offsets);
+
+    }
+
     @Override
     public ZonalOffset getStandardOffset(UnixTime ut) {
 
@@ -129,6 +129,16 @@ final class HistorizedTimezone
 
     }
 
+    @Override
+    public void getOffsets(
+        long[] posixTimes,
+        int[] offsets
+    ) {
+
+        this.history.getOffsets(posixTimes, offsets);
+
+    }
+
     @Override
     public ZonalOffset getStandardOffset(UnixTime ut) {
 
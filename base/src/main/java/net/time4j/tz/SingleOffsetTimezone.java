@@ -28,6 +28,7 @@ import net.time4j.base.WallTime;
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -92,6 +93,39 @@ final class SingleOffsetTimezone
 
     }
 
+    @Override
+    public void getOffsets(
+        long[] posixTimes,
+        int[] offsets
+    ) {
+
+        checkBulkLength(posixTimes.length, offsets.length);
+        Arrays.fill(offsets, 0, posixTimes.length, this.offset.getIntegralAmount());
+
+    }
+
+    @Override
+    public void toPosixTimes(
+        long[] localSeconds,
+        long[] posixTimes
+    ) {
+
+        checkBulkLength(localSeconds.length, posixTimes.length);
+        int total = this.offset.getIntegralAmount();
+
+        for (int i = 0; i < localSeconds.length; i++) {
+            posixTimes[i] = localSeconds[i] - total;
+        }
+
+    }
+
+    @Override
+    public long toPosixTime(long localSeconds) {
+
+        return localSeconds - this.offset.getIntegralAmount();
+
+    }
+
     @Override
     public ZonalOffset getStandardOffset(UnixTime ut) {
 
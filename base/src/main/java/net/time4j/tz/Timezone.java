@@ -22,29 +22,35 @@
 package net.time4j.tz;
 
 import net.time4j.base.GregorianDate;
+import net.time4j.base.GregorianMath;
 import net.time4j.base.ResourceLoader;
 import net.time4j.base.UnixTime;
 import net.time4j.base.WallTime;
+import net.time4j.tz.model.TransitionModel;
 import net.time4j.tz.threeten.JdkZoneProviderSPI;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.lang.ref.ReferenceQueue;
-import java.lang.ref.SoftReference;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 
 
 /**
@@ -173,7 +179,10 @@ public abstract class Timezone
     private static volatile ZonalKeys zonalKeys;
     private static volatile Timezone currentSystemTZ = null;
     private static volatile boolean cacheActive = true;
-    private static int softLimit = 11;
+    private static final int DEFAULT_CACHE_CAPACITY =
+        Math.max(0, Integer.getInteger("net.time4j.tz.cache.capacity", 1000));
+
+    private static final long UNIX_EPOCH_MJD = 40587L;
 
     private static final String NAME_JUT = "java.util.TimeZone";
     private static final String NAME_TZDB = "TZDB";
@@ -182,11 +191,13 @@ public abstract class Timezone
     private static final Map<String, TZID> PREDEFINED;
     private static final Map<String, TZID> ETCETERA;
     private static final ZoneModelProvider PLATFORM_PROVIDER;
-    private static final ZoneModelProvider DEFAULT_PROVIDER;
-    private static final ConcurrentMap<String, NamedReference> CACHE;
-    private static final ReferenceQueue<Timezone> QUEUE;
-    private static final LinkedList<Timezone> LAST_USED;
+    private static volatile ZoneModelProvider defaultProvider;
+    private static volatile int generation = 0; // Zählt die Aktualisierungen und Leerungen des Cache
+    private static final ZoneCache CACHE;
+    private static final int IDENTITY_SLOTS = 256; // power of two
+    private static volatile IdentityEntry[] identityCache = new IdentityEntry[IDENTITY_SLOTS];
     private static final ConcurrentMap<String, ZoneModelProvider> PROVIDERS;
+    private static final List<ZoneChangeListener> LISTENERS = new CopyOnWriteArrayList<>();
 
     /**
      * Default provider for tz-name-repository.
@@ -196,10 +207,8 @@ public abstract class Timezone
     private static final Timezone SYSTEM_TZ_ORIGINAL;
 
     static {
-        CACHE = new ConcurrentHashMap<>();
+        CACHE = new ZoneCache(DEFAULT_CACHE_CAPACITY);
         PROVIDERS = new ConcurrentHashMap<>();
-        QUEUE = new ReferenceQueue<>();
-        LAST_USED = new LinkedList<>(); // strong references
 
         List<Class<? extends TZID>> areas;
 
@@ -267,10 +276,10 @@ public abstract class Timezone
         PROVIDERS.put(NAME_JUT, PLATFORM_PROVIDER);
 
         if (zp == null) {
-            DEFAULT_PROVIDER = PLATFORM_PROVIDER;
+            defaultProvider = PLATFORM_PROVIDER;
         } else {
             PROVIDERS.put(NAME_TZDB, zp);
-            DEFAULT_PROVIDER = zp;
+            defaultProvider = zp;
         }
 
         Timezone systemTZ = null;
@@ -301,6 +310,11 @@ public abstract class Timezone
         zonalKeys = new ZonalKeys();
     }
 
+    //~ Instanzvariablen --------------------------------------------------
+
+    private transient volatile LocalWindow recentWindow = null;
+    private transient volatile LocalWindow olderWindow = null;
+
     //~ Konstruktoren -----------------------------------------------------
 
     /**
@@ -555,7 +569,10 @@ public abstract class Timezone
     /**
      * <p>Gets the timezone for given identifier. </p>
      *
-     * <p>Queries the underlying {@code ZoneModelProvider}. </p>
+     * <p>Queries the underlying {@code ZoneModelProvider}. Repeated calls
+     * with the same {@code TZID}-instance (for example an enum constant)
+     * are answered by identity without normalizing the identifier until
+     * {@link Cache#refresh()} is called. </p>
      *
      * @param   tzid    timezone id as interface
      * @return  timezone data
@@ -564,7 +581,10 @@ public abstract class Timezone
     /*[deutsch]
      * <p>Liefert die Zeitzone mit der angegebenen ID. </p>
      *
-     * <p>Fragt den zugrundeliegenden {@code ZoneModelProvider} ab. </p>
+     * <p>Fragt den zugrundeliegenden {@code ZoneModelProvider} ab. Wiederholte
+     * Aufrufe mit derselben {@code TZID}-Instanz (zum Beispiel einer Enum-Konstanten)
+     * werden ohne Normalisierung der ID &uuml;ber die Objektidentit&auml;t beantwortet,
+     * bis {@link Cache#refresh()} aufgerufen wird. </p>
      *
      * @param   tzid    timezone id as interface
      * @return  timezone data
@@ -760,7 +780,7 @@ public abstract class Timezone
             throw new IllegalArgumentException("Empty zone identifier: " + tzid);
         }
 
-        ZoneModelProvider provider = DEFAULT_PROVIDER;
+        ZoneModelProvider provider = defaultProvider;
         boolean useDefault = (providerName.isEmpty() || providerName.equals(NAME_DEFAULT));
 
         if (!useDefault && !providerName.equals("WINDOWS") && !providerName.equals("MILITARY")) {
@@ -1056,7 +1076,7 @@ public abstract class Timezone
         StringBuilder sb = new StringBuilder(128);
         sb.append(Timezone.class.getName());
         sb.append(":[default-provider=");
-        sb.append(DEFAULT_PROVIDER.getName());
+        sb.append(defaultProvider.getName());
         sb.append(", registered={");
 
         for (String key : PROVIDERS.keySet()) {
@@ -1181,6 +1201,186 @@ public abstract class Timezone
      */
     public abstract Timezone with(TransitionStrategy strategy);
 
+    /**
+     * <p>Calculates the total offsets for all given global timestamps
+     * in one bulk operation. </p>
+     *
+     * <p>The result is the same as if {@link #getOffset(UnixTime)} were called
+     * for every single element, but no intermediate objects are created per
+     * element. The best performance is achieved for sorted input. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch (1970-01-01T00:00Z) without leap seconds
+     * @param   offsets         output array for the total offsets in seconds
+     * @throws  IndexOutOfBoundsException if the output array is shorter than the input array
+     * @see     #getOffset(UnixTime)
+     * @see     TransitionHistory#getOffsets(long[], int[])
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Ermittelt die gesamten Zeitzonenverschiebungen f&uuml;r alle angegebenen
+     * globalen Zeitpunkte in einer Massenoperation. </p>
+     *
+     * <p>Das Ergebnis ist dasselbe, als ob {@link #getOffset(UnixTime)} f&uuml;r jedes
+     * einzelne Element aufgerufen w&uuml;rde, aber es werden keine Zwischenobjekte
+     * pro Element erzeugt. Die beste Performance wird mit sortierten Eingaben
+     * erreicht. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch (1970-01-01T00:00Z) without leap seconds
+     * @param   offsets         output array for the total offsets in seconds
+     * @throws  IndexOutOfBoundsException if the output array is shorter than the input array
+     * @see     #getOffset(UnixTime)
+     * @see     TransitionHistory#getOffsets(long[], int[])
+     * @since   5.0
+     */
+    public void getOffsets(
+        long[] posixTimes,
+        int[] offsets
+    ) {
+
+        checkBulkLength(posixTimes.length, offsets.length);
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            offsets[i] = this.getOffset(SimpleUT.at(posixTimes[i])).getIntegralAmount();
+        }
+
+    }
+
+    /**
+     * <p>Converts all given local timestamps to global POSIX times in one
+     * bulk operation. </p>
+     *
+     * <p>Every local timestamp is counted in seconds since 1970-01-01T00:00 on the
+     * local timeline. The result is the same as if the {@link #getStrategy() strategy}
+     * of this timezone were applied to every single element, including the
+     * resolution of gaps and overlaps and any exception in strict mode. Local
+     * timestamps which are not affected by any transition are translated
+     * by simple subtraction of the offset valid in the surrounding offset period
+     * so that sorted input is processed most efficiently. </p>
+     *
+     * @param   localSeconds    elapsed seconds since 1970-01-01T00:00 on the local timeline
+     * @param   posixTimes      output array for the elapsed seconds since UNIX epoch
+     * @throws  IndexOutOfBoundsException if the output array is shorter than the input array
+     * @throws  IllegalArgumentException if any local timestamp is invalid and the strategy is strict
+     * @see     TransitionStrategy#resolve(GregorianDate, WallTime, Timezone)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Wandelt alle angegebenen lokalen Zeitstempel in einer Massenoperation
+     * in globale POSIX-Zeiten um. </p>
+     *
+     * <p>Jeder lokale Zeitstempel wird in Sekunden seit 1970-01-01T00:00 auf dem
+     * lokalen Zeitstrahl gez&auml;hlt. Das Ergebnis ist dasselbe, als ob die
+     * {@link #getStrategy() Strategie} dieser Zeitzone auf jedes einzelne Element
+     * angewandt w&uuml;rde, einschlie&szlig;lich der Aufl&ouml;sung von L&uuml;cken und
+     * &Uuml;berlappungen und etwaiger Ausnahmen im strikten Modus. Lokale Zeitstempel,
+     * die von keinem &Uuml;bergang betroffen sind, werden durch einfache Subtraktion
+     * der in der umgebenden Periode g&uuml;ltigen Verschiebung &uuml;bersetzt, so
+     * da&szlig; sortierte Eingaben am effizientesten verarbeitet werden. </p>
+     *
+     * @param   localSeconds    elapsed seconds since 1970-01-01T00:00 on the local timeline
+     * @param   posixTimes      output array for the elapsed seconds since UNIX epoch
+     * @throws  IndexOutOfBoundsException if the output array is shorter than the input array
+     * @throws  IllegalArgumentException if any local timestamp is invalid and the strategy is strict
+     * @see     TransitionStrategy#resolve(GregorianDate, WallTime, Timezone)
+     * @since   5.0
+     */
+    public void toPosixTimes(
+        long[] localSeconds,
+        long[] posixTimes
+    ) {
+
+        checkBulkLength(localSeconds.length, posixTimes.length);
+
+        for (int i = 0; i < localSeconds.length; i++) {
+            posixTimes[i] = this.toPosixTime(localSeconds[i]);
+        }
+
+    }
+
+    /**
+     * <p>Converts given local timestamp to a global POSIX time. </p>
+     *
+     * <p>The local timestamp is counted in seconds since 1970-01-01T00:00 on the
+     * local timeline. The result is the same as if the {@link #getStrategy() strategy}
+     * of this timezone were applied, including the resolution of gaps and overlaps
+     * and any exception in strict mode. However, this timezone remembers the last
+     * offset periods which are free of any transition conflict so that local timestamps
+     * falling into one of them are translated by simple subtraction of the offset
+     * without any object creation. </p>
+     *
+     * @param   localSeconds    elapsed seconds since 1970-01-01T00:00 on the local timeline
+     * @return  elapsed seconds since UNIX epoch (1970-01-01T00:00Z) without leap seconds
+     * @throws  IllegalArgumentException if the local timestamp is invalid and the strategy is strict
+     * @see     TransitionStrategy#resolve(GregorianDate, WallTime, Timezone)
+     * @see     #toPosixTimes(long[], long[])
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Wandelt den angegebenen lokalen Zeitstempel in eine globale POSIX-Zeit um. </p>
+     *
+     * <p>Der lokale Zeitstempel wird in Sekunden seit 1970-01-01T00:00 auf dem lokalen
+     * Zeitstrahl gez&auml;hlt. Das Ergebnis ist dasselbe, als ob die {@link #getStrategy()
+     * Strategie} dieser Zeitzone angewandt w&uuml;rde, einschlie&szlig;lich der Aufl&ouml;sung
+     * von L&uuml;cken und &Uuml;berlappungen und etwaiger Ausnahmen im strikten Modus. Allerdings
+     * merkt sich diese Zeitzone die letzten Verschiebungsperioden ohne &Uuml;bergangskonflikte,
+     * so da&szlig; lokale Zeitstempel, die in eine davon fallen, durch einfache Subtraktion
+     * der Verschiebung ohne Objekterzeugung &uuml;bersetzt werden. </p>
+     *
+     * @param   localSeconds    elapsed seconds since 1970-01-01T00:00 on the local timeline
+     * @return  elapsed seconds since UNIX epoch (1970-01-01T00:00Z) without leap seconds
+     * @throws  IllegalArgumentException if the local timestamp is invalid and the strategy is strict
+     * @see     TransitionStrategy#resolve(GregorianDate, WallTime, Timezone)
+     * @see     #toPosixTimes(long[], long[])
+     * @since   5.0
+     */
+    public long toPosixTime(long localSeconds) {
+
+        return this.toPosixTime(localSeconds, null, null);
+
+    }
+
+    /**
+     * <p>Converts given local date and time to a global POSIX time. </p>
+     *
+     * <p>Equivalent to {@code getStrategy().resolve(localDate, localTime, this)}
+     * but uses the remembered offset periods of {@link #toPosixTime(long)} as fast
+     * path. If the local timestamp does not fall into any of them then the strategy
+     * will be called with the given objects as before. </p>
+     *
+     * @param   localDate   local calendar date in this timezone
+     * @param   localTime   local wall time in this timezone
+     * @return  elapsed seconds since UNIX epoch (1970-01-01T00:00Z) without leap seconds
+     * @throws  IllegalArgumentException if the local timestamp is invalid and the strategy is strict
+     * @see     TransitionStrategy#resolve(GregorianDate, WallTime, Timezone)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Wandelt das angegebene lokale Datum und die lokale Uhrzeit in eine globale
+     * POSIX-Zeit um. </p>
+     *
+     * <p>&Auml;quivalent zu {@code getStrategy().resolve(localDate, localTime, this)},
+     * benutzt aber die gemerkten Verschiebungsperioden von {@link #toPosixTime(long)}
+     * als Schnellweg. F&auml;llt der lokale Zeitstempel in keine davon, wird die Strategie
+     * wie bisher mit den angegebenen Objekten aufgerufen. </p>
+     *
+     * @param   localDate   local calendar date in this timezone
+     * @param   localTime   local wall time in this timezone
+     * @return  elapsed seconds since UNIX epoch (1970-01-01T00:00Z) without leap seconds
+     * @throws  IllegalArgumentException if the local timestamp is invalid and the strategy is strict
+     * @see     TransitionStrategy#resolve(GregorianDate, WallTime, Timezone)
+     * @since   5.0
+     */
+    public long toPosixTime(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        long localSeconds = (GregorianMath.toMJD(localDate) - UNIX_EPOCH_MJD) * 86400;
+        localSeconds += (localTime.getHour() * 3600 + localTime.getMinute() * 60 + localTime.getSecond());
+        return this.toPosixTime(localSeconds, localDate, localTime);
+
+    }
+
     /**
      * <p>Returns the name of this timezone suitable for presentation to
      * users in given style and locale. </p>
@@ -1259,7 +1459,7 @@ public abstract class Timezone
 
         String canonical = tzid.canonical();
         int index = canonical.indexOf('~');
-        ZoneModelProvider provider = DEFAULT_PROVIDER;
+        ZoneModelProvider provider = defaultProvider;
         String zoneID = canonical;
 
         if (index >= 0) {
@@ -1388,6 +1588,67 @@ public abstract class Timezone
 
     }
 
+    /**
+     * <p>Pr&uuml;ft die L&auml;nge eines Ausgabe-Arrays bei Massenoperationen. </p>
+     *
+     * @param   inputLength     length of input array
+     * @param   outputLength    length of output array
+     * @throws  IndexOutOfBoundsException if the output array is too short
+     */
+    static void checkBulkLength(
+        int inputLength,
+        int outputLength
+    ) {
+
+        if (outputLength < inputLength) {
+            throw new IndexOutOfBoundsException(
+                "Output array too short: " + outputLength + " < " + inputLength);
+        }
+
+    }
+
+    // lokale Datumsfelder werden nur bei Bedarf und ohne vorhandene Objekte angelegt
+    private long toPosixTime(
+        long localSeconds,
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        LocalWindow window = this.recentWindow;
+
+        if ((window != null) && window.contains(localSeconds)) {
+            return localSeconds - window.offset;
+        }
+
+        window = this.olderWindow;
+
+        if ((window != null) && window.contains(localSeconds)) {
+            return localSeconds - window.offset;
+        }
+
+        TransitionStrategy strategy = this.getStrategy();
+        long posix;
+
+        if (localDate == null) {
+            LocalFields fields = new LocalFields();
+            fields.set(localSeconds);
+            posix = strategy.resolve(fields, fields.time, this);
+        } else {
+            posix = strategy.resolve(localDate, localTime, this);
+        }
+
+        if (strategy instanceof TransitionResolver) {
+            TransitionHistory history = this.getHistory();
+            if (history != null) {
+                this.olderWindow = this.recentWindow;
+                this.recentWindow = LocalWindow.around(history, posix);
+            }
+        }
+
+        return posix;
+
+    }
+
     private static Timezone getDefaultTZ() {
 
         String zoneID = java.util.TimeZone.getDefault().getID();
@@ -1411,7 +1672,23 @@ public abstract class Timezone
             return ((ZonalOffset) tzid).getModel();
         }
 
-        return Timezone.getTZ(tzid, tzid.canonical(), wantsException);
+        // Schnellsuche über die Objektidentität der ID (ohne String-Hashing und Normalisierung)
+        int gen = generation;
+        IdentityEntry[] slots = identityCache;
+        int index = (System.identityHashCode(tzid) & (IDENTITY_SLOTS - 1));
+        IdentityEntry entry = slots[index];
+
+        if ((entry != null) && (entry.tzid == tzid) && cacheActive) {
+            return entry.zone;
+        }
+
+        Timezone tz = Timezone.getTZ(tzid, tzid.canonical(), wantsException);
+
+        if ((tz != null) && cacheActive && (gen == generation)) {
+            slots[index] = new IdentityEntry(tzid, tz); // nach refresh() nur noch im verworfenen Array
+        }
+
+        return tz;
 
     }
 
@@ -1422,15 +1699,8 @@ public abstract class Timezone
     ) {
 
         // Suche im Cache
-        Timezone tz = null;
-        NamedReference sref = CACHE.get(zoneID);
-
-        if (sref != null) {
-            tz = sref.get();
-            if (tz == null) {
-                CACHE.remove(sref.tzid);
-            }
-        }
+        int gen = generation;
+        Timezone tz = (cacheActive ? CACHE.get(zoneID) : null);
 
         if (tz != null) {
             return tz;
@@ -1456,7 +1726,7 @@ public abstract class Timezone
             }
         }
 
-        ZoneModelProvider provider = DEFAULT_PROVIDER;
+        ZoneModelProvider provider = defaultProvider;
 
         boolean useDefault = (
             providerName.isEmpty()
@@ -1540,26 +1810,10 @@ public abstract class Timezone
 
         // bei Bedarf im Cache speichern
         if (cacheActive) {
-            NamedReference oldRef =
-                CACHE.putIfAbsent(
-                    zoneID,
-                    new NamedReference(tz, QUEUE)
-                );
-
-            if (oldRef == null) {
-                synchronized (Timezone.class) {
-                    LAST_USED.addFirst(tz);
-
-                    while (LAST_USED.size() >= softLimit) {
-                        LAST_USED.removeLast();
-                    }
-                }
-            } else {
-                Timezone oldZone = oldRef.get();
+            tz = CACHE.putIfAbsent(zoneID, tz);
 
-                if (oldZone != null) {
-                    tz = oldZone;
-                }
+            if (gen != generation) {
+                CACHE.remove(zoneID); // vielleicht mit veralteten Daten während einer Aktualisierung geladen
             }
         }
 
@@ -1695,7 +1949,7 @@ public abstract class Timezone
 
         return (
             provider.equals(NAME_DEFAULT)
-            ? DEFAULT_PROVIDER
+            ? defaultProvider
             : PROVIDERS.get(provider));
 
     }
@@ -1753,25 +2007,28 @@ public abstract class Timezone
          * <p>Can refresh the timezone cache in case of a dynamic
          * update of the underlying timezone repository. </p>
          *
-         * <p>First the internal cache will be cleared. Furthermore,
+         * <p>First the internal cache will be cleared, including the direct
+         * association of {@code TZID}-instances with their timezones which
+         * serves as fast path for {@link Timezone#of(TZID)}. Furthermore,
          * if needed the system timezone will be determined again. </p>
+         *
+         * @see     #update(ZoneModelProvider)
          */
         /*[deutsch]
          * <p>Erlaubt eine Aktualisierung, wenn sich die Zeitzonendatenbank
          * ge&auml;ndert hat (<i>dynamic update</i>). </p>
          *
-         * <p>Der interne Cache wird entleert. Auch wird bei Bedarf die
-         * Standard-Zeitzone neu ermittelt. </p>
+         * <p>Der interne Cache wird entleert, einschlie&szlig;lich der direkten
+         * Zuordnung von {@code TZID}-Instanzen zu ihren Zeitzonen, die als
+         * Schnellweg f&uuml;r {@link Timezone#of(TZID)} dient. Auch wird bei
+         * Bedarf die Standard-Zeitzone neu ermittelt. </p>
+         *
+         * @see     #update(ZoneModelProvider)
          */
-        public static void refresh() {
-
-            synchronized (Timezone.class) {
-                while (QUEUE.poll() != null) {}
-                LAST_USED.clear();
-            }
+        public static synchronized void refresh() {
 
             zonalKeys = new ZonalKeys();
-            CACHE.clear();
+            invalidate();
 
             if (ALLOW_SYSTEM_TZ_OVERRIDE) {
                 currentSystemTZ = Timezone.getDefaultTZ();
@@ -1779,6 +2036,307 @@ public abstract class Timezone
 
         }
 
+        /**
+         * <p>Replaces a registered zone model provider by a new version of its data
+         * while the JVM is running, and invalidates only the changed zones. </p>
+         *
+         * <p>The new provider must have the same name as a registered provider, for
+         * example &quot;TZDB&quot; for a new version of the tz-database which might be
+         * loaded as compiled zone file. The changes are determined zone by zone by
+         * comparing the transition histories of the old and the new provider. Afterwards
+         * the new provider is published atomically so that every subsequent lookup
+         * sees either the complete old or the complete new data. Only the changed zones
+         * are removed from the internal cache, so there is no storm of cache misses
+         * as after {@link #refresh()}. Finally all registered
+         * {@link #addChangeListener(ZoneChangeListener) listeners} are informed
+         * if any zone has changed. They are called outside of any internal lock. An
+         * exception thrown by a listener is printed to {@code System.err} and does
+         * not prevent the other listeners from being informed. </p>
+         *
+         * <p>Timezone objects obtained before the update keep their old data. </p>
+         *
+         * @param   provider    new version of a registered zone model provider
+         * @return  unmodifiable set of changed timezone identifiers, maybe empty
+         * @throws  IllegalArgumentException if there is no registered provider with same name
+         *          or if given provider refers to the default or platform provider by name
+         * @see     ZoneChangeListener
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Ersetzt einen registrierten {@code ZoneModelProvider} zur Laufzeit durch eine
+         * neue Version seiner Daten und invalidiert nur die ge&auml;nderten Zonen. </p>
+         *
+         * <p>Der neue {@code ZoneModelProvider} mu&szlig; denselben Namen wie ein registrierter
+         * haben, zum Beispiel &quot;TZDB&quot; f&uuml;r eine neue Version der tz-Datenbank,
+         * die etwa als kompilierte Zonendatei geladen werden kann. Die &Auml;nderungen werden
+         * Zone f&uuml;r Zone durch den Vergleich der &Uuml;bergangshistorien des alten und neuen
+         * {@code ZoneModelProvider} bestimmt. Danach wird der neue {@code ZoneModelProvider}
+         * atomar ver&ouml;ffentlicht, so da&szlig; jede nachfolgende Suche entweder die
+         * vollst&auml;ndigen alten oder die vollst&auml;ndigen neuen Daten sieht. Nur die
+         * ge&auml;nderten Zonen werden aus dem internen Cache entfernt, so da&szlig; es keine
+         * Welle von Cache-Fehlzugriffen wie nach {@link #refresh()} gibt. Schlie&szlig;lich
+         * werden alle registrierten {@link #addChangeListener(ZoneChangeListener) Beobachter}
+         * informiert, wenn sich irgendeine Zone ge&auml;ndert hat. Sie werden au&szlig;erhalb
+         * jeder internen Sperre aufgerufen. Eine Ausnahme eines Beobachters wird auf
+         * {@code System.err} ausgegeben und hindert die anderen Beobachter nicht daran,
+         * informiert zu werden. </p>
+         *
+         * <p>Zeitzonenobjekte, die vor der Aktualisierung ermittelt wurden, behalten
+         * ihre alten Daten. </p>
+         *
+         * @param   provider    new version of a registered zone model provider
+         * @return  unmodifiable set of changed timezone identifiers, maybe empty
+         * @throws  IllegalArgumentException if there is no registered provider with same name
+         *          or if given provider refers to the default or platform provider by name
+         * @see     ZoneChangeListener
+         * @since   5.0
+         */
+        public static Set<TZID> update(ZoneModelProvider provider) {
+
+            Set<TZID> changedZones = publish(provider);
+
+            // Beobachter außerhalb der Sperre informieren, damit sie selbst Timezone.Cache benutzen können
+            if (!changedZones.isEmpty()) {
+                String name = provider.getName();
+
+                for (ZoneChangeListener listener : LISTENERS) {
+                    try {
+                        listener.zonesChanged(name, changedZones);
+                    } catch (RuntimeException re) {
+                        re.printStackTrace(System.err); // die neuen Daten sind bereits veröffentlicht
+                    }
+                }
+            }
+
+            return changedZones;
+
+        }
+
+        /**
+         * <p>Registers given listener for changes of timezone data. </p>
+         *
+         * @param   listener    callback to be informed about changed zones
+         * @see     #update(ZoneModelProvider)
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Registriert den angegebenen Beobachter f&uuml;r &Auml;nderungen
+         * von Zeitzonendaten. </p>
+         *
+         * @param   listener    callback to be informed about changed zones
+         * @see     #update(ZoneModelProvider)
+         * @since   5.0
+         */
+        public static void addChangeListener(ZoneChangeListener listener) {
+
+            if (listener == null) {
+                throw new NullPointerException("Missing zone change listener.");
+            }
+
+            LISTENERS.add(listener);
+
+        }
+
+        /**
+         * <p>Deregisters given listener for changes of timezone data. </p>
+         *
+         * @param   listener    callback which shall no longer be informed about changed zones
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Entfernt den angegebenen Beobachter f&uuml;r &Auml;nderungen
+         * von Zeitzonendaten. </p>
+         *
+         * @param   listener    callback which shall no longer be informed about changed zones
+         * @since   5.0
+         */
+        public static void removeChangeListener(ZoneChangeListener listener) {
+
+            LISTENERS.remove(listener);
+
+        }
+
+        // veröffentlicht den neuen Provider und liefert die geänderten Zonen
+        private static synchronized Set<TZID> publish(ZoneModelProvider provider) {
+
+            String name = provider.getName();
+
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException(
+                    "Missing name of zone model provider.");
+            } else if (name.equals(NAME_JUT)) {
+                throw new IllegalArgumentException(
+                    "Platform provider cannot be replaced.");
+            } else if (name.equals(NAME_DEFAULT)) {
+                throw new IllegalArgumentException(
+                    "Default zone model provider cannot be overridden.");
+            }
+
+            ZoneModelProvider old = PROVIDERS.get(name);
+
+            if (old == null) {
+                throw new IllegalArgumentException(
+                    "Zone model provider not registered: " + name);
+            } else if (old == provider) {
+                return Collections.emptySet();
+            }
+
+            // Unterschiede je Zone bestimmen, bevor die neuen Daten sichtbar werden
+            Set<String> changedKeys = diff(old, provider);
+            boolean keysChanged = !(
+                old.getAvailableIDs().equals(provider.getAvailableIDs())
+                && old.getAliases().equals(provider.getAliases()));
+            boolean isDefault = (defaultProvider == old);
+
+            // neuen Stand veröffentlichen (jede Suche liest genau eine Provider-Referenz)
+            PROVIDERS.put(name, provider);
+
+            if (isDefault) {
+                defaultProvider = provider;
+            }
+
+            if (keysChanged) {
+                zonalKeys = new ZonalKeys();
+            }
+
+            if (changedKeys.isEmpty()) {
+                return Collections.emptySet();
+            }
+
+            generation = generation + 1; // nur in synchronisierten Methoden geschrieben
+
+            // betroffene Cache-Schlüssel: eigener Name, Standard-Präfixe und Fallback-Provider
+            Set<String> prefixes = new HashSet<>();
+            prefixes.add(name);
+
+            if (isDefault) {
+                prefixes.add("");
+                prefixes.add(NAME_DEFAULT);
+            }
+
+            for (ZoneModelProvider zp : PROVIDERS.values()) {
+                if (zp.getFallback().equals(name)) {
+                    prefixes.add(zp.getName());
+                }
+            }
+
+            Predicate<String> affected =
+                zoneID -> {
+                    int index = zoneID.indexOf('~');
+                    String prefix = ((index < 0) ? "" : zoneID.substring(0, index));
+                    return prefixes.contains(prefix) && changedKeys.contains(zoneID.substring(index + 1));
+                };
+
+            CACHE.removeIf(affected);
+
+            IdentityEntry[] slots = identityCache.clone();
+
+            for (int i = 0; i < slots.length; i++) {
+                IdentityEntry entry = slots[i];
+                if ((entry != null) && affected.test(entry.tzid.canonical())) {
+                    slots[i] = null;
+                }
+            }
+
+            identityCache = slots;
+
+            if (
+                ALLOW_SYSTEM_TZ_OVERRIDE
+                && (currentSystemTZ != null)
+                && affected.test(currentSystemTZ.getID().canonical())
+            ) {
+                currentSystemTZ = Timezone.getDefaultTZ();
+            }
+
+            // geänderte Zonen für die Beobachter sammeln
+            Set<TZID> changedZones = new HashSet<>();
+
+            for (String key : changedKeys) {
+                changedZones.add(isDefault ? resolve(key) : new NamedID(name + "~" + key));
+            }
+
+            return Collections.unmodifiableSet(changedZones);
+
+        }
+
+        // liefert alle Zonen- und Alias-Schlüssel, deren Historie sich geändert hat
+        private static Set<String> diff(
+            ZoneModelProvider oldProvider,
+            ZoneModelProvider newProvider
+        ) {
+
+            Set<String> ids = new HashSet<>(oldProvider.getAvailableIDs());
+            ids.addAll(newProvider.getAvailableIDs());
+            Set<String> changed = new HashSet<>();
+
+            for (String id : ids) {
+                if (!Objects.equals(load(oldProvider, id), load(newProvider, id))) {
+                    changed.add(id);
+                }
+            }
+
+            Map<String, String> oldAliases = oldProvider.getAliases();
+            Map<String, String> newAliases = newProvider.getAliases();
+            Set<String> aliases = new HashSet<>(oldAliases.keySet());
+            aliases.addAll(newAliases.keySet());
+            Set<String> changedAliases = new HashSet<>();
+
+            for (String alias : aliases) {
+                if (
+                    !Objects.equals(oldAliases.get(alias), newAliases.get(alias))
+                    || refersTo(newAliases, alias, changed)
+                ) {
+                    changedAliases.add(alias);
+                }
+            }
+
+            changed.addAll(changedAliases);
+            return changed;
+
+        }
+
+        private static boolean refersTo(
+            Map<String, String> aliases,
+            String alias,
+            Set<String> changed
+        ) {
+
+            String target = aliases.get(alias);
+
+            for (int n = aliases.size(); (target != null) && (n > 0); n--) { // Schutz vor Zyklen
+                if (changed.contains(target)) {
+                    return true;
+                }
+                target = aliases.get(target);
+            }
+
+            return false;
+
+        }
+
+        private static TransitionHistory load(
+            ZoneModelProvider provider,
+            String id
+        ) {
+
+            try {
+                return provider.load(id);
+            } catch (IllegalArgumentException iae) {
+                return null;
+            }
+
+        }
+
+        // Reihenfolge wichtig: gleichzeitige Suchen mit alter Generation speichern nichts mehr,
+        // und das neue Identitäts-Array wird erst nach dem Leeren des Cache veröffentlicht
+        private static void invalidate() {
+
+            generation = generation + 1;
+            CACHE.clear();
+            identityCache = new IdentityEntry[IDENTITY_SLOTS];
+
+        }
+
         /**
          * <p>Aktivates or deactivates the internal cache. </p>
          *
@@ -1797,12 +2355,12 @@ public abstract class Timezone
          *
          * @param   active  {@code true} if cache shall be active else {@code false}
          */
-        public static void setCacheActive(boolean active) {
+        public static synchronized void setCacheActive(boolean active) {
 
             cacheActive = active;
 
             if (!active) {
-                CACHE.clear();
+                invalidate();
             }
 
         }
@@ -1810,12 +2368,25 @@ public abstract class Timezone
         /**
          * <p>Updates the size of the internal timezone cache. </p>
          *
+         * <p>The cache is bounded and keeps its entries strongly referenced.
+         * Its capacity is the maximum of given minimum size and the default
+         * capacity which can be configured by the system property
+         * &quot;net.time4j.tz.cache.capacity&quot; (default value: 1000).
+         * Rarely used zones will be evicted if the capacity is exceeded. </p>
+         *
          * @param   minimumCacheSize    new minimum size of cache
          * @throws  IllegalArgumentException if the argument is negative
          */
         /*[deutsch]
          * <p>Konfiguriert die Gr&ouml;&szlig;e des internen Cache neu. </p>
          *
+         * <p>Der Cache ist begrenzt und h&auml;lt seine Eintr&auml;ge stark
+         * referenziert. Seine Kapazit&auml;t ist das Maximum aus der angegebenen
+         * Mindestgr&ouml;&szlig;e und der Standardkapazit&auml;t, die mit der
+         * System-Property &quot;net.time4j.tz.cache.capacity&quot; eingestellt
+         * werden kann (Standardwert: 1000). Selten benutzte Zeitzonen werden
+         * verdr&auml;ngt, wenn die Kapazit&auml;t &uuml;berschritten wird. </p>
+         *
          * @param   minimumCacheSize    new minimum size of cache
          * @throws  IllegalArgumentException if the argument is negative
          */
@@ -1826,40 +2397,487 @@ public abstract class Timezone
                     "Negative timezone cache size: " + minimumCacheSize);
             }
 
-            NamedReference ref;
+            CACHE.setCapacity(Math.max(DEFAULT_CACHE_CAPACITY, minimumCacheSize));
+
+        }
+
+        /**
+         * <p>Yields the count of successful lookups in the internal cache. </p>
+         *
+         * @return  count of cache hits since startup
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der erfolgreichen Suchen im internen Cache. </p>
+         *
+         * @return  count of cache hits since startup
+         * @since   5.0
+         */
+        public static long getHitCount() {
+
+            return CACHE.getHitCount();
+
+        }
+
+        /**
+         * <p>Yields the count of failed lookups in the internal cache
+         * which required to load a zone from its provider. </p>
+         *
+         * @return  count of cache misses since startup
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der erfolglosen Suchen im internen Cache,
+         * die das Laden einer Zeitzone von ihrem {@code ZoneModelProvider}
+         * erforderten. </p>
+         *
+         * @return  count of cache misses since startup
+         * @since   5.0
+         */
+        public static long getMissCount() {
+
+            return CACHE.getMissCount();
+
+        }
+
+        /**
+         * <p>Yields the count of zones evicted from the internal cache
+         * due to its limited capacity. </p>
+         *
+         * @return  count of evictions since startup
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der wegen begrenzter Kapazit&auml;t aus dem
+         * internen Cache verdr&auml;ngten Zeitzonen. </p>
+         *
+         * @return  count of evictions since startup
+         * @since   5.0
+         */
+        public static long getEvictionCount() {
+
+            return CACHE.getEvictionCount();
+
+        }
+
+        /**
+         * <p>Yields the current count of zones in the internal cache. </p>
+         *
+         * @return  count of cached zones
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Liefert die aktuelle Anzahl der Zeitzonen im internen Cache. </p>
+         *
+         * @return  count of cached zones
+         * @since   5.0
+         */
+        public static int getSize() {
+
+            return CACHE.size();
+
+        }
+
+        /**
+         * <p>Loads given timezones in advance and prepares their offset data
+         * for the given range of years. </p>
+         *
+         * <p>Equivalent to {@code preload(tzids, fromYear, toYear, Collections.emptySet())}. </p>
+         *
+         * @param   tzids       timezone identifiers to be loaded
+         * @param   fromYear    first gregorian year whose offset data shall be prepared
+         * @param   toYear      last gregorian year whose offset data shall be prepared (inclusive)
+         * @throws  IllegalArgumentException if any timezone cannot be loaded or if the year range is invalid
+         * @see     #preload(Collection, int, int, Collection)
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>L&auml;dt die angegebenen Zeitzonen im voraus und bereitet ihre
+         * Verschiebungsdaten f&uuml;r den angegebenen Jahresbereich vor. </p>
+         *
+         * <p>&Auml;quivalent zu {@code preload(tzids, fromYear, toYear, Collections.emptySet())}. </p>
+         *
+         * @param   tzids       timezone identifiers to be loaded
+         * @param   fromYear    first gregorian year whose offset data shall be prepared
+         * @param   toYear      last gregorian year whose offset data shall be prepared (inclusive)
+         * @throws  IllegalArgumentException if any timezone cannot be loaded or if the year range is invalid
+         * @see     #preload(Collection, int, int, Collection)
+         * @since   5.0
+         */
+        public static void preload(
+            Collection<? extends TZID> tzids,
+            int fromYear,
+            int toYear
+        ) {
+
+            preload(tzids, fromYear, toYear, Collections.emptySet());
+
+        }
+
+        /**
+         * <p>Loads given timezones in advance and prepares their offset data
+         * for the given range of years and their names for the given locales. </p>
+         *
+         * <p>Every timezone will be stored in the internal cache (if active). If
+         * the history of a timezone is a {@link TransitionModel} then it will be
+         * asked to {@link TransitionModel#preload(int, int) prepare} its data for
+         * the given years so that rule-based histories can fill their internal
+         * year tables as far as they keep them. Finally the names of every
+         * timezone are queried in all {@link NameStyle styles} so that the name
+         * provider can fill its caches. This method is intended to move the cost
+         * of first-time initialization to the startup of an application. </p>
+         *
+         * @param   tzids       timezone identifiers to be loaded
+         * @param   fromYear    first gregorian year whose offset data shall be prepared
+         * @param   toYear      last gregorian year whose offset data shall be prepared (inclusive)
+         * @param   locales     languages whose timezone names shall be prepared
+         * @throws  IllegalArgumentException if any timezone cannot be loaded or if the year range is invalid
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>L&auml;dt die angegebenen Zeitzonen im voraus und bereitet ihre
+         * Verschiebungsdaten f&uuml;r den angegebenen Jahresbereich und ihre
+         * Namen f&uuml;r die angegebenen Sprachen vor. </p>
+         *
+         * <p>Jede Zeitzone wird im internen Cache gespeichert (falls aktiv). Die
+         * Ist die Historie einer Zeitzone ein {@link TransitionModel}, wird es
+         * gebeten, seine Daten f&uuml;r die angegebenen Jahre {@link TransitionModel#preload(int, int)
+         * vorzubereiten}, damit regelbasierte Historien ihre internen Jahrestabellen
+         * f&uuml;llen k&ouml;nnen, soweit sie diese vorhalten. Schlie&szlig;lich werden die Namen jeder Zeitzone in allen {@link NameStyle Stilen}
+         * abgefragt, damit der Namens-Provider seine Caches f&uuml;llen kann. Diese Methode
+         * dient dazu, die Kosten der erstmaligen Initialisierung in den Start einer
+         * Anwendung zu verlagern. </p>
+         *
+         * @param   tzids       timezone identifiers to be loaded
+         * @param   fromYear    first gregorian year whose offset data shall be prepared
+         * @param   toYear      last gregorian year whose offset data shall be prepared (inclusive)
+         * @param   locales     languages whose timezone names shall be prepared
+         * @throws  IllegalArgumentException if any timezone cannot be loaded or if the year range is invalid
+         * @since   5.0
+         */
+        public static void preload(
+            Collection<? extends TZID> tzids,
+            int fromYear,
+            int toYear,
+            Collection<Locale> locales
+        ) {
+
+            checkYearRange(fromYear, toYear);
+
+            for (TZID tzid : tzids) {
+                preload(tzid, fromYear, toYear, locales);
+            }
+
+        }
+
+        /**
+         * <p>Like {@link #preload(Collection, int, int, Collection)} but loads every
+         * timezone in a separate task on given executor. </p>
+         *
+         * @param   tzids       timezone identifiers to be loaded
+         * @param   fromYear    first gregorian year whose offset data shall be prepared
+         * @param   toYear      last gregorian year whose offset data shall be prepared (inclusive)
+         * @param   locales     languages whose timezone names shall be prepared
+         * @param   executor    executor which runs the loading tasks
+         * @return  future which completes when all timezones have been loaded,
+         *          either normally or exceptionally if any timezone cannot be loaded
+         * @throws  IllegalArgumentException if the year range is invalid
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Wie {@link #preload(Collection, int, int, Collection)}, l&auml;dt aber jede
+         * Zeitzone in einer eigenen Aufgabe mit Hilfe des angegebenen {@code Executor}. </p>
+         *
+         * @param   tzids       timezone identifiers to be loaded
+         * @param   fromYear    first gregorian year whose offset data shall be prepared
+         * @param   toYear      last gregorian year whose offset data shall be prepared (inclusive)
+         * @param   locales     languages whose timezone names shall be prepared
+         * @param   executor    executor which runs the loading tasks
+         * @return  future which completes when all timezones have been loaded,
+         *          either normally or exceptionally if any timezone cannot be loaded
+         * @throws  IllegalArgumentException if the year range is invalid
+         * @since   5.0
+         */
+        public static CompletableFuture<Void> preload(
+            Collection<? extends TZID> tzids,
+            int fromYear,
+            int toYear,
+            Collection<Locale> locales,
+            Executor executor
+        ) {
+
+            checkYearRange(fromYear, toYear);
+
+            List<CompletableFuture<Void>> tasks = new ArrayList<>(tzids.size());
+
+            for (TZID tzid : tzids) {
+                tasks.add(CompletableFuture.runAsync(() -> preload(tzid, fromYear, toYear, locales), executor));
+            }
+
+            return CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[tasks.size()]));
+
+        }
+
+        private static void preload(
+            TZID tzid,
+            int fromYear,
+            int toYear,
+            Collection<Locale> locales
+        ) {
+
+            Timezone tz = Timezone.of(tzid);
+            TransitionHistory history = tz.getHistory();
+
+            if (history instanceof TransitionModel) {
+                ((TransitionModel) history).preload(fromYear, toYear);
+            }
+
+            for (Locale locale : locales) {
+                for (NameStyle style : NameStyle.values()) {
+                    tz.getDisplayName(style, locale);
+                }
+            }
+
+        }
+
+        private static void checkYearRange(
+            int fromYear,
+            int toYear
+        ) {
 
-            while ((ref = (NamedReference) QUEUE.poll()) != null) {
-                CACHE.remove(ref.tzid);
+            if (fromYear > toYear) {
+                throw new IllegalArgumentException("Start year after end year: " + fromYear + " > " + toYear);
+            } else if ((fromYear < GregorianMath.MIN_YEAR) || (toYear > GregorianMath.MAX_YEAR)) {
+                throw new IllegalArgumentException("Year out of range: [" + fromYear + ", " + toYear + "]");
             }
 
-            synchronized (Timezone.class) {
-                softLimit = minimumCacheSize + 1;
-                int n = LAST_USED.size() - minimumCacheSize;
+        }
 
-                for (int i = 0; i < n; i++) {
-                    LAST_USED.removeLast();
+    }
+
+    /**
+     * <p>Ver&auml;nderliche lokale Datumsfelder f&uuml;r die Massenumwandlung
+     * lokaler Zeitstempel. </p>
+     */
+    private static class LocalFields
+        implements GregorianDate {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final LocalClock time = new LocalClock();
+        private int year;
+        private int month;
+        private int dayOfMonth;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getYear() {
+            return this.year;
+        }
+
+        @Override
+        public int getMonth() {
+            return this.month;
+        }
+
+        @Override
+        public int getDayOfMonth() {
+            return this.dayOfMonth;
+        }
+
+        @Override
+        public String toString() {
+
+            StringBuilder sb = new StringBuilder(12);
+            int y = this.year;
+            if (y < 0) {
+                sb.append('-');
+                y = Math.abs(y);
+            }
+            if (y < 1000) {
+                sb.append('0');
+                if (y < 100) {
+                    sb.append('0');
+                    if (y < 10) {
+                        sb.append('0');
+                    }
                 }
             }
+            sb.append(y);
+            sb.append('-');
+            appendTwoDigits(sb, this.month);
+            sb.append('-');
+            appendTwoDigits(sb, this.dayOfMonth);
+            return sb.toString();
+
+        }
+
+        void set(long localSeconds) {
+
+            long packedDate =
+                GregorianMath.toPackedDate(Math.floorDiv(localSeconds, 86400) + UNIX_EPOCH_MJD);
+            int secs = (int) Math.floorMod(localSeconds, 86400);
+            this.year = GregorianMath.readYear(packedDate);
+            this.month = GregorianMath.readMonth(packedDate);
+            this.dayOfMonth = GregorianMath.readDayOfMonth(packedDate);
+            this.time.hour = secs / 3600;
+            this.time.minute = (secs / 60) % 60;
+            this.time.second = secs % 60;
+
+        }
+
+        private static void appendTwoDigits(
+            StringBuilder sb,
+            int value
+        ) {
+
+            if (value < 10) {
+                sb.append('0');
+            }
+            sb.append(value);
 
         }
 
     }
 
-    private static class NamedReference
-        extends SoftReference<Timezone> {
+    /**
+     * <p>Lokales Zeitfenster ohne &Uuml;bergangskonflikte, in dem genau eine
+     * Verschiebung g&uuml;ltig ist. </p>
+     */
+    private static class LocalWindow {
 
         //~ Instanzvariablen ----------------------------------------------
 
-        private final String tzid;
+        private final long start; // inklusive
+        private final long end; // exklusive
+        private final int offset;
 
         //~ Konstruktoren -------------------------------------------------
 
-        NamedReference(
-            Timezone tz,
-            ReferenceQueue<Timezone> queue
+        private LocalWindow(
+            long start,
+            long end,
+            int offset
+        ) {
+            super();
+
+            this.start = start;
+            this.end = end;
+            this.offset = offset;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // das Fenster umfasst nur lokale Zeiten, die genau eine gültige Verschiebung haben
+        static LocalWindow around(
+            TransitionHistory history,
+            long posix
         ) {
-            super(tz, queue);
-            this.tzid = tz.getID().canonical();
+
+            UnixTime ut = SimpleUT.at(posix);
+            ZonalTransition current = history.getStartTransition(ut);
+            Optional<ZonalTransition> next = history.findNextTransition(ut);
+            long start;
+            long end;
+            int offset;
+
+            if (current == null) {
+                offset = history.getInitialOffset().getIntegralAmount();
+                start = Long.MIN_VALUE;
+            } else {
+                offset = current.getTotalOffset();
+                start = current.getPosixTime() + Math.max(current.getPreviousOffset(), offset);
+            }
+
+            if (next.isPresent()) {
+                ZonalTransition zt = next.get();
+                end = zt.getPosixTime() + Math.min(offset, zt.getTotalOffset());
+            } else {
+                end = Long.MAX_VALUE;
+            }
+
+            return new LocalWindow(start, end, offset);
+
+        }
+
+        boolean contains(long localSeconds) {
+
+            return ((localSeconds >= this.start) && (localSeconds < this.end));
+
+        }
+
+    }
+
+    private static class LocalClock
+        implements WallTime {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private int hour;
+        private int minute;
+        private int second;
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getHour() {
+            return this.hour;
+        }
+
+        @Override
+        public int getMinute() {
+            return this.minute;
+        }
+
+        @Override
+        public int getSecond() {
+            return this.second;
+        }
+
+        @Override
+        public int getNanosecond() {
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+
+            StringBuilder sb = new StringBuilder(9);
+            sb.append('T');
+            LocalFields.appendTwoDigits(sb, this.hour);
+            if ((this.minute | this.second) != 0) { // wie PlainTime
+                sb.append(':');
+                LocalFields.appendTwoDigits(sb, this.minute);
+                if (this.second != 0) {
+                    sb.append(':');
+                    LocalFields.appendTwoDigits(sb, this.second);
+                }
+            }
+            return sb.toString();
+
+        }
+
+    }
+
+    private static class IdentityEntry {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final TZID tzid;
+        private final Timezone zone;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        IdentityEntry(
+            TZID tzid,
+            Timezone zone
+        ) {
+            super();
+
+            this.tzid = tzid;
+            this.zone = zone;
 
         }
 
@@ -1886,7 +2904,7 @@ public abstract class Timezone
 
                 if (
                     (zp == PLATFORM_PROVIDER)
-                    && (DEFAULT_PROVIDER != PLATFORM_PROVIDER)
+                    && (defaultProvider != PLATFORM_PROVIDER)
                 ) {
                     continue;
                 }
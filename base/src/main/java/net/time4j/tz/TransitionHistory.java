@@ -387,4 +387,74 @@ public interface TransitionHistory {
         return this.findStartTransition(SimpleUT.previousTime(ut));
     }
 
+    /**
+     * <p>Determines the total offsets in seconds for all given POSIX times
+     * in one bulk operation. </p>
+     *
+     * <p>This method is equivalent to calling {@code getStartTransition(ut)} for
+     * every single element but avoids creating any intermediate objects per element.
+     * Sorted input is processed most efficiently because the last found offset
+     * period is reused as long as the next POSIX time still falls into it. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch (1970-01-01T00:00Z) without leap seconds
+     * @param   offsets         output array for the total offsets in seconds
+     * @throws  IndexOutOfBoundsException if the output array is shorter than the input array
+     * @see     #getStartTransition(UnixTime)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Bestimmt die Gesamtverschiebungen in Sekunden f&uuml;r alle angegebenen
+     * POSIX-Zeiten in einer Massenoperation. </p>
+     *
+     * <p>Diese Methode ist &auml;quivalent zum Aufruf von {@code getStartTransition(ut)}
+     * f&uuml;r jedes einzelne Element, vermeidet aber die Erzeugung von Zwischenobjekten
+     * pro Element. Sortierte Eingaben werden am effizientesten verarbeitet, weil die
+     * zuletzt gefundene Verschiebungsperiode wiederverwendet wird, solange die n&auml;chste
+     * POSIX-Zeit noch darin liegt. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch (1970-01-01T00:00Z) without leap seconds
+     * @param   offsets         output array for the total offsets in seconds
+     * @throws  IndexOutOfBoundsException if the output array is shorter than the input array
+     * @see     #getStartTransition(UnixTime)
+     * @since   5.0
+     */
+    default void getOffsets(
+        long[] posixTimes,
+        int[] offsets
+    ) {
+        if (offsets.length < posixTimes.length) {
+            throw new IndexOutOfBoundsException(
+                "Output array too short: " + offsets.length + " < " + posixTimes.length);
+        }
+
+        long start = Long.MAX_VALUE; // Periode [start, end) mit konstanter Verschiebung
+        long end = Long.MIN_VALUE;
+        int total = 0;
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            long posix = posixTimes[i];
+            if ((posix < start) || (posix >= end)) {
+                UnixTime ut = SimpleUT.at(posix);
+                ZonalTransition current = this.getStartTransition(ut);
+                Optional<ZonalTransition> next = this.findNextTransition(ut);
+                if (current == null) {
+                    start = Long.MIN_VALUE;
+                    total = this.getInitialOffset().getIntegralAmount();
+                } else {
+                    start = current.getPosixTime();
+                    total = current.getTotalOffset();
+                }
+                end = (next.isPresent() ? next.get().getPosixTime() : Long.MAX_VALUE);
+                if (end <= posix) { // defensiv: keine Periode cachen
+                    offsets[i] = total;
+                    start = Long.MAX_VALUE;
+                    end = Long.MIN_VALUE;
+                    continue;
+                }
+            }
+            offsets[i] = total;
+        }
+
+    }
+
 }
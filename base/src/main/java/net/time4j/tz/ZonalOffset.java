@@ -60,6 +60,13 @@ public final class ZonalOffset
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
+    private static final int QUARTER_HOUR = 15 * 60;
+    private static final int MAX_QUARTERS = 18 * 4;
+
+    // dichtes Array aller Viertelstundenverschiebungen im Bereich +/-18h, Index = total / 900 + 72
+    private static final ZonalOffset[] QUARTER_CACHE = new ZonalOffset[2 * MAX_QUARTERS + 1];
+
+    // nur für andere integrale Verschiebungen (zum Beispiel LMT), durch den Wertebereich begrenzt
     private static final ConcurrentMap<Integer, ZonalOffset> OFFSET_CACHE = new ConcurrentHashMap<>();
 
     private static final BigDecimal DECIMAL_60 = new BigDecimal(60);
@@ -81,7 +88,11 @@ public final class ZonalOffset
 
     static {
         UTC = new ZonalOffset(0, 0);
-        OFFSET_CACHE.put(Integer.valueOf(0), UTC);
+
+        for (int i = 0; i < QUARTER_CACHE.length; i++) {
+            int total = (i - MAX_QUARTERS) * QUARTER_HOUR;
+            QUARTER_CACHE[i] = ((total == 0) ? UTC : new ZonalOffset(total, 0));
+        }
     }
 
     private static final long serialVersionUID = -1410512619471503090L;
@@ -489,19 +500,23 @@ public final class ZonalOffset
 
         if (fraction != 0) {
             return new ZonalOffset(total, fraction);
-        } else if (total == 0) {
-            return UTC;
-        } else if ((total % (15 * 60)) == 0) { // Viertelstundenintervall
+        } else if ((total % QUARTER_HOUR) == 0) { // Viertelstundenintervall
+            int index = total / QUARTER_HOUR + MAX_QUARTERS;
+            if ((index >= 0) && (index < QUARTER_CACHE.length)) {
+                return QUARTER_CACHE[index];
+            }
+            return new ZonalOffset(total, 0); // Bereichsfehler
+        } else {
             Integer value = Integer.valueOf(total);
             ZonalOffset result = OFFSET_CACHE.get(value);
             if (result == null) {
                 result = new ZonalOffset(total, 0);
-                OFFSET_CACHE.putIfAbsent(value, result);
-                result = OFFSET_CACHE.get(value);
+                ZonalOffset old = OFFSET_CACHE.putIfAbsent(value, result);
+                if (old != null) {
+                    result = old;
+                }
             }
             return result;
-        } else {
-            return new ZonalOffset(total, 0);
         }
 
     }
@@ -0,0 +1,401 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+
+/**
+ * <p>Begrenzter nebenl&auml;ufiger Zeitzonen-Cache mit Statistik. </p>
+ *
+ * <p>Lesezugriffe erfolgen sperrfrei &uuml;ber eine {@code ConcurrentHashMap}
+ * und setzen nur ein Referenzbit. Einf&uuml;gungen werden auf mehrere Segmente
+ * verteilt, die jeweils einen eigenen Ring mit CLOCK-Verdr&auml;ngung (zweite
+ * Chance) f&uuml;hren, so da&szlig; es keine globale Sperre gibt. Die Eintr&auml;ge
+ * sind stark referenziert und werden deshalb unter Speicherdruck nicht von der
+ * Garbage Collection entfernt. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ * @doctags.concurrency {threadsafe}
+ */
+final class ZoneCache {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int SEGMENT_COUNT = 16;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ConcurrentMap<String, Node> map;
+    private final Segment[] segments;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Erzeugt einen neuen Cache mit der angegebenen Kapazit&auml;t. </p>
+     *
+     * @param   capacity    maximum count of cached zones
+     */
+    ZoneCache(int capacity) {
+        super();
+
+        this.map = new ConcurrentHashMap<>();
+        this.segments = new Segment[SEGMENT_COUNT];
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+
+        int size = segmentSize(capacity);
+
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            this.segments[i] = new Segment(size);
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Sucht die zur angegebenen Zeitzonen-ID passende Zeitzone. </p>
+     *
+     * @param   zoneID  canonical timezone identifier
+     * @return  cached timezone or {@code null}
+     */
+    Timezone get(String zoneID) {
+
+        Node node = this.map.get(zoneID);
+
+        if (node == null) {
+            this.misses.increment();
+            return null;
+        }
+
+        if (!node.referenced) {
+            node.referenced = true; // nur bei Bedarf schreiben (weniger Cache-Line-Konflikte)
+        }
+
+        this.hits.increment();
+        return node.zone;
+
+    }
+
+    /**
+     * <p>Speichert die angegebene Zeitzone, falls noch keine andere Zeitzone
+     * unter derselben ID registriert ist. </p>
+     *
+     * @param   zoneID  canonical timezone identifier
+     * @param   tz      timezone to be cached
+     * @return  the cached timezone which is either the argument or an older registered instance
+     */
+    Timezone putIfAbsent(
+        String zoneID,
+        Timezone tz
+    ) {
+
+        Segment segment = this.segmentOf(zoneID);
+
+        synchronized (segment) {
+            Node old = this.map.get(zoneID);
+            if (old != null) {
+                return old.zone;
+            }
+            Node node = new Node(zoneID, tz);
+            if (segment.count < segment.ring.length) {
+                segment.ring[segment.count++] = node;
+            } else {
+                this.evict(segment);
+                segment.ring[segment.hand] = node;
+                segment.hand = (segment.hand + 1) % segment.ring.length;
+            }
+            this.map.put(zoneID, node);
+        }
+
+        return tz;
+
+    }
+
+    /**
+     * <p>Entfernt den Eintrag zur angegebenen Zeitzonen-ID, falls vorhanden. </p>
+     *
+     * @param   zoneID  canonical timezone identifier
+     */
+    void remove(String zoneID) {
+
+        Segment segment = this.segmentOf(zoneID);
+
+        synchronized (segment) {
+            for (int i = 0; i < segment.count; i++) {
+                if (segment.ring[i].key.equals(zoneID)) {
+                    this.unlink(segment, i);
+                    return;
+                }
+            }
+        }
+
+    }
+
+    /**
+     * <p>Entfernt alle Eintr&auml;ge, deren Zeitzonen-IDs die angegebene Bedingung
+     * erf&uuml;llen. </p>
+     *
+     * @param   filter  condition for timezone identifiers to be removed
+     * @return  count of removed entries
+     */
+    int removeIf(Predicate<? super String> filter) {
+
+        int removed = 0;
+
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                int i = 0;
+                while (i < segment.count) {
+                    if (filter.test(segment.ring[i].key)) {
+                        this.unlink(segment, i);
+                        removed++;
+                    } else {
+                        i++;
+                    }
+                }
+            }
+        }
+
+        return removed;
+
+    }
+
+    /**
+     * <p>Entfernt alle Eintr&auml;ge. </p>
+     */
+    void clear() {
+
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                for (int i = 0; i < segment.count; i++) {
+                    this.map.remove(segment.ring[i].key);
+                    segment.ring[i] = null;
+                }
+                segment.count = 0;
+                segment.hand = 0;
+            }
+        }
+
+    }
+
+    /**
+     * <p>&Auml;ndert die Kapazit&auml;t, wobei bei einer Verkleinerung
+     * &uuml;berz&auml;hlige Eintr&auml;ge verdr&auml;ngt werden. </p>
+     *
+     * @param   capacity    new maximum count of cached zones
+     */
+    void setCapacity(int capacity) {
+
+        int size = segmentSize(capacity);
+
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                if (size == segment.ring.length) {
+                    continue;
+                }
+                while (segment.count > size) {
+                    this.evict(segment);
+                    int last = segment.count - 1;
+                    segment.ring[segment.hand] = segment.ring[last];
+                    segment.ring[last] = null;
+                    segment.count = last;
+                    segment.hand = 0;
+                }
+                Node[] ring = new Node[size];
+                System.arraycopy(segment.ring, 0, ring, 0, segment.count);
+                segment.ring = ring;
+                segment.hand = 0;
+            }
+        }
+
+    }
+
+    /**
+     * <p>Liefert die aktuelle Kapazit&auml;t. </p>
+     *
+     * @return  int
+     */
+    int getCapacity() {
+
+        return this.segments[0].ring.length * SEGMENT_COUNT;
+
+    }
+
+    /**
+     * <p>Liefert die aktuelle Anzahl der Eintr&auml;ge. </p>
+     *
+     * @return  int
+     */
+    int size() {
+
+        return this.map.size();
+
+    }
+
+    /**
+     * <p>Anzahl der Treffer. </p>
+     *
+     * @return  long
+     */
+    long getHitCount() {
+
+        return this.hits.sum();
+
+    }
+
+    /**
+     * <p>Anzahl der Fehlversuche. </p>
+     *
+     * @return  long
+     */
+    long getMissCount() {
+
+        return this.misses.sum();
+
+    }
+
+    /**
+     * <p>Anzahl der verdr&auml;ngten Eintr&auml;ge. </p>
+     *
+     * @return  long
+     */
+    long getEvictionCount() {
+
+        return this.evictions.sum();
+
+    }
+
+    // Aufruf nur im synchronisierten Segment mit vollem Ring, Ergebnis ist der verdrängte Knoten
+    private Node evict(Segment segment) {
+
+        Node[] ring = segment.ring;
+        int n = segment.count;
+
+        while (true) {
+            Node candidate = ring[segment.hand];
+            if (candidate.referenced) {
+                candidate.referenced = false; // zweite Chance
+                segment.hand = (segment.hand + 1) % n;
+            } else {
+                this.map.remove(candidate.key, candidate);
+                this.evictions.increment();
+                return candidate;
+            }
+        }
+
+    }
+
+    // Aufruf nur im synchronisierten Segment, der letzte Knoten rückt an die freie Position
+    private void unlink(
+        Segment segment,
+        int index
+    ) {
+
+        Node node = segment.ring[index];
+        int last = segment.count - 1;
+        segment.ring[index] = segment.ring[last];
+        segment.ring[last] = null;
+        segment.count = last;
+
+        if (segment.hand >= last) {
+            segment.hand = 0;
+        }
+
+        this.map.remove(node.key, node);
+
+    }
+
+    private Segment segmentOf(String zoneID) {
+
+        int h = zoneID.hashCode();
+        h ^= (h >>> 16);
+        return this.segments[h & (SEGMENT_COUNT - 1)];
+
+    }
+
+    private static int segmentSize(int capacity) {
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative timezone cache capacity: " + capacity);
+        }
+
+        return Math.max(1, (capacity + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Node {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String key;
+        private final Timezone zone;
+        private volatile boolean referenced;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Node(
+            String key,
+            Timezone zone
+        ) {
+            super();
+
+            this.key = key;
+            this.zone = zone;
+
+        }
+
+    }
+
+    private static class Segment {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private Node[] ring;
+        private int count;
+        private int hand;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Segment(int size) {
+            super();
+
+            this.ring = new Node[size];
+            this.count = 0;
+            this.hand = 0;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneChangeListener.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import java.util.Set;
+
+
+/**
+ * <p>Callback which is informed about changed timezone data after a dynamic update
+ * of a {@code ZoneModelProvider}. </p>
+ *
+ * <p>Listeners can selectively invalidate their own zone-related caches instead of
+ * discarding all data. They are called in the thread which performs the update,
+ * after the new data have been published and outside of any internal lock, so
+ * they may use {@link Timezone.Cache} themselves. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     Timezone.Cache#update(ZoneModelProvider)
+ * @see     Timezone.Cache#addChangeListener(ZoneChangeListener)
+ * @since   5.0
+ * @doctags.spec    All implementations must be thread-safe.
+ */
+/*[deutsch]
+ * <p>R&uuml;ckruf, der &uuml;ber ge&auml;nderte Zeitzonendaten nach einer dynamischen
+ * Aktualisierung eines {@code ZoneModelProvider} informiert wird. </p>
+ *
+ * <p>Beobachter k&ouml;nnen ihre eigenen zeitzonenbezogenen Caches gezielt
+ * invalidieren, statt alle Daten zu verwerfen. Sie werden in dem Thread aufgerufen,
+ * der die Aktualisierung durchf&uuml;hrt, nachdem die neuen Daten ver&ouml;ffentlicht
+ * wurden, und au&szlig;erhalb jeder internen Sperre, so da&szlig; sie selbst
+ * {@link Timezone.Cache} benutzen d&uuml;rfen. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     Timezone.Cache#update(ZoneModelProvider)
+ * @see     Timezone.Cache#addChangeListener(ZoneChangeListener)
+ * @since   5.0
+ * @doctags.spec    All implementations must be thread-safe.
+ */
+@FunctionalInterface
+public interface ZoneChangeListener {
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Informs about all timezones whose data have changed. </p>
+     *
+     * <p>The set contains the identifiers of all zones whose transition history
+     * has changed, including added and removed zones and aliases which refer to
+     * any changed zone. </p>
+     *
+     * @param   provider        name of updated zone model provider
+     * @param   changedZones    unmodifiable set of changed timezone identifiers (never empty)
+     */
+    /*[deutsch]
+     * <p>Informiert &uuml;ber alle Zeitzonen, deren Daten sich ge&auml;ndert haben. </p>
+     *
+     * <p>Die Menge enth&auml;lt die Kennungen aller Zonen, deren &Uuml;bergangshistorie
+     * sich ge&auml;ndert hat, einschlie&szlig;lich hinzugef&uuml;gter und entfernter Zonen
+     * sowie Aliasnamen, die auf eine ge&auml;nderte Zone verweisen. </p>
+     *
+     * @param   provider        name of updated zone model provider
+     * @param   changedZones    unmodifiable set of changed timezone identifiers (never empty)
+     */
+    void zonesChanged(
+        String provider,
+        Set<TZID> changedZones
+    );
+
+}
@@ -60,6 +60,12 @@ final class ArrayTransitionModel
     private transient final ZonalTransition[] transitions;
     private transient final boolean negativeDST;
 
+    // flache Kopie der Übergangsdaten für binäre Suchen ohne Objektzugriffe
+    private transient final long[] posixTimes;
+    private transient final long[] localLimits;
+    private transient final int[] totalOffsets;
+    private transient final int[] previousOffsets;
+
     // Cache
     private transient final List<ZonalTransition> stdTransitions;
     private transient int hash = 0;
@@ -103,10 +109,22 @@ final class ArrayTransitionModel
         }
 
         this.transitions = tmp;
+        this.posixTimes = new long[n];
+        this.localLimits = new long[n];
+        this.totalOffsets = new int[n];
+        this.previousOffsets = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            ZonalTransition zt = tmp[i];
+            this.posixTimes[i] = zt.getPosixTime();
+            this.totalOffsets[i] = zt.getTotalOffset();
+            this.previousOffsets[i] = zt.getPreviousOffset();
+            this.localLimits[i] = zt.getPosixTime() + Math.max(zt.getTotalOffset(), zt.getPreviousOffset());
+        }
 
         // fill standard transition cache
         long end = TransitionModel.getFutureMoment(1);
-        this.stdTransitions = getTransitions(this.transitions, 0L, end);
+        this.stdTransitions = this.getTransitions(0L, end);
 
     }
 
@@ -115,15 +133,14 @@ final class ArrayTransitionModel
     @Override
     public ZonalOffset getInitialOffset() {
 
-        return ZonalOffset.ofTotalSeconds(
-            this.transitions[0].getPreviousOffset());
+        return ZonalOffset.ofTotalSeconds(this.previousOffsets[0]);
 
     }
 
     @Override
     public ZonalTransition getStartTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = search(ut.getPosixTime(), this.posixTimes);
 
         return (
             (index == 0)
@@ -132,6 +149,16 @@ final class ArrayTransitionModel
 
     }
 
+    @Override
+    public void getOffsets(
+        long[] posixTimes,
+        int[] offsets
+    ) {
+
+        this.getOffsets(posixTimes, offsets, null);
+
+    }
+
     @Override
     public ZonalTransition getConflictTransition(
         GregorianDate localDate,
@@ -145,7 +172,7 @@ final class ArrayTransitionModel
     @Override
     public Optional<ZonalTransition> findNextTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = search(ut.getPosixTime(), this.posixTimes);
 
         return (
             (index == this.transitions.length)
@@ -177,8 +204,7 @@ final class ArrayTransitionModel
         UnixTime endExclusive
     ) {
 
-        return getTransitions(
-            this.transitions,
+        return this.getTransitions(
             startInclusive.getPosixTime(),
             endExclusive.getPosixTime());
 
@@ -257,7 +283,7 @@ final class ArrayTransitionModel
     ) {
 
         long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
-        int index = searchLocal(localSecs, this.transitions);
+        int index = search(localSecs, this.localLimits);
 
         if (index == this.transitions.length) {
             return (
@@ -266,17 +292,19 @@ final class ArrayTransitionModel
                 : ruleModel.getConflictTransition(localDate, localSecs));
         }
 
-        ZonalTransition test = this.transitions[index];
+        long posix = this.posixTimes[index];
+        int total = this.totalOffsets[index];
+        int previous = this.previousOffsets[index];
 
-        if (test.isGap()) {
-            assert (test.getPosixTime() + test.getTotalOffset() > localSecs);
-            if (test.getPosixTime() + test.getPreviousOffset() <= localSecs) {
-                return test;
+        if (total > previous) { // gap
+            assert (posix + total > localSecs);
+            if (posix + previous <= localSecs) {
+                return this.transitions[index];
             }
-        } else if (test.isOverlap()) {
-            assert (test.getPosixTime() + test.getPreviousOffset() > localSecs);
-            if (test.getPosixTime() + test.getTotalOffset() <= localSecs) {
-                return test;
+        } else if (total < previous) { // overlap
+            assert (posix + previous > localSecs);
+            if (posix + total <= localSecs) {
+                return this.transitions[index];
             }
         }
 
@@ -284,6 +312,62 @@ final class ArrayTransitionModel
 
     }
 
+    /**
+     * <p>Wird von {@link #getOffsets(long[], int[])} aufgerufen. </p>
+     *
+     * <p>Der Index des n&auml;chsten &Uuml;bergangs wird als Cursor mitgef&uuml;hrt,
+     * so da&szlig; sortierte Eingaben meist ohne bin&auml;re Suche auskommen. </p>
+     *
+     * @param   posixTimes  elapsed seconds since UNIX epoch
+     * @param   offsets     output array for total offsets
+     * @param   ruleModel   optional last rules
+     */
+    void getOffsets(
+        long[] posixTimes,
+        int[] offsets,
+        RuleBasedTransitionModel ruleModel // from CompositeTransitionModel
+    ) {
+
+        if (offsets.length < posixTimes.length) {
+            throw new IndexOutOfBoundsException(
+                "Output array too short: " + offsets.length + " < " + posixTimes.length);
+        }
+
+        long[] times = this.posixTimes;
+        int n = times.length;
+        int index = -1; // Index des ersten Übergangs nach der aktuellen POSIX-Zeit
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            long posix = posixTimes[i];
+
+            if (
+                (index < 0)
+                || ((index > 0) && (posix < times[index - 1]))
+                || ((index < n) && (posix >= times[index]))
+            ) {
+                if (
+                    (index >= 0)
+                    && (index < n)
+                    && (posix >= times[index])
+                    && ((index + 1 == n) || (posix < times[index + 1]))
+                ) {
+                    index++; // ein Schritt vorwärts genügt
+                } else {
+                    index = search(posix, times);
+                }
+            }
+
+            if (index == 0) {
+                offsets[i] = this.previousOffsets[0];
+            } else if ((index == n) && (ruleModel != null)) {
+                offsets[i] = ruleModel.getOffset(posix);
+            } else {
+                offsets[i] = this.totalOffsets[index - 1];
+            }
+        }
+
+    }
+
     /**
      * <p>Wird von {@link #getValidOffsets(GregorianDate, WallTime)}
      * aufgerufen. </p>
@@ -300,35 +384,33 @@ final class ArrayTransitionModel
     ) {
 
         long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
-        int index = searchLocal(localSecs, this.transitions);
+        int index = search(localSecs, this.localLimits);
 
         if (index == this.transitions.length) {
             if (ruleModel == null) {
-                ZonalTransition last =
-                    this.transitions[this.transitions.length - 1];
-                return TransitionModel.toList(last.getTotalOffset());
+                return TransitionModel.toList(this.totalOffsets[index - 1]);
             } else {
                 return ruleModel.getValidOffsets(localDate, localSecs);
             }
         }
 
-        ZonalTransition test = this.transitions[index];
+        long posix = this.posixTimes[index];
+        int total = this.totalOffsets[index];
+        int previous = this.previousOffsets[index];
 
-        if (test.isGap()) {
-            assert (test.getPosixTime() + test.getTotalOffset() > localSecs);
-            if (test.getPosixTime() + test.getPreviousOffset() <= localSecs) {
+        if (total > previous) { // gap
+            assert (posix + total > localSecs);
+            if (posix + previous <= localSecs) {
                 return Collections.emptyList();
             }
-        } else if (test.isOverlap()) {
-            assert (test.getPosixTime() + test.getPreviousOffset() > localSecs);
-            if (test.getPosixTime() + test.getTotalOffset() <= localSecs) {
-                return TransitionModel.toList(
-                    test.getTotalOffset(),
-                    test.getPreviousOffset());
+        } else if (total < previous) { // overlap
+            assert (posix + previous > localSecs);
+            if (posix + total <= localSecs) {
+                return TransitionModel.toList(total, previous);
             }
         }
 
-        return TransitionModel.toList(test.getPreviousOffset());
+        return TransitionModel.toList(previous);
 
     }
 
@@ -434,8 +516,7 @@ final class ArrayTransitionModel
 
     }
 
-    private static List<ZonalTransition> getTransitions(
-        ZonalTransition[] transitions,
+    private List<ZonalTransition> getTransitions(
         long startInclusive,
         long endExclusive
     ) {
@@ -444,18 +525,18 @@ final class ArrayTransitionModel
             throw new IllegalArgumentException("Start after end.");
         }
 
-        int i1 = search(startInclusive, transitions);
-        int i2 = search(endExclusive, transitions);
+        int i1 = search(startInclusive, this.posixTimes);
+        int i2 = search(endExclusive, this.posixTimes);
 
         if (i2 == 0) {
             return Collections.emptyList();
-        } else if ((i1 > 0) && (transitions[i1 - 1].getPosixTime() == startInclusive)) {
+        } else if ((i1 > 0) && (this.posixTimes[i1 - 1] == startInclusive)) {
             i1--;
         }
 
         i2--;
 
-        if (transitions[i2].getPosixTime() == endExclusive) {
+        if (this.posixTimes[i2] == endExclusive) {
             i2--;
         }
 
@@ -464,51 +545,26 @@ final class ArrayTransitionModel
         } else {
             List<ZonalTransition> result = new ArrayList<>(i2 - i1 + 1);
             for (int i = i1; i <= i2; i++) {
-                result.add(transitions[i]);
+                result.add(this.transitions[i]);
             }
             return Collections.unmodifiableList(result);
         }
 
     }
 
-    // returns index of first transition after posixTime
+    // returns index of first array element after given key (posix time or local seconds)
     private static int search(
-        long posixTime,
-        ZonalTransition[] transitions
-    ) {
-
-        int low = 0;
-        int high = transitions.length - 1;
-
-        while (low <= high) {
-            int middle = (low + high) / 2;
-
-            if (transitions[middle].getPosixTime() <= posixTime) {
-                low = middle + 1;
-            } else {
-                high = middle - 1;
-            }
-        }
-
-        return low;
-
-    }
-
-    // returns index of first transition after local date and time
-    private static int searchLocal(
-        long localSecs,
-        ZonalTransition[] transitions
+        long key,
+        long[] values
     ) {
 
         int low = 0;
-        int high = transitions.length - 1;
+        int high = values.length - 1;
 
         while (low <= high) {
-            int middle = (low + high) / 2;
-            ZonalTransition zt = transitions[middle];
-            int offset = Math.max(zt.getTotalOffset(), zt.getPreviousOffset());
+            int middle = (low + high) >>> 1;
 
-            if (zt.getPosixTime() + offset <= localSecs) {
+            if (values[middle] <= key) {
                 low = middle + 1;
             } else {
                 high = middle - 1;
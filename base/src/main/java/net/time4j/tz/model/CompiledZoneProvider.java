@@ -0,0 +1,486 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CompiledZoneProvider.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.model;
+
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZoneModelProvider;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+
+/**
+ * <p>Zone model provider which reads all zones from a compact binary file
+ * compiled in advance. </p>
+ *
+ * <p>The file is memory-mapped when opened. Only its header with the alias
+ * table and the index of zone identifiers is read eagerly. A single zone is
+ * decoded not before it is loaded for the first time. The transitions and
+ * rules of every zone are stored in the same bit-compressed form which is
+ * also used for the serialization of transition models. </p>
+ *
+ * <p>A compiled file is created from any other provider, for example the
+ * provider based on the tzdb.dat-repository of the JDK: </p>
+ *
+ * <pre>
+ *  CompiledZoneProvider.compile(new JdkZoneProviderSPI(), Paths.get(&quot;tzdata.t4j&quot;));
+ * </pre>
+ *
+ * <p>The compiled provider keeps name and version of its source and can then
+ * be registered before any other Time4J-code is executed: </p>
+ *
+ * <pre>
+ *  ResourceLoader.getInstance().registerService(
+ *      ZoneModelProvider.class,
+ *      CompiledZoneProvider.open(Paths.get(&quot;tzdata.t4j&quot;)));
+ * </pre>
+ *
+ * <p>So tzdata-updates can be shipped as one single file. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Zeitzonen-Provider, der alle Zeitzonen aus einer im voraus kompilierten
+ * kompakten Bin&auml;rdatei liest. </p>
+ *
+ * <p>Die Datei wird beim &Ouml;ffnen in den Speicher abgebildet (<i>memory-mapped</i>).
+ * Nur ihr Kopf mit der Alias-Tabelle und dem Index der Zeitzonenkennungen wird
+ * sofort gelesen. Eine einzelne Zeitzone wird erst dann dekodiert, wenn sie zum
+ * ersten Mal geladen wird. Die &Uuml;berg&auml;nge und Regeln jeder Zeitzone werden in
+ * derselben bit-komprimierten Form gespeichert, die auch f&uuml;r die Serialisierung
+ * von &Uuml;bergangsmodellen verwendet wird. </p>
+ *
+ * <p>Eine kompilierte Datei wird aus einem beliebigen anderen Provider erzeugt,
+ * zum Beispiel aus dem Provider, der auf dem tzdb.dat-Repositorium des JDK beruht: </p>
+ *
+ * <pre>
+ *  CompiledZoneProvider.compile(new JdkZoneProviderSPI(), Paths.get(&quot;tzdata.t4j&quot;));
+ * </pre>
+ *
+ * <p>Der kompilierte Provider &uuml;bernimmt Name und Version seiner Quelle und
+ * kann dann registriert werden, bevor irgendein anderer Time4J-Code ausgef&uuml;hrt
+ * wird: </p>
+ *
+ * <pre>
+ *  ResourceLoader.getInstance().registerService(
+ *      ZoneModelProvider.class,
+ *      CompiledZoneProvider.open(Paths.get(&quot;tzdata.t4j&quot;)));
+ * </pre>
+ *
+ * <p>So k&ouml;nnen tzdata-Aktualisierungen als eine einzige Datei ausgeliefert
+ * werden. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ * @doctags.concurrency {immutable}
+ */
+public final class CompiledZoneProvider
+    implements ZoneModelProvider {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MAGIC = 0x54344A5A; // "T4JZ"
+    private static final int FORMAT_VERSION = 1;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final String name;
+    private final String version;
+    private final String location;
+    private final Map<String, String> aliases;
+    private final Map<String, long[]> index; // zoneID => {Position, Länge}
+    private final ByteBuffer data;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CompiledZoneProvider(
+        String name,
+        String version,
+        String location,
+        Map<String, String> aliases,
+        Map<String, long[]> index,
+        ByteBuffer data
+    ) {
+        super();
+
+        this.name = name;
+        this.version = version;
+        this.location = location;
+        this.aliases = Collections.unmodifiableMap(aliases);
+        this.index = Collections.unmodifiableMap(index);
+        this.data = data;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Opens given compiled file and maps it into memory. </p>
+     *
+     * @param   file    compiled zone file
+     * @return  new provider reading zones from given file
+     * @throws  IOException if the file cannot be read or has a wrong format
+     * @see     #compile(ZoneModelProvider, Path)
+     */
+    /*[deutsch]
+     * <p>&Ouml;ffnet die angegebene kompilierte Datei und bildet sie in den
+     * Speicher ab. </p>
+     *
+     * @param   file    compiled zone file
+     * @return  new provider reading zones from given file
+     * @throws  IOException if the file cannot be read or has a wrong format
+     * @see     #compile(ZoneModelProvider, Path)
+     */
+    public static CompiledZoneProvider open(Path file) throws IOException {
+
+        ByteBuffer buffer;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new StreamCorruptedException("Not a compiled zone file: " + file);
+            }
+
+            int formatVersion = buffer.get();
+
+            if (formatVersion != FORMAT_VERSION) {
+                throw new StreamCorruptedException("Unsupported format version: " + formatVersion);
+            }
+
+            String name = readString(buffer);
+            String version = readString(buffer);
+            int aliasCount = buffer.getInt();
+            Map<String, String> aliases = new HashMap<>(aliasCount * 2);
+
+            for (int i = 0; i < aliasCount; i++) {
+                String alias = readString(buffer);
+                aliases.put(alias, readString(buffer));
+            }
+
+            int zoneCount = buffer.getInt();
+            Map<String, long[]> index = new HashMap<>(zoneCount * 2);
+            long pos = 0;
+
+            for (int i = 0; i < zoneCount; i++) {
+                String zoneID = readString(buffer);
+                int len = buffer.getInt();
+                index.put(zoneID, new long[] {pos, len});
+                pos += len;
+            }
+
+            ByteBuffer data = buffer.slice();
+
+            if (pos != data.remaining()) {
+                throw new StreamCorruptedException("Inconsistent size of zone data: " + file);
+            }
+
+            return new CompiledZoneProvider(name, version, file.toString(), aliases, index, data);
+        } catch (RuntimeException ex) { // BufferUnderflowException etc.
+            throw new StreamCorruptedException("Corrupt compiled zone file: " + file + " (" + ex + ")");
+        }
+
+    }
+
+    /**
+     * <p>Compiles all zones of given source provider into a binary file which can
+     * be opened by {@link #open(Path)}. </p>
+     *
+     * <p>Zones which cannot be loaded by the source provider will be skipped.
+     * The name, version and aliases of the source provider will also be stored.
+     * Only the standard transition models of this package can be compiled, other
+     * histories or daylight saving rules will be rejected. </p>
+     *
+     * @param   source  the provider whose zones shall be compiled
+     * @param   target  the compiled file to be created or overwritten
+     * @throws  IOException if writing fails or if any history is not a standard model
+     */
+    /*[deutsch]
+     * <p>Kompiliert alle Zeitzonen des angegebenen Quell-Providers in eine
+     * Bin&auml;rdatei, die mit {@link #open(Path)} ge&ouml;ffnet werden kann. </p>
+     *
+     * <p>Zeitzonen, die der Quell-Provider nicht laden kann, werden &uuml;bersprungen.
+     * Name, Version und Aliasnamen des Quell-Providers werden ebenfalls gespeichert.
+     * Nur die Standardmodelle dieses Pakets k&ouml;nnen kompiliert werden, andere
+     * Historien oder Sommerzeitregeln werden abgelehnt. </p>
+     *
+     * @param   source  the provider whose zones shall be compiled
+     * @param   target  the compiled file to be created or overwritten
+     * @throws  IOException if writing fails or if any history is not a standard model
+     */
+    public static void compile(
+        ZoneModelProvider source,
+        Path target
+    ) throws IOException {
+
+        Map<String, byte[]> zones = new TreeMap<>();
+
+        for (String zoneID : source.getAvailableIDs()) {
+            TransitionHistory history;
+            try {
+                history = source.load(zoneID);
+            } catch (IllegalArgumentException ex) {
+                continue;
+            }
+            if (history != null) {
+                ByteArrayOutputStream baos = new ByteArrayOutputStream(256);
+                try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+                    SPX.writeHistory(history, oos);
+                }
+                zones.put(zoneID, baos.toByteArray());
+            }
+        }
+
+        Map<String, String> aliases = new TreeMap<>(source.getAliases());
+
+        try (
+            OutputStream os = Files.newOutputStream(target);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))
+        ) {
+            out.writeInt(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            writeString(out, source.getName());
+            writeString(out, source.getVersion());
+            out.writeInt(aliases.size());
+            for (Map.Entry<String, String> entry : aliases.entrySet()) {
+                writeString(out, entry.getKey());
+                writeString(out, entry.getValue());
+            }
+            out.writeInt(zones.size());
+            for (Map.Entry<String, byte[]> entry : zones.entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeInt(entry.getValue().length);
+            }
+            for (byte[] bytes : zones.values()) {
+                out.write(bytes);
+            }
+        }
+
+    }
+
+    @Override
+    public Set<String> getAvailableIDs() {
+
+        return this.index.keySet();
+
+    }
+
+    @Override
+    public Map<String, String> getAliases() {
+
+        return this.aliases;
+
+    }
+
+    @Override
+    public String getFallback() {
+
+        return "";
+
+    }
+
+    @Override
+    public String getName() {
+
+        return this.name;
+
+    }
+
+    @Override
+    public String getLocation() {
+
+        return this.location;
+
+    }
+
+    @Override
+    public String getVersion() {
+
+        return this.version;
+
+    }
+
+    @Override
+    public TransitionHistory load(String zoneID) {
+
+        long[] entry = this.index.get(zoneID);
+
+        if (entry == null) {
+            return null;
+        }
+
+        ByteBuffer buffer = this.data.duplicate();
+        buffer.position((int) entry[0]);
+        buffer.limit((int) (entry[0] + entry[1]));
+
+        try (ObjectInputStream ois = new RestrictedInput(new BufferInput(buffer))) {
+            return SPX.readHistory(ois);
+        } catch (IOException | ClassNotFoundException ex) {
+            throw new IllegalStateException("Cannot decode compiled zone: " + zoneID, ex);
+        }
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "CompiledZoneProvider[name=" + this.name + ",version=" + this.version
+            + ",location=" + this.location + ",zones=" + this.index.size() + "]";
+
+    }
+
+    private static String readString(ByteBuffer buffer) {
+
+        int len = buffer.getShort() & 0xFFFF;
+        byte[] bytes = new byte[len];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+
+    }
+
+    private static void writeString(
+        DataOutputStream out,
+        String value
+    ) throws IOException {
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        if (bytes.length > 0xFFFF) {
+            throw new IOException("String too long: " + value.substring(0, 32) + "...");
+        }
+
+        out.writeShort(bytes.length);
+        out.write(bytes);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Liest nur primitive Daten und verweigert jede Java-Deserialisierung von Objekten. </p>
+     */
+    private static class RestrictedInput
+        extends ObjectInputStream {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        RestrictedInput(InputStream in) throws IOException {
+            super(in);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException {
+
+            throw new InvalidClassException(desc.getName(), "Objects not allowed in compiled zone file.");
+
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+
+            throw new InvalidClassException("Proxy objects not allowed in compiled zone file.");
+
+        }
+
+    }
+
+    private static class BufferInput
+        extends InputStream {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ByteBuffer buffer;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        BufferInput(ByteBuffer buffer) {
+            super();
+
+            this.buffer = buffer;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int read() {
+
+            return (this.buffer.hasRemaining() ? (this.buffer.get() & 0xFF) : -1);
+
+        }
+
+        @Override
+        public int read(
+            byte[] b,
+            int off,
+            int len
+        ) {
+
+            if (len == 0) {
+                return 0;
+            } else if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+
+            int n = Math.min(len, this.buffer.remaining());
+            this.buffer.get(b, off, n);
+            return n;
+
+        }
+
+        @Override
+        public int available() {
+
+            return this.buffer.remaining();
+
+        }
+
+    }
+
+}
@@ -104,6 +104,16 @@ final class CompositeTransitionModel
 
     }
 
+    @Override
+    public void getOffsets(
+        long[] posixTimes,
+        int[] offsets
+    ) {
+
+        this.arrayModel.getOffsets(posixTimes, offsets, this.ruleModel);
+
+    }
+
     @Override
     public ZonalTransition getConflictTransition(
         GregorianDate localDate,
@@ -180,6 +190,16 @@ final class CompositeTransitionModel
 
     }
 
+    @Override
+    public void preload(
+        int fromYear,
+        int toYear
+    ) {
+
+        this.ruleModel.preload(fromYear, toYear);
+
+    }
+
     @Override
     public boolean equals(Object obj) {
 
@@ -40,8 +40,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -57,13 +55,30 @@ final class RuleBasedTransitionModel
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
+    private static final int FIRST_CACHED_YEAR = 1970;
     private static final int LAST_CACHED_YEAR;
+    private static final int OUTER_SLOTS = 16; // power of two
+    private static final long SECONDS_PER_YEAR = 31_556_952L; // mean gregorian year
+
+    // UTC-Sekunden seit 1970 zum jeweiligen Jahresbeginn von FIRST_CACHED_YEAR bis LAST_CACHED_YEAR + 1
+    private static final long[] YEAR_STARTS;
 
     static {
-        long ly = TransitionModel.getFutureMoment(100);
-        long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(ly, EpochDays.UNIX);
+        int futureYears = Math.max(0, Math.min(1000, Integer.getInteger("net.time4j.tz.model.cached.years", 100)));
+        long ly = TransitionModel.getFutureMoment(futureYears);
+        long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(Math.floorDiv(ly, 86400), EpochDays.UNIX);
         LAST_CACHED_YEAR =
             GregorianMath.readYear(GregorianMath.toPackedDate(mjd));
+
+        YEAR_STARTS = new long[LAST_CACHED_YEAR - FIRST_CACHED_YEAR + 2];
+
+        for (int i = 0; i < YEAR_STARTS.length; i++) {
+            long days =
+                EpochDays.UNIX.transform(
+                    GregorianMath.toMJD(FIRST_CACHED_YEAR + i, 1, 1),
+                    EpochDays.MODIFIED_JULIAN_DATE);
+            YEAR_STARTS[i] = days * 86400;
+        }
     }
 
     private static final long serialVersionUID = 2456700806862862287L;
@@ -73,10 +88,17 @@ final class RuleBasedTransitionModel
     private transient final ZonalTransition initial;
     private transient final List<DaylightSavingRule> rules;
 
-    private transient final ConcurrentMap<Integer, List<ZonalTransition>> tCache = new ConcurrentHashMap<>();
     private transient final List<ZonalTransition> stdTransitions;
     private transient final boolean gregorian;
 
+    // Offsets je Regelindex (jahresunabhängig)
+    private transient final int[] previousOffsets;
+    private transient final int[] totalOffsets;
+
+    // Jahrestabelle: feste Fenster-Slots und wenige verdrängbare Slots für entfernte Jahre
+    private transient final YearEntry[] yearTable;
+    private transient final YearEntry[] outerTable;
+
     //~ Konstruktoren -----------------------------------------------------
 
     RuleBasedTransitionModel(
@@ -128,14 +150,12 @@ final class RuleBasedTransitionModel
         sortedRules.sort(RuleComparator.INSTANCE);
         String calendarType = null;
 
-        if (sortedRules.size() > 1) {
-            for (DaylightSavingRule rule : sortedRules) {
-                if (calendarType == null) {
-                    calendarType = rule.getCalendarType();
-                } else if (!calendarType.equals(rule.getCalendarType())) {
-                    throw new IllegalArgumentException(
-                        "Rules with different calendar systems not permitted.");
-                }
+        for (DaylightSavingRule rule : sortedRules) {
+            if (calendarType == null) {
+                calendarType = rule.getCalendarType();
+            } else if (!calendarType.equals(rule.getCalendarType())) {
+                throw new IllegalArgumentException(
+                    "Rules with different calendar systems not permitted.");
             }
         }
 
@@ -167,6 +187,24 @@ final class RuleBasedTransitionModel
         this.initial = zt;
         this.rules = Collections.unmodifiableList(sortedRules);
 
+        int n = sortedRules.size();
+        int stdOffset = zt.getStandardOffset();
+        this.previousOffsets = new int[n];
+        this.totalOffsets = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            this.previousOffsets[i] = stdOffset + sortedRules.get((i - 1 + n) % n).getSavings();
+            this.totalOffsets[i] = stdOffset + sortedRules.get(i).getSavings();
+        }
+
+        if (this.gregorian) {
+            this.yearTable = new YearEntry[LAST_CACHED_YEAR - FIRST_CACHED_YEAR + 1];
+            this.outerTable = new YearEntry[OUTER_SLOTS];
+        } else {
+            this.yearTable = null;
+            this.outerTable = null;
+        }
+
         // fill standard transition cache
         long end = TransitionModel.getFutureMoment(1);
         this.stdTransitions = getTransitions(this.initial, this.rules, 0L, end);
@@ -197,27 +235,26 @@ final class RuleBasedTransitionModel
         DaylightSavingRule rule = this.rules.get(0);
         DaylightSavingRule previous = this.rules.get(n - 1);
         int shift = getShift(rule, stdOffset, previous.getSavings());
-        int year = getYear(rule, ut.getPosixTime() + shift);
-        List<ZonalTransition> transitions = this.getTransitions(year);
+        long posix = ut.getPosixTime();
+        int year = this.toYear(rule, posix + shift);
+        YearEntry entry = this.getEntry(year);
 
         for (int i = 0; i < n; i++) {
-            ZonalTransition zt = transitions.get(i);
-            long tt = zt.getPosixTime();
+            long tt = entry.posixTimes[i];
 
-            if (ut.getPosixTime() < tt) {
+            if (posix < tt) {
                 if (current == null) {
-                    if (i == 0) {
-                        zt = this.getTransitions(year - 1).get(n - 1);
-                    } else {
-                        zt = transitions.get(i - 1);
-                    }
+                    ZonalTransition zt = (
+                        (i == 0)
+                        ? this.getEntry(year - 1).transitions[n - 1]
+                        : entry.transitions[i - 1]);
                     if (zt.getPosixTime() > preModel) {
                         current = zt;
                     }
                 }
                 break;
             } else if (tt > preModel) {
-                current = zt;
+                current = entry.transitions[i];
             }
         }
 
@@ -225,6 +262,23 @@ final class RuleBasedTransitionModel
 
     }
 
+    @Override
+    public void getOffsets(
+        long[] posixTimes,
+        int[] offsets
+    ) {
+
+        if (offsets.length < posixTimes.length) {
+            throw new IndexOutOfBoundsException(
+                "Output array too short: " + offsets.length + " < " + posixTimes.length);
+        }
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            offsets[i] = this.getOffset(posixTimes[i]);
+        }
+
+    }
+
     @Override
     public ZonalTransition getConflictTransition(
         GregorianDate localDate,
@@ -289,6 +343,24 @@ final class RuleBasedTransitionModel
 
     }
 
+    @Override
+    public void preload(
+        int fromYear,
+        int toYear
+    ) {
+
+        if (this.gregorian) {
+            int first = Math.max(fromYear, FIRST_CACHED_YEAR);
+            int last = Math.min(toYear, LAST_CACHED_YEAR);
+
+            // entfernte Jahre würden sich in den wenigen äußeren Slots nur gegenseitig verdrängen
+            for (int year = first; year <= last; year++) {
+                this.getEntry(year);
+            }
+        }
+
+    }
+
     @Override
     public boolean equals(Object obj) {
 
@@ -375,20 +447,24 @@ final class RuleBasedTransitionModel
             return null;
         }
 
-        for (ZonalTransition t : this.getTransitions(localDate)) {
-            long tt = t.getPosixTime();
+        YearEntry entry = this.getEntry(localDate);
+
+        for (int i = 0, n = entry.posixTimes.length; i < n; i++) {
+            long tt = entry.posixTimes[i];
+            int previous = this.previousOffsets[i];
+            int total = this.totalOffsets[i];
 
-            if (t.isGap()) {
-                if (localSecs < tt + t.getPreviousOffset()) {
-                    return null; // offset = t.getPreviousOffset()
-                } else if (localSecs < tt + t.getTotalOffset()) {
-                    return t;
+            if (total > previous) { // gap
+                if (localSecs < tt + previous) {
+                    return null; // offset = previous
+                } else if (localSecs < tt + total) {
+                    return entry.transitions[i];
                 }
-            } else if (t.isOverlap()) {
-                if (localSecs < tt + t.getTotalOffset()) {
-                    return null; // offset = t.getPreviousOffset()
-                } else if (localSecs < tt + t.getPreviousOffset()) {
-                    return t;
+            } else if (total < previous) { // overlap
+                if (localSecs < tt + total) {
+                    return null; // offset = previous
+                } else if (localSecs < tt + previous) {
+                    return entry.transitions[i];
                 }
             }
         }
@@ -410,21 +486,24 @@ final class RuleBasedTransitionModel
             return TransitionModel.toList(last);
         }
 
-        for (ZonalTransition t : this.getTransitions(localDate)) {
-            long tt = t.getPosixTime();
-            last = t.getTotalOffset();
+        YearEntry entry = this.getEntry(localDate);
+
+        for (int i = 0, n = entry.posixTimes.length; i < n; i++) {
+            long tt = entry.posixTimes[i];
+            int previous = this.previousOffsets[i];
+            last = this.totalOffsets[i];
 
-            if (t.isGap()) {
-                if (localSecs < tt + t.getPreviousOffset()) {
-                    return TransitionModel.toList(t.getPreviousOffset());
+            if (last > previous) { // gap
+                if (localSecs < tt + previous) {
+                    return TransitionModel.toList(previous);
                 } else if (localSecs < tt + last) {
                     return Collections.emptyList();
                 }
-            } else if (t.isOverlap()) {
+            } else if (last < previous) { // overlap
                 if (localSecs < tt + last) {
-                    return TransitionModel.toList(t.getPreviousOffset());
-                } else if (localSecs < tt + t.getPreviousOffset()) {
-                    return TransitionModel.toList(last, t.getPreviousOffset());
+                    return TransitionModel.toList(previous);
+                } else if (localSecs < tt + previous) {
+                    return TransitionModel.toList(last, previous);
                 }
             }
         }
@@ -561,49 +640,131 @@ final class RuleBasedTransitionModel
 
     }
 
-    private List<ZonalTransition> getTransitions(GregorianDate date) {
+    /**
+     * <p>Primitive Variante von {@link #getStartTransition(UnixTime)}, die direkt
+     * die Gesamtverschiebung zur angegebenen POSIX-Zeit liefert. </p>
+     *
+     * @param   posix   POSIX time
+     * @return  total offset in seconds
+     */
+    int getOffset(long posix) {
+
+        long preModel = this.initial.getPosixTime();
+        int offset = this.initial.getTotalOffset();
 
-        return this.getTransitions(this.rules.get(0).toCalendarYear(date));
+        if (posix <= preModel) {
+            return offset;
+        }
+
+        int stdOffset = this.initial.getStandardOffset();
+        int n = this.rules.size();
+        DaylightSavingRule rule = this.rules.get(0);
+        DaylightSavingRule previous = this.rules.get(n - 1);
+        int shift = getShift(rule, stdOffset, previous.getSavings());
+        int year = this.toYear(rule, posix + shift);
+        YearEntry entry = this.getEntry(year);
+
+        for (int i = 0; i < n; i++) {
+            long tt = entry.posixTimes[i];
+
+            if (posix < tt) {
+                if (i == 0) {
+                    if (this.getEntry(year - 1).posixTimes[n - 1] > preModel) {
+                        offset = this.totalOffsets[n - 1];
+                    }
+                } else if (entry.posixTimes[i - 1] > preModel) {
+                    offset = this.totalOffsets[i - 1];
+                }
+                break;
+            } else if (tt > preModel) {
+                offset = this.totalOffsets[i];
+            }
+        }
+
+        return offset;
 
     }
 
-    private List<ZonalTransition> getTransitions(int year) {
+    private YearEntry getEntry(GregorianDate date) {
 
-        Integer key = Integer.valueOf(year);
-        List<ZonalTransition> transitions = this.tCache.get(key);
+        return this.getEntry(this.rules.get(0).toCalendarYear(date));
 
-        if (transitions == null) {
-            List<ZonalTransition> list = new ArrayList<>();
-            int stdOffset = this.initial.getStandardOffset();
+    }
 
-            for (int i = 0, n = this.rules.size(); i < n; i++) {
-                DaylightSavingRule rule = this.rules.get(i);
-                DaylightSavingRule previous = this.rules.get((i - 1 + n) % n);
-                int shift = getShift(rule, stdOffset, previous.getSavings());
+    private YearEntry getEntry(int year) {
 
-                list.add(
-                    new ZonalTransition(
-                        getTransitionTime(rule, year, shift),
-                        stdOffset + previous.getSavings(),
-                        stdOffset + rule.getSavings(),
-                        rule.getSavings()));
+        YearEntry[] table = null;
+        int index = 0;
+
+        if (this.gregorian) {
+            if ((year >= FIRST_CACHED_YEAR) && (year <= LAST_CACHED_YEAR)) {
+                table = this.yearTable;
+                index = year - FIRST_CACHED_YEAR;
+            } else {
+                table = this.outerTable;
+                index = (year & (OUTER_SLOTS - 1));
             }
 
-            transitions = Collections.unmodifiableList(list);
+            YearEntry entry = table[index]; // benign race because of immutable entries
 
-            if (
-                (year <= LAST_CACHED_YEAR)
-                && this.gregorian
-            ) {
-                List<ZonalTransition> old =
-                    this.tCache.putIfAbsent(key, transitions);
-                if (old != null) {
-                    transitions = old;
-                }
+            if ((entry != null) && (entry.year == year)) {
+                return entry;
             }
         }
 
-        return transitions;
+        int n = this.rules.size();
+        int stdOffset = this.initial.getStandardOffset();
+        long[] posixTimes = new long[n];
+        ZonalTransition[] transitions = new ZonalTransition[n];
+
+        for (int i = 0; i < n; i++) {
+            DaylightSavingRule rule = this.rules.get(i);
+            DaylightSavingRule previous = this.rules.get((i - 1 + n) % n);
+            int shift = getShift(rule, stdOffset, previous.getSavings());
+            posixTimes[i] = getTransitionTime(rule, year, shift);
+            transitions[i] =
+                new ZonalTransition(
+                    posixTimes[i],
+                    this.previousOffsets[i],
+                    this.totalOffsets[i],
+                    rule.getSavings());
+        }
+
+        YearEntry entry = new YearEntry(year, posixTimes, transitions);
+
+        if (table != null) {
+            table[index] = entry; // far-out years just replace older entries in the same slot
+        }
+
+        return entry;
+
+    }
+
+    // avoids the calendar calculation for gregorian years inside the cached window
+    private int toYear(
+        DaylightSavingRule rule,
+        long localSecs
+    ) {
+
+        if (
+            this.gregorian
+            && (localSecs >= YEAR_STARTS[0])
+            && (localSecs < YEAR_STARTS[YEAR_STARTS.length - 1])
+        ) {
+            int i = (int) Math.min((localSecs - YEAR_STARTS[0]) / SECONDS_PER_YEAR, YEAR_STARTS.length - 2);
+
+            while (YEAR_STARTS[i] > localSecs) {
+                i--;
+            }
+
+            while (YEAR_STARTS[i + 1] <= localSecs) {
+                i++;
+            }
+
+            return FIRST_CACHED_YEAR + i;
+        }
+
+        return getYear(rule, localSecs);
 
     }
 
@@ -648,4 +809,32 @@ final class RuleBasedTransitionModel
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    // Übergänge eines Jahres, unveränderlich und daher ohne Synchronisation veröffentlichbar
+    private static final class YearEntry {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int year;
+        private final long[] posixTimes;
+        private final ZonalTransition[] transitions;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private YearEntry(
+            int year,
+            long[] posixTimes,
+            ZonalTransition[] transitions
+        ) {
+            super();
+
+            this.year = year;
+            this.posixTimes = posixTimes;
+            this.transitions = transitions;
+
+        }
+
+    }
+
 }
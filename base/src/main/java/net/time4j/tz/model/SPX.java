@@ -25,6 +25,7 @@ import net.time4j.Month;
 import net.time4j.PlainTime;
 import net.time4j.Weekday;
 import net.time4j.base.MathUtils;
+import net.time4j.tz.TransitionHistory;
 import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.ZonalTransition;
 
@@ -79,6 +80,7 @@ final class SPX
     private static final long DAYS_IN_18_BITS = 86400L * 365 * 718;
     private static final long QUARTERS_IN_24_BITS = 15040511099L;
     private static final int NO_COMPRESSION = 0;
+    private static final int FIXED_OFFSET_TYPE = 124; // nur in kompilierten Zonendateien
 
     private static final long serialVersionUID = 6526945678752534989L;
 
@@ -188,27 +190,95 @@ final class SPX
     public void readExternal(ObjectInput in)
         throws IOException, ClassNotFoundException {
 
+        int header = in.readByte();
+        this.obj = read(header, in);
+
+    }
+
+    // called by CompiledZoneProvider
+    static void writeHistory(
+        TransitionHistory history,
+        ObjectOutput out
+    ) throws IOException {
+
+        if (history instanceof RuleBasedTransitionModel) {
+            checkRules(((RuleBasedTransitionModel) history).getRules());
+            new SPX(history, RULE_BASED_TRANSITION_MODEL_TYPE).writeExternal(out);
+        } else if (history instanceof ArrayTransitionModel) {
+            new SPX(history, ARRAY_TRANSITION_MODEL_TYPE).writeExternal(out);
+        } else if (history instanceof CompositeTransitionModel) {
+            checkRules(((CompositeTransitionModel) history).getRules());
+            new SPX(history, COMPOSITE_TRANSITION_MODEL_TYPE).writeExternal(out);
+        } else if (history instanceof EmptyTransitionModel) {
+            ZonalOffset offset = history.getInitialOffset();
+            out.writeByte(FIXED_OFFSET_TYPE);
+            out.writeInt(offset.getIntegralAmount());
+            out.writeInt(offset.getFractionalAmount());
+        } else {
+            // keine Java-Serialisierung, damit das Laden einer Zonendatei keinen Code ausführen kann
+            throw new IOException("Transition history has no compressed form: " + history.getClass().getName());
+        }
+
+    }
+
+    // called by CompiledZoneProvider
+    static TransitionHistory readHistory(ObjectInput in)
+        throws IOException, ClassNotFoundException {
+
         int header = in.readByte();
 
+        switch (header) {
+            case RULE_BASED_TRANSITION_MODEL_TYPE:
+            case ARRAY_TRANSITION_MODEL_TYPE:
+            case COMPOSITE_TRANSITION_MODEL_TYPE:
+                return (TransitionHistory) read(header, in);
+            case FIXED_OFFSET_TYPE:
+                int total = in.readInt();
+                int fraction = in.readInt();
+                try {
+                    return new EmptyTransitionModel(ZonalOffset.ofTotalSeconds(total, fraction));
+                } catch (IllegalArgumentException iae) {
+                    throw new InvalidObjectException(iae.getMessage());
+                }
+            default:
+                throw new StreamCorruptedException("Unknown compiled type: " + header);
+        }
+
+    }
+
+    private static void checkRules(List<DaylightSavingRule> rules) throws IOException {
+
+        for (DaylightSavingRule rule : rules) {
+            switch (rule.getType()) {
+                case FIXED_DAY_PATTERN_TYPE:
+                case DAY_OF_WEEK_IN_MONTH_PATTERN_TYPE:
+                case LAST_WEEKDAY_PATTERN_TYPE:
+                    break;
+                default:
+                    throw new IOException("Daylight saving rule has no compressed form: " + rule.getClass().getName());
+            }
+        }
+
+    }
+
+    private static Object read(
+        int header,
+        ObjectInput in
+    ) throws IOException, ClassNotFoundException {
+
         switch (header) {
             case FIXED_DAY_PATTERN_TYPE:
-                this.obj = readFixedDayPattern(in);
-                break;
+                return readFixedDayPattern(in);
             case DAY_OF_WEEK_IN_MONTH_PATTERN_TYPE:
-                this.obj = readDayOfWeekInMonthPattern(in);
-                break;
+                return readDayOfWeekInMonthPattern(in);
             case LAST_WEEKDAY_PATTERN_TYPE:
-                this.obj = readLastDayOfWeekPattern(in);
-                break;
+                return readLastDayOfWeekPattern(in);
             case RULE_BASED_TRANSITION_MODEL_TYPE:
-                this.obj = readRuleBasedTransitionModel(in);
-                break;
+                return readRuleBasedTransitionModel(in);
             case ARRAY_TRANSITION_MODEL_TYPE:
-                this.obj = readArrayTransitionModel(in);
-                break;
+                return readArrayTransitionModel(in);
             case COMPOSITE_TRANSITION_MODEL_TYPE:
-                this.obj = readCompositeTransitionModel(in);
-                break;
+                return readCompositeTransitionModel(in);
             default:
                 throw new StreamCorruptedException("Unknown serialized type.");
         }
@@ -199,6 +199,40 @@ public abstract class TransitionModel
 
     }
 
+    /**
+     * <p>This method is only a performance hint and prepares the internal data of this
+     * model for the given range of gregorian years in advance. </p>
+     *
+     * <p>Models which keep precomputed transitions only for a limited window of years
+     * ignore all years outside of this window. The standard implementation does nothing. </p>
+     *
+     * @param   fromYear    first gregorian year whose transitions shall be prepared
+     * @param   toYear      last gregorian year whose transitions shall be prepared (inclusive)
+     * @see     net.time4j.tz.Timezone.Cache#preload(java.util.Collection, int, int)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Diese Methode dient nur Optimierungszwecken und bereitet die internen Daten
+     * dieses Modells f&uuml;r den angegebenen Bereich gregorianischer Jahre im voraus vor. </p>
+     *
+     * <p>Modelle, die vorberechnete &Uuml;berg&auml;nge nur f&uuml;r ein begrenztes
+     * Jahresfenster vorhalten, ignorieren alle Jahre au&szlig;erhalb dieses Fensters.
+     * Die Standardimplementierung tut nichts. </p>
+     *
+     * @param   fromYear    first gregorian year whose transitions shall be prepared
+     * @param   toYear      last gregorian year whose transitions shall be prepared (inclusive)
+     * @see     net.time4j.tz.Timezone.Cache#preload(java.util.Collection, int, int)
+     * @since   5.0
+     */
+    public void preload(
+        int fromYear,
+        int toYear
+    ) {
+
+        // no-op
+
+    }
+
     // Hauptmethode
     static TransitionHistory of(
         ZonalOffset initialOffset,
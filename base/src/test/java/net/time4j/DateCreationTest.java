@@ -17,6 +17,41 @@ import static org.junit.Assert.assertThat;
 @RunWith(JUnit4.class)
 public class DateCreationTest {
 
+    @Test
+    public void packedDateRoundtrip() {
+        PlainDate[] dates = {
+            PlainDate.of(2016, 2, 29),
+            PlainDate.of(1, 1, 1),
+            PlainDate.of(-4713, 11, 24),
+            PlainDate.axis().getMinimum(),
+            PlainDate.axis().getMaximum()
+        };
+        for (PlainDate date : dates) {
+            assertThat(PlainDate.ofPacked(date.toPackedLong()), is(date));
+        }
+        assertThat(PlainDate.of(2016, 2, 29).toPackedLong(), is((2016L << 32) | (2 << 16) | 29));
+    }
+
+    @Test
+    public void packedDateOrder() {
+        PlainDate date = PlainDate.of(-2, 12, 25);
+        for (int i = 0; i < 2000; i++) {
+            PlainDate next = date.plus(1, CalendarUnit.DAYS);
+            assertThat(date.toPackedLong() < next.toPackedLong(), is(true));
+            date = next;
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void packedDateInvalidDay() {
+        PlainDate.ofPacked((2015L << 32) | (2 << 16) | 29);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void packedDateWithStrayBits() {
+        PlainDate.ofPacked((2015L << 32) | (1 << 24) | (2 << 16) | 28);
+    }
+
     @Test
     public void ofCalendarDate1() {
         PlainDate date = PlainDate.of(2014, 5, 31);
@@ -1,5 +1,6 @@
 package net.time4j;
 
+import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoException;
 import net.time4j.engine.Chronology;
 import org.junit.Test;
@@ -33,6 +34,26 @@ public class DatePropertiesTest {
             is(true));
     }
 
+    @Test
+    public void lookupOfAllRegisteredElements() {
+        PlainTimestamp tsp = PlainTimestamp.of(2016, 2, 29, 17, 45);
+        for (ChronoElement<?> element : PlainTimestamp.axis().getRegisteredElements()) {
+            assertThat(PlainTimestamp.axis().isRegistered(element), is(true));
+            assertThat(PlainTimestamp.axis().isSupported(element), is(true));
+            assertThat(tsp.contains(element), is(true));
+            assertThat(tsp.isValid(cast(element), tsp.get(element)), is(true));
+        }
+        assertThat(tsp.getInt(DAY_OF_MONTH), is(29));
+        assertThat(tsp.getInt(MINUTE_OF_HOUR), is(45));
+        assertThat(PlainTimestamp.axis().isRegistered((ChronoElement<?>) null), is(false));
+        assertThat(PlainDate.axis().isRegistered(MINUTE_OF_HOUR), is(false));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChronoElement<Object> cast(ChronoElement<?> element) {
+        return (ChronoElement<Object>) element;
+    }
+
     @Test
     public void lengthOfYear() {
         assertThat(PlainDate.of(2000, 1).lengthOfYear(), is(366));
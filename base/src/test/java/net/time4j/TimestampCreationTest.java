@@ -13,6 +13,32 @@ import static org.junit.Assert.assertThat;
 @RunWith(JUnit4.class)
 public class TimestampCreationTest {
 
+    @Test
+    public void packedEpochNanosRoundtrip() {
+        PlainTimestamp[] timestamps = {
+            PlainTimestamp.of(1970, 1, 1, 0, 0),
+            PlainTimestamp.of(2016, 2, 29, 23, 59, 59).plus(999_999_999, ClockUnit.NANOS),
+            PlainTimestamp.of(1969, 12, 31, 23, 59, 59).plus(1, ClockUnit.NANOS),
+            PlainTimestamp.of(1677, 9, 21, 0, 12, 43).plus(145_224_192, ClockUnit.NANOS),
+            PlainTimestamp.of(2262, 4, 11, 23, 47, 16).plus(854_775_807, ClockUnit.NANOS)
+        };
+        for (PlainTimestamp tsp : timestamps) {
+            assertThat(PlainTimestamp.ofPackedEpochNanos(tsp.toPackedEpochNanos()), is(tsp));
+        }
+        assertThat(timestamps[0].toPackedEpochNanos(), is(0L));
+        assertThat(timestamps[2].toPackedEpochNanos(), is(-999_999_999L));
+        assertThat(timestamps[3].toPackedEpochNanos(), is(Long.MIN_VALUE));
+        assertThat(timestamps[4].toPackedEpochNanos(), is(Long.MAX_VALUE));
+        assertThat(
+            PlainTimestamp.ofPackedEpochNanos(-1L),
+            is(PlainTimestamp.of(1969, 12, 31, 23, 59, 59).plus(999_999_999, ClockUnit.NANOS)));
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void packedEpochNanosOutOfRange() {
+        PlainTimestamp.of(2262, 4, 11, 23, 47, 17).toPackedEpochNanos();
+    }
+
     @Test
     public void ofDateTime() {
         PlainDate date = PlainDate.of(2014, Month.APRIL, 21);
@@ -83,6 +83,21 @@ public class WeekmodelTest {
             is(53)); // Freitag
     }
 
+    @Test
+    public void repeatedWeekOfYearInDifferentChronologies() {
+        Weekmodel model = Weekmodel.of(Locale.US);
+        for (int i = 0; i < 3; i++) {
+            PlainDate date = PlainDate.of(2016, 1, 1);
+            PlainTimestamp tsp = date.atTime(12, 0);
+            assertThat(date.get(model.weekOfYear()), is(1));
+            assertThat(tsp.get(model.weekOfYear()), is(1));
+            assertThat(date.with(model.weekOfYear(), 2), is(PlainDate.of(2016, 1, 8)));
+            assertThat(tsp.isValid(model.localDayOfWeek(), Weekday.MONDAY), is(true));
+            assertThat(PlainTime.axis().isSupported(model.weekOfYear()), is(false));
+            assertThat(PlainDate.axis().isSupported(model.weekOfYear()), is(true));
+        }
+    }
+
     @Test
     public void withWeekOfYear() {
         assertThat(
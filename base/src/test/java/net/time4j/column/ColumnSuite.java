@@ -0,0 +1,18 @@
+package net.time4j.column;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+
+@RunWith(Suite.class)
+@SuiteClasses(
+    {
+        MomentArrayTest.class,
+        PlainDateArrayTest.class,
+        PlainTimeArrayTest.class
+    }
+)
+public class ColumnSuite {
+
+}
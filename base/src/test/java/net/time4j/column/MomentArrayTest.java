@@ -0,0 +1,176 @@
+package net.time4j.column;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class MomentArrayTest {
+
+    private static final Moment[] MOMENTS = {
+        Moment.of(1_500_000_000L, 123_456_789, TimeScale.POSIX),
+        Moment.UNIX_EPOCH,
+        Moment.of(-1L, 999_999_999, TimeScale.POSIX),
+        Moment.of(1_483_228_799L, 500_000_000, TimeScale.POSIX),
+        Moment.of(-86_400L * 365 * 1000, TimeScale.POSIX),
+        Moment.of(946_684_800L, 1, TimeScale.POSIX)
+    };
+
+    @Test
+    public void roundTrip() {
+        MomentArray array = MomentArray.of(MOMENTS);
+        assertThat(array.size(), is(MOMENTS.length));
+        for (int i = 0; i < MOMENTS.length; i++) {
+            assertThat(array.get(i), is(MOMENTS[i]));
+        }
+        assertThat(MomentArray.ofPosixTimes(array.toPosixTimes(), array.toNanoseconds()), is(array));
+        assertThat(array.getPosixTime(2), is(-1L));
+        assertThat(array.getNanosecond(2), is(999_999_999));
+        array.set(2, Moment.UNIX_EPOCH);
+        assertThat(array.get(2), is(Moment.UNIX_EPOCH));
+        assertThat(MomentArray.ofPosixTimes(new long[] {86400L}).get(0), is(Moment.of(86400L, TimeScale.POSIX)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void nanosecondOutOfRange() {
+        MomentArray.ofPosixTimes(new long[] {0L}, new int[] {1_000_000_000});
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void arrayLengthsDiffer() {
+        MomentArray.ofPosixTimes(new long[] {0L}, new int[2]);
+    }
+
+    @Test
+    public void leapSecondIsNotRetained() {
+        Moment ls = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        assertThat(ls.isLeapSecond(), is(true));
+        MomentArray array = MomentArray.of(ls);
+        assertThat(array.getPosixTime(0), is(ls.getPosixTime()));
+        assertThat(array.get(0).isLeapSecond(), is(false));
+    }
+
+    @Test
+    public void plusMatchesPosixArithmetic() {
+        MomentArray array = MomentArray.of(MOMENTS);
+        long[] amounts = {-1_000_000_001L, -3601, -1, 1, 59, 86_400, 999_999_999L};
+        TimeUnit[] units = {
+            TimeUnit.HOURS, TimeUnit.MINUTES, TimeUnit.SECONDS,
+            TimeUnit.MILLISECONDS, TimeUnit.MICROSECONDS, TimeUnit.NANOSECONDS
+        };
+        for (int u = 0; u < units.length; u++) {
+            ClockUnit unit = ClockUnit.values()[u];
+            for (long amount : amounts) {
+                MomentArray result = array.plus(amount, unit);
+                for (int i = 0; i < MOMENTS.length; i++) {
+                    assertThat(
+                        unit + "/" + amount + "/" + MOMENTS[i],
+                        result.get(i),
+                        is(MOMENTS[i].plus(amount, units[u])));
+                }
+            }
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void plusOutOfRange() {
+        MomentArray.of(Moment.axis().getMaximum()).plus(1, ClockUnit.HOURS);
+    }
+
+    @Test
+    public void truncatedTo() {
+        MomentArray array = MomentArray.of(Moment.of(-1L, 999_999_999, TimeScale.POSIX));
+        assertThat(array.truncatedTo(ClockUnit.HOURS).get(0), is(Moment.of(-3600L, TimeScale.POSIX)));
+        assertThat(array.truncatedTo(ClockUnit.MINUTES).get(0), is(Moment.of(-60L, TimeScale.POSIX)));
+        assertThat(array.truncatedTo(ClockUnit.SECONDS).get(0), is(Moment.of(-1L, TimeScale.POSIX)));
+        assertThat(
+            array.truncatedTo(ClockUnit.MILLIS).get(0),
+            is(Moment.of(-1L, 999_000_000, TimeScale.POSIX)));
+        assertThat(
+            array.truncatedTo(ClockUnit.MICROS).get(0),
+            is(Moment.of(-1L, 999_999_000, TimeScale.POSIX)));
+        assertThat(array.truncatedTo(ClockUnit.NANOS), is(array));
+    }
+
+    @Test
+    public void toLocalDatesAndTimes() {
+        Timezone tz = Timezone.of("Europe/Berlin");
+        MomentArray array = MomentArray.of(MOMENTS);
+        PlainDateArray dates = array.toLocalDates(tz);
+        PlainTimeArray times = array.toLocalTimes(tz);
+        for (int i = 0; i < MOMENTS.length; i++) {
+            PlainTimestamp tsp = MOMENTS[i].toZonalTimestamp(tz.getID());
+            assertThat(dates.get(i), is(tsp.getCalendarDate()));
+            assertThat(times.get(i), is(tsp.getWallTime()));
+        }
+        assertThat(MomentArray.of(dates, times, tz), is(array));
+    }
+
+    @Test
+    public void ofLocalDatesAndTimes() {
+        Timezone tz = Timezone.of("Europe/Berlin");
+        PlainDateArray dates =
+            PlainDateArray.of(PlainDate.of(2017, 3, 26), PlainDate.of(2017, 10, 29), PlainDate.of(2017, 5, 1));
+        PlainTimeArray times =
+            PlainTimeArray.of(PlainTime.of(2, 30), PlainTime.of(2, 30, 0, 5), PlainTime.midnightAtEndOfDay());
+        MomentArray moments = MomentArray.of(dates, times, tz);
+        for (int i = 0; i < dates.size(); i++) {
+            assertThat(moments.get(i), is(dates.get(i).at(times.get(i)).in(tz)));
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void ofLocalDatesAndTimesWithDifferentSizes() {
+        MomentArray.of(PlainDateArray.create(2), PlainTimeArray.create(1), Timezone.of("Europe/Berlin"));
+    }
+
+    @Test
+    public void sortPacked() {
+        MomentArray array = MomentArray.of(MOMENTS);
+        array.sort();
+        assertSorted(array);
+        assertThat(array.get(1), is(MOMENTS[2]));
+        assertThat(array.compare(1, 2) < 0, is(true));
+    }
+
+    @Test
+    public void sortOutsidePackingRange() {
+        MomentArray array =
+            MomentArray.of(
+                Moment.axis().getMaximum(),
+                MOMENTS[0],
+                Moment.axis().getMinimum(),
+                MOMENTS[2],
+                MOMENTS[1],
+                MOMENTS[3],
+                MOMENTS[2],
+                MOMENTS[5],
+                MOMENTS[4]);
+        array.sort();
+        assertSorted(array);
+        assertThat(array.get(0), is(Moment.axis().getMinimum()));
+        assertThat(array.get(8), is(Moment.axis().getMaximum()));
+    }
+
+    private static void assertSorted(MomentArray array) {
+        for (int i = 1; i < array.size(); i++) {
+            assertThat(array.get(i - 1).isAfter(array.get(i)), is(false));
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+package net.time4j.column;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.Weekday;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class PlainDateArrayTest {
+
+    private static final PlainDate[] DATES = {
+        PlainDate.of(2012, 2, 29),
+        PlainDate.of(1970, 1, 1),
+        PlainDate.of(1969, 12, 31),
+        PlainDate.of(2019, 1, 31),
+        PlainDate.of(-4713, 11, 24),
+        PlainDate.of(2000, 12, 31),
+        PlainDate.of(1999, 10, 15),
+        PlainDate.of(2021, 5, 17)
+    };
+
+    @Test
+    public void roundTrip() {
+        PlainDateArray array = PlainDateArray.of(DATES);
+        assertThat(array.size(), is(DATES.length));
+        for (int i = 0; i < DATES.length; i++) {
+            assertThat(array.get(i), is(DATES[i]));
+        }
+        assertThat(PlainDateArray.ofEpochDays(array.toEpochDays()), is(array));
+        assertThat(array.getEpochDays(1), is(0L));
+        assertThat(array.getEpochDays(2), is(-1L));
+        array.set(1, PlainDate.of(1970, 1, 2));
+        assertThat(array.getEpochDays(1), is(1L));
+        array.setEpochDays(1, 2L);
+        assertThat(array.get(1), is(PlainDate.of(1970, 1, 3)));
+        assertThat(PlainDateArray.create(2).get(1), is(PlainDate.of(1970, 1, 1)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void epochDaysOutOfRange() {
+        PlainDateArray.ofEpochDays(new long[] {0L, Long.MAX_VALUE});
+    }
+
+    @Test
+    public void plusMatchesScalarArithmetic() {
+        PlainDateArray array = PlainDateArray.of(DATES);
+        long[] amounts = {-25, -13, -1, 1, 3, 12, 49};
+        for (CalendarUnit unit : CalendarUnit.values()) {
+            for (long amount : amounts) {
+                PlainDateArray result = array.plus(amount, unit);
+                for (int i = 0; i < DATES.length; i++) {
+                    assertThat(
+                        unit + "/" + amount + "/" + DATES[i],
+                        result.get(i),
+                        is(DATES[i].plus(amount, unit)));
+                }
+            }
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void plusOutOfRange() {
+        PlainDateArray.of(PlainDate.axis().getMaximum()).plus(1, CalendarUnit.MONTHS);
+    }
+
+    @Test
+    public void truncatedTo() {
+        PlainDateArray array = PlainDateArray.of(PlainDate.of(2019, 8, 15), PlainDate.of(-1, 2, 3));
+        assertThat(
+            array.truncatedTo(CalendarUnit.DAYS),
+            is(array));
+        assertThat(
+            array.truncatedTo(CalendarUnit.WEEKS),
+            is(PlainDateArray.of(PlainDate.of(2019, 8, 12), PlainDate.of(-1, 2, 1))));
+        assertThat(
+            array.truncatedTo(CalendarUnit.MONTHS),
+            is(PlainDateArray.of(PlainDate.of(2019, 8, 1), PlainDate.of(-1, 2, 1))));
+        assertThat(
+            array.truncatedTo(CalendarUnit.QUARTERS),
+            is(PlainDateArray.of(PlainDate.of(2019, 7, 1), PlainDate.of(-1, 1, 1))));
+        assertThat(
+            array.truncatedTo(CalendarUnit.YEARS),
+            is(PlainDateArray.of(PlainDate.of(2019, 1, 1), PlainDate.of(-1, 1, 1))));
+        assertThat(
+            array.truncatedTo(CalendarUnit.DECADES),
+            is(PlainDateArray.of(PlainDate.of(2010, 1, 1), PlainDate.of(-10, 1, 1))));
+        assertThat(
+            array.truncatedTo(CalendarUnit.CENTURIES),
+            is(PlainDateArray.of(PlainDate.of(2000, 1, 1), PlainDate.of(-100, 1, 1))));
+        assertThat(
+            array.truncatedTo(CalendarUnit.MILLENNIA),
+            is(PlainDateArray.of(PlainDate.of(2000, 1, 1), PlainDate.of(-1000, 1, 1))));
+        assertThat(
+            PlainDateArray.of(PlainDate.axis().getMinimum()).truncatedTo(CalendarUnit.MILLENNIA).get(0),
+            is(PlainDate.axis().getMinimum()));
+    }
+
+    @Test
+    public void extractElements() {
+        PlainDateArray array = PlainDateArray.of(DATES);
+        int[] years = array.getYears();
+        int[] months = array.getMonths();
+        int[] days = array.getDaysOfMonth();
+        int[] weekdays = array.getDaysOfWeek();
+        for (int i = 0; i < DATES.length; i++) {
+            assertThat(years[i], is(DATES[i].getYear()));
+            assertThat(months[i], is(DATES[i].getMonth()));
+            assertThat(days[i], is(DATES[i].getDayOfMonth()));
+            assertThat(Weekday.valueOf(weekdays[i]), is(DATES[i].getDayOfWeek()));
+        }
+    }
+
+    @Test
+    public void sortAndSearch() {
+        PlainDateArray array = PlainDateArray.of(DATES);
+        assertThat(array.compare(0, 1) > 0, is(true));
+        assertThat(array.compare(1, 1), is(0));
+        array.sort();
+        for (int i = 1; i < array.size(); i++) {
+            assertThat(array.get(i - 1).isBefore(array.get(i)), is(true));
+        }
+        assertThat(array.binarySearch(PlainDate.of(1970, 1, 1)), is(2));
+        assertThat(array.binarySearch(PlainDate.of(1970, 1, 2)), is(-4));
+    }
+
+    @Test
+    public void atStartOfDay() {
+        Timezone tz = Timezone.of("America/Sao_Paulo");
+        PlainDateArray array =
+            PlainDateArray.of(PlainDate.of(2016, 10, 16), PlainDate.of(2016, 7, 1), PlainDate.of(1960, 1, 1));
+        MomentArray moments = array.atStartOfDay(tz);
+        for (int i = 0; i < array.size(); i++) {
+            assertThat(moments.get(i), is(array.get(i).atFirstMoment(tz.getID())));
+        }
+        assertThat(
+            PlainDateArray.of(PlainDate.of(2016, 7, 1)).atStartOfDay(Timezone.of(ZonalOffset.UTC)).get(0),
+            is(PlainTimestamp.of(2016, 7, 1, 0, 0).atUTC()));
+    }
+
+    @Test
+    public void toStringAndEquality() {
+        PlainDateArray array = PlainDateArray.of(PlainDate.of(2016, 7, 1), PlainDate.of(2016, 7, 2));
+        assertThat(array.toString(), is("[2016-07-01,2016-07-02]"));
+        assertThat(array.equals(PlainDateArray.of(array.get(0), array.get(1))), is(true));
+        assertThat(array.hashCode(), is(PlainDateArray.of(array.get(0), array.get(1)).hashCode()));
+        assertThat(array.equals(PlainDateArray.create(2)), is(false));
+    }
+
+}
@@ -0,0 +1,112 @@
+package net.time4j.column;
+
+import net.time4j.ClockUnit;
+import net.time4j.PlainTime;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class PlainTimeArrayTest {
+
+    private static final PlainTime[] TIMES = {
+        PlainTime.of(17, 45, 30, 123456789),
+        PlainTime.midnightAtStartOfDay(),
+        PlainTime.midnightAtEndOfDay(),
+        PlainTime.of(23, 59, 59, 999999999),
+        PlainTime.of(0, 0, 0, 1),
+        PlainTime.of(12)
+    };
+
+    @Test
+    public void roundTrip() {
+        PlainTimeArray array = PlainTimeArray.of(TIMES);
+        assertThat(array.size(), is(TIMES.length));
+        for (int i = 0; i < TIMES.length; i++) {
+            assertThat(array.get(i), is(TIMES[i]));
+        }
+        assertThat(PlainTimeArray.ofNanosOfDay(array.toNanosOfDay()), is(array));
+        assertThat(array.getNanoOfDay(2), is(86400_000_000_000L));
+        array.set(0, PlainTime.of(1));
+        assertThat(array.getNanoOfDay(0), is(3600_000_000_000L));
+        array.setNanoOfDay(0, 60_000_000_000L);
+        assertThat(array.get(0), is(PlainTime.of(0, 1)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void nanoOfDayOutOfRange() {
+        PlainTimeArray.create(1).setNanoOfDay(0, 86400_000_000_001L);
+    }
+
+    @Test
+    public void plusMatchesScalarArithmetic() {
+        PlainTimeArray array = PlainTimeArray.of(TIMES);
+        long[] amounts = {-9_000_000_000_000L, -86401, -25, -1, 0, 1, 24, 1440, 86400, 123456789012L};
+        for (ClockUnit unit : ClockUnit.values()) {
+            for (long amount : amounts) {
+                PlainTimeArray result = array.plus(amount, unit);
+                for (int i = 0; i < TIMES.length; i++) {
+                    assertThat(
+                        unit + "/" + amount + "/" + TIMES[i],
+                        result.get(i),
+                        is(TIMES[i].plus(amount, unit)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void truncatedTo() {
+        PlainTimeArray array = PlainTimeArray.of(PlainTime.of(17, 45, 30, 123456789), PlainTime.of(24));
+        assertThat(
+            array.truncatedTo(ClockUnit.HOURS),
+            is(PlainTimeArray.of(PlainTime.of(17), PlainTime.of(24))));
+        assertThat(
+            array.truncatedTo(ClockUnit.MINUTES),
+            is(PlainTimeArray.of(PlainTime.of(17, 45), PlainTime.of(24))));
+        assertThat(
+            array.truncatedTo(ClockUnit.SECONDS),
+            is(PlainTimeArray.of(PlainTime.of(17, 45, 30), PlainTime.of(24))));
+        assertThat(
+            array.truncatedTo(ClockUnit.MILLIS),
+            is(PlainTimeArray.of(PlainTime.of(17, 45, 30, 123000000), PlainTime.of(24))));
+        assertThat(
+            array.truncatedTo(ClockUnit.MICROS),
+            is(PlainTimeArray.of(PlainTime.of(17, 45, 30, 123456000), PlainTime.of(24))));
+        assertThat(
+            array.truncatedTo(ClockUnit.NANOS),
+            is(array));
+    }
+
+    @Test
+    public void extractElements() {
+        PlainTimeArray array = PlainTimeArray.of(TIMES);
+        int[] hours = array.getHours();
+        int[] minutes = array.getMinutes();
+        int[] seconds = array.getSeconds();
+        int[] nanos = array.getNanoseconds();
+        for (int i = 0; i < TIMES.length; i++) {
+            assertThat(hours[i], is(TIMES[i].getHour()));
+            assertThat(minutes[i], is(TIMES[i].getMinute()));
+            assertThat(seconds[i], is(TIMES[i].getSecond()));
+            assertThat(nanos[i], is(TIMES[i].getNanosecond()));
+        }
+    }
+
+    @Test
+    public void sort() {
+        PlainTimeArray array = PlainTimeArray.of(TIMES);
+        assertThat(array.compare(2, 3) > 0, is(true));
+        array.sort();
+        for (int i = 1; i < array.size(); i++) {
+            assertThat(array.get(i - 1).isBefore(array.get(i)), is(true));
+        }
+        assertThat(array.toString(), is("[T00,T00:00:00,000000001,T12,T17:45:30,123456789,T23:59:59,999999999,T24]"));
+    }
+
+}
@@ -0,0 +1,218 @@
+package net.time4j.format;
+
+import net.time4j.Month;
+import net.time4j.Weekday;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParsePosition;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class TextAccessorTest {
+
+    private static final String[] LANGUAGES = {
+        "ar", "bg", "cs", "da", "de", "el", "en", "es", "et", "fa", "fi", "fr", "he", "hi", "hr", "hu", "id",
+        "it", "ja", "ko", "lt", "lv", "ms", "nb", "nl", "pl", "pt", "ro", "ru", "sk", "sl", "sr", "sv", "th",
+        "tr", "uk", "vi", "zh", "ca", "is"
+    };
+
+    @Test
+    public void monthsInManyLanguages() {
+        for (String language : LANGUAGES) {
+            CalendarText ct = CalendarText.getIsoInstance(new Locale(language));
+            for (TextWidth tw : TextWidth.values()) {
+                for (OutputContext oc : OutputContext.values()) {
+                    TextAccessor accessor = ct.getStdMonths(tw, oc);
+                    for (String form : accessor.getTextForms()) {
+                        checkAllModes(accessor, Month.class, form + " 2016");
+                        checkAllModes(accessor, Month.class, form.toUpperCase(Locale.ROOT));
+                        checkAllModes(accessor, Month.class, form.substring(0, (form.length() + 1) / 2));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void weekdaysInManyLanguages() {
+        for (String language : LANGUAGES) {
+            CalendarText ct = CalendarText.getIsoInstance(new Locale(language));
+            for (TextWidth tw : TextWidth.values()) {
+                TextAccessor accessor = ct.getWeekdays(tw, OutputContext.FORMAT);
+                for (String form : accessor.getTextForms()) {
+                    checkAllModes(accessor, Weekday.class, "xy" + form + ", 29");
+                    checkAllModes(accessor, Weekday.class, form.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void prefixForms() {
+        TextAccessor accessor = new TextAccessor(new String[] {"Mar", "March", "Ma", "M", "Mä", "May", "m"});
+        String[] inputs = {"March", "Marc", "Mar", "MAY", "Ma", "M", "m", "mä", "x", "Mayday", "mARCH 1"};
+        for (String input : inputs) {
+            checkAllModes(accessor, Weekday.class, input);
+        }
+        ParsePosition pp = new ParsePosition(0);
+        assertThat(accessor.parse("March", pp, Weekday.class, Leniency.SMART), is(Weekday.MONDAY));
+        assertThat(pp.getIndex(), is(3)); // first matching form wins in exact mode
+        pp = new ParsePosition(0);
+        assertThat(accessor.parse("Marc", pp, Weekday.class, Leniency.LAX), is(Weekday.TUESDAY));
+        assertThat(pp.getIndex(), is(4));
+        pp = new ParsePosition(0);
+        assertThat(accessor.parse("M", pp, Weekday.class, Leniency.SMART), nullValue());
+        assertThat(pp.getErrorIndex(), is(0));
+        pp = new ParsePosition(0);
+        assertThat(accessor.parse("M", pp, Weekday.class, Leniency.STRICT), is(Weekday.THURSDAY));
+    }
+
+    @Test
+    public void duplicateForms() {
+        TextAccessor accessor = new TextAccessor(new String[] {"J", "F", "M", "A", "M", "J", "J"});
+        checkAllModes(accessor, Weekday.class, "J");
+        checkAllModes(accessor, Weekday.class, "F");
+        ParsePosition pp = new ParsePosition(0);
+        assertThat(accessor.parse("J", pp, Weekday.class), nullValue());
+        assertThat(accessor.parse("F", pp, Weekday.class), is(Weekday.TUESDAY));
+    }
+
+    @Test
+    public void specialCaseFolding() {
+        TextAccessor accessor = new TextAccessor(new String[] {"K1", "K2", "İx", "ix", "ıy", "ss", "ß"});
+        String[] inputs = {"k1", "K2", "k2", "K1", "Ix", "ix", "İX", "Iy", "iy", "SS", "ß", "ẞ"};
+        for (String input : inputs) {
+            checkAllModes(accessor, Weekday.class, input);
+        }
+    }
+
+    @Test
+    public void moreEnumsThanTextForms() {
+        TextAccessor accessor = new TextAccessor(new String[] {"Mo", "Tu"});
+        checkAllModes(accessor, Weekday.class, "WEDNESDAY");
+        checkAllModes(accessor, Weekday.class, "Tu");
+    }
+
+    @Test
+    public void startPosition() {
+        TextAccessor accessor = CalendarText.getIsoInstance(Locale.ENGLISH).getStdMonths(TextWidth.WIDE, OutputContext.FORMAT);
+        ParsePosition pp = new ParsePosition(3);
+        assertThat(accessor.parse("29 February 2016", pp, Month.class), is(Month.FEBRUARY));
+        assertThat(pp.getIndex(), is(11));
+    }
+
+    private static <V extends Enum<V>> void checkAllModes(
+        TextAccessor accessor,
+        Class<V> type,
+        String input
+    ) {
+        for (int i = 0; i < 4; i++) {
+            boolean caseInsensitive = ((i & 1) != 0);
+            boolean partialCompare = ((i & 2) != 0);
+            ParsePosition expectedPos = new ParsePosition(0);
+            V expected = reference(accessor, input, expectedPos, type, caseInsensitive, partialCompare);
+            ParsePosition pp = new ParsePosition(0);
+            V result =
+                accessor.parse(
+                    input,
+                    pp,
+                    type,
+                    new Attributes.Builder()
+                        .set(Attributes.PARSE_CASE_INSENSITIVE, caseInsensitive)
+                        .set(Attributes.PARSE_PARTIAL_COMPARE, partialCompare)
+                        .build());
+            String msg = accessor + " => " + input + " (" + i + ")";
+            assertThat(msg, result, is(expected));
+            assertThat(msg, pp.getIndex(), is(expectedPos.getIndex()));
+            assertThat(msg, pp.getErrorIndex(), is(expectedPos.getErrorIndex()));
+        }
+    }
+
+    // the original linear algorithm
+    private static <V extends Enum<V>> V reference(
+        TextAccessor accessor,
+        CharSequence parseable,
+        ParsePosition status,
+        Class<V> valueType,
+        boolean caseInsensitive,
+        boolean partialCompare
+    ) {
+        V[] enums = valueType.getEnumConstants();
+        int len = accessor.getTextForms().size();
+        int start = status.getIndex();
+        int end = parseable.length();
+        int maxEq = 0;
+        V candidate = null;
+
+        for (int i = 0; i < enums.length; i++) {
+            String s = ((i >= len) ? enums[i].name() : accessor.getTextForms().get(i));
+            int pos = start;
+            int n = s.length();
+            boolean eq = true;
+
+            for (int j = 0; eq && (j < n); j++) {
+                if (start + j >= end) {
+                    eq = false;
+                } else {
+                    char c = parseable.charAt(start + j);
+                    char t = s.charAt(j);
+                    if (caseInsensitive) {
+                        eq = (c == t) || compareIgnoreCase(c, t);
+                    } else {
+                        eq = (c == t);
+                    }
+                    if (eq) {
+                        pos++;
+                    }
+                }
+            }
+
+            if (partialCompare || (n == 1)) {
+                if (maxEq < pos - start) {
+                    maxEq = pos - start;
+                    candidate = enums[i];
+                } else if (maxEq == pos - start) {
+                    candidate = null;
+                }
+            } else if (eq) {
+                status.setIndex(pos);
+                return enums[i];
+            }
+        }
+
+        if (candidate == null) {
+            status.setErrorIndex(start);
+        } else {
+            status.setIndex(start + maxEq);
+        }
+
+        return candidate;
+    }
+
+    private static boolean compareIgnoreCase(char c1, char c2) {
+        if (c1 >= 'a' && c1 <= 'z') {
+            if (c2 >= 'A' && c2 <= 'Z') {
+                c2 = (char) (c2 + 'a' - 'A');
+            }
+            return (c1 == c2);
+        } else if (c1 >= 'A' && c1 <= 'Z') {
+            c1 = (char) (c1 + 'a' - 'A');
+            if (c2 >= 'A' && c2 <= 'Z') {
+                c2 = (char) (c2 + 'a' - 'A');
+            }
+            return (c1 == c2);
+        }
+        return (
+            Character.toUpperCase(c1) == Character.toUpperCase(c2)
+            || Character.toLowerCase(c1) == Character.toLowerCase(c2)
+        );
+    }
+
+}
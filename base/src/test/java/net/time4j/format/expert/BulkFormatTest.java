@@ -0,0 +1,168 @@
+package net.time4j.format.expert;
+
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.ChronoException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class BulkFormatTest {
+
+    @Test
+    public void printAllIntoStringBuilder() throws IOException {
+        List<PlainDate> dates = Arrays.asList(PlainDate.of(2018, 1, 5), PlainDate.of(2016, 2, 29));
+        StringBuilder sb = new StringBuilder("x");
+        assertThat(Iso8601Format.EXTENDED_CALENDAR_DATE.printAll(dates, sb, ";"), is(2));
+        assertThat(sb.toString(), is("x2018-01-05;2016-02-29"));
+    }
+
+    @Test
+    public void printAllIntoWriter() throws IOException {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        List<PlainDate> dates = Arrays.asList(PlainDate.of(2018, 1, 5), PlainDate.of(2016, 2, 29));
+        StringWriter writer = new StringWriter();
+        assertThat(f.printAll(dates, writer, System.lineSeparator()), is(2));
+        assertThat(writer.toString(), is("5. Januar 2018" + System.lineSeparator() + "29. Februar 2016"));
+    }
+
+    @Test
+    public void printAllIntoWriterWithoutStrings() throws IOException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern(
+                "'a very long literal text which does not fit into the initial buffer' d. MMMM uuuu",
+                PatternType.CLDR,
+                Locale.GERMAN);
+        List<PlainDate> dates = Arrays.asList(PlainDate.of(2018, 1, 5), PlainDate.of(2016, 2, 29));
+        List<String> strings = new ArrayList<>();
+        StringWriter writer =
+            new StringWriter() {
+                @Override
+                public void write(String str) {
+                    strings.add(str);
+                    super.write(str);
+                }
+                @Override
+                public StringWriter append(CharSequence csq) {
+                    throw new AssertionError("Intermediate string: " + csq);
+                }
+            };
+        assertThat(f.printAll(dates, writer, ";"), is(2));
+        assertThat(strings, is(Collections.singletonList(";")));
+        assertThat(
+            writer.toString(),
+            is(f.format(dates.get(0)) + ";" + f.format(dates.get(1))));
+        writer.getBuffer().setLength(0);
+        strings.clear();
+        assertThat(Iso8601Format.EXTENDED_CALENDAR_DATE.printAll(dates, writer, ";"), is(2));
+        assertThat(strings, is(Collections.singletonList(";")));
+        assertThat(writer.toString(), is("2018-01-05;2016-02-29"));
+    }
+
+    @Test
+    public void printAllEmpty() throws IOException {
+        StringWriter writer = new StringWriter();
+        assertThat(Iso8601Format.EXTENDED_CALENDAR_DATE.printAll(Collections.emptyList(), writer, ";"), is(0));
+        assertThat(writer.toString(), is(""));
+    }
+
+    @Test
+    public void roundTrip() throws IOException {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm:ss", PatternType.CLDR, Locale.ROOT);
+        List<PlainTimestamp> list = new ArrayList<>();
+        PlainTimestamp tsp = PlainTimestamp.of(2018, 1, 1, 0, 0);
+        for (int i = 0; i < 5000; i++) {
+            list.add(tsp.plus(i * 3607L, net.time4j.ClockUnit.SECONDS));
+        }
+        StringWriter writer = new StringWriter();
+        f.printAll(list, writer, "\n");
+        assertThat(f.parseAll(new StringReader(writer.toString()), '\n').collect(Collectors.toList()), is(list));
+        // reader which only delivers one char per call
+        Reader slow =
+            new FilterReader(new StringReader(writer.toString())) {
+                @Override
+                public int read(char[] cbuf, int off, int len) throws IOException {
+                    return super.read(cbuf, off, Math.min(len, 1));
+                }
+            };
+        assertThat(f.parseAll(slow, '\n').collect(Collectors.toList()), is(list));
+    }
+
+    @Test
+    public void parseAllWithEmptyLinesAndCarriageReturns() {
+        String text = "2018-01-05\r\n\r\n2016-02-29\n\n2000-12-31\r\n";
+        assertThat(
+            Iso8601Format.EXTENDED_CALENDAR_DATE.parseAll(new StringReader(text), '\n').collect(Collectors.toList()),
+            is(Arrays.asList(PlainDate.of(2018, 1, 5), PlainDate.of(2016, 2, 29), PlainDate.of(2000, 12, 31))));
+    }
+
+    @Test
+    public void parseAllWithOtherDelimiter() {
+        assertThat(
+            Iso8601Format.EXTENDED_CALENDAR_DATE.parseAll(new StringReader("2018-01-05|2016-02-29"), '|').count(),
+            is(2L));
+        assertThat(
+            Iso8601Format.EXTENDED_CALENDAR_DATE.parseAll(new StringReader(""), '|').count(),
+            is(0L));
+    }
+
+    @Test
+    public void parseAllWithLongItem() {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.setUp(PlainDate.axis(), Locale.ROOT)
+                .addPattern("uuuu-MM-dd", PatternType.CLDR)
+                .skipUnknown(c -> (c == 'x'), Integer.MAX_VALUE)
+                .build();
+        StringBuilder sb = new StringBuilder("2018-01-05");
+        for (int i = 0; i < 10000; i++) {
+            sb.append('x');
+        }
+        sb.append("\n2016-02-29");
+        assertThat(
+            f.parseAll(new StringReader(sb.toString()), '\n').collect(Collectors.toList()),
+            is(Arrays.asList(PlainDate.of(2018, 1, 5), PlainDate.of(2016, 2, 29))));
+    }
+
+    @Test
+    public void parseAllWithError() {
+        try {
+            Iso8601Format.EXTENDED_CALENDAR_DATE
+                .parseAll(new StringReader("2018-01-05\n2016-02-30\n2016-03-01"), '\n')
+                .forEach(d -> {});
+            fail("Expected exception not thrown.");
+        } catch (ChronoException ex) {
+            assertThat(ex.getMessage(), is("Cannot parse item 2: 2016-02-30"));
+            assertThat(ex.getCause(), instanceOf(ParseException.class));
+        }
+    }
+
+    @Test
+    public void parseAllIsLazy() {
+        String text = "2018-01-05\nxyz";
+        assertThat(
+            Iso8601Format.EXTENDED_CALENDAR_DATE.parseAll(new StringReader(text), '\n').findFirst().get(),
+            is(PlainDate.of(2018, 1, 5)));
+    }
+
+}
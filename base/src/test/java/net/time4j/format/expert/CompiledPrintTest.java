@@ -0,0 +1,241 @@
+package net.time4j.format.expert;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.format.Attributes;
+import net.time4j.format.NumberSystem;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class CompiledPrintTest {
+
+    @Test
+    public void calendarDate() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        check(f, PlainDate.of(2018, 1, 5), "2018-01-05");
+        check(f, PlainDate.of(-5, 12, 31), "-0005-12-31");
+        check(f, PlainDate.of(12345, 2, 28), "12345-02-28");
+        check(f, PlainDate.of(999999999, 12, 31), "999999999-12-31");
+        check(f, PlainDate.of(-999999999, 1, 1), "-999999999-01-01");
+        check(Iso8601Format.BASIC_CALENDAR_DATE, PlainDate.of(1900, 3, 1), "19000301");
+    }
+
+    @Test
+    public void ordinalDate() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-DDD", PatternType.CLDR, Locale.ROOT);
+        check(f, PlainDate.of(2016, 12, 31), "2016-366");
+        check(f, PlainDate.of(2017, 3, 1), "2017-060");
+        check(f, PlainDate.of(2016, 3, 1), "2016-061");
+        check(f, PlainDate.of(2016, 1, 1), "2016-001");
+    }
+
+    @Test
+    public void wallTime() {
+        ChronoPrinter<PlainTime> p = Iso8601Format.ofExtendedTime(IsoDecimalStyle.DOT, ClockUnit.NANOS);
+        check((ChronoFormatter<PlainTime>) p, PlainTime.of(24), "24:00:00.000000000");
+        check((ChronoFormatter<PlainTime>) p, PlainTime.of(7, 5, 9, 123_456_789), "07:05:09.123456789");
+        ChronoFormatter<PlainTime> f = ChronoFormatter.ofTimePattern("HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT);
+        check(f, PlainTime.of(24), "00:00:00.000");
+        check(f, PlainTime.of(17, 45, 30, 999_999_999), "17:45:30.999");
+        check(f, PlainTime.of(17, 45, 30, 1_000_000), "17:45:30.001");
+    }
+
+    @Test
+    public void fractionWithVariableWidth() {
+        ChronoFormatter<PlainTime> f =
+            ChronoFormatter.setUp(PlainTime.class, Locale.ROOT)
+                .addFixedInteger(PlainTime.SECOND_OF_MINUTE, 2)
+                .addFraction(PlainTime.NANO_OF_SECOND, 0, 9, true)
+                .build();
+        check(f, PlainTime.of(12, 0, 5), "05");
+        check(f, PlainTime.of(12, 0, 5, 120_000_000), "05,12");
+        check(f, PlainTime.of(12, 0, 5, 1), "05,000000001");
+        ChronoFormatter<PlainTime> g =
+            ChronoFormatter.setUp(PlainTime.class, Locale.ROOT)
+                .addFixedInteger(PlainTime.SECOND_OF_MINUTE, 2)
+                .startSection(Attributes.DECIMAL_SEPARATOR, ',')
+                .addFraction(PlainTime.NANO_OF_SECOND, 3, 6, true)
+                .endSection()
+                .build();
+        check(g, PlainTime.of(12, 0, 5), "05,000");
+        check(g, PlainTime.of(12, 0, 5, 120_000_000), "05,120");
+        check(g, PlainTime.of(12, 0, 5, 123_456_789), "05,123456");
+    }
+
+    @Test
+    public void timestamp() {
+        ChronoPrinter<PlainTimestamp> p =
+            Iso8601Format.ofTimestamp(IsoDateStyle.EXTENDED_CALENDAR_DATE, IsoDecimalStyle.DOT, ClockUnit.MILLIS);
+        check(
+            (ChronoFormatter<PlainTimestamp>) p,
+            PlainTimestamp.of(2018, 7, 1, 23, 59, 59).plus(999, ClockUnit.MILLIS),
+            "2018-07-01T23:59:59.999");
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuuMMdd'T'HHmmss", PatternType.CLDR, Locale.ROOT)
+                .withTimezone(ZonalOffset.UTC);
+        check(f, PlainTimestamp.of(2018, 7, 1, 0, 0, 0), "20180701T000000");
+    }
+
+    @Test
+    public void momentWithOffset() {
+        ZonalOffset offset = ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 5, 30);
+        ChronoPrinter<Moment> p =
+            Iso8601Format.ofMoment(IsoDateStyle.EXTENDED_CALENDAR_DATE, IsoDecimalStyle.DOT, ClockUnit.SECONDS, offset);
+        Moment m = PlainTimestamp.of(2018, 12, 31, 20, 0, 0).atUTC();
+        check((ChronoFormatter<Moment>) p, m, "2019-01-01T01:30:00+05:30");
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm:ss.SSSX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        check(f, Moment.of(-1, 1_000_000, TimeScale.POSIX), "1969-12-31 23:59:59.001Z");
+        check(f, PlainTimestamp.of(1800, 1, 1, 0, 0).atUTC(), "1800-01-01 00:00:00.000Z");
+    }
+
+    @Test
+    public void momentWithLeapSecond() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm:ssX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        Moment ls = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        check(f, ls, "2016-12-31 23:59:60Z");
+    }
+
+    @Test
+    public void charArray() {
+        ChronoFormatter<PlainDate> f = Iso8601Format.EXTENDED_CALENDAR_DATE;
+        char[] buffer = new char[30];
+        int n = f.printTo(PlainDate.of(2018, 1, 5), buffer, 3);
+        assertThat(n, is(10));
+        assertThat(new String(buffer, 3, n), is("2018-01-05"));
+        n = f.printTo(PlainDate.of(2018, 1, 5), buffer, 20);
+        assertThat(new String(buffer, 20, n), is("2018-01-05"));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void charArrayTooSmall() {
+        Iso8601Format.EXTENDED_CALENDAR_DATE.printTo(PlainDate.of(2018, 1, 5), new char[9], 0);
+    }
+
+    @Test
+    public void valueTooBig() {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.setUp(PlainDate.class, Locale.ROOT)
+                .addFixedInteger(PlainDate.YEAR, 4)
+                .addFixedInteger(PlainDate.MONTH_AS_NUMBER, 2)
+                .build();
+        try {
+            f.print(PlainDate.of(10000, 1, 1));
+            fail("Expected exception not thrown.");
+        } catch (IllegalArgumentException iae) {
+            assertThat(
+                iae.getMessage(),
+                is("Element YEAR cannot be printed as the formatted value 10000 exceeds the maximum width of 4."));
+        }
+        try {
+            f.print(PlainDate.of(-1, 1, 1));
+            fail("Expected exception not thrown.");
+        } catch (IllegalArgumentException iae) {
+            assertThat(iae.getMessage(), is("Negative value not allowed according to sign policy."));
+        }
+    }
+
+    @Test
+    public void arabicIndicDigits() throws ParseException {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT)
+                .with(Attributes.NUMBER_SYSTEM, NumberSystem.ARABIC_INDIC);
+        PlainTimestamp tsp = PlainTimestamp.of(2018, 1, 5, 7, 45, 3).plus(12_000_000, ClockUnit.NANOS);
+        String expected = toDigits("2018-01-05 07:45:03.012", '\u0660');
+        check(f, tsp, expected);
+        assertThat(f.parse(expected), is(tsp));
+        check(f, PlainTimestamp.of(12345, 12, 31, 23, 59, 59), toDigits("12345-12-31 23:59:59.000", '\u0660'));
+    }
+
+    @Test
+    public void extendedArabicIndicDigits() throws ParseException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("d.M.uuuu", PatternType.CLDR, Locale.ROOT)
+                .with(Attributes.NUMBER_SYSTEM, NumberSystem.ARABIC_INDIC_EXT);
+        PlainDate[] dates = {PlainDate.of(2018, 1, 5), PlainDate.of(1, 12, 31), PlainDate.of(-333, 3, 10)};
+        String[] texts = {"5.1.2018", "31.12.0001", "10.3.-0333"};
+        for (int i = 0; i < dates.length; i++) {
+            String expected = toDigits(texts[i], '\u06F0');
+            check(f, dates[i], expected);
+            assertThat(f.parse(expected), is(dates[i]));
+        }
+    }
+
+    @Test
+    public void digitsWithZeroDigitOverride() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        PlainDate date = PlainDate.of(2018, 1, 5);
+        StringBuilder sb = new StringBuilder();
+        f.print(date, sb, new Attributes.Builder().set(Attributes.NUMBER_SYSTEM, NumberSystem.DEVANAGARI).build());
+        assertThat(sb.toString(), is(toDigits("2018-01-05", '\u0966')));
+        check(f.with(Attributes.ZERO_DIGIT, 'A'), date, "CABI-AB-AF");
+    }
+
+    @Test
+    public void digitTableOfCustomZeroDigitIsShared() {
+        assertThat(DigitTable.of('0') == DigitTable.of('0'), is(true));
+        assertThat(DigitTable.of('\u0966') == DigitTable.of('\u0966'), is(true));
+        assertThat(DigitTable.of('a') == DigitTable.of('a'), is(true));
+        assertThat(DigitTable.of('a').getZeroDigit(), is('a'));
+    }
+
+    @Test
+    public void digitsWithZeroDigitPerCall() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        PlainDate date = PlainDate.of(2018, 1, 5);
+        Attributes attrs = new Attributes.Builder().set(Attributes.ZERO_DIGIT, 'A').build();
+        for (int i = 0; i < 2; i++) {
+            StringBuilder sb = new StringBuilder();
+            f.print(date, sb, attrs);
+            assertThat(sb.toString(), is("CABI-AB-AF"));
+        }
+    }
+
+    private static String toDigits(
+        String text,
+        char zeroDigit
+    ) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            sb.append(((c >= '0') && (c <= '9')) ? (char) (c - '0' + zeroDigit) : c);
+        }
+        return sb.toString();
+    }
+
+    private static <T> void check(
+        ChronoFormatter<T> f,
+        T value,
+        String expected
+    ) {
+        StringBuilder generic = new StringBuilder();
+        f.print(value, generic, f.getAttributes()); // with positions, not compiled
+        assertThat(generic.toString(), is(expected));
+        assertThat(f.print(value), is(expected));
+        StringBuilder sb = new StringBuilder("x");
+        assertThat(f.printTo(value, sb), is(expected.length()));
+        assertThat(sb.toString(), is("x" + expected));
+        char[] buffer = new char[expected.length() + 50];
+        assertThat(f.printTo(value, buffer, 1), is(expected.length()));
+        assertThat(new String(buffer, 1, expected.length()), is(expected));
+    }
+
+}
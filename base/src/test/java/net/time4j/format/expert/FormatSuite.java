@@ -16,14 +16,19 @@ import org.junit.runners.Suite.SuiteClasses;
         DefaultValueTest.class,
         DozenalNumberTest.class,
         DuplicateElementTest.class,
+        CompiledPrintTest.class,
         FractionTest.class,
         Iso8601FormatTest.class,
+        IsoParserTest.class,
+        PatternCacheTest.class,
+        BulkFormatTest.class,
         LiteralWithBidisTest.class,
         LiteralWithDigitsTest.class,
         MiscellaneousTest.class,
         MomentPatternTest.class,
         MomentScaleTest.class,
         MultiFormatTest.class,
+        ParseContextTest.class,
         OffsetPatternTest.class,
         OrFormatTest.class,
         OrdinalTest.class,
@@ -0,0 +1,155 @@
+package net.time4j.format.expert;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class IsoParserTest {
+
+    @Test
+    public void dates() throws ParseException {
+        String[] texts = {
+            "2016-02-29", "20160229", "2016-060", "2016060", "2016-W09-1", "2016W091",
+            "2015-W53-7", "2015W537", "2009-W01-1", "0000-01-01", "9999-12-31", "1900-001", "2000-366"
+        };
+        for (String text : texts) {
+            PlainDate expected = parseByFormatter(text);
+            assertThat(text, IsoParser.parseDate(text, new ParseLog(), IsoParser.ANY), is(expected));
+            assertThat(text, Iso8601Format.parseDate(text), is(expected));
+        }
+        assertThat(Iso8601Format.parseDate("2015-W53-7"), is(PlainDate.of(2016, 1, 3)));
+        assertThat(Iso8601Format.parseDate("2008-W01-1"), is(PlainDate.of(2007, 12, 31)));
+    }
+
+    @Test
+    public void unusualDatesDelegated() throws ParseException {
+        String[] texts = {"+12016-02-29", "-0001-12-31", "2016-W53-1", "2016-02-30", "2017-366", "2016-0229"};
+        for (String text : texts) {
+            assertThat(text, IsoParser.parseDate(text, new ParseLog(), IsoParser.ANY), nullValue());
+        }
+        assertThat(Iso8601Format.parseDate("+12016-02-29"), is(PlainDate.of(12016, 2, 29)));
+        assertThat(Iso8601Format.parseDate("-0001-12-31"), is(PlainDate.of(-1, 12, 31)));
+    }
+
+    @Test(expected=ParseException.class)
+    public void invalidWeekOfYear() throws ParseException {
+        Iso8601Format.parseDate("2016-W53-1");
+    }
+
+    @Test
+    public void dateWithStyle() {
+        assertThat(IsoParser.parseDate("20160229", new ParseLog(), IsoParser.EXTENDED), nullValue());
+        assertThat(IsoParser.parseDate("2016-02-29", new ParseLog(), IsoParser.BASIC), nullValue());
+        ParseLog plog = new ParseLog(3);
+        assertThat(
+            IsoParser.parseDate("xyz2016-02-29T12:00", plog, IsoParser.EXTENDED),
+            is(PlainDate.of(2016, 2, 29)));
+        assertThat(plog.getPosition(), is(13));
+    }
+
+    @Test
+    public void timestamps() throws ParseException {
+        String[] texts = {
+            "2016-02-29T17", "2016-02-29T17:45", "2016-02-29T17:45:30", "2016-02-29T17:45:30,1",
+            "2016-02-29T17:45:30.123456789", "20160229T1745", "20160229T174530,12", "2016-060T00:00",
+            "2016W091T235959.999999999"
+        };
+        for (String text : texts) {
+            PlainTimestamp expected =
+                (text.contains("-") ? Iso8601Format.EXTENDED_DATE_TIME : Iso8601Format.BASIC_DATE_TIME).parse(text);
+            assertThat(text, IsoParser.parseTimestamp(text, new ParseLog()), is(expected));
+            assertThat(text, Iso8601Format.parseTimestamp(text), is(expected));
+        }
+    }
+
+    @Test
+    public void unusualTimestampsDelegated() throws ParseException {
+        String[] texts = {
+            "2016-02-29T24:00", "2016-02-29T1745", "20160229T17:45", "2016-02-29T17:45:30,",
+            "2016-02-29T17:45:30.1234567890", "2016-02-29 17:45", "2016-02-29T17:45:60"
+        };
+        for (String text : texts) {
+            assertThat(text, IsoParser.parseTimestamp(text, new ParseLog()), nullValue());
+        }
+        assertThat(Iso8601Format.parseTimestamp("2016-02-29T24:00"), is(PlainTimestamp.of(2016, 3, 1, 0, 0)));
+    }
+
+    @Test(expected=ParseException.class)
+    public void timestampWithTrailingComma() throws ParseException {
+        Iso8601Format.parseTimestamp("2016-02-29T17:45:30,");
+    }
+
+    @Test
+    public void moments() throws ParseException {
+        String[] texts = {
+            "2016-02-29T17:45Z", "2016-02-29T17:45:30,123+01:00", "2016-02-29T17:45:30-05:30",
+            "2016-02-29T17+14", "20160229T174530.5Z", "20160229T1745+0100", "20160229T1745-08",
+            "1969-12-31T23:59:59.999999999Z", "1850-06-01T00:00+18:00", "2016-W09-1T00:00-18:00"
+        };
+        for (String text : texts) {
+            Moment expected =
+                (text.contains("-") && (text.indexOf('-') < text.indexOf('T'))
+                    ? Iso8601Format.EXTENDED_DATE_TIME_OFFSET
+                    : Iso8601Format.BASIC_DATE_TIME_OFFSET
+                ).parse(text);
+            assertThat(text, IsoParser.parseMoment(text, new ParseLog()), is(expected));
+            assertThat(text, Iso8601Format.parseMoment(text), is(expected));
+        }
+        assertThat(
+            Iso8601Format.parseMoment("2016-02-29T17:45:30,123+01:00"),
+            is(PlainTimestamp.of(2016, 2, 29, 17, 45, 30).plus(123, ClockUnit.MILLIS).at(
+                ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 1))));
+    }
+
+    @Test
+    public void unusualMomentsDelegated() throws ParseException {
+        String[] texts = {
+            "2016-12-31T23:59:60Z", "2016-02-29T17:45", "2016-02-29T17:45+0100", "2016-02-29T17:45z",
+            "2016-02-29T17:45-00:00", "2016-02-29T17:45+18:30", "20160229T1745+01:00"
+        };
+        for (String text : texts) {
+            assertThat(text, IsoParser.parseMoment(text, new ParseLog()), nullValue());
+        }
+        assertThat(Iso8601Format.parseMoment("2016-12-31T23:59:60Z").isLeapSecond(), is(true));
+        assertThat(Iso8601Format.parseMoment("2016-02-29T17:45-00:00"), notNullValue());
+    }
+
+    @Test(expected=ParseException.class)
+    public void momentWithoutOffset() throws ParseException {
+        Iso8601Format.parseMoment("2016-02-29T17:45");
+    }
+
+    @Test(expected=ParseException.class)
+    public void momentWithTrailingCharacters() throws ParseException {
+        Iso8601Format.parseMoment("2016-02-29T17:45Zabc");
+    }
+
+    @Test
+    public void momentWithParseLog() {
+        ParseLog plog = new ParseLog(1);
+        assertThat(
+            Iso8601Format.parseMoment("[2016-02-29T17:45Z]", plog),
+            is(PlainTimestamp.of(2016, 2, 29, 17, 45).atUTC()));
+        assertThat(plog.getPosition(), is(18));
+    }
+
+    private static PlainDate parseByFormatter(String text) throws ParseException {
+        return (text.contains("-") ? Iso8601Format.EXTENDED_DATE : Iso8601Format.BASIC_DATE).parse(text);
+    }
+
+}
@@ -870,6 +870,61 @@ public class MiscellaneousTest {
         assertThat(tsp, is(PlainTimestamp.of(2016, 2, 29, 0, 0)));
     }
 
+    @Test
+    public void memoizedVariantOfLocaleAndTimezone() throws ParseException {
+        ChronoFormatter<Moment> base =
+            ChronoFormatter.ofMomentPattern("d. MMMM uuuu HH:mm z", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        ChronoFormatter<Moment> f = base.variant(Locale.GERMANY, Timezone.of("Europe/Berlin").getID());
+        assertThat(base.variant(Locale.GERMANY, Timezone.of("Europe/Berlin").getID()) == f, is(true));
+        assertThat(base.variant(Locale.FRANCE, Timezone.of("Europe/Berlin").getID()) == f, is(false));
+        Moment m = PlainTimestamp.of(2018, 7, 1, 12, 0).atUTC();
+        ChronoFormatter<Moment> expected = base.with(Locale.GERMANY).withTimezone("Europe/Berlin");
+        assertThat(f.format(m), is(expected.format(m)));
+        assertThat(f.format(m), is("1. Juli 2018 14:00 MESZ"));
+        assertThat(f.parse("1. Juli 2018 14:00 MESZ"), is(m));
+        assertThat(f.getLocale(), is(Locale.GERMANY));
+    }
+
+    @Test
+    public void memoizedVariantOfLocaleOnly() {
+        ChronoFormatter<PlainDate> base =
+            ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        assertThat(base.variant(Locale.GERMAN, null) == base, is(true));
+        ChronoFormatter<PlainDate> f = base.variant(Locale.FRENCH, null);
+        assertThat(base.variant(Locale.FRENCH, null) == f, is(true));
+        assertThat(f.format(PlainDate.of(2018, 1, 5)), is("5. janvier 2018"));
+    }
+
+    @Test
+    public void memoizedVariantOfAttributes() throws ParseException {
+        ChronoFormatter<PlainDate> base =
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN);
+        Attributes attrs =
+            new Attributes.Builder().set(Attributes.NUMBER_SYSTEM, NumberSystem.ARABIC_INDIC).build();
+        ChronoFormatter<PlainDate> f = base.variant(attrs);
+        assertThat(
+            base.variant(new Attributes.Builder().set(Attributes.NUMBER_SYSTEM, NumberSystem.ARABIC_INDIC).build()) == f,
+            is(true));
+        PlainDate date = PlainDate.of(2018, 1, 5);
+        StringBuilder sb = new StringBuilder();
+        base.print(date, sb, attrs);
+        assertThat(f.format(date), is(sb.toString()));
+        assertThat(f.format(date), is("\u0660\u0665.\u0660\u0661.\u0662\u0660\u0661\u0668"));
+        assertThat(f.parse("\u0660\u0665.\u0660\u0661.\u0662\u0660\u0661\u0668"), is(date));
+    }
+
+    @Test
+    public void memoizedVariantsAreLimited() {
+        ChronoFormatter<PlainDate> base =
+            ChronoFormatter.ofDatePattern("dd.MM.yy", PatternType.CLDR, Locale.GERMAN);
+        for (int i = 0; i < 512; i++) {
+            Attributes attrs = new Attributes.Builder().set(Attributes.PIVOT_YEAR, 2000 + i).build();
+            assertThat(base.variant(attrs) == base.variant(attrs), is(true));
+        }
+        Attributes attrs = new Attributes.Builder().set(Attributes.PIVOT_YEAR, 3000).build();
+        assertThat(base.variant(attrs) == base.variant(attrs), is(false));
+    }
+
     private static ChronoFormatter<PlainDate> getQuarterDateFormatter() {
         return ChronoFormatter.setUp(PlainDate.class, Locale.US)
             .addFixedInteger(PlainDate.YEAR, 4)
@@ -1,6 +1,7 @@
 package net.time4j.format.expert;
 
 import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -9,6 +10,7 @@ import java.text.ParseException;
 import java.util.Locale;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 
@@ -56,6 +58,69 @@ public class MultiFormatTest {
         mfp.parse(null);
     }
 
+    @Test
+    public void parseIndexed() throws ParseException {
+        MultiFormatParser<PlainDate> mfp = createMultipleFormat().withIndex();
+        PlainDate expected = PlainDate.of(2015, 12, 31);
+        for (int i = 0; i < 2; i++) {
+            assertThat(mfp.parse("31.12.2015"), is(expected));
+            assertThat(mfp.parse("12/31/2015"), is(expected));
+            assertThat(mfp.parse("12/31/2015"), is(expected));
+            assertThat(mfp.parse("31. Dezember 2015"), is(expected));
+            assertThat(mfp.parse("31. décembre 2015"), is(expected));
+            assertThat(mfp.parse("31st of December 2015"), is(expected));
+        }
+        assertThat(mfp.withIndex() == mfp, is(true));
+    }
+
+    @Test
+    public void parseIndexedLegacyLayouts() throws ParseException {
+        String[] patterns = {
+            "uuuu-MM-dd HH:mm:ss", "uuuu-MM-dd'T'HH:mm", "dd.MM.uuuu HH:mm", "MM/dd/uuuu hh:mm a",
+            "uuuuMMddHHmmss", "dd-MMM-uuuu HH:mm", "d MMM uuuu HH:mm", "EEE, dd MMM uuuu HH:mm:ss"
+        };
+        ChronoFormatter<PlainTimestamp>[] formats = new ChronoFormatter[patterns.length];
+        for (int i = 0; i < patterns.length; i++) {
+            formats[i] = ChronoFormatter.ofTimestampPattern(patterns[i], PatternType.CLDR, Locale.US);
+        }
+        MultiFormatParser<PlainTimestamp> mfp = MultiFormatParser.of(formats).withIndex();
+        PlainTimestamp tsp = PlainTimestamp.of(2016, 2, 29, 17, 45, 30);
+        PlainTimestamp tspWithoutSeconds = PlainTimestamp.of(2016, 2, 29, 17, 45);
+        assertThat(mfp.parse("2016-02-29 17:45:30"), is(tsp));
+        assertThat(mfp.parse("2016-02-29T17:45"), is(tspWithoutSeconds));
+        assertThat(mfp.parse("29.02.2016 17:45"), is(tspWithoutSeconds));
+        assertThat(mfp.parse("02/29/2016 05:45 PM"), is(tspWithoutSeconds));
+        assertThat(mfp.parse("20160229174530"), is(tsp));
+        assertThat(mfp.parse("29-Feb-2016 17:45"), is(tspWithoutSeconds));
+        assertThat(mfp.parse("29 Feb 2016 17:45"), is(tspWithoutSeconds));
+        assertThat(mfp.parse("Mon, 29 Feb 2016 17:45:30"), is(tsp));
+        assertThat(mfp.parse("2016-02-29 17:45:30"), is(tsp));
+    }
+
+    @Test
+    public void parseIndexedWithParseLog() {
+        MultiFormatParser<PlainDate> mfp = createMultipleFormat().withIndex();
+        ParseLog plog = new ParseLog(1);
+        assertThat(mfp.parse("[12/31/2015]", plog), is(PlainDate.of(2015, 12, 31)));
+        assertThat(plog.getPosition(), is(11));
+        plog = new ParseLog();
+        assertThat(mfp.parse("31-12-2015", plog), nullValue());
+        assertThat(plog.isError(), is(true));
+        assertThat(plog.getErrorMessage(), is("Not matched by any format: 31-12-2015"));
+    }
+
+    @Test(expected=ParseException.class)
+    public void parseIndexedTrailingChars() throws ParseException {
+        MultiFormatParser<PlainDate> mfp = createMultipleFormat().withIndex();
+        mfp.parse("31.12.2015xyz");
+    }
+
+    @Test(expected=ParseException.class)
+    public void parseIndexedUnexpectedLiterals() throws ParseException {
+        MultiFormatParser<PlainDate> mfp = createMultipleFormat().withIndex();
+        mfp.parse("31-12-2015");
+    }
+
     private static MultiFormatParser<PlainDate> createMultipleFormat() {
         ChronoFormatter<PlainDate> germanStyle =
             ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN);
@@ -0,0 +1,138 @@
+package net.time4j.format.expert;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.Attributes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.CharBuffer;
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class ParseContextTest {
+
+    @Test
+    public void charArraySections() throws ParseException {
+        char[] csv = "x;2018-01-05;2016-02-29;1999-12-31".toCharArray();
+        ParseContext context = new ParseContext();
+        ChronoFormatter<PlainDate> f = Iso8601Format.EXTENDED_CALENDAR_DATE;
+        assertThat(f.parse(csv, 2, 10, context), is(PlainDate.of(2018, 1, 5)));
+        assertThat(f.parse(csv, 13, 10, context), is(PlainDate.of(2016, 2, 29)));
+        assertThat(f.parse(csv, 24, 10, context), is(PlainDate.of(1999, 12, 31)));
+    }
+
+    @Test
+    public void differentFormattersWithSameContext() throws ParseException {
+        ParseContext context = new ParseContext();
+        ChronoFormatter<PlainTimestamp> f1 =
+            ChronoFormatter.ofTimestampPattern("dd.MM.uuuu HH:mm[:ss]", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainDate> f2 =
+            ChronoFormatter.ofDatePattern("EEEE, d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        ChronoFormatter<Moment> f3 = Iso8601Format.EXTENDED_DATE_TIME_OFFSET;
+
+        for (int i = 0; i < 3; i++) {
+            char[] a = "05.01.2018 17:45:30".toCharArray();
+            assertThat(f1.parse(a, 0, a.length, context), is(PlainTimestamp.of(2018, 1, 5, 17, 45, 30)));
+            char[] b = "01.02.2018 08:15".toCharArray();
+            assertThat(f1.parse(b, 0, b.length, context), is(PlainTimestamp.of(2018, 2, 1, 8, 15)));
+            char[] c = "Freitag, 5. Januar 2018".toCharArray();
+            assertThat(f2.parse(c, 0, c.length, context), is(PlainDate.of(2018, 1, 5)));
+            char[] d = "2018-01-05T17:45:30.123+01:00".toCharArray();
+            assertThat(
+                f3.parse(d, 0, d.length, context),
+                is(PlainTimestamp.of(2018, 1, 5, 16, 45, 30).plus(123, ClockUnit.MILLIS).atUTC()));
+        }
+    }
+
+    @Test
+    public void errorIndexRelativeToOffset() {
+        ParseContext context = new ParseContext();
+        ChronoFormatter<PlainTime> f = ChronoFormatter.ofTimePattern("HH:mm", PatternType.CLDR, Locale.ROOT);
+        char[] text = "abc17-45".toCharArray();
+        try {
+            f.parse(text, 3, 5, context);
+            fail("Expected parse exception not thrown.");
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(2));
+        }
+        try {
+            f.parse("17:45xyz".toCharArray(), 0, 8, context);
+            fail("Expected parse exception not thrown.");
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(5));
+            assertThat(pe.getMessage(), is("Unparsed trailing characters: xyz"));
+        }
+    }
+
+    @Test
+    public void contextUsableAfterError() throws ParseException {
+        ParseContext context = new ParseContext();
+        ChronoFormatter<PlainTime> f = ChronoFormatter.ofTimePattern("HH:mm", PatternType.CLDR, Locale.ROOT);
+        try {
+            f.parse("25:00".toCharArray(), 0, 5, context);
+            fail("Expected parse exception not thrown.");
+        } catch (ParseException pe) {
+            // ok
+        }
+        assertThat(f.parse("23:59".toCharArray(), 0, 5, context), is(PlainTime.of(23, 59)));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void sectionOutOfRange() throws ParseException {
+        Iso8601Format.EXTENDED_CALENDAR_DATE.parse(new char[10], 1, 10, new ParseContext());
+    }
+
+    @Test
+    public void charBuffer() throws ParseException {
+        ParseContext context = new ParseContext();
+        CharBuffer buffer = CharBuffer.wrap("2018-01-05|2018-01-06");
+        ChronoFormatter<PlainDate> g =
+            Iso8601Format.EXTENDED_CALENDAR_DATE.with(Attributes.TRAILING_CHARACTERS, true);
+        assertThat(g.parse(buffer, context), is(PlainDate.of(2018, 1, 5)));
+        assertThat(buffer.position(), is(10));
+        buffer.get(); // skip delimiter
+        assertThat(g.parse(buffer, context), is(PlainDate.of(2018, 1, 6)));
+        assertThat(buffer.hasRemaining(), is(false));
+    }
+
+    @Test
+    public void charBufferUnchangedInCaseOfError() {
+        CharBuffer buffer = CharBuffer.wrap("2018-13-05");
+        try {
+            Iso8601Format.EXTENDED_CALENDAR_DATE.parse(buffer, new ParseContext());
+            fail("Expected parse exception not thrown.");
+        } catch (ParseException pe) {
+            assertThat(buffer.position(), is(0));
+        }
+    }
+
+    @Test
+    public void noLeakageOfPreviousValues() throws ParseException {
+        ParseContext context = new ParseContext();
+        ChronoFormatter<PlainTime> f = ChronoFormatter.ofTimePattern("HH[:mm[:ss]]", PatternType.CLDR, Locale.ROOT);
+        assertThat(f.parse("17:45:30".toCharArray(), 0, 8, context), is(PlainTime.of(17, 45, 30)));
+        assertThat(f.parse("08".toCharArray(), 0, 2, context), is(PlainTime.of(8)));
+        ChronoFormatter<PlainTimestamp> g =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT);
+        assertThat(g.parse("2018-01-05 17:45".toCharArray(), 0, 16, context), is(PlainTimestamp.of(2018, 1, 5, 17, 45)));
+        ChronoFormatter<PlainDate> h = ChronoFormatter.ofDatePattern("uuuu-MM", PatternType.CLDR, Locale.ROOT);
+        try {
+            h.parse("2018-02".toCharArray(), 0, 7, context); // no day of month
+            fail("Expected parse exception not thrown.");
+        } catch (ParseException pe) {
+            // ok
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.Leniency;
+import net.time4j.tz.ZonalOffset;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class PatternCacheTest {
+
+    @Before
+    public void setUp() {
+        ChronoFormatter.Cache.clear();
+    }
+
+    @After
+    public void tearDown() {
+        ChronoFormatter.Cache.setMaximumSize(PatternCache.DEFAULT_MAXIMUM_SIZE);
+        ChronoFormatter.Cache.clear();
+    }
+
+    @Test
+    public void sameInstanceForSameKey() {
+        ChronoFormatter<PlainDate> f1 = ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN);
+        ChronoFormatter<PlainDate> f2 = ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN);
+        ChronoFormatter<PlainDate> f3 =
+            ChronoFormatter.ofPattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN, PlainDate.axis());
+        assertThat(f1, sameInstance(f2));
+        assertThat(f1, sameInstance(f3));
+        assertThat(ChronoFormatter.Cache.getMissCount(), is(1L));
+        assertThat(ChronoFormatter.Cache.getHitCount(), is(2L));
+        assertThat(ChronoFormatter.Cache.size(), is(1));
+    }
+
+    @Test
+    public void differentKeys() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN);
+        assertThat(
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.FRENCH), not(sameInstance(f)));
+        assertThat(
+            ChronoFormatter.ofDatePattern("dd.MM.yyyy", PatternType.SIMPLE_DATE_FORMAT, Locale.GERMAN),
+            not(sameInstance(f)));
+        assertThat(
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR_24, Locale.GERMAN), not(sameInstance(f)));
+        assertThat(
+            ChronoFormatter.Cache.lookup("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN, PlainDate.axis(), Leniency.STRICT),
+            not(sameInstance(f)));
+        assertThat(ChronoFormatter.Cache.getMissCount(), is(5L));
+        assertThat(ChronoFormatter.Cache.getHitCount(), is(0L));
+    }
+
+    @Test
+    public void lookupWithLeniency() throws ParseException {
+        ChronoFormatter<PlainDate> strict =
+            ChronoFormatter.Cache.lookup("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN, PlainDate.axis(), Leniency.STRICT);
+        assertThat(strict.getAttributes().get(net.time4j.format.Attributes.LENIENCY), is(Leniency.STRICT));
+        assertThat(
+            ChronoFormatter.Cache.lookup("dd.MM.uuuu", PatternType.CLDR, Locale.GERMAN, PlainDate.axis(), Leniency.STRICT),
+            sameInstance(strict));
+        assertThat(strict.parse("29.02.2016"), is(PlainDate.of(2016, 2, 29)));
+    }
+
+    @Test
+    public void momentPatternWithTimezone() throws ParseException {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        assertThat(f.parse("2016-02-29 17:45"), is(PlainTimestamp.of(2016, 2, 29, 17, 45).atUTC()));
+        ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        assertThat(ChronoFormatter.Cache.getHitCount(), is(1L));
+    }
+
+    @Test
+    public void boundedSize() {
+        ChronoFormatter.Cache.setMaximumSize(3);
+        for (int i = 1; i <= 10; i++) {
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu '" + i + "'", PatternType.CLDR, Locale.ROOT);
+        }
+        assertThat(ChronoFormatter.Cache.size(), is(3));
+        assertThat(ChronoFormatter.Cache.getMaximumSize(), is(3));
+    }
+
+    @Test
+    public void switchedOff() {
+        ChronoFormatter.Cache.setMaximumSize(0);
+        ChronoFormatter<PlainDate> f1 = ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.ROOT);
+        ChronoFormatter<PlainDate> f2 = ChronoFormatter.ofDatePattern("dd.MM.uuuu", PatternType.CLDR, Locale.ROOT);
+        assertThat(f1, not(sameInstance(f2)));
+        assertThat(f1, is(f2));
+        assertThat(ChronoFormatter.Cache.size(), is(0));
+        assertThat(ChronoFormatter.Cache.getMissCount(), is(2L));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void negativeSize() {
+        ChronoFormatter.Cache.setMaximumSize(-1);
+    }
+
+    @Test
+    public void invalidPatternNotCached() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                ChronoFormatter.ofDatePattern("YYYY-MM-dd", PatternType.CLDR, Locale.ROOT);
+            } catch (IllegalArgumentException iae) {
+                // expected
+            }
+        }
+        assertThat(ChronoFormatter.Cache.size(), is(0));
+        assertThat(ChronoFormatter.Cache.getMissCount(), is(2L));
+    }
+
+}
@@ -11,6 +11,7 @@ import org.junit.runners.JUnit4;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -294,6 +295,30 @@ public class LeapSecondTest {
             is(1341100801L + NLS_OFFSET));
     }
 
+    @Test
+    public void lookupMatchesLinearScan() {
+        LeapSeconds instance = LeapSeconds.getInstance();
+        List<ExtendedLSE> events = new ArrayList<>();
+        for (LeapSecondEvent event : instance) {
+            events.add((ExtendedLSE) event);
+        }
+        boolean snls = instance.supportsNegativeLS();
+        for (ExtendedLSE lse : events) {
+            for (long delta = -3; delta <= 3; delta++) {
+                long utc = lse.utc() + delta;
+                long unix = lse.raw() + delta + UTC_OFFSET;
+                assertThat(instance.enhance(unix), is(linearEnhance(events, unix)));
+                assertThat(instance.strip(utc), is(linearStrip(events, utc, snls)));
+                assertThat(instance.getShift(utc), is(linearShift(events, utc)));
+                assertThat(instance.isPositiveLS(utc), is(linearShift(events, utc) == 1));
+                assertThat(instance.getNextEvent(utc), is(linearNextEvent(events, utc)));
+            }
+            assertThat(instance.getShift(lse.getDate()), is(lse.getShift()));
+        }
+        assertThat(instance.getNextEvent(Long.MAX_VALUE), is((LeapSecondEvent) null));
+        assertThat(instance.getNextEvent(Long.MIN_VALUE), is((LeapSecondEvent) events.get(events.size() - 1)));
+    }
+
     @Test
     public void getDateOfExpiration() {
         GregorianDate expected = PlainDate.of(2017, 12, 28);
@@ -309,6 +334,74 @@ public class LeapSecondTest {
             is(expected.getYear()));
     }
 
+    // Referenzimplementierungen: lineare Suche in absteigender Reihenfolge
+
+    private static long linearEnhance(
+        List<ExtendedLSE> events,
+        long unixTime
+    ) {
+        long epochTime = unixTime - UTC_OFFSET;
+        if (epochTime < 0) {
+            return epochTime;
+        }
+        for (ExtendedLSE lse : events) {
+            if (lse.raw() < epochTime) {
+                return epochTime + lse.utc() - lse.raw();
+            }
+        }
+        return epochTime;
+    }
+
+    private static long linearStrip(
+        List<ExtendedLSE> events,
+        long utc,
+        boolean snls
+    ) {
+        if (utc <= 0) {
+            return utc + UTC_OFFSET;
+        }
+        for (ExtendedLSE lse : events) {
+            if (
+                (lse.utc() - lse.getShift() < utc)
+                || (snls && (lse.getShift() < 0) && (lse.utc() < utc))
+            ) {
+                return utc + lse.raw() - lse.utc() + UTC_OFFSET;
+            }
+        }
+        return utc + UTC_OFFSET;
+    }
+
+    private static int linearShift(
+        List<ExtendedLSE> events,
+        long utc
+    ) {
+        if (utc <= 0) {
+            return 0;
+        }
+        for (ExtendedLSE lse : events) {
+            if (utc > lse.utc()) {
+                return 0;
+            } else if (utc > lse.utc() - lse.getShift()) {
+                return (int) (utc - lse.utc() + lse.getShift());
+            }
+        }
+        return 0;
+    }
+
+    private static LeapSecondEvent linearNextEvent(
+        List<ExtendedLSE> events,
+        long utc
+    ) {
+        LeapSecondEvent result = null;
+        for (ExtendedLSE lse : events) {
+            if (utc >= lse.utc()) {
+                break;
+            }
+            result = lse;
+        }
+        return result;
+    }
+
     private static PlainDate toPlainDate(GregorianDate date) {
         return PlainDate.of(
             date.getYear(), date.getMonth(), date.getDayOfMonth());
@@ -374,6 +374,30 @@ public class OffsetTest {
         assertThat(offset, is(roundtrip(offset)));
     }
 
+    @Test
+    public void cachedOffsets() {
+        for (int total = -18 * 3600; total <= 18 * 3600; total += 900) {
+            ZonalOffset offset = ZonalOffset.ofTotalSeconds(total);
+            assertThat(offset.getIntegralAmount(), is(total));
+            assertThat(ZonalOffset.ofTotalSeconds(total) == offset, is(true));
+        }
+        assertThat(ZonalOffset.ofTotalSeconds(0) == ZonalOffset.UTC, is(true));
+        ZonalOffset lmt = ZonalOffset.ofTotalSeconds(3208);
+        assertThat(lmt.getIntegralAmount(), is(3208));
+        assertThat(ZonalOffset.ofTotalSeconds(3208) == lmt, is(true));
+        assertThat(ZonalOffset.ofTotalSeconds(-3208, -5).getFractionalAmount(), is(-5));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void cachedOffsetOutOfRange() {
+        ZonalOffset.ofTotalSeconds(18 * 3600 + 900);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void uncachedOffsetOutOfRange() {
+        ZonalOffset.ofTotalSeconds(-18 * 3600 - 1);
+    }
+
     @Test
     public void normalize() {
         assertThat(Timezone.normalize("Etc/GMT-7"), is(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 7)));
@@ -4,11 +4,19 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 
@@ -41,6 +49,191 @@ public class ProviderRegistrationTest {
         System.out.println(Timezone.getProviderInfo());
     }
 
+    @Test
+    public void updateProvider() {
+        Map<String, TransitionHistory> v1 = new HashMap<>();
+        v1.put("A", Timezone.of("Europe/Berlin").getHistory());
+        v1.put("B", Timezone.of("Europe/Paris").getHistory());
+        Map<String, TransitionHistory> v2 = new HashMap<>(v1);
+        v2.put("B", Timezone.of("America/New_York").getHistory());
+        v2.put("C", Timezone.of("Europe/London").getHistory());
+        Map<String, String> aliases = new HashMap<>();
+        aliases.put("X", "A");
+        aliases.put("Y", "B");
+
+        assertThat(Timezone.registerProvider(new VersionedProvider("versioned", v1, aliases)), is(true));
+        Timezone a = Timezone.of("versioned~A");
+        Timezone b = Timezone.of("versioned~B");
+        Timezone x = Timezone.of("versioned~X");
+        Timezone y = Timezone.of("versioned~Y");
+        assertThat(Timezone.getAvailableIDs("versioned").size(), is(2));
+
+        List<Set<TZID>> events = new ArrayList<>();
+        ZoneChangeListener listener = (provider, zones) -> events.add(zones);
+        Timezone.Cache.addChangeListener(listener);
+
+        try {
+            Set<TZID> changed = Timezone.Cache.update(new VersionedProvider("versioned", v2, aliases));
+            Set<String> ids = new HashSet<>();
+            for (TZID tzid : changed) {
+                ids.add(tzid.canonical());
+            }
+            Set<String> expected = new HashSet<>();
+            expected.add("versioned~B");
+            expected.add("versioned~C");
+            expected.add("versioned~Y");
+            assertThat(ids, is(expected));
+            assertThat(events.size(), is(1));
+            assertThat(events.get(0), is(changed));
+
+            assertThat(Timezone.of("versioned~A"), sameInstance(a));
+            assertThat(Timezone.of("versioned~X"), sameInstance(x));
+            assertThat(Timezone.of("versioned~B"), not(sameInstance(b)));
+            assertThat(Timezone.of("versioned~Y"), not(sameInstance(y)));
+            assertThat(Timezone.of("versioned~B").getHistory(), is(v2.get("B")));
+            assertThat(Timezone.of("versioned~Y").getHistory(), is(v2.get("B")));
+            assertThat(Timezone.of("versioned~C").getHistory(), is(v2.get("C")));
+            assertThat(Timezone.getAvailableIDs("versioned").size(), is(3));
+
+            assertThat(Timezone.Cache.update(new VersionedProvider("versioned", v2, aliases)).isEmpty(), is(true));
+            assertThat(events.size(), is(1));
+        } finally {
+            Timezone.Cache.removeChangeListener(listener);
+        }
+    }
+
+    @Test
+    public void listenersAreIsolatedAndCalledOutsideOfLock() throws Exception {
+        Map<String, TransitionHistory> v1 = new HashMap<>();
+        v1.put("A", Timezone.of("Europe/Berlin").getHistory());
+        Map<String, TransitionHistory> v2 = new HashMap<>();
+        v2.put("A", Timezone.of("America/New_York").getHistory());
+        assertThat(
+            Timezone.registerProvider(new VersionedProvider("listening", v1, Collections.emptyMap())),
+            is(true));
+
+        List<Set<TZID>> events = new ArrayList<>();
+        ZoneChangeListener failing =
+            (provider, zones) -> {
+                throw new IllegalStateException("Test listener failure.");
+            };
+        ZoneChangeListener blocking =
+            (provider, zones) -> {
+                Thread worker = new Thread(Timezone.Cache::refresh);
+                worker.start();
+                try {
+                    worker.join(5000);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                if (!worker.isAlive()) {
+                    events.add(zones);
+                }
+            };
+        ZoneChangeListener recording = (provider, zones) -> events.add(zones);
+        Timezone.Cache.addChangeListener(failing);
+        Timezone.Cache.addChangeListener(blocking);
+        Timezone.Cache.addChangeListener(recording);
+
+        try {
+            Set<TZID> changed = Timezone.Cache.update(new VersionedProvider("listening", v2, Collections.emptyMap()));
+            assertThat(changed.size(), is(1));
+            assertThat(events.size(), is(2));
+            assertThat(Timezone.of("listening~A").getHistory(), is(v2.get("A")));
+        } finally {
+            Timezone.Cache.removeChangeListener(failing);
+            Timezone.Cache.removeChangeListener(blocking);
+            Timezone.Cache.removeChangeListener(recording);
+        }
+    }
+
+    @Test
+    public void refreshWhileLookingUp() throws InterruptedException {
+        TransitionHistory[] versions = {
+            Timezone.of("Europe/Berlin").getHistory(),
+            Timezone.of("America/New_York").getHistory()
+        };
+        Map<String, TransitionHistory> histories = new ConcurrentHashMap<>();
+        histories.put("A", versions[0]);
+        assertThat(
+            Timezone.registerProvider(new VersionedProvider("refreshing", histories, Collections.emptyMap())),
+            is(true));
+
+        TZID tzid = () -> "refreshing~A";
+        AtomicBoolean stop = new AtomicBoolean(false);
+        List<Thread> readers = new ArrayList<>();
+
+        for (int t = 0; t < 4; t++) {
+            Thread reader =
+                new Thread(() -> {
+                    while (!stop.get()) {
+                        Timezone.of(tzid);
+                        Timezone.of("refreshing~A");
+                    }
+                });
+            reader.start();
+            readers.add(reader);
+        }
+
+        try {
+            for (int i = 1; i <= 50; i++) {
+                TransitionHistory expected = versions[i % 2];
+                histories.put("A", expected);
+                Timezone.Cache.refresh();
+                assertThat(Timezone.of(tzid).getHistory(), is(expected));
+                assertThat(Timezone.of("refreshing~A").getHistory(), is(expected));
+            }
+        } finally {
+            stop.set(true);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void updateUnregisteredProvider() {
+        Timezone.Cache.update(new DummyProvider("unregistered"));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void updatePlatformProvider() {
+        Timezone.Cache.update(new DummyProvider("java.util.TimeZone"));
+    }
+
+    private static class VersionedProvider
+        extends DummyProvider {
+
+        private final Map<String, TransitionHistory> histories;
+        private final Map<String, String> aliases;
+
+        VersionedProvider(
+            String name,
+            Map<String, TransitionHistory> histories,
+            Map<String, String> aliases
+        ) {
+            super(name);
+            this.histories = histories;
+            this.aliases = aliases;
+        }
+
+        @Override
+        public Set<String> getAvailableIDs() {
+            return this.histories.keySet();
+        }
+
+        @Override
+        public Map<String, String> getAliases() {
+            return this.aliases;
+        }
+
+        @Override
+        public TransitionHistory load(String zoneID) {
+            return this.histories.get(zoneID);
+        }
+
+    }
+
     private static class DummyProvider
         implements ZoneModelProvider {
 
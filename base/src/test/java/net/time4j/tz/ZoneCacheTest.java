@@ -0,0 +1,231 @@
+package net.time4j.tz;
+
+import net.time4j.tz.olson.AMERICA;
+import net.time4j.tz.olson.EUROPE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ZoneCacheTest {
+
+    private static final Timezone ZONE_1 = Timezone.of(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 1));
+    private static final Timezone ZONE_2 = Timezone.of(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2));
+
+    @Test
+    public void hitAndMiss() {
+        ZoneCache cache = new ZoneCache(100);
+        assertThat(cache.get("A"), nullValue());
+        assertThat(cache.putIfAbsent("A", ZONE_1), sameInstance(ZONE_1));
+        assertThat(cache.get("A"), sameInstance(ZONE_1));
+        assertThat(cache.get("A"), sameInstance(ZONE_1));
+        assertThat(cache.getHitCount(), is(2L));
+        assertThat(cache.getMissCount(), is(1L));
+        assertThat(cache.getEvictionCount(), is(0L));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void putIfAbsentKeepsOlderZone() {
+        ZoneCache cache = new ZoneCache(100);
+        cache.putIfAbsent("A", ZONE_1);
+        assertThat(cache.putIfAbsent("A", ZONE_2), sameInstance(ZONE_1));
+        assertThat(cache.get("A"), sameInstance(ZONE_1));
+    }
+
+    @Test
+    public void boundedByCapacity() {
+        ZoneCache cache = new ZoneCache(64);
+        for (int i = 0; i < 1000; i++) {
+            cache.putIfAbsent("Zone-" + i, ZONE_1);
+        }
+        assertThat(cache.size() <= 64, is(true));
+        assertThat(cache.getEvictionCount(), is(1000L - cache.size()));
+    }
+
+    @Test
+    public void frequentlyUsedZoneSurvives() {
+        ZoneCache cache = new ZoneCache(48);
+        cache.putIfAbsent("hot", ZONE_2);
+        for (int i = 0; i < 1000; i++) {
+            cache.putIfAbsent("Zone-" + i, ZONE_1);
+            assertThat(cache.get("hot"), sameInstance(ZONE_2));
+        }
+    }
+
+    @Test
+    public void clear() {
+        ZoneCache cache = new ZoneCache(100);
+        cache.putIfAbsent("A", ZONE_1);
+        cache.putIfAbsent("B", ZONE_2);
+        cache.clear();
+        assertThat(cache.size(), is(0));
+        assertThat(cache.get("A"), nullValue());
+        cache.putIfAbsent("A", ZONE_2);
+        assertThat(cache.get("A"), sameInstance(ZONE_2));
+    }
+
+    @Test
+    public void removeSelectedEntries() {
+        ZoneCache cache = new ZoneCache(1000);
+        for (int i = 0; i < 16; i++) {
+            cache.putIfAbsent("Zone-" + i, ZONE_1);
+        }
+        cache.remove("Zone-3");
+        cache.remove("unknown");
+        assertThat(cache.get("Zone-3"), nullValue());
+        assertThat(cache.size(), is(15));
+        assertThat(cache.removeIf(key -> key.endsWith("1")), is(2));
+        assertThat(cache.size(), is(13));
+        assertThat(cache.get("Zone-11"), nullValue());
+        assertThat(cache.get("Zone-2"), sameInstance(ZONE_1));
+        for (int i = 16; i < 3000; i++) {
+            cache.putIfAbsent("Zone-" + i, ZONE_2);
+        }
+        assertThat(cache.size() <= cache.getCapacity(), is(true));
+        assertThat(cache.getEvictionCount(), is(2997L - cache.size()));
+    }
+
+    @Test
+    public void shrinkCapacity() {
+        ZoneCache cache = new ZoneCache(1000);
+        for (int i = 0; i < 500; i++) {
+            cache.putIfAbsent("Zone-" + i, ZONE_1);
+        }
+        assertThat(cache.size(), is(500));
+        cache.setCapacity(32);
+        assertThat(cache.getCapacity(), is(32));
+        assertThat(cache.size() <= 32, is(true));
+        assertThat(cache.getEvictionCount(), is(500L - cache.size()));
+        for (int i = 0; i < 500; i++) {
+            cache.putIfAbsent("Other-" + i, ZONE_2);
+        }
+        assertThat(cache.size() <= 32, is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void negativeCapacity() {
+        new ZoneCache(-1);
+    }
+
+    @Test
+    public void concurrentAccess() throws Exception {
+        final ZoneCache cache = new ZoneCache(128);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            final int seed = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 20000; i++) {
+                    String key = "Zone-" + ((i * 31 + seed) % 400);
+                    Timezone tz = cache.get(key);
+                    if (tz == null) {
+                        cache.putIfAbsent(key, ZONE_1);
+                    } else {
+                        assertThat(tz, sameInstance(ZONE_1));
+                    }
+                }
+            }));
+        }
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        assertThat(cache.size() <= 128, is(true));
+        assertThat(cache.getHitCount() + cache.getMissCount(), is(8 * 20000L));
+    }
+
+    @Test
+    public void identityFastPathForEnumConstant() {
+        Timezone tz = Timezone.of(EUROPE.BERLIN);
+        assertThat(Timezone.of(EUROPE.BERLIN), sameInstance(tz));
+        assertThat(tz.getID().canonical(), is("Europe/Berlin"));
+        Timezone.Cache.refresh();
+        Timezone reloaded = Timezone.of(EUROPE.BERLIN);
+        assertThat(reloaded.getID().canonical(), is("Europe/Berlin"));
+        assertThat(Timezone.of(EUROPE.BERLIN), sameInstance(reloaded));
+    }
+
+    @Test
+    public void identityFastPathWithoutCache() {
+        try {
+            Timezone.Cache.setCacheActive(false);
+            assertThat(Timezone.of(EUROPE.PARIS).getID().canonical(), is("Europe/Paris"));
+            assertThat(Timezone.of(EUROPE.PARIS).getID().canonical(), is("Europe/Paris"));
+        } finally {
+            Timezone.Cache.setCacheActive(true);
+        }
+    }
+
+    @Test
+    public void preloadZones() {
+        Timezone.Cache.preload(Arrays.asList(EUROPE.LONDON, AMERICA.NEW_YORK), 2000, 2030);
+        long hits = Timezone.Cache.getHitCount();
+        assertThat(Timezone.of("Europe/London").getID().canonical(), is("Europe/London"));
+        assertThat(Timezone.Cache.getHitCount() > hits, is(true));
+    }
+
+    @Test
+    public void preloadZonesWithNamesOnExecutor() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Timezone.Cache.preload(
+                Arrays.asList(EUROPE.MADRID, AMERICA.CHICAGO, EUROPE.ROME),
+                1970,
+                2050,
+                Arrays.asList(Locale.ENGLISH, Locale.GERMAN),
+                executor
+            ).get();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(Timezone.of(EUROPE.MADRID).getID().canonical(), is("Europe/Madrid"));
+    }
+
+    @Test(expected=ExecutionException.class)
+    public void preloadUnknownZoneOnExecutor() throws Exception {
+        TZID unknown = () -> "Mars/Olympus_Mons";
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Timezone.Cache.preload(
+                Collections.singleton(unknown), 2000, 2001, Collections.emptySet(), executor).get();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void preloadWithInvalidYearRange() {
+        Timezone.Cache.preload(Collections.singleton(EUROPE.BERLIN), 2020, 2019);
+    }
+
+    @Test
+    public void statisticsOfTimezoneCache() {
+        long hits = Timezone.Cache.getHitCount();
+        long misses = Timezone.Cache.getMissCount();
+        Timezone.of("Europe/Berlin");
+        Timezone.of("Europe/Berlin");
+        assertThat(Timezone.Cache.getHitCount() + Timezone.Cache.getMissCount() >= hits + misses + 2, is(true));
+        assertThat(Timezone.Cache.getHitCount() > hits, is(true));
+        assertThat(Timezone.Cache.getSize() > 0, is(true));
+    }
+
+}
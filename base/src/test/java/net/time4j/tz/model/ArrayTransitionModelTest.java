@@ -16,6 +16,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -355,6 +356,35 @@ public class ArrayTransitionModelTest {
         assertThat(MODEL.isEmpty(), is(false));
     }
 
+    @Test
+    public void localLookupsAroundAllTransitions() {
+        ZonalTransition[] transitions = {FIRST, SECOND, THIRD, FOURTH};
+        for (ZonalTransition zt : transitions) {
+            for (int delta = -15 * 3600; delta <= 15 * 3600; delta += 900) {
+                long localSecs = zt.getPosixTime() + zt.getTotalOffset() + delta;
+                PlainTimestamp tsp = PlainTimestamp.of(2000, 1, 1, 0, 0).plus(localSecs - 946684800L, ClockUnit.SECONDS);
+                PlainDate date = tsp.getCalendarDate();
+                PlainTime time = tsp.getWallTime();
+                List<ZonalOffset> expected = new ArrayList<>();
+                int initial = FIRST.getPreviousOffset();
+                if (localSecs - initial < FIRST.getPosixTime()) {
+                    expected.add(ZonalOffset.ofTotalSeconds(initial));
+                }
+                for (int i = 0; i < transitions.length; i++) {
+                    long end = ((i + 1 < transitions.length) ? transitions[i + 1].getPosixTime() : Long.MAX_VALUE);
+                    int offset = transitions[i].getTotalOffset();
+                    long ut = localSecs - offset;
+                    if ((ut >= transitions[i].getPosixTime()) && (ut < end)) {
+                        expected.add(ZonalOffset.ofTotalSeconds(offset));
+                    }
+                }
+                Collections.sort(expected);
+                assertThat(MODEL.getValidOffsets(date, time), is(expected));
+                assertThat(MODEL.getConflictTransition(date, time) == null, is(expected.size() == 1));
+            }
+        }
+    }
+
     // Hilfsklasse
     private static class UT implements UnixTime {
 
@@ -0,0 +1,191 @@
+package net.time4j.tz.model;
+
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZoneModelProvider;
+import net.time4j.tz.threeten.JdkZoneProviderSPI;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class CompiledZoneProviderTest {
+
+    private static final ZoneModelProvider SOURCE = new JdkZoneProviderSPI();
+    private static Path file;
+    private static CompiledZoneProvider compiled;
+
+    @BeforeClass
+    public static void compile() throws IOException {
+        file = Files.createTempFile("time4j-zones", ".t4j");
+        CompiledZoneProvider.compile(SOURCE, file);
+        compiled = CompiledZoneProvider.open(file);
+    }
+
+    @AfterClass
+    public static void cleanUp() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void metaData() {
+        assertThat(compiled.getName(), is(SOURCE.getName()));
+        assertThat(compiled.getVersion(), is(SOURCE.getVersion()));
+        assertThat(compiled.getLocation(), is(file.toString()));
+        assertThat(compiled.getFallback(), is(""));
+        assertThat(compiled.getAliases(), is(SOURCE.getAliases()));
+    }
+
+    @Test
+    public void allZonesEqualToSource() {
+        Set<String> ids = SOURCE.getAvailableIDs();
+        assertThat(compiled.getAvailableIDs(), is(ids));
+        for (String zoneID : ids) {
+            assertThat(zoneID, compiled.load(zoneID), is(SOURCE.load(zoneID)));
+        }
+    }
+
+    @Test
+    public void unknownZone() {
+        assertThat(compiled.load("Mars/Olympus_Mons"), nullValue());
+    }
+
+    @Test
+    public void fixedOffsetHistory() throws IOException {
+        Path path = Files.createTempFile("time4j-fixed", ".t4j");
+        try {
+            CompiledZoneProvider.compile(new FixedProvider(), path);
+            CompiledZoneProvider provider = CompiledZoneProvider.open(path);
+            assertThat(provider.getAvailableIDs(), is(Collections.singleton("Fixed")));
+            assertThat(provider.getAliases().get("Alias"), is("Fixed"));
+            TransitionHistory history = provider.load("Fixed");
+            assertThat(history.isEmpty(), is(true));
+            assertThat(history.getInitialOffset(), is(ZonalOffset.ofTotalSeconds(3600)));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test(expected=IOException.class)
+    public void nonStandardHistoryIsRejected() throws IOException {
+        TransitionHistory custom =
+            (TransitionHistory) Proxy.newProxyInstance(
+                TransitionHistory.class.getClassLoader(),
+                new Class<?>[] {TransitionHistory.class},
+                (proxy, method, args) -> null);
+        Path path = Files.createTempFile("time4j-custom", ".t4j");
+        try {
+            CompiledZoneProvider.compile(
+                new FixedProvider() {
+                    @Override
+                    public TransitionHistory load(String zoneID) {
+                        return custom;
+                    }
+                },
+                path);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test(expected=StreamCorruptedException.class)
+    public void javaSerializedHistoryIsRejected() throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeByte(0);
+            oos.writeObject(TransitionModel.of(ZonalOffset.UTC, Collections.emptyList()));
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            SPX.readHistory(ois);
+        }
+    }
+
+    @Test(expected=StreamCorruptedException.class)
+    public void wrongFormat() throws IOException {
+        Path path = Files.createTempFile("time4j-wrong", ".t4j");
+        try {
+            Files.write(path, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+            CompiledZoneProvider.open(path);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test(expected=StreamCorruptedException.class)
+    public void truncatedFile() throws IOException {
+        Path path = Files.createTempFile("time4j-truncated", ".t4j");
+        try {
+            byte[] data = Files.readAllBytes(file);
+            byte[] truncated = new byte[data.length - 10];
+            System.arraycopy(data, 0, truncated, 0, truncated.length);
+            Files.write(path, truncated);
+            CompiledZoneProvider.open(path);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private static class FixedProvider
+        implements ZoneModelProvider {
+
+        @Override
+        public Set<String> getAvailableIDs() {
+            return Collections.singleton("Fixed");
+        }
+
+        @Override
+        public Map<String, String> getAliases() {
+            Map<String, String> map = new HashMap<>();
+            map.put("Alias", "Fixed");
+            return map;
+        }
+
+        @Override
+        public String getFallback() {
+            return "";
+        }
+
+        @Override
+        public String getName() {
+            return "FIXED";
+        }
+
+        @Override
+        public String getLocation() {
+            return "";
+        }
+
+        @Override
+        public String getVersion() {
+            return "1.0";
+        }
+
+        @Override
+        public TransitionHistory load(String zoneID) {
+            return TransitionModel.of(ZonalOffset.ofTotalSeconds(3600), Collections.emptyList());
+        }
+
+    }
+
+}
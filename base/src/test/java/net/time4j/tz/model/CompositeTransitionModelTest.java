@@ -6,7 +6,9 @@ import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
 import net.time4j.Weekday;
+import net.time4j.base.GregorianDate;
 import net.time4j.base.UnixTime;
+import net.time4j.base.WallTime;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.TransitionHistory;
 import net.time4j.tz.ZonalOffset;
@@ -17,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -569,6 +572,60 @@ public class CompositeTransitionModelTest {
         assertThat(MODEL == MODEL_EXT, is(false));
     }
 
+    @Test
+    public void bulkOffsetsOfCompositeModel() {
+        assertBulkOffsets(MODEL);
+        assertBulkOffsets(MODEL_EXT);
+        assertBulkOffsets(MODEL_SINGLE);
+    }
+
+    @Test
+    public void bulkOffsetsOfDefaultImplementation() {
+        assertBulkOffsets(new DelegatingHistory(MODEL));
+        assertBulkOffsets(new DelegatingHistory(MODEL_SINGLE));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void bulkOffsetsWithShortOutput() {
+        MODEL.getOffsets(new long[3], new int[2]);
+    }
+
+    private static void assertBulkOffsets(TransitionHistory history) {
+        List<Long> values = new ArrayList<>();
+        for (long t = -400 * 86400L; t < 20 * 366 * 86400L; t += 6 * 3600 + 17) {
+            values.add(t);
+        }
+        for (ZonalTransition zt : history.getTransitions(new UT(-400 * 86400L), new UT(20 * 366 * 86400L))) {
+            values.add(zt.getPosixTime() - 1);
+            values.add(zt.getPosixTime());
+            values.add(zt.getPosixTime() + 1);
+        }
+        Collections.sort(values);
+        assertBulkOffsets(history, values);
+        Collections.shuffle(values, new java.util.Random(42));
+        assertBulkOffsets(history, values);
+    }
+
+    private static void assertBulkOffsets(
+        TransitionHistory history,
+        List<Long> values
+    ) {
+        long[] posixTimes = new long[values.size()];
+        for (int i = 0; i < posixTimes.length; i++) {
+            posixTimes[i] = values.get(i);
+        }
+        int[] offsets = new int[posixTimes.length];
+        history.getOffsets(posixTimes, offsets);
+        for (int i = 0; i < posixTimes.length; i++) {
+            ZonalTransition zt = history.getStartTransition(new UT(posixTimes[i]));
+            int expected = (
+                (zt == null)
+                ? history.getInitialOffset().getIntegralAmount()
+                : zt.getTotalOffset());
+            assertThat("posix=" + posixTimes[i], offsets[i], is(expected));
+        }
+    }
+
     private static TransitionHistory createModel(boolean enlarged) {
         List<ZonalTransition> transitions = Arrays.asList(FIRST, THIRD, SECOND);
         DaylightSavingRule spring =
@@ -626,6 +683,72 @@ public class CompositeTransitionModelTest {
             true);
     }
 
+    // Hilfsklasse, die nur die Standardimplementierung von getOffsets() nutzt
+    private static class DelegatingHistory implements TransitionHistory {
+
+        private final TransitionHistory delegate;
+
+        DelegatingHistory(TransitionHistory delegate) {
+            super();
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ZonalOffset getInitialOffset() {
+            return this.delegate.getInitialOffset();
+        }
+
+        @Override
+        public ZonalTransition getStartTransition(UnixTime ut) {
+            return this.delegate.getStartTransition(ut);
+        }
+
+        @Override
+        public ZonalTransition getConflictTransition(
+            GregorianDate localDate,
+            WallTime localTime
+        ) {
+            return this.delegate.getConflictTransition(localDate, localTime);
+        }
+
+        @Override
+        public List<ZonalOffset> getValidOffsets(
+            GregorianDate localDate,
+            WallTime localTime
+        ) {
+            return this.delegate.getValidOffsets(localDate, localTime);
+        }
+
+        @Override
+        public List<ZonalTransition> getStdTransitions() {
+            return this.delegate.getStdTransitions();
+        }
+
+        @Override
+        public List<ZonalTransition> getTransitions(
+            UnixTime startInclusive,
+            UnixTime endExclusive
+        ) {
+            return this.delegate.getTransitions(startInclusive, endExclusive);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return this.delegate.isEmpty();
+        }
+
+        @Override
+        public void dump(Appendable buffer) throws IOException {
+            this.delegate.dump(buffer);
+        }
+
+        @Override
+        public Optional<ZonalTransition> findNextTransition(UnixTime ut) {
+            return this.delegate.findNextTransition(ut);
+        }
+
+    }
+
     // Hilfsklasse
     private static class UT implements UnixTime {
 
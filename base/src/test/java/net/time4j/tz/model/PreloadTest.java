@@ -0,0 +1,152 @@
+package net.time4j.tz.model;
+
+import net.time4j.Month;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.Weekday;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZoneModelProvider;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class PreloadTest {
+
+    private static final String NAME = PreloadTest.class.getName();
+    private static final Map<String, TransitionHistory> MODELS = new HashMap<>();
+    private static final SortedSet<Integer> INSIDE_YEARS = Collections.synchronizedSortedSet(new TreeSet<>());
+    private static final SortedSet<Integer> ACROSS_YEARS = Collections.synchronizedSortedSet(new TreeSet<>());
+
+    static {
+        MODELS.put("Europe/Inside", createModel(INSIDE_YEARS));
+        MODELS.put("Europe/Across", createModel(ACROSS_YEARS));
+    }
+
+    @BeforeClass
+    public static void init() {
+        Timezone.registerProvider(new TestProvider());
+    }
+
+    @Test
+    public void preloadFillsYearTable() {
+        TransitionHistory model = MODELS.get("Europe/Inside");
+        INSIDE_YEARS.clear();
+        Timezone.Cache.preload(Collections.singleton(tzid("Europe/Inside")), 2000, 2030);
+        for (int year = 2000; year <= 2030; year++) {
+            assertThat(INSIDE_YEARS.contains(year), is(true));
+        }
+        INSIDE_YEARS.clear();
+        for (int year = 2000; year <= 2030; year++) {
+            model.getStartTransition(PlainTimestamp.of(year, 7, 1, 0, 0).atUTC());
+        }
+        assertThat(INSIDE_YEARS.isEmpty(), is(true)); // no further calculation of transition dates
+    }
+
+    @Test
+    public void preloadIgnoresYearsOutsideOfTable() {
+        ACROSS_YEARS.clear();
+        Timezone.Cache.preload(Collections.singleton(tzid("Europe/Across")), 1900, 1980);
+        assertThat(ACROSS_YEARS.first(), is(1970));
+        assertThat(ACROSS_YEARS.last(), is(1980));
+        assertThat(ACROSS_YEARS.size(), is(11));
+    }
+
+    private static TZID tzid(String zoneID) {
+        String id = NAME + "~" + zoneID;
+        return () -> id;
+    }
+
+    private static TransitionHistory createModel(Set<Integer> years) {
+        List<DaylightSavingRule> rules = new ArrayList<>();
+        rules.add(new CountingRule(Month.MARCH, 3600, years));
+        rules.add(new CountingRule(Month.OCTOBER, 0, years));
+        return new RuleBasedTransitionModel(ZonalOffset.ofTotalSeconds(3600), rules);
+    }
+
+    // records every year whose transition date is calculated
+    private static class CountingRule
+        extends GregorianTimezoneRule {
+
+        private final GregorianTimezoneRule delegate;
+        private final Set<Integer> years;
+
+        CountingRule(
+            Month month,
+            int savings,
+            Set<Integer> years
+        ) {
+            super(month, PlainTime.of(1), OffsetIndicator.UTC_TIME, savings);
+
+            this.delegate =
+                GregorianTimezoneRule.ofLastWeekday(month, Weekday.SUNDAY, PlainTime.of(1), OffsetIndicator.UTC_TIME, savings);
+            this.years = years;
+        }
+
+        @Override
+        public PlainDate getDate(int year) {
+            this.years.add(year);
+            return this.delegate.getDate(year);
+        }
+
+    }
+
+    private static class TestProvider
+        implements ZoneModelProvider {
+
+        @Override
+        public Set<String> getAvailableIDs() {
+            return MODELS.keySet();
+        }
+
+        @Override
+        public Map<String, String> getAliases() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public TransitionHistory load(String zoneID) {
+            return MODELS.get(zoneID);
+        }
+
+        @Override
+        public String getFallback() {
+            return "";
+        }
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public String getLocation() {
+            return "";
+        }
+
+        @Override
+        public String getVersion() {
+            return "";
+        }
+
+    }
+
+}
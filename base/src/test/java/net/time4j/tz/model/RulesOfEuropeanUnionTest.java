@@ -1,5 +1,6 @@
 package net.time4j.tz.model;
 
+import net.time4j.ClockUnit;
 import net.time4j.Moment;
 import net.time4j.Month;
 import net.time4j.PlainDate;
@@ -7,6 +8,7 @@ import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
 import net.time4j.SystemClock;
 import net.time4j.Weekday;
+import net.time4j.scale.TimeScale;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.ZonalTransition;
@@ -382,6 +384,31 @@ public class RulesOfEuropeanUnionTest {
             is(SPRING_1997));
     }
 
+    @Test
+    public void lookupsInsideAndOutsideOfCachedYearWindow() {
+        int[] years = {1850, 1866, 1970, 2018, 2100, 2500, 2516, 2532, 2500, 9999};
+        for (int year : years) {
+            Moment start = PlainTimestamp.of(year, 1, 1, 0, 0).atUTC();
+            Moment end = PlainTimestamp.of(year + 1, 1, 1, 0, 0).atUTC();
+            List<ZonalTransition> transitions = MODEL.getTransitions(start, end);
+            assertThat(transitions.size(), is(2));
+            for (ZonalTransition zt : transitions) {
+                Moment m = Moment.of(zt.getPosixTime(), TimeScale.POSIX);
+                assertThat(MODEL.getStartTransition(m), is(zt));
+                assertThat(MODEL.getStartTransition(m.minus(1, TimeUnit.SECONDS)).getTotalOffset(), is(zt.getPreviousOffset()));
+                PlainTimestamp local = m.toZonalTimestamp(ZonalOffset.ofTotalSeconds(zt.getPreviousOffset()));
+                PlainTimestamp inConflict = local.plus(30, ClockUnit.MINUTES);
+                assertThat(
+                    MODEL.getConflictTransition(inConflict.getCalendarDate(), inConflict.getWallTime()),
+                    is(zt.isGap() ? zt : null));
+                PlainTimestamp after = m.toZonalTimestamp(ZonalOffset.ofTotalSeconds(zt.getTotalOffset())).plus(2, ClockUnit.HOURS);
+                assertThat(
+                    MODEL.getValidOffsets(after.getCalendarDate(), after.getWallTime()),
+                    is(Collections.singletonList(ZonalOffset.ofTotalSeconds(zt.getTotalOffset()))));
+            }
+        }
+    }
+
     private static RuleBasedTransitionModel createModel() {
 
         DaylightSavingRule spring =
@@ -1,12 +1,18 @@
 package net.time4j.tz.model;
 
+import net.time4j.ClockUnit;
 import net.time4j.Moment;
 import net.time4j.Month;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
 import net.time4j.Weekday;
+import net.time4j.base.GregorianDate;
+import net.time4j.base.WallTime;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.TimeScale;
 import net.time4j.tz.GapResolver;
+import net.time4j.tz.OffsetSign;
 import net.time4j.tz.OverlapResolver;
 import net.time4j.tz.Timezone;
 import net.time4j.tz.TransitionStrategy;
@@ -192,6 +198,165 @@ public class TransitionResolverTest {
         return ser;
     }
 
+    @Test
+    public void bulkResolveWithAllStrategies() {
+        TransitionStrategy[] strategies = {
+            GapResolver.PUSH_FORWARD.and(OverlapResolver.LATER_OFFSET),
+            GapResolver.PUSH_FORWARD.and(OverlapResolver.EARLIER_OFFSET),
+            GapResolver.NEXT_VALID_TIME.and(OverlapResolver.LATER_OFFSET),
+            GapResolver.NEXT_VALID_TIME.and(OverlapResolver.EARLIER_OFFSET)
+        };
+        PlainTimestamp start = PlainTimestamp.of(2014, 12, 31, 0, 0);
+        PlainTimestamp epoch = PlainTimestamp.of(1970, 1, 1, 0, 0);
+        long first = start.getCalendarDate().get(EpochDays.UNIX) * 86400;
+        int count = 366 * 24 * 4 + 2;
+        long[] localSeconds = new long[count];
+        for (int i = 0; i < count; i++) {
+            localSeconds[i] = first + i * 900L - ((i % 97 == 0) ? 1 : 0);
+        }
+        for (TransitionStrategy strategy : strategies) {
+            Timezone tz = Timezone.of("RulesOfEU", createModelOfEuropeanUnion()).with(strategy);
+            long[] posixTimes = new long[count];
+            tz.toPosixTimes(localSeconds, posixTimes);
+            for (int i = 0; i < count; i++) {
+                PlainTimestamp tsp = epoch.plus(localSeconds[i], ClockUnit.SECONDS);
+                assertThat(
+                    strategy + "/" + tsp,
+                    posixTimes[i],
+                    is(tsp.in(tz).getPosixTime()));
+            }
+        }
+    }
+
+    @Test
+    public void bulkResolveStrictWithoutConflict() {
+        Timezone tz = Timezone.of("RulesOfEU", createModelOfEuropeanUnion()).with(Timezone.STRICT_MODE);
+        long local = PlainDate.of(2015, 3, 29).get(EpochDays.UNIX) * 86400;
+        long[] localSeconds = {local + 7199, local + 3 * 3600, local + 10 * 3600};
+        long[] posixTimes = new long[3];
+        tz.toPosixTimes(localSeconds, posixTimes);
+        assertThat(posixTimes[0], is(local + 7199 - 3600));
+        assertThat(posixTimes[1], is(local + 3600));
+        assertThat(posixTimes[2], is(local + 8 * 3600));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void bulkResolveStrictInGap() {
+        Timezone tz = Timezone.of("RulesOfEU", createModelOfEuropeanUnion()).with(Timezone.STRICT_MODE);
+        long local = PlainDate.of(2015, 3, 29).get(EpochDays.UNIX) * 86400;
+        long[] localSeconds = {local, local + 2 * 3600 + 1800};
+        tz.toPosixTimes(localSeconds, new long[2]);
+    }
+
+    @Test
+    public void toPosixTimeWithAlternatingWindows() {
+        TransitionStrategy[] strategies = {
+            GapResolver.PUSH_FORWARD.and(OverlapResolver.LATER_OFFSET),
+            GapResolver.NEXT_VALID_TIME.and(OverlapResolver.EARLIER_OFFSET),
+            GapResolver.ABORT.and(OverlapResolver.LATER_OFFSET)
+        };
+        PlainTimestamp epoch = PlainTimestamp.of(1970, 1, 1, 0, 0);
+        long winter = PlainDate.of(2015, 1, 1).get(EpochDays.UNIX) * 86400;
+        long summer = PlainDate.of(2016, 3, 20).get(EpochDays.UNIX) * 86400;
+        for (TransitionStrategy strategy : strategies) {
+            Timezone tz = Timezone.of("RulesOfEU", createModelOfEuropeanUnion()).with(strategy);
+            for (int i = 0; i < 366 * 24 * 4; i++) {
+                long local = (((i % 2) == 0) ? winter : summer) + i * 450L;
+                PlainTimestamp tsp = epoch.plus(local, ClockUnit.SECONDS);
+                long expected;
+                try {
+                    expected = strategy.resolve(tsp.getCalendarDate(), tsp.getWallTime(), tz);
+                } catch (IllegalArgumentException iae) {
+                    try {
+                        tz.toPosixTime(local);
+                        throw new AssertionError("Gap not detected: " + tsp);
+                    } catch (IllegalArgumentException expectedError) {
+                        assertThat(expectedError.getMessage(), is(iae.getMessage()));
+                        continue;
+                    }
+                }
+                assertThat(strategy + "/" + tsp, tz.toPosixTime(local), is(expected));
+            }
+        }
+    }
+
+    @Test
+    public void inTimezoneWithAlternatingWindows() {
+        TransitionStrategy strategy = GapResolver.PUSH_FORWARD.and(OverlapResolver.EARLIER_OFFSET);
+        Timezone tz = Timezone.of("RulesOfEU", createModelOfEuropeanUnion()).with(strategy);
+        PlainTimestamp winter = PlainTimestamp.of(2015, 1, 1, 0, 0);
+        PlainTimestamp summer = PlainTimestamp.of(2016, 3, 20, 0, 0);
+        for (int i = 0; i < 366 * 24 * 4; i++) {
+            PlainTimestamp tsp = (((i % 2) == 0) ? winter : summer).plus(i * 450L, ClockUnit.SECONDS);
+            long expected = strategy.resolve(tsp.getCalendarDate(), tsp.getWallTime(), tz);
+            assertThat(tsp.toString(), tsp.in(tz), is(Moment.of(expected, TimeScale.POSIX)));
+        }
+    }
+
+    @Test
+    public void inTimezoneWithCustomStrategy() {
+        PlainTimestamp tsp = PlainTimestamp.of(2016, 7, 1, 12, 0);
+        List<Object> args = new ArrayList<>();
+        TransitionStrategy standard = GapResolver.PUSH_FORWARD.and(OverlapResolver.LATER_OFFSET);
+        TransitionStrategy custom =
+            new TransitionStrategy() {
+                @Override
+                public long resolve(GregorianDate localDate, WallTime localTime, Timezone timezone) {
+                    args.add(localDate);
+                    args.add(localTime);
+                    return standard.resolve(localDate, localTime, timezone);
+                }
+                @Override
+                public ZonalOffset getOffset(GregorianDate localDate, WallTime localTime, Timezone timezone) {
+                    return standard.getOffset(localDate, localTime, timezone);
+                }
+            };
+        Timezone tz = Timezone.of("RulesOfEU", createModelOfEuropeanUnion()).with(custom);
+        assertThat(tsp.in(tz), is(PlainTimestamp.of(2016, 7, 1, 10, 0).atUTC()));
+        assertThat(tsp.in(tz), is(PlainTimestamp.of(2016, 7, 1, 10, 0).atUTC()));
+        assertThat(args.size(), is(4)); // custom strategies are always called
+        assertThat(args.get(0) == tsp.getCalendarDate(), is(true));
+        assertThat(args.get(1) == tsp.getWallTime(), is(true));
+    }
+
+    @Test
+    public void toPosixTimeOfFixedTimezone() {
+        Timezone tz = Timezone.of(ZonalOffset.ofHours(OffsetSign.BEHIND_UTC, 3));
+        assertThat(tz.toPosixTime(0L), is(10800L));
+        assertThat(
+            PlainTimestamp.of(2016, 7, 1, 12, 0).in(tz),
+            is(PlainTimestamp.of(2016, 7, 1, 15, 0).atUTC()));
+    }
+
+    @Test
+    public void bulkOffsetsOfTimezone() {
+        Timezone tz = Timezone.of("RulesOfEU", createModelOfEuropeanUnion());
+        long[] posixTimes = new long[10000];
+        for (int i = 0; i < posixTimes.length; i++) {
+            posixTimes[i] = 1_400_000_000L + i * 3601L;
+        }
+        int[] offsets = new int[posixTimes.length];
+        tz.getOffsets(posixTimes, offsets);
+        for (int i = 0; i < posixTimes.length; i++) {
+            Moment m = Moment.of(posixTimes[i], TimeScale.POSIX);
+            assertThat(offsets[i], is(tz.getOffset(m).getIntegralAmount()));
+        }
+    }
+
+    @Test
+    public void bulkOffsetsOfFixedTimezone() {
+        Timezone tz = Timezone.of(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 5));
+        long[] posixTimes = {-1L, 0L, 1_500_000_000L};
+        int[] offsets = new int[3];
+        tz.getOffsets(posixTimes, offsets);
+        long[] localSeconds = new long[3];
+        tz.toPosixTimes(posixTimes, localSeconds);
+        for (int i = 0; i < 3; i++) {
+            assertThat(offsets[i], is(18000));
+            assertThat(localSeconds[i], is(posixTimes[i] - 18000));
+        }
+    }
+
     private static RuleBasedTransitionModel createModelOfEuropeanUnion() {
         DaylightSavingRule spring =
             GregorianTimezoneRule.ofLastWeekday(
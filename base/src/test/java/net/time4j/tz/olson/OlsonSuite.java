@@ -2,10 +2,12 @@ package net.time4j.tz.olson;
 
 import net.time4j.tz.threeten.JdkZoneProviderTest;
 import net.time4j.tz.model.ArrayTransitionModelTest;
+import net.time4j.tz.model.CompiledZoneProviderTest;
 import net.time4j.tz.model.CompositeTransitionModelTest;
 import net.time4j.tz.model.CustomZoneTest;
 import net.time4j.tz.model.DaylightSavingRuleTest;
 import net.time4j.tz.model.EireZoneTest;
+import net.time4j.tz.model.PreloadTest;
 import net.time4j.tz.model.RulesLikeBerlin1947Test;
 import net.time4j.tz.model.RulesLikeDhaka2009Test;
 import net.time4j.tz.model.RulesOfEuropeanUnionTest;
@@ -24,6 +26,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses(
     {
         ArrayTransitionModelTest.class,
+        CompiledZoneProviderTest.class,
         CompositeTransitionModelTest.class,
         CountryToZonesTest.class,
         CustomZoneTest.class,
@@ -33,6 +36,7 @@ import org.junit.runners.Suite.SuiteClasses;
         LocalizedGMTOffsetTest.class,
         NegativeDayOfMonthPatternTest.class,
         PredefinedIDTest.class,
+        PreloadTest.class,
         RulesLikeBerlin1947Test.class,
         RulesLikeDhaka2009Test.class,
         RulesOfEuropeanUnionTest.class,
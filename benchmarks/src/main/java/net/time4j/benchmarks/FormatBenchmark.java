@@ -0,0 +1,137 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FormatBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.Iso8601Format;
+import net.time4j.format.expert.PatternType;
+import net.time4j.tz.ZonalOffset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures printing and parsing via {@code ChronoFormatter}, both for the predefined
+ * ISO-8601-formatters and for pattern-based formatters. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private ChronoFormatter<Moment> isoOffset;
+    private ChronoFormatter<PlainTimestamp> numericPattern;
+    private ChronoFormatter<Moment> textPattern;
+
+    private Moment moment;
+    private PlainTimestamp timestamp;
+
+    private String isoOffsetText;
+    private String numericPatternText;
+    private String textPatternText;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.isoOffset = Iso8601Format.EXTENDED_DATE_TIME_OFFSET;
+        this.numericPattern =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT);
+        this.textPattern =
+            ChronoFormatter.ofMomentPattern(
+                "EEE, dd MMM uuuu HH:mm:ss XX", PatternType.CLDR, Locale.ENGLISH, ZonalOffset.UTC);
+
+        this.timestamp = PlainTimestamp.of(2018, 7, 14, 17, 45, 30).plus(123, ClockUnit.MILLIS);
+        this.moment = this.timestamp.atUTC();
+
+        this.isoOffsetText = this.isoOffset.print(this.moment);
+        this.numericPatternText = this.numericPattern.print(this.timestamp);
+        this.textPatternText = this.textPattern.print(this.moment);
+
+    }
+
+    @Benchmark
+    public String printIsoOffset() {
+
+        return this.isoOffset.print(this.moment);
+
+    }
+
+    @Benchmark
+    public Moment parseIsoOffset() throws ParseException {
+
+        return this.isoOffset.parse(this.isoOffsetText);
+
+    }
+
+    @Benchmark
+    public String printNumericPattern() {
+
+        return this.numericPattern.print(this.timestamp);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp parseNumericPattern() throws ParseException {
+
+        return this.numericPattern.parse(this.numericPatternText);
+
+    }
+
+    @Benchmark
+    public String printTextPattern() {
+
+        return this.textPattern.print(this.moment);
+
+    }
+
+    @Benchmark
+    public Moment parseTextPattern() throws ParseException {
+
+        return this.textPattern.parse(this.textPatternText);
+
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.PlainDate;
+import net.time4j.range.DateInterval;
+import net.time4j.range.IntervalCollection;
+import net.time4j.range.IntervalTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static net.time4j.CalendarUnit.DAYS;
+
+
+/**
+ * <p>Measures interval collections and interval trees on the date axis. </p>
+ *
+ * <p>The intervals are pseudo-random but reproducible (fixed seed) and partially overlapping. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntervalBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private IntervalCollection<PlainDate> collection;
+    private DateInterval additional;
+    private IntervalTree<PlainDate, DateInterval> tree;
+    private DateInterval query;
+    private PlainDate day;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        Random random = new Random(2018L);
+        PlainDate start = PlainDate.of(2000, 1, 1);
+        List<DateInterval> intervals = new ArrayList<>(this.size);
+
+        for (int i = 0; i < this.size; i++) {
+            PlainDate d = start.plus(random.nextInt(this.size * 10), DAYS);
+            intervals.add(DateInterval.between(d, d.plus(random.nextInt(30), DAYS)));
+        }
+
+        this.collection = IntervalCollection.onDateAxis().plus(intervals);
+        this.additional = DateInterval.between(start.plus(this.size * 5, DAYS),
+            start.plus(this.size * 5 + 10, DAYS));
+        this.tree = IntervalTree.onDateAxis(intervals);
+        this.day = start.plus(this.size * 5, DAYS);
+        this.query = DateInterval.between(this.day, this.day.plus(60, DAYS));
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> collectionPlus() {
+
+        return this.collection.plus(this.additional);
+
+    }
+
+    @Benchmark
+    public IntervalCollection<PlainDate> collectionWithBlocks() {
+
+        return this.collection.withBlocks();
+
+    }
+
+    @Benchmark
+    public List<DateInterval> treeFindIntersectionsOfDay() {
+
+        return this.tree.findIntersections(this.day);
+
+    }
+
+    @Benchmark
+    public List<DateInterval> treeFindIntersectionsOfInterval() {
+
+        return this.tree.findIntersections(this.query);
+
+    }
+
+}
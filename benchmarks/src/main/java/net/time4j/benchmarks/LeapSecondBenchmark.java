@@ -0,0 +1,109 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (LeapSecondBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.scale.LeapSeconds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the conversions between POSIX- and UTC-time in {@code LeapSeconds}. </p>
+ *
+ * <p>Both recent and historical time points (in the seventies) are used because the leap second
+ * table is searched in reverse order. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeapSecondBenchmark {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long POSIX_1975 = 157766400L; // 1975-01-01T00:00Z
+    private static final long POSIX_2018 = 1514764800L; // 2018-01-01T00:00Z
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private LeapSeconds ls;
+    private long recentUnix;
+    private long recentUTC;
+    private long historicUnix;
+    private long historicUTC;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.ls = LeapSeconds.getInstance();
+        this.recentUnix = POSIX_2018;
+        this.recentUTC = this.ls.enhance(this.recentUnix);
+        this.historicUnix = POSIX_1975;
+        this.historicUTC = this.ls.enhance(this.historicUnix);
+
+    }
+
+    @Benchmark
+    public long enhanceRecent() {
+
+        return this.ls.enhance(this.recentUnix);
+
+    }
+
+    @Benchmark
+    public long enhanceHistoric() {
+
+        return this.ls.enhance(this.historicUnix);
+
+    }
+
+    @Benchmark
+    public long stripRecent() {
+
+        return this.ls.strip(this.recentUTC);
+
+    }
+
+    @Benchmark
+    public long stripHistoric() {
+
+        return this.ls.strip(this.historicUTC);
+
+    }
+
+}
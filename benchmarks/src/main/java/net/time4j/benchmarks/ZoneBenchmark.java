@@ -0,0 +1,111 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZoneBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.olson.EUROPE;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures timezone offset lookups and zonal conversions of {@code Moment}. </p>
+ *
+ * <p>The moment in the past is resolved by the explicit transition history while the moment
+ * in the far future needs the DST-rules of the zone. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZoneBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private Timezone berlin;
+    private Moment history;
+    private Moment future;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+
+        this.berlin = Timezone.of(EUROPE.BERLIN);
+        this.history = PlainTimestamp.of(1996, 10, 27, 1, 30).atUTC();
+        this.future = PlainTimestamp.of(2047, 3, 31, 1, 30).atUTC();
+
+    }
+
+    @Benchmark
+    public ZonalOffset getOffsetHistory() {
+
+        return this.berlin.getOffset(this.history);
+
+    }
+
+    @Benchmark
+    public ZonalOffset getOffsetFuture() {
+
+        return this.berlin.getOffset(this.future);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp toZonalTimestampByTZID() {
+
+        return this.history.toZonalTimestamp(EUROPE.BERLIN);
+
+    }
+
+    @Benchmark
+    public PlainTimestamp toZonalTimestampByString() {
+
+        return this.history.toZonalTimestamp("Europe/Berlin");
+
+    }
+
+    @Benchmark
+    public PlainTimestamp toZonalTimestampFuture() {
+
+        return this.future.toZonalTimestamp(EUROPE.BERLIN);
+
+    }
+
+}